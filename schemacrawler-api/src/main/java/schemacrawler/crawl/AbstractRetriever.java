@@ -35,7 +35,12 @@ import static sf.util.Utility.isBlank;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.logging.Level;
@@ -46,6 +51,7 @@ import schemacrawler.schema.Schema;
 import schemacrawler.schema.SchemaReference;
 import schemacrawler.schemacrawler.InclusionRule;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.utility.Query;
 import schemacrawler.utility.TypeMap;
 import sf.util.SchemaCrawlerLogger;
 
@@ -117,6 +123,12 @@ abstract class AbstractRetriever
     return belongsToCatalog && belongsToSchema;
   }
 
+  final Statement createStatement(final Query query)
+    throws SQLException
+  {
+    return retrieverConnection.createStatement(query);
+  }
+
   final NamedObjectList<SchemaReference> getAllSchemas()
   {
     return catalog.getAllSchemas();
@@ -258,6 +270,27 @@ abstract class AbstractRetriever
       .lookupTable(Arrays.asList(catalogName, schemaName, tableName));
   }
 
+  /**
+   * Groups tables by schema, in the order in which the schemas are
+   * first seen, for retrieval that makes one metadata call for each
+   * schema.
+   *
+   * @param allTables
+   *        Tables to group
+   * @return Tables for each schema
+   */
+  final Map<Schema, List<MutableTable>> groupTablesBySchema(final NamedObjectList<MutableTable> allTables)
+  {
+    final Map<Schema, List<MutableTable>> tablesBySchema = new LinkedHashMap<>();
+    for (final MutableTable table: allTables)
+    {
+      tablesBySchema
+        .computeIfAbsent(table.getSchema(), schema -> new ArrayList<>())
+        .add(table);
+    }
+    return tablesBySchema;
+  }
+
   final String normalizeCatalogName(final String name)
   {
     if (retrieverConnection.isSupportsCatalogs())
@@ -0,0 +1,221 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+import static sf.util.Utility.isBlank;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+
+import schemacrawler.schema.CrawlMetric;
+import schemacrawler.schema.CrawlMetricType;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StopWatch;
+
+/**
+ * Collects measurements for each phase of a crawl, and for each
+ * metadata query. The metrics for a crawl are attached to each thread
+ * that does retrieval work for the crawl, so that metadata result sets
+ * can report to them without needing to be passed around. Phases are
+ * timed by stop watches, and queries are attributed to the phase that
+ * is running on the same thread.
+ *
+ * @author Sualeh Fatehi
+ */
+final class CrawlMetrics
+  implements StopWatch.TaskListener
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(CrawlMetrics.class.getName());
+
+  private static final String UNNAMED_QUERY = "database metadata";
+  private static final String NO_PHASE = "crawl";
+
+  private static final ThreadLocal<CrawlMetrics> currentMetrics = new ThreadLocal<>();
+  private static final ThreadLocal<String> currentPhase = new ThreadLocal<>();
+
+  /**
+   * Metrics for the crawl that the current thread is working on, or
+   * null if there is none.
+   */
+  static CrawlMetrics current()
+  {
+    return currentMetrics.get();
+  }
+
+  static void detach()
+  {
+    currentMetrics.remove();
+    currentPhase.remove();
+  }
+
+  /**
+   * Creates a stop watch that reports each timed task as a phase of
+   * the current crawl.
+   */
+  static StopWatch newStopWatch(final String id)
+  {
+    return new StopWatch(id, currentMetrics.get());
+  }
+
+  /**
+   * Records a run of a metadata query against the current crawl, if
+   * any.
+   */
+  static void recordQuery(final String name,
+                          final Duration wallTime,
+                          final long rowCount,
+                          final long roundTrips)
+  {
+    final CrawlMetrics crawlMetrics = currentMetrics.get();
+    if (crawlMetrics == null)
+    {
+      return;
+    }
+
+    final String phase = currentPhase.get();
+    crawlMetrics
+      .record(new ImmutableCrawlMetric(CrawlMetricType.query,
+                                       isBlank(phase)? NO_PHASE: phase,
+                                       isBlank(name)? UNNAMED_QUERY: name,
+                                       1,
+                                       wallTime,
+                                       rowCount,
+                                       roundTrips,
+                                       -1,
+                                       -1));
+  }
+
+  private final MutableCatalog catalog;
+  private final CrawlMetricsListener crawlMetricsListener;
+  private final Thread crawlThread;
+  private final Map<String, ImmutableCrawlMetric> metrics;
+  private long objectCountAtStart;
+
+  CrawlMetrics(final MutableCatalog catalog,
+               final CrawlMetricsListener crawlMetricsListener)
+  {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    this.crawlMetricsListener = crawlMetricsListener;
+    crawlThread = Thread.currentThread();
+    metrics = new LinkedHashMap<>();
+  }
+
+  /**
+   * Makes these the metrics for the crawl that the current thread is
+   * working on.
+   */
+  void attach()
+  {
+    currentMetrics.set(this);
+  }
+
+  /**
+   * Gets the measurements added up so far, in the order that each
+   * phase or query was first run.
+   */
+  synchronized Collection<CrawlMetric> getCrawlMetrics()
+  {
+    return new ArrayList<>(metrics.values());
+  }
+
+  @Override
+  public void taskStarted(final String id, final String taskName)
+  {
+    currentPhase.set(taskName);
+    if (isCrawlThread())
+    {
+      objectCountAtStart = catalog.countObjects();
+    }
+  }
+
+  @Override
+  public void taskStopped(final String id,
+                          final String taskName,
+                          final Duration duration)
+  {
+    currentPhase.remove();
+    // Objects can only be counted safely when no other thread is
+    // modifying the catalog
+    final long objectsCreated;
+    if (isCrawlThread())
+    {
+      objectsCreated = catalog.countObjects() - objectCountAtStart;
+    }
+    else
+    {
+      objectsCreated = -1;
+    }
+    record(new ImmutableCrawlMetric(CrawlMetricType.phase,
+                                    id,
+                                    taskName,
+                                    1,
+                                    duration,
+                                    0,
+                                    0,
+                                    -1,
+                                    objectsCreated));
+  }
+
+  private boolean isCrawlThread()
+  {
+    return Thread.currentThread() == crawlThread;
+  }
+
+  private void record(final ImmutableCrawlMetric crawlMetric)
+  {
+    final String key = String.format("%s/%s/%s",
+                                     crawlMetric.getType(),
+                                     crawlMetric.getPhase(),
+                                     crawlMetric.getName());
+    synchronized (this)
+    {
+      metrics.merge(key, crawlMetric, ImmutableCrawlMetric::plus);
+    }
+
+    if (crawlMetricsListener != null)
+    {
+      try
+      {
+        crawlMetricsListener.crawlMetricRecorded(crawlMetric);
+      }
+      catch (final RuntimeException e)
+      {
+        LOGGER.log(Level.WARNING, "Could not notify crawl metrics listener", e);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,54 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import schemacrawler.schema.CrawlMetric;
+
+/**
+ * Notified with measurements as a crawl progresses, each time a phase
+ * completes, or a metadata query is closed. Measurements for table
+ * information that is retrieved in parallel arrive on the retrieval
+ * threads, so listeners need to be thread-safe.
+ *
+ * @author Sualeh Fatehi
+ */
+@FunctionalInterface
+public interface CrawlMetricsListener
+{
+
+  /**
+   * Called with the measurements for a single run of a phase or of a
+   * query.
+   *
+   * @param crawlMetric
+   *        Measurements for the run
+   */
+  void crawlMetricRecorded(CrawlMetric crawlMetric);
+
+}
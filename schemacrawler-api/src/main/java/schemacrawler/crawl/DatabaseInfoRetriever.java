@@ -334,8 +334,7 @@ final class DatabaseInfoRetriever
     final Query serverInfoSql = informationSchemaViews
       .getQuery(InformationSchemaKey.SERVER_INFORMATION);
 
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(serverInfoSql);
       final MetadataResultSet results = new MetadataResultSet(serverInfoSql,
                                                               statement,
                                                               new IncludeAll()))
@@ -394,8 +393,7 @@ final class DatabaseInfoRetriever
     {
       final Query typeInfoSql = informationSchemaViews
         .getQuery(InformationSchemaKey.OVERRIDE_TYPE_INFO);
-      final Connection connection = getDatabaseConnection();
-      statement = connection.createStatement();
+      statement = createStatement(typeInfoSql);
       results = new MetadataResultSet(typeInfoSql,
                                       statement,
                                       getSchemaInclusionRule());
@@ -32,11 +32,13 @@ package schemacrawler.crawl;
 import static java.util.Objects.requireNonNull;
 import static sf.util.Utility.isBlank;
 
-import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
 
@@ -47,7 +49,9 @@ import schemacrawler.schema.ForeignKeyUpdateRule;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.SchemaReference;
 import schemacrawler.schema.Table;
+import schemacrawler.schema.TableType;
 import schemacrawler.schema.View;
+import schemacrawler.schemacrawler.IncludeAll;
 import schemacrawler.schemacrawler.InformationSchemaKey;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
@@ -85,8 +89,6 @@ final class ForeignKeyRetriever
     final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
       .getInformationSchemaViews();
 
-    final Connection connection = getDatabaseConnection();
-
     if (!informationSchemaViews.hasQuery(InformationSchemaKey.EXT_FOREIGN_KEYS))
     {
       LOGGER.log(Level.FINE,
@@ -106,7 +108,7 @@ final class ForeignKeyRetriever
     final Query extForeignKeysSql = informationSchemaViews
       .getQuery(InformationSchemaKey.EXT_FOREIGN_KEYS);
 
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(extForeignKeysSql);
         final MetadataResultSet results = new MetadataResultSet(extForeignKeysSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
@@ -165,6 +167,13 @@ final class ForeignKeyRetriever
         retrieveForeignKeysFromMetadataForAllTables();
         break;
 
+      case metadata_schema:
+        LOGGER
+          .log(Level.INFO,
+               "Retrieving foreign keys, using meta-data retrieval for each schema");
+        retrieveForeignKeysFromMetadataForSchemas(allTables);
+        break;
+
       case metadata:
         LOGGER.log(Level.INFO, "Retrieving foreign keys");
         retrieveForeignKeysFromMetadata(allTables);
@@ -338,8 +347,7 @@ final class ForeignKeyRetriever
     final NamedObjectList<MutableForeignKey> foreignKeys = new NamedObjectList<>();
     final Query fkSql = informationSchemaViews
       .getQuery(InformationSchemaKey.FOREIGN_KEYS);
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(fkSql);
         final MetadataResultSet results = new MetadataResultSet(fkSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
@@ -355,26 +363,172 @@ final class ForeignKeyRetriever
     }
   }
 
+  /**
+   * Lists tables that were not crawled, and that could have foreign
+   * keys referencing crawled tables. Views and system tables are not
+   * listed. Tables are listed only in the crawled schemas, and only if
+   * all schemas were crawled, since tables in schemas that were not
+   * crawled could also reference crawled tables. Listing stops once
+   * there are as many tables as the maximum.
+   *
+   * @param maximumTables
+   *        Number of tables at which listing stops
+   * @return Lookup keys of tables that were not crawled, or empty if
+   *         they could not all be listed, or if there are too many
+   */
+  private Optional<List<List<String>>> lookupUncrawledTables(final int maximumTables)
+  {
+    if (!(getSchemaInclusionRule() instanceof IncludeAll))
+    {
+      LOGGER.log(Level.FINE,
+                 "Not listing tables that were not crawled, since not all schemas were crawled");
+      return Optional.empty();
+    }
+    if (getRetrieverConnection().isStreamingResults())
+    {
+      // With auto-commit off, a failed query aborts the transaction on
+      // some databases, such as PostgreSQL
+      LOGGER.log(Level.FINE,
+                 "Not listing tables that were not crawled, since results are streamed");
+      return Optional.empty();
+    }
+
+    final List<List<String>> uncrawledTables = new ArrayList<>();
+    for (final SchemaReference schema: getAllSchemas())
+    {
+      try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+        .getTables(schema.getCatalogName(), schema.getName(), "%", null));)
+      {
+        results.setDescription("lookupUncrawledTables");
+        while (results.next())
+        {
+          final String catalogName = normalizeCatalogName(results
+            .getString("TABLE_CAT"));
+          final String schemaName = normalizeSchemaName(results
+            .getString("TABLE_SCHEM"));
+          final String tableName = results.getString("TABLE_NAME");
+          final String tableTypeString = results.getString("TABLE_TYPE");
+          // System tables do not reference tables of the user
+          if (!isBlank(tableTypeString)
+              && (new TableType(tableTypeString).isView()
+                  || tableTypeString.toUpperCase().contains("SYSTEM")))
+          {
+            continue;
+          }
+
+          final List<String> tableLookupKey = Arrays
+            .asList(catalogName, schemaName, tableName);
+          if (!catalog.lookupTable(tableLookupKey).isPresent())
+          {
+            uncrawledTables.add(tableLookupKey);
+            if (uncrawledTables.size() >= maximumTables)
+            {
+              return Optional.empty();
+            }
+          }
+        }
+      }
+      catch (final SQLException e)
+      {
+        LOGGER.log(Level.FINE,
+                   new StringFormat("Could not list tables that were not crawled, in schema <%s>",
+                                    schema),
+                   e);
+        return Optional.empty();
+      }
+    }
+    return Optional.of(uncrawledTables);
+  }
+
+  private void retrieveExportedKeys(final String catalogName,
+                                    final String schemaName,
+                                    final String tableName,
+                                    final NamedObjectList<MutableForeignKey> foreignKeys)
+    throws SQLException
+  {
+    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+      .getExportedKeys(catalogName, schemaName, tableName));)
+    {
+      createForeignKeys(results, foreignKeys);
+    }
+  }
+
+  private void retrieveImportedKeys(final String catalogName,
+                                    final String schemaName,
+                                    final String tableName,
+                                    final NamedObjectList<MutableForeignKey> foreignKeys)
+    throws SQLException
+  {
+    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+      .getImportedKeys(catalogName, schemaName, tableName));)
+    {
+      createForeignKeys(results, foreignKeys);
+    }
+  }
+
+  private void retrieveForeignKeysFromMetadata(final MutableTable table,
+                                               final NamedObjectList<MutableForeignKey> foreignKeys)
+    throws SchemaCrawlerSQLException
+  {
+    if (table instanceof View)
+    {
+      return;
+    }
+
+    final Schema schema = table.getSchema();
+    try
+    {
+      // Get imported foreign keys
+      retrieveImportedKeys(schema.getCatalogName(),
+                           schema.getName(),
+                           table.getName(),
+                           foreignKeys);
+      // We need to get exported keys as well, since if only a single
+      // table is selected, we have not retrieved it's keys that are
+      // imported by other tables.
+      retrieveExportedKeys(schema.getCatalogName(),
+                           schema.getName(),
+                           table.getName(),
+                           foreignKeys);
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerSQLException("Could not retrieve foreign keys for table "
+                                          + table,
+                                          e);
+    }
+  }
+
+  /**
+   * Retrieves imported keys for each table. Foreign keys between two
+   * crawled tables are then already known, and exported keys only add
+   * foreign keys from tables that were not crawled. If there are fewer
+   * tables that were not crawled than crawled tables, the imported keys
+   * of those tables are retrieved instead of exported keys.
+   */
   private void retrieveForeignKeysFromMetadata(final NamedObjectList<MutableTable> allTables)
     throws SchemaCrawlerSQLException
   {
     final NamedObjectList<MutableForeignKey> foreignKeys = new NamedObjectList<>();
+
+    final List<MutableTable> tables = new ArrayList<>();
     for (final MutableTable table: allTables)
     {
-      if (table instanceof View)
+      if (!(table instanceof View))
       {
-        continue;
+        tables.add(table);
       }
+    }
 
-      final DatabaseMetaData metaData = getMetaData();
-
-      // Get imported foreign keys
-      try (final MetadataResultSet results = new MetadataResultSet(metaData
-        .getImportedKeys(table.getSchema().getCatalogName(),
-                         table.getSchema().getName(),
-                         table.getName()));)
+    for (final MutableTable table: tables)
+    {
+      final Schema schema = table.getSchema();
+      try
       {
-        createForeignKeys(results, foreignKeys);
+        retrieveImportedKeys(schema.getCatalogName(),
+                             schema.getName(),
+                             table.getName(),
+                             foreignKeys);
       }
       catch (final SQLException e)
       {
@@ -382,16 +536,46 @@ final class ForeignKeyRetriever
                                             + table,
                                             e);
       }
+    }
 
-      // We need to get exported keys as well, since if only a single
-      // table is selected, we have not retrieved it's keys that are
-      // imported by other tables.
-      try (final MetadataResultSet results = new MetadataResultSet(metaData
-        .getExportedKeys(table.getSchema().getCatalogName(),
-                         table.getSchema().getName(),
-                         table.getName()));)
+    final Optional<List<List<String>>> optionalUncrawledTables = lookupUncrawledTables(tables
+      .size());
+    if (optionalUncrawledTables.isPresent())
+    {
+      final List<List<String>> uncrawledTables = optionalUncrawledTables
+        .get();
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Retrieving imported keys for %d tables that were not crawled",
+                                  uncrawledTables.size()));
+      try
       {
-        createForeignKeys(results, foreignKeys);
+        for (final List<String> tableLookupKey: uncrawledTables)
+        {
+          retrieveImportedKeys(tableLookupKey.get(0),
+                               tableLookupKey.get(1),
+                               tableLookupKey.get(2),
+                               foreignKeys);
+        }
+        return;
+      }
+      catch (final SQLException e)
+      {
+        LOGGER
+          .log(Level.FINE,
+               "Could not retrieve imported keys for tables that were not crawled",
+               e);
+      }
+    }
+
+    for (final MutableTable table: tables)
+    {
+      final Schema schema = table.getSchema();
+      try
+      {
+        retrieveExportedKeys(schema.getCatalogName(),
+                             schema.getName(),
+                             table.getName(),
+                             foreignKeys);
       }
       catch (final SQLException e)
       {
@@ -425,4 +609,62 @@ final class ForeignKeyRetriever
     }
   }
 
+  /**
+   * Retrieves foreign keys with one call for imported keys and one for
+   * exported keys for each schema. According to JDBC, the table name for
+   * foreign keys is not a pattern, so some drivers do not return any
+   * foreign keys for a "%" table name. Foreign keys for a schema are
+   * retrieved table by table if none are returned for the schema.
+   */
+  private void retrieveForeignKeysFromMetadataForSchemas(final NamedObjectList<MutableTable> allTables)
+    throws SchemaCrawlerSQLException
+  {
+    final NamedObjectList<MutableForeignKey> foreignKeys = new NamedObjectList<>();
+    final DatabaseMetaData metaData = getMetaData();
+    for (final Map.Entry<Schema, List<MutableTable>> schemaTables: groupTablesBySchema(allTables)
+      .entrySet())
+    {
+      final Schema schema = schemaTables.getKey();
+      int rowCount = 0;
+      try (final MetadataResultSet results = new MetadataResultSet(metaData
+        .getImportedKeys(schema.getCatalogName(), schema.getName(), "%"));)
+      {
+        createForeignKeys(results, foreignKeys);
+        rowCount = rowCount + results.getRowCount();
+      }
+      catch (final SQLException e)
+      {
+        LOGGER.log(Level.FINE,
+                   new StringFormat("Could not retrieve imported keys for schema <%s>",
+                                    schema),
+                   e);
+      }
+      try (final MetadataResultSet results = new MetadataResultSet(metaData
+        .getExportedKeys(schema.getCatalogName(), schema.getName(), "%"));)
+      {
+        createForeignKeys(results, foreignKeys);
+        rowCount = rowCount + results.getRowCount();
+      }
+      catch (final SQLException e)
+      {
+        LOGGER.log(Level.FINE,
+                   new StringFormat("Could not retrieve exported keys for schema <%s>",
+                                    schema),
+                   e);
+      }
+
+      if (rowCount == 0)
+      {
+        LOGGER
+          .log(Level.FINE,
+               new StringFormat("No foreign keys retrieved for schema <%s>, so retrieving foreign keys for each table",
+                                schema));
+        for (final MutableTable table: schemaTables.getValue())
+        {
+          retrieveForeignKeysFromMetadata(table, foreignKeys);
+        }
+      }
+    }
+  }
+
 }
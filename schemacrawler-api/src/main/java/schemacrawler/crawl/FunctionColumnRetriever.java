@@ -32,19 +32,21 @@ package schemacrawler.crawl;
 import static java.util.Objects.requireNonNull;
 import static sf.util.Utility.isBlank;
 
-import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Statement;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Level;
 
 import schemacrawler.filter.InclusionRuleFilter;
 import schemacrawler.schema.FunctionColumn;
 import schemacrawler.schema.FunctionColumnType;
 import schemacrawler.schema.RoutineType;
+import schemacrawler.schema.Schema;
 import schemacrawler.schemacrawler.InclusionRule;
 import schemacrawler.schemacrawler.InformationSchemaKey;
 import schemacrawler.schemacrawler.InformationSchemaViews;
@@ -110,6 +112,13 @@ final class FunctionColumnRetriever
                                                            columnFilter);
         break;
 
+      case metadata_schema:
+        LOGGER
+          .log(Level.INFO,
+               "Retrieving function columns, using meta-data retrieval for each schema");
+        retrieveFunctionColumnsFromMetadataForSchemas(allRoutines, columnFilter);
+        break;
+
       case metadata:
         LOGGER.log(Level.INFO, "Retrieving function columns");
         retrieveFunctionColumnsFromMetadata(allRoutines, columnFilter);
@@ -226,8 +235,7 @@ final class FunctionColumnRetriever
     }
     final Query functionColumnsSql = informationSchemaViews
       .getQuery(InformationSchemaKey.FUNCTION_COLUMNS);
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(functionColumnsSql);
         final MetadataResultSet results = new MetadataResultSet(functionColumnsSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
@@ -303,4 +311,48 @@ final class FunctionColumnRetriever
     }
   }
 
+  private void retrieveFunctionColumnsFromMetadataForSchemas(final NamedObjectList<MutableRoutine> allRoutines,
+                                                             final InclusionRuleFilter<FunctionColumn> columnFilter)
+    throws SchemaCrawlerSQLException
+  {
+    final Set<Schema> schemas = new LinkedHashSet<>();
+    for (final MutableRoutine routine: allRoutines)
+    {
+      if (routine.getRoutineType() == RoutineType.function)
+      {
+        schemas.add(routine.getSchema());
+      }
+    }
+
+    for (final Schema schema: schemas)
+    {
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Retrieving function columns for schema <%s>",
+                                  schema));
+      try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+        .getFunctionColumns(schema.getCatalogName(),
+                            schema.getName(),
+                            "%",
+                            "%"));)
+      {
+        while (results.next())
+        {
+          createFunctionColumn(results, allRoutines, columnFilter);
+        }
+      }
+      catch (final AbstractMethodError | SQLFeatureNotSupportedException e)
+      {
+        logSQLFeatureNotSupported(new StringFormat("Could not retrieve function columns for schema %s",
+                                                   schema),
+                                  e);
+      }
+      catch (final SQLException e)
+      {
+        logPossiblyUnsupportedSQLFeature(new StringFormat("Could not retrieve function columns for schema %s",
+                                                          schema),
+                                         e);
+      }
+    }
+  }
+
 }
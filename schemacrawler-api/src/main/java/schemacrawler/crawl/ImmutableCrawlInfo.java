@@ -33,12 +33,18 @@ import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 import schemacrawler.*;
 import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.CrawlMetric;
 import schemacrawler.schema.DatabaseInfo;
 import schemacrawler.schema.JdbcDriverInfo;
+import schemacrawler.schema.RetrievalStrategyChoice;
 
 /**
  * SchemaCrawler crawl information.
@@ -58,6 +64,10 @@ final class ImmutableCrawlInfo
   private final ProductVersion jvmInfo;
   private final LocalDateTime crawlTimestamp;
   private final UUID runId;
+  // Set once, when the crawl is complete
+  private List<CrawlMetric> crawlMetrics;
+  // Set once, when retrieval strategies are chosen during the crawl
+  private List<RetrievalStrategyChoice> retrievalStrategyChoices;
 
   ImmutableCrawlInfo(final JdbcDriverInfo jdbcDriverInfo,
                      final DatabaseInfo databaseInfo)
@@ -82,6 +92,16 @@ final class ImmutableCrawlInfo
     return crawlTimestamp;
   }
 
+  @Override
+  public Collection<CrawlMetric> getCrawlMetrics()
+  {
+    if (crawlMetrics == null)
+    {
+      return Collections.emptyList();
+    }
+    return Collections.unmodifiableList(crawlMetrics);
+  }
+
   @Override
   public String getDatabaseInfo()
   {
@@ -112,6 +132,16 @@ final class ImmutableCrawlInfo
     return runId.toString();
   }
 
+  @Override
+  public Collection<RetrievalStrategyChoice> getRetrievalStrategyChoices()
+  {
+    if (retrievalStrategyChoices == null)
+    {
+      return Collections.emptyList();
+    }
+    return Collections.unmodifiableList(retrievalStrategyChoices);
+  }
+
   @Override
   public String getSchemaCrawlerInfo()
   {
@@ -142,4 +172,17 @@ final class ImmutableCrawlInfo
     return info.toString();
   }
 
+  void setCrawlMetrics(final Collection<CrawlMetric> crawlMetrics)
+  {
+    requireNonNull(crawlMetrics, "No crawl metrics provided");
+    this.crawlMetrics = new ArrayList<>(crawlMetrics);
+  }
+
+  void setRetrievalStrategyChoices(final Collection<RetrievalStrategyChoice> retrievalStrategyChoices)
+  {
+    requireNonNull(retrievalStrategyChoices,
+                   "No retrieval strategy choices provided");
+    this.retrievalStrategyChoices = new ArrayList<>(retrievalStrategyChoices);
+  }
+
 }
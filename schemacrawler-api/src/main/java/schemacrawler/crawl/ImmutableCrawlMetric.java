@@ -0,0 +1,175 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+
+import schemacrawler.schema.CrawlMetric;
+import schemacrawler.schema.CrawlMetricType;
+
+/**
+ * Measurements for a phase of the crawl, or for a metadata query.
+ *
+ * @author Sualeh Fatehi
+ */
+final class ImmutableCrawlMetric
+  implements CrawlMetric
+{
+
+  private static final long serialVersionUID = -2397046237458231845L;
+
+  private static long add(final long value1, final long value2)
+  {
+    if (value1 < 0 || value2 < 0)
+    {
+      return -1;
+    }
+    return value1 + value2;
+  }
+
+  private final CrawlMetricType type;
+  private final String phase;
+  private final String name;
+  private final int count;
+  private final Duration wallTime;
+  private final long rowCount;
+  private final long roundTrips;
+  private final long bytesFetched;
+  private final long objectsCreated;
+
+  ImmutableCrawlMetric(final CrawlMetricType type,
+                       final String phase,
+                       final String name,
+                       final int count,
+                       final Duration wallTime,
+                       final long rowCount,
+                       final long roundTrips,
+                       final long bytesFetched,
+                       final long objectsCreated)
+  {
+    this.type = requireNonNull(type, "No metric type provided");
+    this.phase = requireNonNull(phase, "No phase provided");
+    this.name = requireNonNull(name, "No name provided");
+    this.count = count;
+    this.wallTime = requireNonNull(wallTime, "No wall time provided");
+    this.rowCount = rowCount;
+    this.roundTrips = roundTrips;
+    this.bytesFetched = bytesFetched;
+    this.objectsCreated = objectsCreated;
+  }
+
+  @Override
+  public long getBytesFetched()
+  {
+    return bytesFetched;
+  }
+
+  @Override
+  public int getCount()
+  {
+    return count;
+  }
+
+  @Override
+  public String getName()
+  {
+    return name;
+  }
+
+  @Override
+  public long getObjectsCreated()
+  {
+    return objectsCreated;
+  }
+
+  @Override
+  public String getPhase()
+  {
+    return phase;
+  }
+
+  @Override
+  public long getRoundTrips()
+  {
+    return roundTrips;
+  }
+
+  @Override
+  public long getRowCount()
+  {
+    return rowCount;
+  }
+
+  @Override
+  public CrawlMetricType getType()
+  {
+    return type;
+  }
+
+  @Override
+  public Duration getWallTime()
+  {
+    return wallTime;
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format("%s <%s/%s>: %d runs, %d ms, %d rows, %d round trips",
+                         type,
+                         phase,
+                         name,
+                         count,
+                         wallTime.toMillis(),
+                         rowCount,
+                         roundTrips);
+  }
+
+  /**
+   * Adds up the measurements for another run of the same phase or
+   * query. Values that are not known for either run are not known for
+   * the total.
+   */
+  ImmutableCrawlMetric plus(final CrawlMetric other)
+  {
+    return new ImmutableCrawlMetric(type,
+                                    phase,
+                                    name,
+                                    count + other.getCount(),
+                                    wallTime.plus(other.getWallTime()),
+                                    rowCount + other.getRowCount(),
+                                    roundTrips + other.getRoundTrips(),
+                                    add(bytesFetched, other.getBytesFetched()),
+                                    add(objectsCreated,
+                                        other.getObjectsCreated()));
+  }
+
+}
@@ -0,0 +1,89 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import schemacrawler.schema.RetrievalStrategyChoice;
+
+/**
+ * A metadata retrieval strategy that was chosen for a part of the
+ * crawl, with the reason for the choice.
+ *
+ * @author Sualeh Fatehi
+ */
+final class ImmutableRetrievalStrategyChoice
+  implements RetrievalStrategyChoice
+{
+
+  private static final long serialVersionUID = 5731962518042671803L;
+
+  private final String phase;
+  private final MetadataRetrievalStrategy strategy;
+  private final String reason;
+
+  ImmutableRetrievalStrategyChoice(final String phase,
+                                   final MetadataRetrievalStrategy strategy,
+                                   final String reason)
+  {
+    this.phase = requireNonNull(phase, "No phase provided");
+    this.strategy = requireNonNull(strategy, "No strategy provided");
+    this.reason = requireNonNull(reason, "No reason provided");
+  }
+
+  @Override
+  public String getPhase()
+  {
+    return phase;
+  }
+
+  @Override
+  public String getReason()
+  {
+    return reason;
+  }
+
+  @Override
+  public String getStrategy()
+  {
+    return strategy.name();
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format("%s: %s, since %s", phase, strategy, reason);
+  }
+
+  MetadataRetrievalStrategy getMetadataRetrievalStrategy()
+  {
+    return strategy;
+  }
+
+}
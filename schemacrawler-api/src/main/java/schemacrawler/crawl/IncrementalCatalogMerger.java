@@ -0,0 +1,256 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.Table;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Carries unchanged tables forward from a catalog from an earlier crawl
+ * into a catalog in which only new and changed tables were crawled.
+ * <p>
+ * Foreign keys between a refreshed table and an unchanged table are
+ * retrieved again with the refreshed table, since both imported and
+ * exported keys are retrieved for every crawled table. So foreign keys
+ * of unchanged tables that involve a refreshed or dropped table are
+ * dropped, and foreign keys of refreshed tables are linked to the
+ * columns of the unchanged tables that they reference.
+ *
+ * @author Sualeh Fatehi
+ */
+final class IncrementalCatalogMerger
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(IncrementalCatalogMerger.class.getName());
+
+  /**
+   * Makes a deep copy of a catalog, so that tables can be moved out of
+   * it, without changing the catalog that was provided. The copy is
+   * made by Java serialization, in memory, so the serialized form and
+   * then a second copy of the whole catalog are held on the heap at the
+   * same time as the original.
+   */
+  static MutableCatalog copyOf(final MutableCatalog catalog)
+    throws IOException, ClassNotFoundException
+  {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(bytes);)
+    {
+      out.writeObject(catalog);
+    }
+    try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes
+      .toByteArray()));)
+    {
+      return (MutableCatalog) in.readObject();
+    }
+  }
+
+  private final MutableCatalog baseCatalog;
+  private final Set<List<String>> unchangedTables;
+
+  /**
+   * @param baseCatalog
+   *        Copy of the catalog from the earlier crawl, which is taken
+   *        apart
+   * @param unchangedTables
+   *        Lookup keys of tables that are unchanged since the earlier
+   *        crawl
+   */
+  IncrementalCatalogMerger(final MutableCatalog baseCatalog,
+                           final Set<List<String>> unchangedTables)
+  {
+    this.baseCatalog = requireNonNull(baseCatalog, "No base catalog provided");
+    this.unchangedTables = new HashSet<>(requireNonNull(unchangedTables,
+                                                        "No unchanged tables provided"));
+  }
+
+  /**
+   * Adds unchanged tables to a catalog with refreshed tables, and links
+   * up foreign keys between them.
+   *
+   * @param catalog
+   *        Catalog with only new and changed tables
+   */
+  void mergeInto(final MutableCatalog catalog)
+  {
+    requireNonNull(catalog, "No catalog provided");
+
+    final List<MutableTable> refreshedTables = new ArrayList<>(catalog
+      .getAllTables().values());
+
+    final List<MutableTable> carriedTables = new ArrayList<>();
+    for (final MutableTable table: baseCatalog.getAllTables())
+    {
+      final List<String> lookupKey = table.toUniqueLookupKey();
+      if (unchangedTables.contains(lookupKey)
+          && !catalog.lookupTable(lookupKey).isPresent())
+      {
+        carriedTables.add(table);
+      }
+    }
+
+    for (final MutableTable table: carriedTables)
+    {
+      dropStaleForeignKeys(table);
+      catalog.addTable(table);
+    }
+
+    for (final MutableTable table: refreshedTables)
+    {
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        linkForeignKey(catalog, (MutableForeignKey) foreignKey);
+      }
+    }
+
+    LOGGER.log(Level.INFO,
+               new StringFormat("Carried forward %d unchanged tables, and refreshed %d tables",
+                                carriedTables.size(),
+                                refreshedTables.size()));
+  }
+
+  /**
+   * Drops foreign keys that involve a table that is not carried
+   * forward, since they are either dropped, or retrieved again with
+   * the refreshed table.
+   */
+  private void dropStaleForeignKeys(final MutableTable table)
+  {
+    for (final ForeignKey foreignKey: table.getForeignKeys())
+    {
+      if (!isCarried(foreignKey))
+      {
+        table.removeForeignKey((MutableForeignKey) foreignKey);
+      }
+    }
+    for (final Column column: table.getColumns())
+    {
+      final Column referencedColumn = column.getReferencedColumn();
+      if (referencedColumn != null
+          && !isCarried(referencedColumn.getParent()))
+      {
+        ((MutableColumn) column).setReferencedColumn(null);
+      }
+    }
+  }
+
+  private boolean isCarried(final ForeignKey foreignKey)
+  {
+    for (final ForeignKeyColumnReference columnReference: foreignKey)
+    {
+      if (!isCarried(columnReference.getPrimaryKeyColumn().getParent())
+          || !isCarried(columnReference.getForeignKeyColumn().getParent()))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Whether the table is carried forward. Tables that were not crawled,
+   * and are only referenced by foreign keys, are kept as they are.
+   */
+  private boolean isCarried(final Table table)
+  {
+    if (table instanceof TablePartial)
+    {
+      return true;
+    }
+    return unchangedTables
+      .contains(((MutableTable) table).toUniqueLookupKey());
+  }
+
+  /**
+   * Resolves partial columns of a refreshed foreign key to columns of
+   * unchanged tables, and adds the foreign key to those tables.
+   */
+  private void linkForeignKey(final MutableCatalog catalog,
+                              final MutableForeignKey foreignKey)
+  {
+    final Set<MutableTable> linkedTables = new HashSet<>();
+    foreignKey.resolveColumnReferences(column -> {
+      if (!(column instanceof ColumnPartial))
+      {
+        return column;
+      }
+      final Table partialTable = column.getParent();
+      final Optional<MutableTable> tableOptional = catalog
+        .lookupTable(partialTable.getSchema(), partialTable.getName());
+      if (!tableOptional.isPresent())
+      {
+        return column;
+      }
+      final MutableTable table = tableOptional.get();
+      final Optional<MutableColumn> columnOptional = table
+        .lookupColumn(column.getName());
+      if (!columnOptional.isPresent())
+      {
+        return column;
+      }
+      linkedTables.add(table);
+      return columnOptional.get();
+    });
+
+    for (final ColumnReference columnReference: foreignKey)
+    {
+      final Column fkColumn = columnReference.getForeignKeyColumn();
+      if (fkColumn instanceof MutableColumn)
+      {
+        ((MutableColumn) fkColumn)
+          .setReferencedColumn(columnReference.getPrimaryKeyColumn());
+      }
+    }
+    for (final MutableTable table: linkedTables)
+    {
+      table.addForeignKey(foreignKey);
+    }
+  }
+
+}
@@ -32,16 +32,18 @@ package schemacrawler.crawl;
 import static java.util.Objects.requireNonNull;
 import static sf.util.Utility.isBlank;
 
-import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
 
 import schemacrawler.schema.Column;
 import schemacrawler.schema.IndexColumnSortSequence;
 import schemacrawler.schema.IndexType;
+import schemacrawler.schema.Schema;
 import schemacrawler.schema.View;
 import schemacrawler.schemacrawler.InformationSchemaKey;
 import schemacrawler.schemacrawler.InformationSchemaViews;
@@ -93,6 +95,12 @@ final class IndexRetriever
         retrieveIndexesFromMetadataForAllTables(allTables);
         break;
 
+      case metadata_schema:
+        LOGGER.log(Level.INFO,
+                   "Retrieving indexes, using meta-data retrieval for each schema");
+        retrieveIndexesFromMetadataForSchemas(allTables);
+        break;
+
       case metadata:
         LOGGER.log(Level.INFO, "Retrieving indexes");
         retrieveIndexesFromMetadata(allTables);
@@ -126,6 +134,13 @@ final class IndexRetriever
         retrievePrimaryKeysFromMetadataForAllTables(allTables);
         break;
 
+      case metadata_schema:
+        LOGGER
+          .log(Level.INFO,
+               "Retrieving primary keys, using meta-data retrieval for each schema");
+        retrievePrimaryKeysFromMetadataForSchemas(allTables);
+        break;
+
       case metadata:
         LOGGER.log(Level.INFO, "Retrieving primary keys");
         retrievePrimaryKeysFromMetadata(allTables);
@@ -301,8 +316,7 @@ final class IndexRetriever
 
     final Query indexesSql = informationSchemaViews
       .getQuery(InformationSchemaKey.INDEXES);
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(indexesSql);
         final MetadataResultSet results = new MetadataResultSet(indexesSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
@@ -394,6 +408,75 @@ final class IndexRetriever
 
   }
 
+  /**
+   * Retrieves indexes with one call for each schema. According to JDBC,
+   * the table name for index information is not a pattern, so some
+   * drivers do not return any indexes for a "%" table name. Indexes
+   * for a schema are retrieved table by table if none are returned for
+   * the schema.
+   */
+  private void retrieveIndexesFromMetadataForSchemas(final NamedObjectList<MutableTable> allTables)
+    throws SQLException
+  {
+    for (final Map.Entry<Schema, List<MutableTable>> schemaTables: groupTablesBySchema(allTables)
+      .entrySet())
+    {
+      final Schema schema = schemaTables.getKey();
+      final int rowCount = retrieveIndexesFromMetadataForSchema(allTables,
+                                                                schema,
+                                                                false)
+                           + retrieveIndexesFromMetadataForSchema(allTables,
+                                                                  schema,
+                                                                  true);
+      if (rowCount == 0)
+      {
+        LOGGER
+          .log(Level.FINE,
+               new StringFormat("No indexes retrieved for schema <%s>, so retrieving indexes for each table",
+                                schema));
+        for (final MutableTable table: schemaTables.getValue())
+        {
+          retrieveIndexesFromMetadata(table, false);
+          retrieveIndexesFromMetadata(table, true);
+        }
+      }
+    }
+  }
+
+  private int retrieveIndexesFromMetadataForSchema(final NamedObjectList<MutableTable> allTables,
+                                                   final Schema schema,
+                                                   final boolean unique)
+  {
+    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+      .getIndexInfo(schema.getCatalogName(),
+                    schema.getName(),
+                    "%",
+                    unique,
+                    true/* approximate */));)
+    {
+      while (results.next())
+      {
+        final Optional<MutableTable> optionalTable = lookupTable(allTables,
+                                                                 results);
+        if (!optionalTable.isPresent())
+        {
+          continue;
+        }
+        final MutableTable table = optionalTable.get();
+        createIndexForTable(table, results);
+      }
+      return results.getRowCount();
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Could not retrieve indexes for schema <%s>",
+                                  schema),
+                 e);
+      return 0;
+    }
+  }
+
   private void retrievePrimaryKeysFromDataDictionary(final NamedObjectList<MutableTable> allTables)
     throws SchemaCrawlerSQLException
   {
@@ -409,8 +492,7 @@ final class IndexRetriever
 
     final Query pkSql = informationSchemaViews
       .getQuery(InformationSchemaKey.PRIMARY_KEYS);
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(pkSql);
         final MetadataResultSet results = new MetadataResultSet(pkSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
@@ -436,39 +518,98 @@ final class IndexRetriever
     }
   }
 
-  private void retrievePrimaryKeysFromMetadata(final NamedObjectList<MutableTable> allTables)
+  private void retrievePrimaryKeysFromMetadata(final MutableTable table)
     throws SQLException
   {
-    for (final MutableTable table: allTables)
+    if (table instanceof View)
     {
-      if (table instanceof View)
+      return;
+    }
+    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+      .getPrimaryKeys(table.getSchema().getCatalogName(),
+                      table.getSchema().getName(),
+                      table.getName()));)
+    {
+      while (results.next())
       {
-        continue;
+        createPrimaryKeyForTable(table, results);
       }
-      try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-        .getPrimaryKeys(table.getSchema().getCatalogName(),
-                        table.getSchema().getName(),
-                        table.getName()));)
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerSQLException("Could not retrieve primary keys for table "
+                                          + table,
+                                          e);
+    }
+  }
+
+  private void retrievePrimaryKeysFromMetadata(final NamedObjectList<MutableTable> allTables)
+    throws SQLException
+  {
+    for (final MutableTable table: allTables)
+    {
+      retrievePrimaryKeysFromMetadata(table);
+    }
+  }
+
+  private void retrievePrimaryKeysFromMetadataForAllTables(final NamedObjectList<MutableTable> allTables)
+    throws SQLException
+  {
+    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+      .getPrimaryKeys(null, null, "%"));)
+    {
+      while (results.next())
       {
-        while (results.next())
+        final Optional<MutableTable> optionalTable = lookupTable(allTables,
+                                                                 results);
+        if (!optionalTable.isPresent())
         {
-          createPrimaryKeyForTable(table, results);
+          continue;
         }
+        final MutableTable table = optionalTable.get();
+        createPrimaryKeyForTable(table, results);
       }
-      catch (final SQLException e)
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerSQLException("Could not retrieve primary keys for tables",
+                                          e);
+    }
+  }
+
+  /**
+   * Retrieves primary keys with one call for each schema, and table by
+   * table for schemas where none are returned, in the same way as for
+   * indexes.
+   */
+  private void retrievePrimaryKeysFromMetadataForSchemas(final NamedObjectList<MutableTable> allTables)
+    throws SQLException
+  {
+    for (final Map.Entry<Schema, List<MutableTable>> schemaTables: groupTablesBySchema(allTables)
+      .entrySet())
+    {
+      final Schema schema = schemaTables.getKey();
+      final int rowCount = retrievePrimaryKeysFromMetadataForSchema(allTables,
+                                                                    schema);
+      if (rowCount == 0)
       {
-        throw new SchemaCrawlerSQLException("Could not retrieve primary keys for table "
-                                            + table,
-                                            e);
+        LOGGER
+          .log(Level.FINE,
+               new StringFormat("No primary keys retrieved for schema <%s>, so retrieving primary keys for each table",
+                                schema));
+        for (final MutableTable table: schemaTables.getValue())
+        {
+          retrievePrimaryKeysFromMetadata(table);
+        }
       }
     }
   }
 
-  private void retrievePrimaryKeysFromMetadataForAllTables(final NamedObjectList<MutableTable> allTables)
-    throws SQLException
+  private int retrievePrimaryKeysFromMetadataForSchema(final NamedObjectList<MutableTable> allTables,
+                                                       final Schema schema)
   {
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
-      .getPrimaryKeys(null, null, "%"));)
+      .getPrimaryKeys(schema.getCatalogName(), schema.getName(), "%"));)
     {
       while (results.next())
       {
@@ -481,11 +622,15 @@ final class IndexRetriever
         final MutableTable table = optionalTable.get();
         createPrimaryKeyForTable(table, results);
       }
+      return results.getRowCount();
     }
     catch (final SQLException e)
     {
-      throw new SchemaCrawlerSQLException("Could not retrieve primary keys for tables",
-                                          e);
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Could not retrieve primary keys for schema <%s>",
+                                  schema),
+                 e);
+      return 0;
     }
   }
 
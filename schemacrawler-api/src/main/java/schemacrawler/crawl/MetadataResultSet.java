@@ -42,14 +42,13 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
 import java.util.logging.Level;
 
 import schemacrawler.schemacrawler.InclusionRule;
@@ -63,6 +62,19 @@ import sf.util.StringFormat;
  * call. This allows type-safe methods to obtain boolean, integer and
  * string data, while abstracting away the quirks of the JDBC metadata
  * API.
+ * <p>
+ * The fetch size is doubled each time a full batch of rows has been
+ * read, up to a maximum, so that small result sets are cheap, and large
+ * result sets need fewer round trips to the database.
+ * <p>
+ * Column labels are resolved to column indexes once, when the result
+ * set is opened, and values are read by index. Columns that are read
+ * are tracked by row number, so no per-row bookkeeping needs to be
+ * allocated.
+ * <p>
+ * When the result set is closed, the time it was open, the number of
+ * rows read, and an estimate of the number of round trips are reported
+ * to the metrics of the crawl that is running on the current thread.
  *
  * @author Sualeh Fatehi
  */
@@ -74,20 +86,46 @@ final class MetadataResultSet
     .getLogger(MetadataResultSet.class.getName());
 
   private static final int FETCHSIZE = 20;
+  private static final int MAXIMUM_FETCHSIZE = 1000;
+
+  private static int getFetchSize(final Statement statement)
+  {
+    try
+    {
+      return statement.getFetchSize();
+    }
+    catch (final NullPointerException | SQLException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not get fetch size", e);
+      return FETCHSIZE;
+    }
+  }
 
   private String description;
   private final ResultSet results;
-  private final List<String> resultSetColumns;
-  private Set<String> readColumns;
+  private final String[] columnNames;
+  private final int[] columnIndexes;
+  private final Map<String, Integer> columnPositions;
+  private final int[] columnsReadInRow;
+  private final Map<String, Object> attributes;
+
+  private final long startTime;
 
   private int rowCount;
+  private int fetchSize;
+  private int fetchSizeIncreaseRowCount;
+  private long fetchedRowCount;
+  private long roundTrips;
 
   MetadataResultSet(final Query query,
                     final Statement statement,
                     final InclusionRule schemaInclusionRule)
     throws SQLException
   {
-    this(executeAgainstSchema(query, statement, schemaInclusionRule));
+    // Arguments are evaluated in order, so the query execution is timed
+    this(System.nanoTime(),
+         executeAgainstSchema(query, statement, schemaInclusionRule),
+         getFetchSize(statement));
     if (query.hasName())
     {
       description = query.getName();
@@ -97,17 +135,36 @@ final class MetadataResultSet
   MetadataResultSet(final ResultSet resultSet)
     throws SQLException
   {
+    this(System.nanoTime(), resultSet, FETCHSIZE);
+  }
+
+  private MetadataResultSet(final long startTime,
+                            final ResultSet resultSet,
+                            final int fetchSize)
+    throws SQLException
+  {
+    this.startTime = startTime;
     results = requireNonNull(resultSet, "Cannot use null results");
-    try
+    // A fetch size of 0 leaves the JDBC driver default in place
+    this.fetchSize = fetchSize;
+    if (fetchSize > 0)
     {
-      results.setFetchSize(FETCHSIZE);
+      fetchSizeIncreaseRowCount = fetchSize;
+      setFetchSize();
     }
-    catch (final NullPointerException | SQLException e)
+    else
     {
-      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+      fetchSizeIncreaseRowCount = Integer.MAX_VALUE;
     }
+    // Assume that the first batch of rows is returned with the results
+    roundTrips = 1;
+    fetchedRowCount = fetchSize > 0? fetchSize: Long.MAX_VALUE;
 
+    // Resolve column labels to indexes, keeping the first column for
+    // any duplicate label, as lookups by label would
     final List<String> resultSetColumns = new ArrayList<>();
+    final List<Integer> resultSetColumnIndexes = new ArrayList<>();
+    columnPositions = new HashMap<>();
     try
     {
       final ResultSetMetaData rsMetaData = resultSet.getMetaData();
@@ -119,16 +176,31 @@ final class MetadataResultSet
         {
           columnName = rsMetaData.getColumnName(i + 1);
         }
-        resultSetColumns.add(columnName.toUpperCase());
+        columnName = columnName.toUpperCase();
+        if (!columnPositions.containsKey(columnName))
+        {
+          columnPositions.put(columnName, resultSetColumns.size());
+          resultSetColumns.add(columnName);
+          resultSetColumnIndexes.add(i + 1);
+        }
       }
     }
     catch (final SQLException e)
     {
       LOGGER.log(Level.WARNING, "Could not get columns list");
     }
-    this.resultSetColumns = Collections.unmodifiableList(resultSetColumns);
 
-    readColumns = new HashSet<>();
+    final int columnCount = resultSetColumns.size();
+    columnNames = resultSetColumns.toArray(new String[columnCount]);
+    columnIndexes = new int[columnCount];
+    for (int i = 0; i < columnCount; i++)
+    {
+      columnIndexes[i] = resultSetColumnIndexes.get(i);
+    }
+    columnsReadInRow = new int[columnCount];
+    Arrays.fill(columnsReadInRow, -1);
+
+    attributes = new HashMap<>();
   }
 
   /**
@@ -145,32 +217,43 @@ final class MetadataResultSet
   {
     results.close();
 
+    CrawlMetrics.recordQuery(description,
+                             Duration.ofNanos(System.nanoTime() - startTime),
+                             rowCount,
+                             roundTrips);
+
     if (LOGGER.isLoggable(Level.INFO) && !isBlank(description))
     {
       LOGGER.log(Level.INFO,
                  new StringFormat("Processed %d rows for <%s>",
                                   rowCount,
                                   description));
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Final fetch size was %d for <%s>",
+                                  fetchSize,
+                                  description));
     }
   }
 
   /**
    * Gets unread (and therefore unmapped) columns from the database
    * metadata resultset, and makes them available as addiiotnal
-   * attributes.
+   * attributes. The map is reused for every row, so the values need to
+   * be copied before moving to the next row.
    *
    * @return Map of additional attributes to the database object
    */
   Map<String, Object> getAttributes()
   {
-    final Map<String, Object> attributes = new HashMap<>();
-    for (final String columnName: resultSetColumns)
+    attributes.clear();
+    for (int i = 0; i < columnNames.length; i++)
     {
-      if (!readColumns.contains(columnName))
+      if (columnsReadInRow[i] != rowCount)
       {
+        final String columnName = columnNames[i];
         try
         {
-          final Object value = results.getObject(columnName);
+          final Object value = results.getObject(columnIndexes[i]);
           attributes.put(columnName, value);
         }
         catch (final SQLException | ArrayIndexOutOfBoundsException e)
@@ -213,6 +296,16 @@ final class MetadataResultSet
     return value;
   }
 
+  /**
+   * Gets the number of rows read so far.
+   *
+   * @return Number of rows read
+   */
+  int getRowCount()
+  {
+    return rowCount;
+  }
+
   /**
    * Checks if the value of a column from the result set evaluates to
    * true.
@@ -223,11 +316,12 @@ final class MetadataResultSet
    */
   boolean getBoolean(final String columnName)
   {
-    if (useColumn(columnName))
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0)
     {
       try
       {
-        final Object booleanValue = results.getObject(columnName);
+        final Object booleanValue = results.getObject(columnIndex);
         final String stringBooleanValue;
         if (results.wasNull() || booleanValue == null)
         {
@@ -333,11 +427,12 @@ final class MetadataResultSet
   int getInt(final String columnName, final int defaultValue)
   {
     int value = defaultValue;
-    if (useColumn(columnName))
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0)
     {
       try
       {
-        value = results.getInt(columnName);
+        value = results.getInt(columnIndex);
         if (results.wasNull())
         {
           LOGGER
@@ -373,11 +468,12 @@ final class MetadataResultSet
   long getLong(final String columnName, final long defaultValue)
   {
     long value = defaultValue;
-    if (useColumn(columnName))
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0)
     {
       try
       {
-        value = results.getLong(columnName);
+        value = results.getLong(columnIndex);
         if (results.wasNull())
         {
           LOGGER
@@ -412,11 +508,12 @@ final class MetadataResultSet
   short getShort(final String columnName, final short defaultValue)
   {
     short value = defaultValue;
-    if (useColumn(columnName))
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0)
     {
       try
       {
-        value = results.getShort(columnName);
+        value = results.getShort(columnIndex);
         if (results.wasNull())
         {
           LOGGER
@@ -449,11 +546,12 @@ final class MetadataResultSet
   String getString(final String columnName)
   {
     String value = null;
-    if (useColumn(columnName))
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0)
     {
       try
       {
-        value = results.getString(columnName);
+        value = results.getString(columnIndex);
         if (results.wasNull())
         {
           value = null;
@@ -491,13 +589,22 @@ final class MetadataResultSet
   boolean next()
     throws SQLException
   {
-    readColumns = new HashSet<>();
-
+    if (rowCount == fetchedRowCount)
+    {
+      // All fetched rows have been read, so the driver needs to fetch
+      // another batch of rows
+      roundTrips = roundTrips + 1;
+      fetchedRowCount = fetchedRowCount + fetchSize;
+    }
     final boolean next = results.next();
     logSQLWarnings(results);
     if (next)
     {
       rowCount = rowCount + 1;
+      if (rowCount == fetchSizeIncreaseRowCount)
+      {
+        increaseFetchSize();
+      }
     }
     return next;
   }
@@ -507,15 +614,54 @@ final class MetadataResultSet
     this.description = description;
   }
 
-  private boolean useColumn(final String columnName)
+  private void increaseFetchSize()
+  {
+    final int maximumFetchSize = Math.max(fetchSize, MAXIMUM_FETCHSIZE);
+    if (fetchSize >= maximumFetchSize)
+    {
+      fetchSizeIncreaseRowCount = Integer.MAX_VALUE;
+      return;
+    }
+    fetchSize = (int) Math.min((long) fetchSize * 2, maximumFetchSize);
+    fetchSizeIncreaseRowCount = rowCount + fetchSize;
+    setFetchSize();
+  }
+
+  private void setFetchSize()
+  {
+    try
+    {
+      results.setFetchSize(fetchSize);
+    }
+    catch (final NullPointerException | SQLException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+      // Do not try to adjust the fetch size again
+      fetchSizeIncreaseRowCount = Integer.MAX_VALUE;
+    }
+  }
+
+  /**
+   * Looks up a column, and marks it as read for the current row.
+   *
+   * @param columnName
+   *        Column name
+   * @return Column index for the result set, or 0 if the column is not
+   *         present
+   */
+  private int useColumn(final String columnName)
   {
-    final boolean useColumn = columnName != null
-                              && resultSetColumns.contains(columnName);
-    if (useColumn)
+    if (columnName == null)
+    {
+      return 0;
+    }
+    final Integer position = columnPositions.get(columnName);
+    if (position == null)
     {
-      readColumns.add(columnName);
+      return 0;
     }
-    return useColumn;
+    columnsReadInRow[position] = rowCount;
+    return columnIndexes[position];
   }
 
 }
@@ -33,6 +33,7 @@ public enum MetadataRetrievalStrategy
 
  metadata,
  metadata_all,
+ metadata_schema,
  data_dictionary_all;
 
 }
@@ -453,6 +453,26 @@ final class MutableCatalog
     tables.add(table);
   }
 
+  /**
+   * Counts all objects in the catalog, including table and routine
+   * columns, and table indexes, foreign keys, constraints, triggers and
+   * privileges.
+   */
+  long countObjects()
+  {
+    long count = schemas.size() + columnDataTypes.size() + synonyms.size()
+                 + sequences.size();
+    for (final MutableTable table: tables)
+    {
+      count = count + table.countObjects();
+    }
+    for (final MutableRoutine routine: routines)
+    {
+      count = count + 1 + routine.getColumns().size();
+    }
+    return count;
+  }
+
   NamedObjectList<MutableRoutine> getAllRoutines()
   {
     return routines;
@@ -496,4 +516,20 @@ final class MutableCatalog
     crawlInfo = new ImmutableCrawlInfo(jdbcDriverInfo, databaseInfo);
   }
 
+  void setCrawlMetrics(final Collection<CrawlMetric> crawlMetrics)
+  {
+    if (crawlInfo != null)
+    {
+      crawlInfo.setCrawlMetrics(crawlMetrics);
+    }
+  }
+
+  void setRetrievalStrategyChoices(final Collection<RetrievalStrategyChoice> retrievalStrategyChoices)
+  {
+    if (crawlInfo != null)
+    {
+      crawlInfo.setRetrievalStrategyChoices(retrievalStrategyChoices);
+    }
+  }
+
 }
@@ -34,6 +34,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.function.UnaryOperator;
 
 import schemacrawler.schema.BaseForeignKey;
 import schemacrawler.schema.Column;
@@ -226,6 +227,28 @@ final class MutableForeignKey
     this.deleteRule = deleteRule;
   }
 
+  /**
+   * Replaces the columns in each column reference, such as when
+   * partial columns, for tables that were not crawled, are resolved to
+   * columns of tables in the catalog.
+   *
+   * @param resolver
+   *        Gets the column to use in place of a referenced column
+   */
+  void resolveColumnReferences(final UnaryOperator<Column> resolver)
+  {
+    final List<MutableForeignKeyColumnReference> unresolvedColumnReferences = new ArrayList<>(columnReferences);
+    columnReferences.clear();
+    for (final MutableForeignKeyColumnReference columnReference: unresolvedColumnReferences)
+    {
+      addColumnReference(columnReference.getKeySequence(),
+                         resolver
+                           .apply(columnReference.getPrimaryKeyColumn()),
+                         resolver
+                           .apply(columnReference.getForeignKeyColumn()));
+    }
+  }
+
   void setSpecificName(final String specificName)
   {
     this.specificName = specificName;
@@ -350,6 +350,17 @@ class MutableTable
     return triggers.lookup(this, triggerName);
   }
 
+  /**
+   * Counts this table, and the objects that belong to it, without
+   * sorting or copying any of them.
+   */
+  final long countObjects()
+  {
+    return 1L + columns.size() + hiddenColumns.size() + foreignKeys.size()
+           + indexes.size() + constraints.size() + triggers.size()
+           + privileges.size();
+  }
+
   final void addColumn(final MutableColumn column)
   {
     columns.add(column);
@@ -385,6 +396,11 @@ class MutableTable
     triggers.add(trigger);
   }
 
+  final void removeForeignKey(final MutableForeignKey foreignKey)
+  {
+    foreignKeys.remove(foreignKey);
+  }
+
   final void appendDefinition(final String definition)
   {
     if (definition != null)
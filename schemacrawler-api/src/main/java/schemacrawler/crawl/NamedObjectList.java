@@ -29,6 +29,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 
+import static java.util.Collections.unmodifiableList;
 import static java.util.Comparator.naturalOrder;
 import static java.util.Objects.requireNonNull;
 
@@ -53,6 +54,13 @@ import sf.util.ObjectToString;
  * is not created yet. That is, by NamedObject + String. Returns values
  * sorted in natural sort order, and is iterable. The iterator does not
  * allow modifications to the underlying data structure.
+ * <p>
+ * The sorted values are cached as an immutable list, which is discarded
+ * when objects are added, removed or filtered. Since the sort order of
+ * some named objects (such as the sort index of tables, or the columns
+ * of indexes) can change after they are added, the cached list is
+ * checked to be in order before it is reused, and sorted again if
+ * needed. This check is linear, and does not allocate.
  */
 final class NamedObjectList<N extends NamedObject>
   implements Serializable, ReducibleCollection<N>
@@ -85,7 +93,22 @@ final class NamedObjectList<N extends NamedObject>
     return key;
   }
 
+  private static <N extends NamedObject> boolean isSorted(final List<N> values)
+  {
+    N previous = null;
+    for (final N current: values)
+    {
+      if (previous != null && previous.compareTo(current) > 0)
+      {
+        return false;
+      }
+      previous = current;
+    }
+    return true;
+  }
+
   private final Map<List<String>, N> objects = new HashMap<>();
+  private transient volatile List<N> sortedValues;
 
   @Override
   public void filter(final Predicate<? super N> predicate)
@@ -103,6 +126,7 @@ final class NamedObjectList<N extends NamedObject>
       if (!predicate.test(entry.getValue()))
       {
         iterator.remove();
+        sortedValues = null;
       }
     }
   }
@@ -119,37 +143,9 @@ final class NamedObjectList<N extends NamedObject>
   @Override
   public Iterator<N> iterator()
   {
-    final class UnmodifiableIterator
-      implements Iterator<N>
-    {
-
-      private final Iterator<N> iterator;
-
-      UnmodifiableIterator(final Iterator<N> iterator)
-      {
-        this.iterator = iterator;
-      }
-
-      @Override
-      public boolean hasNext()
-      {
-        return iterator.hasNext();
-      }
-
-      @Override
-      public N next()
-      {
-        return iterator.next();
-      }
-
-      @Override
-      public void remove()
-      {
-        throw new UnsupportedOperationException();
-      }
-
-    }
-    return new UnmodifiableIterator(values().iterator());
+    // Sorted values are unmodifiable, so the iterator does not allow
+    // removal
+    return values().iterator();
   }
 
   /**
@@ -172,6 +168,7 @@ final class NamedObjectList<N extends NamedObject>
     requireNonNull(namedObject, "Cannot add a null object to the list");
     final List<String> key = makeLookupKey(namedObject);
     objects.put(key, namedObject);
+    sortedValues = null;
     return true;
   }
 
@@ -205,7 +202,12 @@ final class NamedObjectList<N extends NamedObject>
 
   N remove(final N namedObject)
   {
-    return objects.remove(makeLookupKey(namedObject));
+    final N removed = objects.remove(makeLookupKey(namedObject));
+    if (removed != null)
+    {
+      sortedValues = null;
+    }
+    return removed;
   }
 
   /**
@@ -219,15 +221,32 @@ final class NamedObjectList<N extends NamedObject>
   }
 
   /**
-   * Gets all named objects in the list, in sorted order.
+   * Gets all named objects in the list, in sorted order. The list that
+   * is returned is unmodifiable, and is shared between calls until the
+   * list of named objects changes.
    *
    * @return All named objects
    */
   List<N> values()
   {
-    final List<N> all = new ArrayList<>(objects.values());
-    all.sort(naturalOrder());
-    return all;
+    List<N> values = sortedValues;
+    if (values == null || !isSorted(values))
+    {
+      final List<N> all;
+      if (values == null)
+      {
+        all = new ArrayList<>(objects.values());
+      }
+      else
+      {
+        // Sorting is close to linear, since the list is mostly in order
+        all = new ArrayList<>(values);
+      }
+      all.sort(naturalOrder());
+      values = unmodifiableList(all);
+      sortedValues = values;
+    }
+    return values;
   }
 
   private Optional<N> internalGet(final List<String> key)
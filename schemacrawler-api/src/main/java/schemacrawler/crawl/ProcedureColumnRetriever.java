@@ -32,18 +32,20 @@ package schemacrawler.crawl;
 import static java.util.Objects.requireNonNull;
 import static sf.util.Utility.isBlank;
 
-import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Level;
 
 import schemacrawler.filter.InclusionRuleFilter;
 import schemacrawler.schema.ProcedureColumn;
 import schemacrawler.schema.ProcedureColumnType;
 import schemacrawler.schema.RoutineType;
+import schemacrawler.schema.Schema;
 import schemacrawler.schemacrawler.InclusionRule;
 import schemacrawler.schemacrawler.InformationSchemaKey;
 import schemacrawler.schemacrawler.InformationSchemaViews;
@@ -109,6 +111,13 @@ final class ProcedureColumnRetriever
                                                              columnFilter);
         break;
 
+      case metadata_schema:
+        LOGGER
+          .log(Level.INFO,
+               "Retrieving procedure columns, using meta-data retrieval for each schema");
+        retrieveProcedureColumnsFromMetadataForSchemas(allRoutines, columnFilter);
+        break;
+
       case metadata:
         LOGGER.log(Level.INFO, "Retrieving procedure columns");
         retrieveProcedureColumnsFromMetadata(allRoutines, columnFilter);
@@ -226,8 +235,7 @@ final class ProcedureColumnRetriever
     }
     final Query procedureColumnsSql = informationSchemaViews
       .getQuery(InformationSchemaKey.PROCEDURE_COLUMNS);
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(procedureColumnsSql);
         final MetadataResultSet results = new MetadataResultSet(procedureColumnsSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
@@ -287,4 +295,42 @@ final class ProcedureColumnRetriever
     }
   }
 
+  private void retrieveProcedureColumnsFromMetadataForSchemas(final NamedObjectList<MutableRoutine> allRoutines,
+                                                              final InclusionRuleFilter<ProcedureColumn> columnFilter)
+    throws SchemaCrawlerSQLException
+  {
+    final Set<Schema> schemas = new LinkedHashSet<>();
+    for (final MutableRoutine routine: allRoutines)
+    {
+      if (routine.getRoutineType() == RoutineType.procedure)
+      {
+        schemas.add(routine.getSchema());
+      }
+    }
+
+    for (final Schema schema: schemas)
+    {
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Retrieving procedure columns for schema <%s>",
+                                  schema));
+      try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+        .getProcedureColumns(schema.getCatalogName(),
+                             schema.getName(),
+                             "%",
+                             "%"));)
+      {
+        while (results.next())
+        {
+          createProcedureColumn(results, allRoutines, columnFilter);
+        }
+      }
+      catch (final SQLException e)
+      {
+        throw new SchemaCrawlerSQLException(String
+          .format("Could not retrieve procedure columns for schema <%s>",
+                  schema), e);
+      }
+    }
+  }
+
 }
@@ -0,0 +1,248 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+
+import schemacrawler.schema.RetrievalStrategyChoice;
+import schemacrawler.schema.Schema;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Metadata retrieval strategies for table columns, primary keys,
+ * indexes and foreign keys, chosen from the shape of the catalog once
+ * tables have been retrieved. Only strategies that were not set are
+ * chosen, so that strategies set by a database plugin, or in the
+ * configuration, are kept, even if they were set to metadata.
+ * <p>
+ * A data dictionary query, when one is available, lists the catalog in
+ * one call, and is used when there are enough tables to make that
+ * worthwhile. Otherwise, table columns are retrieved with one call for
+ * each schema when schemas have several tables each, and with one call
+ * for each table when they do not. Primary keys, indexes and foreign
+ * keys are always retrieved with one call for each table, since some
+ * JDBC drivers, such as HSQLDB, return no rows for them when they are
+ * asked for all tables in a schema. Meta-data for all schemas at once
+ * is never chosen, since it also returns rows for schemas that are not
+ * crawled.
+ *
+ * @author Sualeh Fatehi
+ */
+final class RetrievalStrategySelection
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(RetrievalStrategySelection.class.getName());
+
+  /**
+   * Minimum number of tables for which a data dictionary query is used.
+   */
+  static final int DATA_DICTIONARY_MINIMUM_TABLES = 50;
+
+  /**
+   * Minimum average number of tables in each schema for which meta-data
+   * is retrieved with one call for each schema.
+   */
+  static final int SCHEMA_MINIMUM_TABLES = 5;
+
+  static RetrievalStrategySelection select(final RetrieverConnection retrieverConnection,
+                                           final NamedObjectList<MutableTable> allTables)
+  {
+    requireNonNull(retrieverConnection, "No retriever connection provided");
+    requireNonNull(allTables, "No tables provided");
+
+    final Set<Schema> schemas = new HashSet<>();
+    for (final MutableTable table: allTables)
+    {
+      schemas.add(table.getSchema());
+    }
+    final int tableCount = allTables.size();
+    final int schemaCount = Math.max(1, schemas.size());
+
+    final InformationSchemaViews informationSchemaViews = retrieverConnection
+      .getInformationSchemaViews();
+    final ImmutableRetrievalStrategyChoice tableColumnChoice = choose("tablecolumns",
+                                                                       retrieverConnection
+                                                                         .getTableColumnRetrievalStrategy(),
+                                                                       retrieverConnection
+                                                                         .isTableColumnRetrievalStrategyConfigured(),
+                                                                       informationSchemaViews
+                                                                         .hasQuery(InformationSchemaKey.TABLE_COLUMNS),
+                                                                       true,
+                                                                       tableCount,
+                                                                       schemaCount);
+    final ImmutableRetrievalStrategyChoice pkChoice = choose("primarykeys",
+                                                              retrieverConnection
+                                                                .getPrimaryKeyRetrievalStrategy(),
+                                                              retrieverConnection
+                                                                .isPrimaryKeyRetrievalStrategyConfigured(),
+                                                              informationSchemaViews
+                                                                .hasQuery(InformationSchemaKey.PRIMARY_KEYS),
+                                                              false,
+                                                              tableCount,
+                                                              schemaCount);
+    final ImmutableRetrievalStrategyChoice indexChoice = choose("indexes",
+                                                                 retrieverConnection
+                                                                   .getIndexRetrievalStrategy(),
+                                                                 retrieverConnection
+                                                                   .isIndexRetrievalStrategyConfigured(),
+                                                                 informationSchemaViews
+                                                                   .hasQuery(InformationSchemaKey.INDEXES),
+                                                                 false,
+                                                                 tableCount,
+                                                                 schemaCount);
+    final ImmutableRetrievalStrategyChoice fkChoice = choose("foreignkeys",
+                                                              retrieverConnection
+                                                                .getForeignKeyRetrievalStrategy(),
+                                                              retrieverConnection
+                                                                .isForeignKeyRetrievalStrategyConfigured(),
+                                                              informationSchemaViews
+                                                                .hasQuery(InformationSchemaKey.FOREIGN_KEYS),
+                                                              false,
+                                                              tableCount,
+                                                              schemaCount);
+
+    final RetrievalStrategySelection selection = new RetrievalStrategySelection(tableColumnChoice,
+                                                                                pkChoice,
+                                                                                indexChoice,
+                                                                                fkChoice);
+    for (final RetrievalStrategyChoice choice: selection.getChoices())
+    {
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Selected retrieval strategy for %s",
+                                  choice));
+    }
+    return selection;
+  }
+
+  private static ImmutableRetrievalStrategyChoice choose(final String phase,
+                                                         final MetadataRetrievalStrategy configuredStrategy,
+                                                         final boolean isConfigured,
+                                                         final boolean hasDataDictionaryQuery,
+                                                         final boolean canRetrieveForSchema,
+                                                         final int tableCount,
+                                                         final int schemaCount)
+  {
+    if (isConfigured)
+    {
+      return new ImmutableRetrievalStrategyChoice(phase,
+                                                  configuredStrategy,
+                                                  "it was configured");
+    }
+
+    if (hasDataDictionaryQuery && tableCount >= DATA_DICTIONARY_MINIMUM_TABLES)
+    {
+      return new ImmutableRetrievalStrategyChoice(phase,
+                                                  MetadataRetrievalStrategy.data_dictionary_all,
+                                                  String
+                                                    .format("a data dictionary query is available for %d tables",
+                                                            tableCount));
+    }
+
+    if (!canRetrieveForSchema)
+    {
+      return new ImmutableRetrievalStrategyChoice(phase,
+                                                  MetadataRetrievalStrategy.metadata,
+                                                  "it is not reliably retrieved for all tables in a schema");
+    }
+
+    final double tablesPerSchema = (double) tableCount / schemaCount;
+    final String tablesPerSchemaReason = String
+      .format("there are %.1f tables in each of %d schemas",
+              tablesPerSchema,
+              schemaCount);
+    if (tablesPerSchema >= SCHEMA_MINIMUM_TABLES)
+    {
+      return new ImmutableRetrievalStrategyChoice(phase,
+                                                  MetadataRetrievalStrategy.metadata_schema,
+                                                  tablesPerSchemaReason);
+    }
+    else
+    {
+      return new ImmutableRetrievalStrategyChoice(phase,
+                                                  MetadataRetrievalStrategy.metadata,
+                                                  tablesPerSchemaReason);
+    }
+  }
+
+  private final ImmutableRetrievalStrategyChoice tableColumnChoice;
+  private final ImmutableRetrievalStrategyChoice pkChoice;
+  private final ImmutableRetrievalStrategyChoice indexChoice;
+  private final ImmutableRetrievalStrategyChoice fkChoice;
+
+  private RetrievalStrategySelection(final ImmutableRetrievalStrategyChoice tableColumnChoice,
+                                     final ImmutableRetrievalStrategyChoice pkChoice,
+                                     final ImmutableRetrievalStrategyChoice indexChoice,
+                                     final ImmutableRetrievalStrategyChoice fkChoice)
+  {
+    this.tableColumnChoice = tableColumnChoice;
+    this.pkChoice = pkChoice;
+    this.indexChoice = indexChoice;
+    this.fkChoice = fkChoice;
+  }
+
+  Collection<RetrievalStrategyChoice> getChoices()
+  {
+    final List<RetrievalStrategyChoice> choices = Arrays
+      .asList(tableColumnChoice, pkChoice, indexChoice, fkChoice);
+    return Collections.unmodifiableList(choices);
+  }
+
+  MetadataRetrievalStrategy getForeignKeyRetrievalStrategy()
+  {
+    return fkChoice.getMetadataRetrievalStrategy();
+  }
+
+  MetadataRetrievalStrategy getIndexRetrievalStrategy()
+  {
+    return indexChoice.getMetadataRetrievalStrategy();
+  }
+
+  MetadataRetrievalStrategy getPrimaryKeyRetrievalStrategy()
+  {
+    return pkChoice.getMetadataRetrievalStrategy();
+  }
+
+  MetadataRetrievalStrategy getTableColumnRetrievalStrategy()
+  {
+    return tableColumnChoice.getMetadataRetrievalStrategy();
+  }
+
+}
@@ -34,11 +34,15 @@ import static sf.util.DatabaseUtility.checkConnection;
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.logging.Level;
 
+import schemacrawler.schemacrawler.InformationSchemaKey;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.utility.Query;
 import schemacrawler.utility.JavaSqlTypes;
 import schemacrawler.utility.TableTypes;
 import schemacrawler.utility.TypeMap;
@@ -61,6 +65,7 @@ final class RetrieverConnection
   private final SchemaRetrievalOptions schemaRetrievalOptions;
   private final TableTypes tableTypes;
   private final JavaSqlTypes javaSqlTypes;
+  private final RetrievalStrategySelection retrievalStrategySelection;
 
   RetrieverConnection(final Connection connection,
                       final SchemaRetrievalOptions schemaRetrievalOptions)
@@ -79,6 +84,50 @@ final class RetrieverConnection
                new StringFormat("Supported table types are <%s>", tableTypes));
 
     javaSqlTypes = new JavaSqlTypes();
+    retrievalStrategySelection = null;
+  }
+
+  private RetrieverConnection(final RetrieverConnection retrieverConnection,
+                              final RetrievalStrategySelection retrievalStrategySelection)
+  {
+    connection = retrieverConnection.connection;
+    metaData = retrieverConnection.metaData;
+    schemaRetrievalOptions = retrieverConnection.schemaRetrievalOptions;
+    tableTypes = retrieverConnection.tableTypes;
+    javaSqlTypes = retrieverConnection.javaSqlTypes;
+    this.retrievalStrategySelection = requireNonNull(retrievalStrategySelection,
+                                                     "No retrieval strategy selection provided");
+  }
+
+  /**
+   * Creates a forward-only, read-only statement to run a data
+   * dictionary query, with the fetch size configured for that query.
+   *
+   * @param query
+   *        Data dictionary query that will be executed
+   * @return New statement
+   * @throws SQLException
+   *         On an exception
+   */
+  Statement createStatement(final Query query)
+    throws SQLException
+  {
+    final Statement statement = connection
+      .createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+    final int fetchSize = schemaRetrievalOptions
+      .getFetchSize(lookupInformationSchemaKey(query));
+    try
+    {
+      statement.setFetchSize(fetchSize);
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not set fetch size to <%d>",
+                                  fetchSize),
+                 e);
+    }
+    return statement;
   }
 
   Connection getConnection()
@@ -88,6 +137,10 @@ final class RetrieverConnection
 
   MetadataRetrievalStrategy getForeignKeyRetrievalStrategy()
   {
+    if (retrievalStrategySelection != null)
+    {
+      return retrievalStrategySelection.getForeignKeyRetrievalStrategy();
+    }
     return schemaRetrievalOptions.getForeignKeyRetrievalStrategy();
   }
 
@@ -103,6 +156,10 @@ final class RetrieverConnection
 
   MetadataRetrievalStrategy getIndexRetrievalStrategy()
   {
+    if (retrievalStrategySelection != null)
+    {
+      return retrievalStrategySelection.getIndexRetrievalStrategy();
+    }
     return schemaRetrievalOptions.getIndexRetrievalStrategy();
   }
 
@@ -128,6 +185,10 @@ final class RetrieverConnection
 
   MetadataRetrievalStrategy getPrimaryKeyRetrievalStrategy()
   {
+    if (retrievalStrategySelection != null)
+    {
+      return retrievalStrategySelection.getPrimaryKeyRetrievalStrategy();
+    }
     return schemaRetrievalOptions.getPrimaryKeyRetrievalStrategy();
   }
 
@@ -143,6 +204,10 @@ final class RetrieverConnection
 
   MetadataRetrievalStrategy getTableColumnRetrievalStrategy()
   {
+    if (retrievalStrategySelection != null)
+    {
+      return retrievalStrategySelection.getTableColumnRetrievalStrategy();
+    }
     return schemaRetrievalOptions.getTableColumnRetrievalStrategy();
   }
 
@@ -161,6 +226,31 @@ final class RetrieverConnection
     return schemaRetrievalOptions.getTypeMap();
   }
 
+  boolean isAdaptiveRetrievalStrategy()
+  {
+    return schemaRetrievalOptions.isAdaptiveRetrievalStrategy();
+  }
+
+  boolean isForeignKeyRetrievalStrategyConfigured()
+  {
+    return schemaRetrievalOptions.isForeignKeyRetrievalStrategyConfigured();
+  }
+
+  boolean isIndexRetrievalStrategyConfigured()
+  {
+    return schemaRetrievalOptions.isIndexRetrievalStrategyConfigured();
+  }
+
+  boolean isPrimaryKeyRetrievalStrategyConfigured()
+  {
+    return schemaRetrievalOptions.isPrimaryKeyRetrievalStrategyConfigured();
+  }
+
+  boolean isStreamingResults()
+  {
+    return schemaRetrievalOptions.isStreamingResults();
+  }
+
   boolean isSupportsCatalogs()
   {
     return schemaRetrievalOptions.isSupportsCatalogs();
@@ -171,4 +261,45 @@ final class RetrieverConnection
     return schemaRetrievalOptions.isSupportsSchemas();
   }
 
+  boolean isTableColumnRetrievalStrategyConfigured()
+  {
+    return schemaRetrievalOptions.isTableColumnRetrievalStrategyConfigured();
+  }
+
+  /**
+   * Creates a retriever connection over the same database connection,
+   * that uses the provided retrieval strategies for table columns,
+   * primary keys, indexes and foreign keys.
+   *
+   * @param retrievalStrategySelection
+   *        Selected retrieval strategies, or null if none were selected
+   * @return Retriever connection with the selected strategies, or this
+   *         retriever connection if none were selected
+   */
+  RetrieverConnection withRetrievalStrategySelection(final RetrievalStrategySelection retrievalStrategySelection)
+  {
+    if (retrievalStrategySelection == null)
+    {
+      return this;
+    }
+    return new RetrieverConnection(this, retrievalStrategySelection);
+  }
+
+  private InformationSchemaKey lookupInformationSchemaKey(final Query query)
+  {
+    // Data dictionary queries are named for their keys
+    if (query == null || !query.hasName())
+    {
+      return null;
+    }
+    for (final InformationSchemaKey key: InformationSchemaKey.values())
+    {
+      if (key.name().equals(query.getName()))
+      {
+        return key;
+      }
+    }
+    return null;
+  }
+
 }
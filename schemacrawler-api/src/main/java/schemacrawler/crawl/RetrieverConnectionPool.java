@@ -0,0 +1,234 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import sf.util.ConnectionPool;
+import sf.util.DaemonThreadFactory;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StopWatch;
+import sf.util.StringFormat;
+
+/**
+ * A bounded set of retriever connections, used to run independent
+ * retrieval tasks concurrently. The connection that the crawl was
+ * started with is always reused, and additional connections are only
+ * opened from the connection source as they are needed.
+ *
+ * @author Sualeh Fatehi
+ */
+final class RetrieverConnectionPool
+  implements AutoCloseable
+{
+
+  /**
+   * A unit of retrieval work that only touches parts of the catalog
+   * that no other concurrently running task touches.
+   */
+  @FunctionalInterface
+  interface RetrievalTask
+  {
+
+    void retrieve(RetrieverConnection retrieverConnection)
+      throws Exception;
+
+  }
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(RetrieverConnectionPool.class.getName());
+
+  private final SchemaRetrievalOptions schemaRetrievalOptions;
+  private final ConnectionPool connectionPool;
+  private final Map<Connection, RetrieverConnection> retrieverConnections;
+  private final CrawlMetrics crawlMetrics;
+
+  RetrieverConnectionPool(final RetrieverConnection retrieverConnection,
+                          final Supplier<Connection> connectionSource,
+                          final SchemaRetrievalOptions schemaRetrievalOptions)
+  {
+    requireNonNull(retrieverConnection, "No retriever connection provided");
+    this.schemaRetrievalOptions = requireNonNull(schemaRetrievalOptions,
+                                                 "No database-specific schema retrieval overrides provided");
+    connectionPool = new ConnectionPool(retrieverConnection.getConnection(),
+                                        connectionSource,
+                                        schemaRetrievalOptions
+                                          .getParallelism());
+    retrieverConnections = new ConcurrentHashMap<>();
+    retrieverConnections.put(retrieverConnection.getConnection(),
+                             retrieverConnection);
+    // Tasks report to the metrics of the crawl that created the pool
+    crawlMetrics = CrawlMetrics.current();
+  }
+
+  /**
+   * Closes connections that were opened from the connection source.
+   * The connection that the crawl was started with is not closed.
+   */
+  @Override
+  public void close()
+  {
+    connectionPool.close();
+  }
+
+  int getParallelism()
+  {
+    return connectionPool.getMaximumConnections();
+  }
+
+  boolean isParallel()
+  {
+    return getParallelism() > 1;
+  }
+
+  /**
+   * Runs retrieval tasks concurrently, using no more than the
+   * configured number of connections. Returns once all tasks are
+   * complete, or rethrows the first failure, in task order.
+   *
+   * @param tasks
+   *        Named retrieval tasks, which must be independent of each
+   *        other
+   * @throws Exception
+   *         On an exception from any one of the tasks
+   */
+  void retrieveInParallel(final Map<String, RetrievalTask> tasks)
+    throws Exception
+  {
+    requireNonNull(tasks, "No retrieval tasks provided");
+    if (tasks.isEmpty())
+    {
+      return;
+    }
+
+    final int threadCount = Math.min(getParallelism(), tasks.size());
+    LOGGER.log(Level.INFO,
+               new StringFormat("Running %d retrieval tasks on %d threads",
+                                tasks.size(),
+                                threadCount));
+
+    final ExecutorService executorService = Executors
+      .newFixedThreadPool(threadCount,
+                          new DaemonThreadFactory("schemacrawler-retriever"));
+    try
+    {
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (final Map.Entry<String, RetrievalTask> task: tasks.entrySet())
+      {
+        futures.add(executorService.submit(() -> {
+          retrieve(task.getKey(), task.getValue());
+          return null;
+        }));
+      }
+
+      for (final Future<Void> future: futures)
+      {
+        try
+        {
+          future.get();
+        }
+        catch (final ExecutionException e)
+        {
+          final Throwable cause = e.getCause();
+          if (cause instanceof Exception)
+          {
+            throw (Exception) cause;
+          }
+          throw e;
+        }
+      }
+    }
+    finally
+    {
+      executorService.shutdownNow();
+    }
+  }
+
+  /**
+   * Additional connections are set up for retrieval when they are first
+   * used.
+   */
+  private RetrieverConnection newRetrieverConnection(final Connection connection)
+  {
+    try
+    {
+      if (schemaRetrievalOptions.isStreamingResults())
+      {
+        connection.setAutoCommit(false);
+      }
+      return new RetrieverConnection(connection, schemaRetrievalOptions);
+    }
+    catch (final SQLException e)
+    {
+      throw new IllegalStateException("Could not set up an additional database connection for retrieval",
+                                      e);
+    }
+  }
+
+  private void retrieve(final String taskName, final RetrievalTask task)
+    throws Exception
+  {
+    final Connection connection = connectionPool.acquire();
+    final RetrieverConnection retrieverConnection = retrieverConnections
+      .computeIfAbsent(connection, this::newRetrieverConnection);
+    if (crawlMetrics != null)
+    {
+      crawlMetrics.attach();
+    }
+    try
+    {
+      final StopWatch stopWatch = CrawlMetrics.newStopWatch(taskName);
+      stopWatch.time(taskName, () -> {
+        task.retrieve(retrieverConnection);
+        return null;
+      });
+      LOGGER.log(Level.INFO, stopWatch.stringify());
+    }
+    finally
+    {
+      CrawlMetrics.detach();
+      connectionPool.release(connection);
+    }
+  }
+
+}
@@ -29,7 +29,6 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 
-import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Optional;
@@ -89,8 +88,7 @@ final class RoutineExtRetriever
 
     final Query routineDefinitionsSql = informationSchemaViews
       .getQuery(InformationSchemaKey.ROUTINES);
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(routineDefinitionsSql);
         final MetadataResultSet results = new MetadataResultSet(routineDefinitionsSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
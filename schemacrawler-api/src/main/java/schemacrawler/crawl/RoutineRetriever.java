@@ -32,7 +32,6 @@ package schemacrawler.crawl;
 import static java.util.Objects.requireNonNull;
 import static sf.util.Utility.isBlank;
 
-import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Statement;
@@ -110,6 +109,8 @@ final class RoutineRetriever
         break;
 
       case metadata:
+      case metadata_schema:
+        // Meta-data retrieval already makes one call for each schema
         LOGGER.log(Level.INFO, "Retrieving functions");
         retrieveFunctionsFromMetadata(schemas, functionFilter);
         break;
@@ -154,6 +155,7 @@ final class RoutineRetriever
         break;
 
       case metadata:
+      case metadata_schema:
         LOGGER.log(Level.INFO, "Retrieving procedures");
         retrieveProceduresFromMetadata(schemas, procedureFilter);
         break;
@@ -265,8 +267,7 @@ final class RoutineRetriever
     }
     final Query functionsSql = informationSchemaViews
       .getQuery(InformationSchemaKey.FUNCTIONS);
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(functionsSql);
         final MetadataResultSet results = new MetadataResultSet(functionsSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
@@ -362,8 +363,7 @@ final class RoutineRetriever
     }
     final Query proceduresSql = informationSchemaViews
       .getQuery(InformationSchemaKey.PROCEDURES);
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(proceduresSql);
         final MetadataResultSet results = new MetadataResultSet(proceduresSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
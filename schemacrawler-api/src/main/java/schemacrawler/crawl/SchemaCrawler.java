@@ -35,8 +35,15 @@ import static schemacrawler.filter.ReducerFactory.*;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
+import schemacrawler.crawl.RetrieverConnectionPool.RetrievalTask;
 import schemacrawler.schema.*;
 import schemacrawler.schemacrawler.*;
 import sf.util.SchemaCrawlerLogger;
@@ -64,7 +71,7 @@ public final class SchemaCrawler
     {
       LOGGER.log(Level.INFO, "Crawling column data types");
 
-      final StopWatch stopWatch = new StopWatch("crawlColumnDataTypes");
+      final StopWatch stopWatch = CrawlMetrics.newStopWatch("crawlColumnDataTypes");
 
       final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
       final DatabaseInfoRetriever retriever = new DatabaseInfoRetriever(
@@ -121,6 +128,21 @@ public final class SchemaCrawler
     }
   }
 
+  /**
+   * Gets the catalog that was crawled, from inside any decorators, such
+   * as those for serialized or offline catalogs.
+   */
+  private static Catalog undecorate(final Catalog catalog)
+  {
+    Catalog undecoratedCatalog = catalog;
+    while (undecoratedCatalog instanceof BaseCatalogDecorator)
+    {
+      undecoratedCatalog = ((BaseCatalogDecorator) undecoratedCatalog)
+        .getDecoratedCatalog();
+    }
+    return undecoratedCatalog;
+  }
+
   private static void crawlDatabaseInfo(final MutableCatalog catalog,
                                         final RetrieverConnection retrieverConnection,
                                         final SchemaCrawlerOptions options)
@@ -137,7 +159,7 @@ public final class SchemaCrawler
         return;
       }
 
-      final StopWatch stopWatch = new StopWatch("crawlDatabaseInfo");
+      final StopWatch stopWatch = CrawlMetrics.newStopWatch("crawlDatabaseInfo");
 
       final DatabaseInfoRetriever retriever = new DatabaseInfoRetriever(
         retrieverConnection,
@@ -235,7 +257,7 @@ public final class SchemaCrawler
       return;
     }
 
-    final StopWatch stopWatch = new StopWatch("crawlRoutines");
+    final StopWatch stopWatch = CrawlMetrics.newStopWatch("crawlRoutines");
 
     LOGGER.log(Level.INFO, "Crawling routines");
 
@@ -344,7 +366,7 @@ public final class SchemaCrawler
                                    final SchemaCrawlerOptions options)
     throws SchemaCrawlerException
   {
-    final StopWatch stopWatch = new StopWatch("crawlSchemas");
+    final StopWatch stopWatch = CrawlMetrics.newStopWatch("crawlSchemas");
 
     LOGGER.log(Level.INFO, "Crawling schemas");
 
@@ -405,7 +427,7 @@ public final class SchemaCrawler
       return;
     }
 
-    final StopWatch stopWatch = new StopWatch("crawlSequences");
+    final StopWatch stopWatch = CrawlMetrics.newStopWatch("crawlSequences");
 
     LOGGER.log(Level.INFO, "Crawling sequences");
 
@@ -460,7 +482,7 @@ public final class SchemaCrawler
       return;
     }
 
-    final StopWatch stopWatch = new StopWatch("crawlSynonyms");
+    final StopWatch stopWatch = CrawlMetrics.newStopWatch("crawlSynonyms");
 
     LOGGER.log(Level.INFO, "Crawling synonyms");
 
@@ -499,8 +521,32 @@ public final class SchemaCrawler
     }
   }
 
+  /**
+   * Chooses retrieval strategies for the table information that is
+   * retrieved after tables, if adaptive retrieval is turned on, and
+   * records the choices in the crawl information.
+   *
+   * @return Selected retrieval strategies, or null if adaptive
+   *         retrieval is not turned on
+   */
+  private static RetrievalStrategySelection selectRetrievalStrategies(final MutableCatalog catalog,
+                                                                      final RetrieverConnection retrieverConnection,
+                                                                      final NamedObjectList<MutableTable> allTables)
+  {
+    if (!retrieverConnection.isAdaptiveRetrievalStrategy())
+    {
+      return null;
+    }
+    final RetrievalStrategySelection retrievalStrategySelection = RetrievalStrategySelection
+      .select(retrieverConnection, allTables);
+    catalog
+      .setRetrievalStrategyChoices(retrievalStrategySelection.getChoices());
+    return retrievalStrategySelection;
+  }
+
   private static void crawlTables(final MutableCatalog catalog,
                                   final RetrieverConnection retrieverConnection,
+                                  final RetrieverConnectionPool connectionPool,
                                   final SchemaCrawlerOptions options)
     throws SchemaCrawlerException
   {
@@ -514,7 +560,7 @@ public final class SchemaCrawler
       return;
     }
 
-    final StopWatch stopWatch = new StopWatch("crawlTables");
+    final StopWatch stopWatch = CrawlMetrics.newStopWatch("crawlTables");
 
     LOGGER.log(Level.INFO, "Crawling tables");
 
@@ -523,26 +569,6 @@ public final class SchemaCrawler
       final TableRetriever retriever = new TableRetriever(retrieverConnection,
                                                           catalog,
                                                           options);
-      final TableColumnRetriever columnRetriever = new TableColumnRetriever(
-        retrieverConnection,
-        catalog,
-        options);
-      final IndexRetriever indexRetriever = new IndexRetriever(
-        retrieverConnection,
-        catalog,
-        options);
-      final ForeignKeyRetriever fkRetriever = new ForeignKeyRetriever(
-        retrieverConnection,
-        catalog,
-        options);
-      final TableConstraintRetriever constraintRetriever = new TableConstraintRetriever(
-        retrieverConnection,
-        catalog,
-        options);
-      final TableExtRetriever retrieverExtra = new TableExtRetriever(
-        retrieverConnection,
-        catalog,
-        options);
 
       stopWatch.time("retrieveTables", () -> {
         LOGGER.log(Level.INFO, "Retrieving table names");
@@ -563,6 +589,20 @@ public final class SchemaCrawler
         return;
       }
 
+      final RetrievalStrategySelection retrievalStrategySelection = selectRetrievalStrategies(catalog,
+                                                                                              retrieverConnection,
+                                                                                              allTables);
+      final RetrieverConnection tableRetrieverConnection = retrieverConnection
+        .withRetrievalStrategySelection(retrievalStrategySelection);
+      final TableColumnRetriever columnRetriever = new TableColumnRetriever(
+        tableRetrieverConnection,
+        catalog,
+        options);
+      final ForeignKeyRetriever fkRetriever = new ForeignKeyRetriever(
+        tableRetrieverConnection,
+        catalog,
+        options);
+
       stopWatch.time("retrieveColumns", () -> {
         LOGGER.log(Level.INFO, "Retrieving table columns");
         if (infoLevel.isRetrieveTableColumns())
@@ -606,123 +646,182 @@ public final class SchemaCrawler
         return null;
       });
 
-      stopWatch.time("retrieveIndexes", () -> {
-        LOGGER.log(Level.INFO, "Retrieving primary keys and indexes");
-        if (infoLevel.isRetrieveTableColumns())
+      final Map<String, RetrievalTask> tableInformationTasks = tableInformationTasks(catalog,
+                                                                                    options,
+                                                                                    retrievalStrategySelection);
+      if (connectionPool.isParallel())
+      {
+        LOGGER.log(Level.INFO,
+                   "Retrieving primary keys, indexes and additional table information in parallel");
+        stopWatch.time("retrieveTableInformationInParallel", () -> {
+          connectionPool.retrieveInParallel(tableInformationTasks);
+          return null;
+        });
+      }
+      else
+      {
+        for (final Map.Entry<String, RetrievalTask> task: tableInformationTasks
+          .entrySet())
         {
-          if (infoLevel.isRetrieveIndexes())
-          {
-            indexRetriever.retrieveIndexes(allTables);
-          }
-          // Setting primary keys will use indexes with a similar name,
-          // if available
-          indexRetriever.retrievePrimaryKeys(allTables);
-          if (infoLevel.isRetrievePrimaryKeyDefinitions())
-          {
-            retrieverExtra.retrievePrimaryKeyDefinitions(allTables);
-          }
+          stopWatch.time(task.getKey(), () -> {
+            task.getValue().retrieve(retrieverConnection);
+            return null;
+          });
         }
-        return null;
-      });
+      }
 
-      LOGGER.log(Level.INFO, "Retrieving additional table information");
-      stopWatch.time("retrieveTableConstraintInformation", () -> {
-        if (infoLevel.isRetrieveTableConstraintInformation())
+      LOGGER.log(Level.INFO, stopWatch.stringify());
+    }
+    catch (final SchemaCrawlerSQLException e)
+    {
+      throw new SchemaCrawlerException(e.getMessage(), e.getCause());
+    }
+    catch (final SchemaCrawlerException e)
+    {
+      throw e;
+    }
+    catch (final Exception e)
+    {
+      throw new SchemaCrawlerException("Exception retrieving table information",
+                                       e);
+    }
+  }
+
+  /**
+   * Groups retrieval of table information, after the tables have been
+   * filtered and sorted, into tasks that can run independently of each
+   * other. Each task only modifies parts of the catalog that no other
+   * task modifies, so tasks produce the same catalog whether they are
+   * run sequentially or concurrently. Retrieval steps that modify the
+   * same objects, such as table definitions and table attributes, are
+   * kept together in one task, in their original order.
+   */
+  private static Map<String, RetrievalTask> tableInformationTasks(final MutableCatalog catalog,
+                                                                  final SchemaCrawlerOptions options,
+                                                                  final RetrievalStrategySelection retrievalStrategySelection)
+  {
+    final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
+    final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
+
+    final Map<String, RetrievalTask> tasks = new LinkedHashMap<>();
+
+    tasks.put("retrieveIndexes", retrieverConnection -> {
+      LOGGER.log(Level.INFO, "Retrieving primary keys and indexes");
+      // Primary keys and indexes are the only table information that
+      // is retrieved with a selected strategy
+      final RetrieverConnection indexRetrieverConnection = retrieverConnection
+        .withRetrievalStrategySelection(retrievalStrategySelection);
+      final IndexRetriever indexRetriever = new IndexRetriever(indexRetrieverConnection,
+                                                               catalog,
+                                                               options);
+      final TableExtRetriever retrieverExtra = new TableExtRetriever(retrieverConnection,
+                                                                     catalog,
+                                                                     options);
+      if (infoLevel.isRetrieveTableColumns())
+      {
+        if (infoLevel.isRetrieveIndexes())
         {
-          constraintRetriever.retrieveTableConstraintInformation();
+          indexRetriever.retrieveIndexes(allTables);
         }
-        return null;
-      });
-      stopWatch.time("isRetrieveTableConstraintDefinitions", () -> {
+        // Setting primary keys will use indexes with a similar name,
+        // if available
+        indexRetriever.retrievePrimaryKeys(allTables);
+        if (infoLevel.isRetrievePrimaryKeyDefinitions())
+        {
+          retrieverExtra.retrievePrimaryKeyDefinitions(allTables);
+        }
+      }
+      // Index information is added to the indexes retrieved above, so
+      // it needs to be retrieved in the same task
+      if (infoLevel.isRetrieveIndexInformation())
+      {
+        retrieverExtra.retrieveIndexInformation();
+        if (infoLevel.isRetrieveIndexColumnInformation())
+        {
+          retrieverExtra.retrieveIndexColumnInformation();
+        }
+      }
+    });
+
+    if (infoLevel.isRetrieveTableConstraintInformation())
+    {
+      tasks.put("retrieveTableConstraintInformation", retrieverConnection -> {
+        final TableConstraintRetriever constraintRetriever = new TableConstraintRetriever(retrieverConnection,
+                                                                                          catalog,
+                                                                                          options);
+        constraintRetriever.retrieveTableConstraintInformation();
         if (infoLevel.isRetrieveTableConstraintDefinitions())
         {
           constraintRetriever.retrieveTableConstraintDefinitions();
         }
-        return null;
       });
-      stopWatch.time("retrieveTriggerInformation", () -> {
-        if (infoLevel.isRetrieveTriggerInformation())
-        {
-          retrieverExtra.retrieveTriggerInformation();
-        }
-        return null;
+    }
+
+    if (infoLevel.isRetrieveTriggerInformation())
+    {
+      tasks.put("retrieveTriggerInformation", retrieverConnection -> {
+        new TableExtRetriever(retrieverConnection, catalog, options)
+          .retrieveTriggerInformation();
       });
-      stopWatch.time("retrieveViewInformation", () -> {
+    }
+
+    // View information, table definitions and additional table
+    // attributes all modify table definitions and attributes
+    if (infoLevel.isRetrieveViewInformation()
+        || infoLevel.isRetrieveTableDefinitionsInformation()
+        || infoLevel.isRetrieveAdditionalTableAttributes())
+    {
+      tasks.put("retrieveTableDefinitions", retrieverConnection -> {
+        final TableExtRetriever retrieverExtra = new TableExtRetriever(retrieverConnection,
+                                                                       catalog,
+                                                                       options);
         if (infoLevel.isRetrieveViewInformation())
         {
           retrieverExtra.retrieveViewInformation();
         }
-        return null;
-      });
-      stopWatch.time("retrieveTableDefinitions", () -> {
         if (infoLevel.isRetrieveTableDefinitionsInformation())
         {
           retrieverExtra.retrieveTableDefinitions();
         }
-        return null;
-      });
-      stopWatch.time("retrieveIndexInformation", () -> {
-        if (infoLevel.isRetrieveIndexInformation())
-        {
-          retrieverExtra.retrieveIndexInformation();
-          if (infoLevel.isRetrieveIndexColumnInformation())
-          {
-            retrieverExtra.retrieveIndexColumnInformation();
-          }
-        }
-        return null;
-      });
-
-      stopWatch.time("retrieveAdditionalTableAttributes", () -> {
         if (infoLevel.isRetrieveAdditionalTableAttributes())
         {
           retrieverExtra.retrieveAdditionalTableAttributes();
         }
-        return null;
-      });
-      stopWatch.time("retrieveTablePrivileges", () -> {
-        if (infoLevel.isRetrieveTablePrivileges())
-        {
-          retrieverExtra.retrieveTablePrivileges();
-        }
-        return null;
-      });
-
-      stopWatch.time("retrieveAdditionalColumnAttributes", () -> {
-        if (infoLevel.isRetrieveAdditionalColumnAttributes())
-        {
-          retrieverExtra.retrieveAdditionalColumnAttributes();
-        }
-        return null;
-      });
-      stopWatch.time("retrieveTableColumnPrivileges", () -> {
-        if (infoLevel.isRetrieveTableColumnPrivileges())
-        {
-          retrieverExtra.retrieveTableColumnPrivileges();
-        }
-        return null;
       });
-
-      LOGGER.log(Level.INFO, stopWatch.stringify());
     }
-    catch (final SchemaCrawlerSQLException e)
+
+    if (infoLevel.isRetrieveTablePrivileges())
     {
-      throw new SchemaCrawlerException(e.getMessage(), e.getCause());
+      tasks.put("retrieveTablePrivileges", retrieverConnection -> {
+        new TableExtRetriever(retrieverConnection, catalog, options)
+          .retrieveTablePrivileges();
+      });
     }
-    catch (final SchemaCrawlerException e)
+
+    if (infoLevel.isRetrieveAdditionalColumnAttributes())
     {
-      throw e;
+      tasks.put("retrieveAdditionalColumnAttributes", retrieverConnection -> {
+        new TableExtRetriever(retrieverConnection, catalog, options)
+          .retrieveAdditionalColumnAttributes();
+      });
     }
-    catch (final Exception e)
+
+    if (infoLevel.isRetrieveTableColumnPrivileges())
     {
-      throw new SchemaCrawlerException("Exception retrieving table information",
-                                       e);
+      tasks.put("retrieveTableColumnPrivileges", retrieverConnection -> {
+        new TableExtRetriever(retrieverConnection, catalog, options)
+          .retrieveTableColumnPrivileges();
+      });
     }
+
+    return tasks;
   }
 
   private final Connection connection;
+  private final Supplier<Connection> connectionSource;
   private final SchemaRetrievalOptions schemaRetrievalOptions;
   private final SchemaCrawlerOptions schemaCrawlerOptions;
+  private CrawlMetricsListener crawlMetricsListener;
 
   /**
    * Constructs a SchemaCrawler object, from a connection.
@@ -736,6 +835,31 @@ public final class SchemaCrawler
                        final SchemaCrawlerOptions schemaCrawlerOptions)
   {
     this.connection = requireNonNull(connection, "No connection specified");
+    connectionSource = null;
+    this.schemaRetrievalOptions = requireNonNull(schemaRetrievalOptions,
+                                                 "No database-specific schema retrieval overrides provided");
+    this.schemaCrawlerOptions = requireNonNull(schemaCrawlerOptions,
+                                               "No SchemaCrawler options provided");
+  }
+
+  /**
+   * Constructs a SchemaCrawler object, from a source of connections.
+   * Table information may be retrieved in parallel, over as many
+   * connections as allowed by the schema retrieval options. All
+   * connections are obtained from the connection source, and closed
+   * when the crawl is complete.
+   *
+   * @param connectionSource       Source of database connections.
+   * @param schemaRetrievalOptions Database-specific schema retrieval overrides
+   * @param schemaCrawlerOptions   SchemaCrawler options
+   */
+  public SchemaCrawler(final Supplier<Connection> connectionSource,
+                       final SchemaRetrievalOptions schemaRetrievalOptions,
+                       final SchemaCrawlerOptions schemaCrawlerOptions)
+  {
+    connection = null;
+    this.connectionSource = requireNonNull(connectionSource,
+                                           "No connection source specified");
     this.schemaRetrievalOptions = requireNonNull(schemaRetrievalOptions,
                                                  "No database-specific schema retrieval overrides provided");
     this.schemaCrawlerOptions = requireNonNull(schemaCrawlerOptions,
@@ -750,29 +874,307 @@ public final class SchemaCrawler
    */
   public Catalog crawl()
     throws SchemaCrawlerException
+  {
+    if (connectionSource == null)
+    {
+      return crawl(connection, schemaCrawlerOptions);
+    }
+
+    try (final Connection connection = connectionSource.get();)
+    {
+      return crawl(connection, schemaCrawlerOptions);
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerException("Database access exception", e);
+    }
+  }
+
+  /**
+   * Crawls the database incrementally, starting from a catalog from an
+   * earlier crawl with the same options, such as an offline snapshot.
+   * Tables and their columns are listed, and only tables that are new,
+   * or have changed, are crawled in full. Unchanged tables are carried
+   * forward from the earlier catalog, which is not modified. All other
+   * database objects, such as routines and sequences, are crawled in
+   * full.
+   * <p>
+   * Changes to tables are found by comparing columns, so changes that
+   * do not affect columns, such as new indexes, are only found if the
+   * database plugin provides a query for the time of the last DDL
+   * change to each table. Only the Oracle and SQL Server plugins
+   * provide this query, as TABLE_CHANGES in their information schema
+   * views. For other databases, a full crawl is done, without copying
+   * the earlier catalog, and a warning is logged.
+   * <p>
+   * The earlier catalog is copied before unchanged tables are taken
+   * from it, so memory for two copies of the earlier catalog is needed
+   * while crawling.
+   *
+   * @param baseCatalog
+   *        Catalog from an earlier crawl, which may be decorated, as it
+   *        is when loaded from a serialized or offline snapshot, or
+   *        null for a full crawl
+   * @return Database metadata
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public Catalog crawl(final Catalog baseCatalog)
+    throws SchemaCrawlerException
+  {
+    if (connectionSource == null)
+    {
+      return crawlIncrementally(connection, baseCatalog);
+    }
+
+    try (final Connection connection = connectionSource.get();)
+    {
+      return crawlIncrementally(connection, baseCatalog);
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerException("Database access exception", e);
+    }
+  }
+
+  /**
+   * Sets a listener to be notified with measurements for each phase of
+   * the crawl, and for each metadata query, as they complete. The
+   * measurements, added up for the whole crawl, are also available from
+   * the crawl information of the catalog.
+   *
+   * @param crawlMetricsListener
+   *        Listener for crawl metrics, or null for none
+   */
+  public void setCrawlMetricsListener(final CrawlMetricsListener crawlMetricsListener)
+  {
+    this.crawlMetricsListener = crawlMetricsListener;
+  }
+
+  private MutableCatalog crawl(final Connection connection,
+                               final SchemaCrawlerOptions options)
+    throws SchemaCrawlerException
   {
     final MutableCatalog catalog = new MutableCatalog("catalog");
+    final CrawlMetrics crawlMetrics = new CrawlMetrics(catalog,
+                                                       crawlMetricsListener);
+    crawlMetrics.attach();
+    try
+    {
+      crawl(catalog, connection, options);
+      catalog.setCrawlMetrics(crawlMetrics.getCrawlMetrics());
+
+      return catalog;
+    }
+    finally
+    {
+      CrawlMetrics.detach();
+    }
+  }
+
+  private void crawl(final MutableCatalog catalog,
+                     final Connection connection,
+                     final SchemaCrawlerOptions options)
+    throws SchemaCrawlerException
+  {
+    final boolean restoreAutoCommit = disableAutoCommitForStreaming(connection);
     try
     {
       final RetrieverConnection retrieverConnection = new RetrieverConnection(
         connection,
         schemaRetrievalOptions);
 
-      crawlDatabaseInfo(catalog, retrieverConnection, schemaCrawlerOptions);
+      crawlDatabaseInfo(catalog, retrieverConnection, options);
       LOGGER.log(Level.INFO, String.format("%n%s", catalog.getCrawlInfo()));
 
-      crawlSchemas(catalog, retrieverConnection, schemaCrawlerOptions);
-      crawlColumnDataTypes(catalog, retrieverConnection, schemaCrawlerOptions);
-      crawlTables(catalog, retrieverConnection, schemaCrawlerOptions);
-      crawlRoutines(catalog, retrieverConnection, schemaCrawlerOptions);
-      crawlSynonyms(catalog, retrieverConnection, schemaCrawlerOptions);
-      crawlSequences(catalog, retrieverConnection, schemaCrawlerOptions);
+      crawlSchemas(catalog, retrieverConnection, options);
+      crawlColumnDataTypes(catalog, retrieverConnection, options);
+      try (final RetrieverConnectionPool connectionPool = new RetrieverConnectionPool(
+        retrieverConnection,
+        connectionSource,
+        schemaRetrievalOptions);)
+      {
+        crawlTables(catalog,
+                    retrieverConnection,
+                    connectionPool,
+                    options);
+      }
+      crawlRoutines(catalog, retrieverConnection, options);
+      crawlSynonyms(catalog, retrieverConnection, options);
+      crawlSequences(catalog, retrieverConnection, options);
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerException("Database access exception", e);
+    }
+    finally
+    {
+      if (restoreAutoCommit)
+      {
+        restoreAutoCommit(connection);
+      }
+    }
+  }
+
+  private Catalog crawlIncrementally(final Connection connection,
+                                     final Catalog baseCatalog)
+    throws SchemaCrawlerException
+  {
+    final Catalog undecoratedBaseCatalog = undecorate(baseCatalog);
+    if (undecoratedBaseCatalog == null)
+    {
+      LOGGER.log(Level.INFO,
+                 "Crawling all tables, since no catalog from an earlier crawl was provided");
+      return crawl(connection, schemaCrawlerOptions);
+    }
+    if (!(undecoratedBaseCatalog instanceof MutableCatalog))
+    {
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Crawling all tables, since the catalog from an earlier crawl is a <%s>, which cannot be merged",
+                                  undecoratedBaseCatalog.getClass()
+                                    .getName()));
+      return crawl(connection, schemaCrawlerOptions);
+    }
+    if (!schemaRetrievalOptions.getInformationSchemaViews()
+      .hasQuery(InformationSchemaKey.TABLE_CHANGES))
+    {
+      LOGGER.log(Level.WARNING,
+                 "Crawling all tables, since no table changes SQL was provided to find DDL changes to tables");
+      return crawl(connection, schemaCrawlerOptions);
+    }
+
+    final MutableCatalog catalog = new MutableCatalog("catalog");
+    final CrawlMetrics crawlMetrics = new CrawlMetrics(catalog,
+                                                       crawlMetricsListener);
+    crawlMetrics.attach();
+
+    final StopWatch stopWatch = CrawlMetrics.newStopWatch("crawlTableChanges");
+
+    LOGGER.log(Level.INFO, "Crawling table changes");
+
+    try
+    {
+      final MutableCatalog base = stopWatch
+        .time("copyBaseCatalog",
+              () -> IncrementalCatalogMerger
+                .copyOf((MutableCatalog) undecoratedBaseCatalog));
+
+      final RetrieverConnection retrieverConnection = new RetrieverConnection(connection,
+                                                                              schemaRetrievalOptions);
+      // Columns of all tables are listed in as few calls as possible
+      final SchemaRetrievalOptionsBuilder columnsRetrievalOptionsBuilder = SchemaRetrievalOptionsBuilder
+        .builder(schemaRetrievalOptions);
+      if (schemaRetrievalOptions
+        .getTableColumnRetrievalStrategy() == MetadataRetrievalStrategy.metadata)
+      {
+        columnsRetrievalOptionsBuilder
+          .withTableColumnRetrievalStrategy(MetadataRetrievalStrategy.metadata_all);
+      }
+      final RetrieverConnection columnsRetrieverConnection = new RetrieverConnection(connection,
+                                                                                     columnsRetrievalOptionsBuilder
+                                                                                       .toOptions());
+
+      final MutableCatalog currentCatalog = new MutableCatalog("catalog");
+      crawlSchemas(currentCatalog, retrieverConnection, schemaCrawlerOptions);
+      final TableChangeRetriever changeRetriever = new TableChangeRetriever(retrieverConnection,
+                                                                            columnsRetrieverConnection,
+                                                                            currentCatalog,
+                                                                            schemaCrawlerOptions);
+      final Set<List<String>> changedTables = stopWatch
+        .time("retrieveChangedTables",
+              () -> changeRetriever.retrieveChangedTables(base));
+
+      final Set<String> changedTableNames = new HashSet<>();
+      final Set<List<String>> unchangedTables = new HashSet<>();
+      for (final MutableTable table: currentCatalog.getAllTables())
+      {
+        final List<String> lookupKey = table.toUniqueLookupKey();
+        if (changedTables.contains(lookupKey))
+        {
+          changedTableNames.add(table.getFullName());
+        }
+        else
+        {
+          unchangedTables.add(lookupKey);
+        }
+      }
+
+      final SchemaCrawlerOptions refreshOptions = SchemaCrawlerOptionsBuilder
+        .builder().fromOptions(schemaCrawlerOptions)
+        .includeTables(new TableNamesInclusionRule(changedTableNames))
+        .toOptions();
+      crawl(catalog, connection, refreshOptions);
+
+      stopWatch.time("mergeUnchangedTables", () -> {
+        new IncrementalCatalogMerger(base, unchangedTables).mergeInto(catalog);
+        final TablesGraph tablesGraph = new TablesGraph(catalog
+          .getAllTables());
+        tablesGraph.setTablesSortIndexes();
+        return null;
+      });
+
+      LOGGER.log(Level.INFO, stopWatch.stringify());
+
+      catalog.setCrawlMetrics(crawlMetrics.getCrawlMetrics());
 
       return catalog;
     }
+    catch (final SchemaCrawlerSQLException e)
+    {
+      throw new SchemaCrawlerException(e.getMessage(), e.getCause());
+    }
+    catch (final SchemaCrawlerException e)
+    {
+      throw e;
+    }
+    catch (final Exception e)
+    {
+      throw new SchemaCrawlerException("Exception crawling table changes", e);
+    }
+    finally
+    {
+      CrawlMetrics.detach();
+    }
+  }
+
+  /**
+   * Some JDBC drivers, such as PostgreSQL, only use a cursor to stream
+   * results in batches of the fetch size if auto-commit is off.
+   *
+   * @return Whether auto-commit needs to be turned back on
+   */
+  private boolean disableAutoCommitForStreaming(final Connection connection)
+  {
+    if (!schemaRetrievalOptions.isStreamingResults())
+    {
+      return false;
+    }
+    try
+    {
+      if (connection.getAutoCommit())
+      {
+        connection.setAutoCommit(false);
+        return true;
+      }
+    }
     catch (final SQLException e)
     {
-      throw new SchemaCrawlerException("Database access exception", e);
+      LOGGER.log(Level.WARNING,
+                 "Could not turn off auto-commit to stream results",
+                 e);
+    }
+    return false;
+  }
+
+  private void restoreAutoCommit(final Connection connection)
+  {
+    try
+    {
+      connection.setAutoCommit(true);
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not restore auto-commit", e);
     }
   }
 
@@ -29,7 +29,6 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 
-import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.HashSet;
@@ -245,9 +244,7 @@ final class SchemaRetriever
     final Query schemataSql = informationSchemaViews
       .getQuery(InformationSchemaKey.SCHEMATA);
 
-    final Connection connection = getDatabaseConnection();
-
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(schemataSql);
         final MetadataResultSet results = new MetadataResultSet(schemataSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
@@ -30,7 +30,6 @@ package schemacrawler.crawl;
 
 
 import java.math.BigInteger;
-import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Arrays;
@@ -104,9 +103,8 @@ final class SequenceRetriever
 
     final Query sequencesDefinitionSql = informationSchemaViews
       .getQuery(InformationSchemaKey.SEQUENCES);
-    final Connection connection = getDatabaseConnection();
 
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(sequencesDefinitionSql);
         final MetadataResultSet results = new MetadataResultSet(sequencesDefinitionSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
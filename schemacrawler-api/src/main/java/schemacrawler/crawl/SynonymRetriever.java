@@ -31,7 +31,6 @@ package schemacrawler.crawl;
 
 import static sf.util.Utility.isBlank;
 
-import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Optional;
@@ -106,8 +105,7 @@ final class SynonymRetriever
 
     final Query synonymsDefinitionSql = informationSchemaViews
       .getQuery(InformationSchemaKey.EXT_SYNONYMS);
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(synonymsDefinitionSql);
         MetadataResultSet results = new MetadataResultSet(synonymsDefinitionSql,
                                                           statement,
                                                           getSchemaInclusionRule());)
@@ -0,0 +1,292 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevel;
+import schemacrawler.utility.Query;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Finds tables that have changed since a catalog was crawled, by
+ * listing the tables and their columns, which is much cheaper than
+ * retrieving indexes, foreign keys, privileges and definitions for
+ * every table. A table has changed if it is new, if its type or
+ * remarks differ, or if any of its columns differ.
+ * <p>
+ * Changes to indexes, foreign keys, triggers or definitions do not
+ * change the columns of a table, so they can only be found if the
+ * database plugin provides a table changes query. The query returns
+ * the number of seconds since the last DDL change to each table, and a
+ * table has changed if that was after the earlier crawl. The age of
+ * the change is used, rather than a timestamp, so that the clocks and
+ * time zones of the database server and the client do not need to
+ * agree. Without a table changes query, all tables are treated as
+ * changed, since other changes cannot be ruled out.
+ *
+ * @author Sualeh Fatehi
+ */
+final class TableChangeRetriever
+  extends AbstractRetriever
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(TableChangeRetriever.class.getName());
+
+  // Allow for the time taken by the earlier crawl, and for the
+  // precision of DDL timestamps
+  private static final long CHANGE_MARGIN_SECONDS = 60;
+
+  private static List<String> columnSignature(final Column column)
+  {
+    // Column data types are not crawled when listing tables, so data
+    // types are compared by their database specific names, rather than
+    // by full names, which may differ between system and user-defined
+    // data types
+    final ColumnDataType columnDataType = column.getColumnDataType();
+    final List<String> signature = new ArrayList<>();
+    signature.add(column.getName());
+    signature.add(String.valueOf(column.getOrdinalPosition()));
+    signature.add(columnDataType.getDatabaseSpecificTypeName());
+    signature.add(String.valueOf(columnDataType.getJavaSqlType()
+      .getVendorTypeNumber()));
+    signature.add(String.valueOf(column.getSize()));
+    signature.add(String.valueOf(column.getDecimalDigits()));
+    signature.add(String.valueOf(column.isNullable()));
+    signature.add(String.valueOf(column.isAutoIncremented()));
+    signature.add(String.valueOf(column.isGenerated()));
+    signature.add(String.valueOf(column.isHidden()));
+    signature.add(column.getDefaultValue());
+    signature.add(column.getRemarks());
+    return signature;
+  }
+
+  private static List<List<String>> columnSignatures(final Collection<Column> columns)
+  {
+    final List<List<String>> signatures = new ArrayList<>();
+    for (final Column column: columns)
+    {
+      signatures.add(columnSignature(column));
+    }
+    signatures.sort((signature1, signature2) -> signature1.get(0)
+      .compareTo(signature2.get(0)));
+    return signatures;
+  }
+
+  private final RetrieverConnection columnsRetrieverConnection;
+  private final SchemaCrawlerOptions options;
+
+  /**
+   * Creates a retriever that lists tables into the provided catalog,
+   * which should only have schemas.
+   *
+   * @param retrieverConnection
+   *        Connection for tables, and for the table changes query
+   * @param columnsRetrieverConnection
+   *        Connection for table columns, which may use a different
+   *        retrieval strategy
+   * @param catalog
+   *        Catalog for the current tables
+   * @param options
+   *        Options that the earlier catalog was crawled with
+   */
+  TableChangeRetriever(final RetrieverConnection retrieverConnection,
+                       final RetrieverConnection columnsRetrieverConnection,
+                       final MutableCatalog catalog,
+                       final SchemaCrawlerOptions options)
+  {
+    super(retrieverConnection, catalog, options);
+    this.columnsRetrieverConnection = requireNonNull(columnsRetrieverConnection,
+                                                     "No retriever connection provided");
+    this.options = options;
+  }
+
+  /**
+   * Lists the current tables and their columns, and compares them with
+   * the tables in a catalog from an earlier crawl.
+   *
+   * @param baseCatalog
+   *        Catalog from an earlier crawl
+   * @return Lookup keys of tables that are new or have changed
+   */
+  Set<List<String>> retrieveChangedTables(final MutableCatalog baseCatalog)
+    throws SQLException
+  {
+    requireNonNull(baseCatalog, "No base catalog provided");
+
+    new TableRetriever(getRetrieverConnection(), catalog, options)
+      .retrieveTables(getAllSchemas(),
+                      options.getTableNamePattern(),
+                      options.getTableTypes(),
+                      options.getTableInclusionRule());
+    final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
+
+    final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
+    final boolean compareColumns = infoLevel.isRetrieveTableColumns();
+    if (compareColumns && !allTables.isEmpty())
+    {
+      new TableColumnRetriever(columnsRetrieverConnection, catalog, options)
+        .retrieveTableColumns(allTables, options.getColumnInclusionRule());
+    }
+
+    final Set<List<String>> changedTables = new HashSet<>();
+    for (final MutableTable table: allTables)
+    {
+      final List<String> lookupKey = table.toUniqueLookupKey();
+      final Optional<MutableTable> baseTableOptional = baseCatalog
+        .lookupTable(lookupKey);
+      if (!baseTableOptional.isPresent()
+          || !isSameTable(table, baseTableOptional.get(), compareColumns))
+      {
+        changedTables.add(lookupKey);
+      }
+    }
+
+    changedTables.addAll(retrieveRecentlyChangedTables(baseCatalog));
+
+    LOGGER.log(Level.INFO,
+               new StringFormat("Found %d new or changed tables, out of %d",
+                                changedTables.size(),
+                                allTables.size()));
+    return changedTables;
+  }
+
+  private boolean isSameTable(final Table table,
+                              final Table baseTable,
+                              final boolean compareColumns)
+  {
+    if (!Objects.equals(table.getTableType(), baseTable.getTableType())
+        || !Objects.equals(table.getRemarks(), baseTable.getRemarks()))
+    {
+      return false;
+    }
+    if (!compareColumns)
+    {
+      return true;
+    }
+    final List<Column> columns = new ArrayList<>(table.getColumns());
+    columns.addAll(table.getHiddenColumns());
+    final List<Column> baseColumns = new ArrayList<>(baseTable.getColumns());
+    baseColumns.addAll(baseTable.getHiddenColumns());
+    return columnSignatures(columns).equals(columnSignatures(baseColumns));
+  }
+
+  private Set<List<String>> retrieveRecentlyChangedTables(final MutableCatalog baseCatalog)
+  {
+    final Set<List<String>> changedTables = new HashSet<>();
+
+    final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
+      .getInformationSchemaViews();
+    final CrawlInfo baseCrawlInfo = baseCatalog.getCrawlInfo();
+    if (!informationSchemaViews.hasQuery(InformationSchemaKey.TABLE_CHANGES)
+        || baseCrawlInfo == null)
+    {
+      LOGGER.log(Level.WARNING,
+                 "Could not check DDL changes to tables, since no table changes SQL was provided, so all tables will be refreshed");
+      return allTables();
+    }
+
+    final long secondsSinceBaseCrawl = Duration
+      .between(baseCrawlInfo.getCrawlTimestamp(), LocalDateTime.now())
+      .getSeconds() + CHANGE_MARGIN_SECONDS;
+
+    final Query tableChangesSql = informationSchemaViews
+      .getQuery(InformationSchemaKey.TABLE_CHANGES);
+    try (final Statement statement = createStatement(tableChangesSql);
+        final MetadataResultSet results = new MetadataResultSet(tableChangesSql,
+                                                                statement,
+                                                                getSchemaInclusionRule());)
+    {
+      while (results.next())
+      {
+        final String catalogName = normalizeCatalogName(results
+          .getString("TABLE_CATALOG"));
+        final String schemaName = normalizeSchemaName(results
+          .getString("TABLE_SCHEMA"));
+        final String tableName = results.getString("TABLE_NAME");
+        final long secondsSinceChange = results
+          .getLong("SECONDS_SINCE_CHANGE", -1);
+
+        // Changes of unknown age are treated as recent
+        if (secondsSinceChange <= secondsSinceBaseCrawl)
+        {
+          final Optional<MutableTable> tableOptional = lookupTable(catalogName,
+                                                                   schemaName,
+                                                                   tableName);
+          if (tableOptional.isPresent())
+          {
+            changedTables.add(tableOptional.get().toUniqueLookupKey());
+          }
+        }
+      }
+    }
+    catch (final Exception e)
+    {
+      LOGGER.log(Level.WARNING,
+                 "Could not check DDL changes to tables, so all tables will be refreshed",
+                 e);
+      return allTables();
+    }
+
+    return changedTables;
+  }
+
+  private Set<List<String>> allTables()
+  {
+    final Set<List<String>> tables = new HashSet<>();
+    for (final MutableTable table: catalog.getAllTables())
+    {
+      tables.add(table.toUniqueLookupKey());
+    }
+    return tables;
+  }
+
+}
@@ -32,7 +32,6 @@ package schemacrawler.crawl;
 import static java.util.Objects.requireNonNull;
 import static sf.util.Utility.isBlank;
 
-import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -45,6 +44,7 @@ import java.util.logging.Level;
 
 import schemacrawler.filter.InclusionRuleFilter;
 import schemacrawler.schema.Column;
+import schemacrawler.schema.Schema;
 import schemacrawler.schemacrawler.InclusionRule;
 import schemacrawler.schemacrawler.InformationSchemaKey;
 import schemacrawler.schemacrawler.InformationSchemaViews;
@@ -113,6 +113,14 @@ final class TableColumnRetriever
                                                      hiddenColumns);
         break;
 
+      case metadata_schema:
+        LOGGER.log(Level.INFO,
+                   "Retrieving table columns, using meta-data retrieval for each schema");
+        retrieveTableColumnsFromMetadataForSchemas(allTables,
+                                                   columnFilter,
+                                                   hiddenColumns);
+        break;
+
       case metadata:
         LOGGER.log(Level.INFO, "Retrieving table columns");
         retrieveTableColumnsFromMetadata(allTables,
@@ -265,8 +273,7 @@ final class TableColumnRetriever
     }
     final Query hiddenColumnsSql = informationSchemaViews
       .getQuery(InformationSchemaKey.EXT_HIDDEN_TABLE_COLUMNS);
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(hiddenColumnsSql);
         final MetadataResultSet results = new MetadataResultSet(hiddenColumnsSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
@@ -313,8 +320,7 @@ final class TableColumnRetriever
     }
     final Query tableColumnsSql = informationSchemaViews
       .getQuery(InformationSchemaKey.TABLE_COLUMNS);
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(tableColumnsSql);
         final MetadataResultSet results = new MetadataResultSet(tableColumnsSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
@@ -371,4 +377,31 @@ final class TableColumnRetriever
     }
   }
 
+  private void retrieveTableColumnsFromMetadataForSchemas(final NamedObjectList<MutableTable> allTables,
+                                                          final InclusionRuleFilter<Column> columnFilter,
+                                                          final Set<List<String>> hiddenColumns)
+    throws SchemaCrawlerSQLException
+  {
+    for (final Schema schema: groupTablesBySchema(allTables).keySet())
+    {
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Retrieving table columns for schema <%s>",
+                                  schema));
+      try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+        .getColumns(schema.getCatalogName(), schema.getName(), "%", "%"));)
+      {
+        while (results.next())
+        {
+          createTableColumn(results, allTables, columnFilter, hiddenColumns);
+        }
+      }
+      catch (final SQLException e)
+      {
+        throw new SchemaCrawlerSQLException(String
+          .format("Could not retrieve table columns for schema <%s>", schema),
+                                            e);
+      }
+    }
+  }
+
 }
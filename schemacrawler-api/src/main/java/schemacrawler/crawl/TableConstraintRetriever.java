@@ -83,8 +83,6 @@ final class TableConstraintRetriever
     final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
       .getInformationSchemaViews();
 
-    final Connection connection = getDatabaseConnection();
-
     if (!informationSchemaViews
       .hasQuery(InformationSchemaKey.EXT_TABLE_CONSTRAINTS))
     {
@@ -96,7 +94,7 @@ final class TableConstraintRetriever
       .getQuery(InformationSchemaKey.EXT_TABLE_CONSTRAINTS);
 
     // Get check constraint definitions
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(extTableConstraintInformationSql);
         final MetadataResultSet results = new MetadataResultSet(extTableConstraintInformationSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
@@ -175,7 +173,7 @@ final class TableConstraintRetriever
 
     final Query tableConstraintsInformationSql = informationSchemaViews
       .getQuery(InformationSchemaKey.TABLE_CONSTRAINTS);
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(tableConstraintsInformationSql);
         final MetadataResultSet results = new MetadataResultSet(tableConstraintsInformationSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
@@ -256,7 +254,7 @@ final class TableConstraintRetriever
     final Query tableConstraintsColumnsInformationSql = informationSchemaViews
       .getQuery(InformationSchemaKey.CONSTRAINT_COLUMN_USAGE);
 
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(tableConstraintsColumnsInformationSql);
         final MetadataResultSet results = new MetadataResultSet(tableConstraintsColumnsInformationSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
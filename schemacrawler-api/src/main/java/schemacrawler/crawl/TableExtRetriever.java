@@ -31,7 +31,6 @@ package schemacrawler.crawl;
 
 import static java.util.Objects.requireNonNull;
 
-import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Arrays;
@@ -98,8 +97,7 @@ final class TableExtRetriever
     final Query columnAttributesSql = informationSchemaViews
       .getQuery(InformationSchemaKey.ADDITIONAL_COLUMN_ATTRIBUTES);
 
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(columnAttributesSql);
         final MetadataResultSet results = new MetadataResultSet(columnAttributesSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
@@ -182,8 +180,7 @@ final class TableExtRetriever
     final Query tableAttributesSql = informationSchemaViews
       .getQuery(InformationSchemaKey.ADDITIONAL_TABLE_ATTRIBUTES);
 
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(tableAttributesSql);
         final MetadataResultSet results = new MetadataResultSet(tableAttributesSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
@@ -253,8 +250,7 @@ final class TableExtRetriever
 
     final Query extIndexColumnsInformationSql = informationSchemaViews
       .getQuery(InformationSchemaKey.EXT_INDEX_COLUMNS);
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(extIndexColumnsInformationSql);
         final MetadataResultSet results = new MetadataResultSet(extIndexColumnsInformationSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
@@ -364,8 +360,7 @@ final class TableExtRetriever
 
     final Query extIndexesInformationSql = informationSchemaViews
       .getQuery(InformationSchemaKey.EXT_INDEXES);
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(extIndexesInformationSql);
         final MetadataResultSet results = new MetadataResultSet(extIndexesInformationSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
@@ -435,8 +430,6 @@ final class TableExtRetriever
     final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
       .getInformationSchemaViews();
 
-    final Connection connection = getDatabaseConnection();
-
     if (!informationSchemaViews.hasQuery(InformationSchemaKey.EXT_PRIMARY_KEYS))
     {
       LOGGER.log(Level.FINE,
@@ -457,7 +450,7 @@ final class TableExtRetriever
     final Query extPrimaryKeysSql = informationSchemaViews
       .getQuery(InformationSchemaKey.EXT_PRIMARY_KEYS);
 
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(extPrimaryKeysSql);
         final MetadataResultSet results = new MetadataResultSet(extPrimaryKeysSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
@@ -545,8 +538,7 @@ final class TableExtRetriever
 
     final Query tableDefinitionsInformationSql = informationSchemaViews
       .getQuery(InformationSchemaKey.EXT_TABLES);
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(tableDefinitionsInformationSql);
         final MetadataResultSet results = new MetadataResultSet(tableDefinitionsInformationSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
@@ -632,8 +624,7 @@ final class TableExtRetriever
 
     final Query triggerInformationSql = informationSchemaViews
       .getQuery(InformationSchemaKey.TRIGGERS);
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(triggerInformationSql);
         final MetadataResultSet results = new MetadataResultSet(triggerInformationSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
@@ -730,8 +721,7 @@ final class TableExtRetriever
 
     final Query viewInformationSql = informationSchemaViews
       .getQuery(InformationSchemaKey.VIEWS);
-    final Connection connection = getDatabaseConnection();
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(viewInformationSql);
         final MetadataResultSet results = new MetadataResultSet(viewInformationSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
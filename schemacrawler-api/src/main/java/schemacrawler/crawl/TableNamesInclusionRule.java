@@ -0,0 +1,70 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import schemacrawler.schemacrawler.InclusionRule;
+
+/**
+ * Includes only tables with the given fully qualified names, such as
+ * tables that need to be refreshed in an incremental crawl.
+ *
+ * @author Sualeh Fatehi
+ */
+final class TableNamesInclusionRule
+  implements InclusionRule
+{
+
+  private static final long serialVersionUID = -6286447414787371585L;
+
+  private final Set<String> tableFullNames;
+
+  TableNamesInclusionRule(final Set<String> tableFullNames)
+  {
+    requireNonNull(tableFullNames, "No table names provided");
+    this.tableFullNames = new HashSet<>(tableFullNames);
+  }
+
+  @Override
+  public boolean test(final String text)
+  {
+    return tableFullNames.contains(text);
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format("%s%s", getClass().getSimpleName(), tableFullNames);
+  }
+
+}
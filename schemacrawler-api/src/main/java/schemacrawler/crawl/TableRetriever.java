@@ -31,7 +31,6 @@ package schemacrawler.crawl;
 
 import static java.util.Objects.requireNonNull;
 
-import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Arrays;
@@ -115,6 +114,8 @@ final class TableRetriever
         break;
 
       case metadata:
+      case metadata_schema:
+        // Meta-data retrieval already makes one call for each schema
         LOGGER.log(Level.INFO, "Retrieving tables");
         retrieveTablesFromMetadata(schemas,
                                    tableNamePattern,
@@ -199,9 +200,8 @@ final class TableRetriever
     }
     final Query tablesSql = informationSchemaViews
       .getQuery(InformationSchemaKey.TABLES);
-    final Connection connection = getDatabaseConnection();
     final TableTypes supportedTableTypes = new TableTypes(tableTypes);
-    try (final Statement statement = connection.createStatement();
+    try (final Statement statement = createStatement(tablesSql);
         final MetadataResultSet results = new MetadataResultSet(tablesSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
@@ -30,6 +30,7 @@ package schemacrawler.schema;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.util.Collection;
 
 public interface CrawlInfo
   extends Serializable
@@ -42,6 +43,15 @@ public interface CrawlInfo
    */
   LocalDateTime getCrawlTimestamp();
 
+  /**
+   * Gets measurements for each phase of the crawl, and for each
+   * metadata query, in the order that they were first run. The
+   * measurements are available once the crawl is complete.
+   *
+   * @return Crawl metrics
+   */
+  Collection<CrawlMetric> getCrawlMetrics();
+
   /**
    * Gets the name of the RDBMS vendor and product.
    *
@@ -77,6 +87,16 @@ public interface CrawlInfo
    */
   String getRunId();
 
+  /**
+   * Gets the metadata retrieval strategies that were chosen
+   * automatically for parts of the crawl, with the reasons for the
+   * choices. Strategies are only chosen when adaptive retrieval is
+   * turned on in the schema retrieval options.
+   *
+   * @return Retrieval strategy choices
+   */
+  Collection<RetrievalStrategyChoice> getRetrievalStrategyChoices();
+
   /**
    * Gets the SchemaCrawler version.
    *
@@ -0,0 +1,115 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.schema;
+
+
+import java.io.Serializable;
+import java.time.Duration;
+
+/**
+ * Measurements for a phase of the crawl, or for a metadata query. When
+ * the same phase or query runs more than once, the measurements are
+ * added up, and the number of runs is available as the count.
+ */
+public interface CrawlMetric
+  extends Serializable
+{
+
+  /**
+   * Number of bytes fetched from the database, or -1 if this is not
+   * known. JDBC does not report the number of bytes transferred, so
+   * this is not known for most drivers.
+   *
+   * @return Number of bytes fetched
+   */
+  long getBytesFetched();
+
+  /**
+   * Number of times the phase or the query ran.
+   *
+   * @return Number of runs
+   */
+  int getCount();
+
+  /**
+   * Name of the phase, or of the query. Queries that are not named,
+   * such as database metadata calls, are grouped under a common name.
+   *
+   * @return Name of the phase or query
+   */
+  String getName();
+
+  /**
+   * Number of catalog objects, such as tables, columns and indexes,
+   * that were created while the phase ran, or -1 if this is not known.
+   * Objects are not counted for queries, or for phases that run
+   * concurrently with other phases.
+   *
+   * @return Number of catalog objects created
+   */
+  long getObjectsCreated();
+
+  /**
+   * Name of the enclosing phase. For a phase, this is the part of the
+   * crawl that the phase belongs to, such as crawlTables, and for a
+   * query, it is the phase that the query ran in.
+   *
+   * @return Name of the enclosing phase
+   */
+  String getPhase();
+
+  /**
+   * Estimated number of round trips to the database, based on the
+   * number of rows and the fetch size. Always 0 for a phase.
+   *
+   * @return Estimated number of round trips
+   */
+  long getRoundTrips();
+
+  /**
+   * Number of rows read. Always 0 for a phase.
+   *
+   * @return Number of rows read
+   */
+  long getRowCount();
+
+  /**
+   * Whether this measures a phase or a query.
+   *
+   * @return Metric type
+   */
+  CrawlMetricType getType();
+
+  /**
+   * Elapsed wall-clock time, added up over all runs.
+   *
+   * @return Elapsed time
+   */
+  Duration getWallTime();
+
+}
@@ -0,0 +1,67 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.schema;
+
+
+import java.io.Serializable;
+
+/**
+ * A metadata retrieval strategy that was chosen automatically for a
+ * part of the crawl, from the shape of the catalog, with the reason for
+ * the choice.
+ */
+public interface RetrievalStrategyChoice
+  extends Serializable
+{
+
+  /**
+   * Part of the crawl that the strategy is used for, named in the same
+   * way as the configuration property for the strategy, such as
+   * tablecolumns or foreignkeys.
+   *
+   * @return Part of the crawl
+   */
+  String getPhase();
+
+  /**
+   * Reason for the choice, such as the number of tables in each
+   * schema.
+   *
+   * @return Reason for the choice
+   */
+  String getReason();
+
+  /**
+   * Name of the chosen metadata retrieval strategy, such as
+   * metadata_schema.
+   *
+   * @return Name of the strategy
+   */
+  String getStrategy();
+
+}
@@ -116,6 +116,16 @@ public abstract class BaseCatalogDecorator
     return catalog.getDatabaseInfo();
   }
 
+  /**
+   * Gets the catalog that this decorator wraps.
+   *
+   * @return Decorated catalog
+   */
+  public final Catalog getDecoratedCatalog()
+  {
+    return catalog;
+  }
+
   @Override
   public String getFullName()
   {
@@ -39,6 +39,8 @@ public enum InformationSchemaKey
  SERVER_INFORMATION(ADDITIONAL_INFO),
  ADDITIONAL_COLUMN_ATTRIBUTES(ADDITIONAL_INFO),
  ADDITIONAL_TABLE_ATTRIBUTES(ADDITIONAL_INFO),
+ TABLE_ROW_COUNTS(ADDITIONAL_INFO),
+ TABLE_CHANGES(ADDITIONAL_INFO),
  CONSTRAINT_COLUMN_USAGE(INFORMATION_SCHEMA),
  EXT_FOREIGN_KEYS(METADATA_EXTENSION),
  EXT_HIDDEN_TABLE_COLUMNS(METADATA_EXTENSION),
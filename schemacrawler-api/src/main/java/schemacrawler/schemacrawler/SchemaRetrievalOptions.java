@@ -28,8 +28,11 @@ http://www.gnu.org/licenses/
 package schemacrawler.schemacrawler;
 
 
+import static java.util.Collections.unmodifiableMap;
 import static sf.util.Utility.isBlank;
 
+import java.util.Map;
+
 import schemacrawler.crawl.MetadataRetrievalStrategy;
 import schemacrawler.utility.Identifiers;
 import schemacrawler.utility.TypeMap;
@@ -59,10 +62,19 @@ public final class SchemaRetrievalOptions
   private final MetadataRetrievalStrategy procedureColumnRetrievalStrategy;
   private final MetadataRetrievalStrategy functionRetrievalStrategy;
   private final MetadataRetrievalStrategy functionColumnRetrievalStrategy;
+  private final boolean adaptiveRetrievalStrategy;
+  private final boolean tableColumnRetrievalStrategyConfigured;
+  private final boolean pkRetrievalStrategyConfigured;
+  private final boolean indexRetrievalStrategyConfigured;
+  private final boolean fkRetrievalStrategyConfigured;
   private final String identifierQuoteString;
   private final InformationSchemaViews informationSchemaViews;
   private final TypeMap typeMap;
   private final Identifiers identifiers;
+  private final int parallelism;
+  private final int fetchSize;
+  private final Map<InformationSchemaKey, Integer> informationSchemaFetchSizes;
+  private final boolean streamingResults;
 
   protected SchemaRetrievalOptions(final SchemaRetrievalOptionsBuilder builder)
   {
@@ -81,10 +93,24 @@ public final class SchemaRetrievalOptions
       .getProcedureColumnRetrievalStrategy();
     functionRetrievalStrategy = bldr.getFunctionRetrievalStrategy();
     functionColumnRetrievalStrategy = bldr.getFunctionColumnRetrievalStrategy();
+    adaptiveRetrievalStrategy = bldr.isAdaptiveRetrievalStrategy();
+    tableColumnRetrievalStrategyConfigured = bldr
+      .isTableColumnRetrievalStrategyConfigured();
+    pkRetrievalStrategyConfigured = bldr
+      .isPrimaryKeyRetrievalStrategyConfigured();
+    indexRetrievalStrategyConfigured = bldr
+      .isIndexRetrievalStrategyConfigured();
+    fkRetrievalStrategyConfigured = bldr
+      .isForeignKeyRetrievalStrategyConfigured();
     identifierQuoteString = bldr.getIdentifierQuoteString();
     informationSchemaViews = bldr.getInformationSchemaViews();
     identifiers = bldr.getIdentifiers();
     typeMap = bldr.getTypeMap();
+    parallelism = bldr.getParallelism();
+    fetchSize = bldr.getFetchSize();
+    informationSchemaFetchSizes = unmodifiableMap(bldr
+      .getInformationSchemaFetchSizes());
+    streamingResults = bldr.isStreamingResults();
   }
 
   public DatabaseServerType getDatabaseServerType()
@@ -92,6 +118,28 @@ public final class SchemaRetrievalOptions
     return dbServerType;
   }
 
+  public int getFetchSize()
+  {
+    return fetchSize;
+  }
+
+  /**
+   * Gets the fetch size for a data dictionary query, falling back to
+   * the default fetch size if there is no override for the query.
+   *
+   * @param key
+   *        Data dictionary query
+   * @return Fetch size, or 0 for the JDBC driver default
+   */
+  public int getFetchSize(final InformationSchemaKey key)
+  {
+    if (key != null && informationSchemaFetchSizes.containsKey(key))
+    {
+      return informationSchemaFetchSizes.get(key);
+    }
+    return fetchSize;
+  }
+
   public MetadataRetrievalStrategy getForeignKeyRetrievalStrategy()
   {
     return fkRetrievalStrategy;
@@ -126,11 +174,21 @@ public final class SchemaRetrievalOptions
     return indexRetrievalStrategy;
   }
 
+  public Map<InformationSchemaKey, Integer> getInformationSchemaFetchSizes()
+  {
+    return informationSchemaFetchSizes;
+  }
+
   public InformationSchemaViews getInformationSchemaViews()
   {
     return informationSchemaViews;
   }
 
+  public int getParallelism()
+  {
+    return parallelism;
+  }
+
   public MetadataRetrievalStrategy getPrimaryKeyRetrievalStrategy()
   {
     return pkRetrievalStrategy;
@@ -171,6 +229,43 @@ public final class SchemaRetrievalOptions
     return typeMap != null;
   }
 
+  public boolean isAdaptiveRetrievalStrategy()
+  {
+    return adaptiveRetrievalStrategy;
+  }
+
+  /**
+   * Whether the foreign key retrieval strategy was set, rather than
+   * left at the default.
+   */
+  public boolean isForeignKeyRetrievalStrategyConfigured()
+  {
+    return fkRetrievalStrategyConfigured;
+  }
+
+  /**
+   * Whether the index retrieval strategy was set, rather than left at
+   * the default.
+   */
+  public boolean isIndexRetrievalStrategyConfigured()
+  {
+    return indexRetrievalStrategyConfigured;
+  }
+
+  /**
+   * Whether the primary key retrieval strategy was set, rather than
+   * left at the default.
+   */
+  public boolean isPrimaryKeyRetrievalStrategyConfigured()
+  {
+    return pkRetrievalStrategyConfigured;
+  }
+
+  public boolean isStreamingResults()
+  {
+    return streamingResults;
+  }
+
   public boolean isSupportsCatalogs()
   {
     return supportsCatalogs;
@@ -181,6 +276,15 @@ public final class SchemaRetrievalOptions
     return supportsSchemas;
   }
 
+  /**
+   * Whether the table column retrieval strategy was set, rather than
+   * left at the default.
+   */
+  public boolean isTableColumnRetrievalStrategyConfigured()
+  {
+    return tableColumnRetrievalStrategyConfigured;
+  }
+
   /**
    * {@inheritDoc}
    */
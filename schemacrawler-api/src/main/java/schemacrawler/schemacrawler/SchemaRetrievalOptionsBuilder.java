@@ -33,6 +33,7 @@ import static sf.util.Utility.isBlank;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiConsumer;
@@ -48,6 +49,7 @@ public final class SchemaRetrievalOptionsBuilder
 
   private static final String prefix = "schemacrawler.schema.retrieval.strategy";
 
+  private static final String SC_RETRIEVAL_ADAPTIVE = prefix + ".adaptive";
   private static final String SC_RETRIEVAL_TABLES = prefix + ".tables";
   private static final String SC_RETRIEVAL_TABLE_COLUMNS = prefix
                                                            + ".tablecolumns";
@@ -65,6 +67,12 @@ public final class SchemaRetrievalOptionsBuilder
   private static final String SC_RETRIEVAL_FUNCTION_COLUMNS = prefix
                                                               + ".functioncolumns";
 
+  private static final String SC_RETRIEVAL_PARALLELISM = "schemacrawler.schema.retrieval.parallelism";
+  private static final String SC_RETRIEVAL_FETCHSIZE = "schemacrawler.schema.retrieval.fetchsize";
+  private static final String SC_RETRIEVAL_STREAMING = "schemacrawler.schema.retrieval.streaming";
+
+  private static final int DEFAULT_FETCHSIZE = 20;
+
   public static SchemaRetrievalOptionsBuilder builder()
   {
     return new SchemaRetrievalOptionsBuilder();
@@ -102,7 +110,16 @@ public final class SchemaRetrievalOptionsBuilder
   private MetadataRetrievalStrategy procedureColumnRetrievalStrategy;
   private MetadataRetrievalStrategy functionRetrievalStrategy;
   private MetadataRetrievalStrategy functionColumnRetrievalStrategy;
+  private boolean adaptiveRetrievalStrategy;
+  private boolean tableColumnRetrievalStrategyConfigured;
+  private boolean pkRetrievalStrategyConfigured;
+  private boolean indexRetrievalStrategyConfigured;
+  private boolean fkRetrievalStrategyConfigured;
   private Optional<TypeMap> overridesTypeMap;
+  private int parallelism;
+  private int fetchSize;
+  private final Map<InformationSchemaKey, Integer> informationSchemaFetchSizes;
+  private boolean streamingResults;
 
   private SchemaRetrievalOptionsBuilder()
   {
@@ -123,7 +140,16 @@ public final class SchemaRetrievalOptionsBuilder
     procedureColumnRetrievalStrategy = MetadataRetrievalStrategy.metadata;
     functionRetrievalStrategy = MetadataRetrievalStrategy.metadata;
     functionColumnRetrievalStrategy = MetadataRetrievalStrategy.metadata;
+    adaptiveRetrievalStrategy = false;
+    tableColumnRetrievalStrategyConfigured = false;
+    pkRetrievalStrategyConfigured = false;
+    indexRetrievalStrategyConfigured = false;
+    fkRetrievalStrategyConfigured = false;
     overridesTypeMap = Optional.empty();
+    parallelism = 1;
+    fetchSize = DEFAULT_FETCHSIZE;
+    informationSchemaFetchSizes = new EnumMap<>(InformationSchemaKey.class);
+    streamingResults = false;
   }
 
   @Override
@@ -143,14 +169,27 @@ public final class SchemaRetrievalOptionsBuilder
 
     tableRetrievalStrategy = configProperties
       .getEnumValue(SC_RETRIEVAL_TABLES, tableRetrievalStrategy);
-    tableColumnRetrievalStrategy = configProperties
-      .getEnumValue(SC_RETRIEVAL_TABLE_COLUMNS, tableColumnRetrievalStrategy);
-    pkRetrievalStrategy = configProperties
-      .getEnumValue(SC_RETRIEVAL_PRIMARY_KEYS, pkRetrievalStrategy);
-    indexRetrievalStrategy = configProperties
-      .getEnumValue(SC_RETRIEVAL_INDEXES, indexRetrievalStrategy);
-    fkRetrievalStrategy = configProperties
-      .getEnumValue(SC_RETRIEVAL_FOREIGN_KEYS, fkRetrievalStrategy);
+    if (configProperties.hasValue(SC_RETRIEVAL_TABLE_COLUMNS))
+    {
+      withTableColumnRetrievalStrategy(configProperties
+        .getEnumValue(SC_RETRIEVAL_TABLE_COLUMNS,
+                      tableColumnRetrievalStrategy));
+    }
+    if (configProperties.hasValue(SC_RETRIEVAL_PRIMARY_KEYS))
+    {
+      withPrimaryKeyRetrievalStrategy(configProperties
+        .getEnumValue(SC_RETRIEVAL_PRIMARY_KEYS, pkRetrievalStrategy));
+    }
+    if (configProperties.hasValue(SC_RETRIEVAL_INDEXES))
+    {
+      withIndexRetrievalStrategy(configProperties
+        .getEnumValue(SC_RETRIEVAL_INDEXES, indexRetrievalStrategy));
+    }
+    if (configProperties.hasValue(SC_RETRIEVAL_FOREIGN_KEYS))
+    {
+      withForeignKeyRetrievalStrategy(configProperties
+        .getEnumValue(SC_RETRIEVAL_FOREIGN_KEYS, fkRetrievalStrategy));
+    }
     procedureRetrievalStrategy = configProperties
       .getEnumValue(SC_RETRIEVAL_PROCEDURES, procedureRetrievalStrategy);
     procedureColumnRetrievalStrategy = configProperties
@@ -161,6 +200,24 @@ public final class SchemaRetrievalOptionsBuilder
     functionColumnRetrievalStrategy = configProperties
       .getEnumValue(SC_RETRIEVAL_FUNCTION_COLUMNS,
                     functionColumnRetrievalStrategy);
+    adaptiveRetrievalStrategy = configProperties
+      .getBooleanValue(SC_RETRIEVAL_ADAPTIVE, adaptiveRetrievalStrategy);
+
+    withParallelism(configProperties
+      .getIntegerValue(SC_RETRIEVAL_PARALLELISM, parallelism));
+
+    withFetchSize(configProperties.getIntegerValue(SC_RETRIEVAL_FETCHSIZE,
+                                                   fetchSize));
+    for (final InformationSchemaKey key: InformationSchemaKey.values())
+    {
+      final String fetchSizeKey = SC_RETRIEVAL_FETCHSIZE + "." + key;
+      if (configProperties.hasValue(fetchSizeKey))
+      {
+        withFetchSize(key, configProperties.getIntegerValue(fetchSizeKey, 0));
+      }
+    }
+    streamingResults = configProperties
+      .getBooleanValue(SC_RETRIEVAL_STREAMING, streamingResults);
 
     return this;
   }
@@ -226,7 +283,21 @@ public final class SchemaRetrievalOptionsBuilder
     functionRetrievalStrategy = options.getFunctionRetrievalStrategy();
     functionColumnRetrievalStrategy = options
       .getFunctionColumnRetrievalStrategy();
+    adaptiveRetrievalStrategy = options.isAdaptiveRetrievalStrategy();
+    tableColumnRetrievalStrategyConfigured = options
+      .isTableColumnRetrievalStrategyConfigured();
+    pkRetrievalStrategyConfigured = options
+      .isPrimaryKeyRetrievalStrategyConfigured();
+    indexRetrievalStrategyConfigured = options
+      .isIndexRetrievalStrategyConfigured();
+    fkRetrievalStrategyConfigured = options
+      .isForeignKeyRetrievalStrategyConfigured();
     overridesTypeMap = Optional.empty();
+    parallelism = options.getParallelism();
+    fetchSize = options.getFetchSize();
+    informationSchemaFetchSizes.clear();
+    informationSchemaFetchSizes.putAll(options.getInformationSchemaFetchSizes());
+    streamingResults = options.isStreamingResults();
 
     return this;
   }
@@ -236,6 +307,11 @@ public final class SchemaRetrievalOptionsBuilder
     return dbServerType;
   }
 
+  public int getFetchSize()
+  {
+    return fetchSize;
+  }
+
   public MetadataRetrievalStrategy getForeignKeyRetrievalStrategy()
   {
     return fkRetrievalStrategy;
@@ -266,11 +342,21 @@ public final class SchemaRetrievalOptionsBuilder
     return indexRetrievalStrategy;
   }
 
+  public Map<InformationSchemaKey, Integer> getInformationSchemaFetchSizes()
+  {
+    return new EnumMap<>(informationSchemaFetchSizes);
+  }
+
   public InformationSchemaViews getInformationSchemaViews()
   {
     return informationSchemaViewsBuilder.toOptions();
   }
 
+  public int getParallelism()
+  {
+    return parallelism;
+  }
+
   public MetadataRetrievalStrategy getPrimaryKeyRetrievalStrategy()
   {
     return pkRetrievalStrategy;
@@ -301,16 +387,62 @@ public final class SchemaRetrievalOptionsBuilder
     return overridesTypeMap.orElse(new TypeMap());
   }
 
+  public boolean isAdaptiveRetrievalStrategy()
+  {
+    return adaptiveRetrievalStrategy;
+  }
+
+  /**
+   * Whether the foreign key retrieval strategy was set, rather than
+   * left at the default, so that it is not chosen automatically.
+   */
+  public boolean isForeignKeyRetrievalStrategyConfigured()
+  {
+    return fkRetrievalStrategyConfigured;
+  }
+
+  /**
+   * Whether the index retrieval strategy was set, rather than left at
+   * the default, so that it is not chosen automatically.
+   */
+  public boolean isIndexRetrievalStrategyConfigured()
+  {
+    return indexRetrievalStrategyConfigured;
+  }
+
+  /**
+   * Whether the primary key retrieval strategy was set, rather than
+   * left at the default, so that it is not chosen automatically.
+   */
+  public boolean isPrimaryKeyRetrievalStrategyConfigured()
+  {
+    return pkRetrievalStrategyConfigured;
+  }
+
   public boolean isSupportsCatalogs()
   {
     return supportsCatalogs;
   }
 
+  public boolean isStreamingResults()
+  {
+    return streamingResults;
+  }
+
   public boolean isSupportsSchemas()
   {
     return supportsSchemas;
   }
 
+  /**
+   * Whether the table column retrieval strategy was set, rather than
+   * left at the default, so that it is not chosen automatically.
+   */
+  public boolean isTableColumnRetrievalStrategyConfigured()
+  {
+    return tableColumnRetrievalStrategyConfigured;
+  }
+
   @Override
   public Config toConfig()
   {
@@ -323,6 +455,24 @@ public final class SchemaRetrievalOptionsBuilder
     return new SchemaRetrievalOptions(this);
   }
 
+  /**
+   * Chooses the retrieval strategies for table columns, primary keys,
+   * indexes and foreign keys once tables have been retrieved, from the
+   * number of tables in each schema, and whether data dictionary queries
+   * are available. Only strategies that were not set, by a database
+   * plugin or in the configuration, are chosen. The choices, and the
+   * reasons for them, are available from the crawl information of the
+   * catalog.
+   *
+   * @param adaptiveRetrievalStrategy
+   *        Whether to choose retrieval strategies automatically
+   */
+  public SchemaRetrievalOptionsBuilder withAdaptiveRetrievalStrategy(final boolean adaptiveRetrievalStrategy)
+  {
+    this.adaptiveRetrievalStrategy = adaptiveRetrievalStrategy;
+    return this;
+  }
+
   public SchemaRetrievalOptionsBuilder withDatabaseServerType(final DatabaseServerType dbServerType)
   {
     if (dbServerType == null)
@@ -356,15 +506,68 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  /**
+   * Sets the number of rows to fetch in a round trip to the database
+   * for data dictionary queries, unless overridden for a specific
+   * query. The fetch size is increased as more rows are read, so large
+   * result sets need fewer round trips.
+   *
+   * @param fetchSize
+   *        Fetch size, or 0 to use the JDBC driver default
+   */
+  public SchemaRetrievalOptionsBuilder withFetchSize(final int fetchSize)
+  {
+    if (fetchSize < 0)
+    {
+      this.fetchSize = DEFAULT_FETCHSIZE;
+    }
+    else
+    {
+      this.fetchSize = fetchSize;
+    }
+    return this;
+  }
+
+  /**
+   * Sets the number of rows to fetch in a round trip to the database
+   * for a specific data dictionary query. Large queries, such as table
+   * columns for the data_dictionary_all strategy, benefit from a large
+   * fetch size.
+   *
+   * @param key
+   *        Data dictionary query
+   * @param fetchSize
+   *        Fetch size, or a negative number to remove the override
+   */
+  public SchemaRetrievalOptionsBuilder withFetchSize(final InformationSchemaKey key,
+                                                     final int fetchSize)
+  {
+    if (key == null)
+    {
+      return this;
+    }
+    if (fetchSize < 0)
+    {
+      informationSchemaFetchSizes.remove(key);
+    }
+    else
+    {
+      informationSchemaFetchSizes.put(key, fetchSize);
+    }
+    return this;
+  }
+
   public SchemaRetrievalOptionsBuilder withForeignKeyRetrievalStrategy(final MetadataRetrievalStrategy fkRetrievalStrategy)
   {
     if (fkRetrievalStrategy == null)
     {
       this.fkRetrievalStrategy = MetadataRetrievalStrategy.metadata;
+      fkRetrievalStrategyConfigured = false;
     }
     else
     {
       this.fkRetrievalStrategy = fkRetrievalStrategy;
+      fkRetrievalStrategyConfigured = true;
     }
     return this;
   }
@@ -420,10 +623,12 @@ public final class SchemaRetrievalOptionsBuilder
     if (indexRetrievalStrategy == null)
     {
       this.indexRetrievalStrategy = MetadataRetrievalStrategy.metadata;
+      indexRetrievalStrategyConfigured = false;
     }
     else
     {
       this.indexRetrievalStrategy = indexRetrievalStrategy;
+      indexRetrievalStrategyConfigured = true;
     }
     return this;
   }
@@ -470,15 +675,40 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  /**
+   * Sets the maximum number of database connections that can be used
+   * to retrieve table information concurrently. Parallel retrieval is
+   * only possible when SchemaCrawler is provided with a source of
+   * database connections, rather than a single connection.
+   *
+   * @param parallelism
+   *        Maximum number of concurrent connections, or 1 to retrieve
+   *        sequentially
+   */
+  public SchemaRetrievalOptionsBuilder withParallelism(final int parallelism)
+  {
+    if (parallelism < 1)
+    {
+      this.parallelism = 1;
+    }
+    else
+    {
+      this.parallelism = parallelism;
+    }
+    return this;
+  }
+
   public SchemaRetrievalOptionsBuilder withPrimaryKeyRetrievalStrategy(final MetadataRetrievalStrategy pkRetrievalStrategy)
   {
     if (pkRetrievalStrategy == null)
     {
       this.pkRetrievalStrategy = MetadataRetrievalStrategy.metadata;
+      pkRetrievalStrategyConfigured = false;
     }
     else
     {
       this.pkRetrievalStrategy = pkRetrievalStrategy;
+      pkRetrievalStrategyConfigured = true;
     }
     return this;
   }
@@ -509,6 +739,21 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  /**
+   * Reads data dictionary queries with forward-only, read-only cursors,
+   * and turns off auto-commit for the duration of the crawl. Some JDBC
+   * drivers, such as PostgreSQL, only honor the fetch size in this mode,
+   * and otherwise read the entire result set into memory.
+   *
+   * @param streamingResults
+   *        Whether to stream results
+   */
+  public SchemaRetrievalOptionsBuilder withStreamingResults(final boolean streamingResults)
+  {
+    this.streamingResults = streamingResults;
+    return this;
+  }
+
   /**
    * Overrides the JDBC driver provided information about whether the
    * database supports catalogs.
@@ -534,10 +779,12 @@ public final class SchemaRetrievalOptionsBuilder
     if (tableColumnRetrievalStrategy == null)
     {
       this.tableColumnRetrievalStrategy = MetadataRetrievalStrategy.metadata;
+      tableColumnRetrievalStrategyConfigured = false;
     }
     else
     {
       this.tableColumnRetrievalStrategy = tableColumnRetrievalStrategy;
+      tableColumnRetrievalStrategyConfigured = true;
     }
     return this;
   }
@@ -39,8 +39,11 @@ import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.regex.Pattern;
 
@@ -64,6 +67,16 @@ public final class Identifiers
   public static class Builder
   {
 
+    /**
+     * SQL 2003 reserved words, which are read from the classpath only
+     * once.
+     */
+    private static final class Sql2003ReservedWords
+    {
+      private static final Collection<String> reservedWords = Collections
+        .unmodifiableSet(new HashSet<>(loadSql2003ReservedWords()));
+    }
+
     /**
      * Load a list of SQL 2003 reserved words, and normalize them by
      * converting to uppercase.
@@ -140,7 +153,7 @@ public final class Identifiers
 
     private Builder()
     {
-      reservedWords = loadSql2003ReservedWords();
+      reservedWords = new HashSet<>(Sql2003ReservedWords.reservedWords);
       identifierQuotingStrategy = IdentifierQuotingStrategy.quote_if_special_characters_and_reserved_words;
     }
 
@@ -162,20 +175,13 @@ public final class Identifiers
     public Builder withConnection(final Connection connection)
       throws SQLException
     {
-      requireNonNull(connection, "No connection provided");
-      final DatabaseMetaData metaData = requireNonNull(connection
-        .getMetaData(), "No database metadata obtained");
+      final Identifiers databaseIdentifiers = fromConnection(connection);
 
-      reservedWords.addAll(lookupReservedWords(metaData));
+      reservedWords.addAll(databaseIdentifiers.reservedWords);
 
       if (!isIdentifierQuoteStringSet())
       {
-        final String metaDataIdentifierQuoteString = metaData
-          .getIdentifierQuoteString();
-        if (metaDataIdentifierQuoteString != null)
-        {
-          identifierQuoteString = metaDataIdentifierQuoteString;
-        }
+        identifierQuoteString = databaseIdentifiers.identifierQuoteString;
       }
 
       return this;
@@ -252,6 +258,24 @@ public final class Identifiers
       return identifierQuoteString != null;
     }
 
+    private Builder withDatabaseMetaData(final DatabaseMetaData metaData)
+      throws SQLException
+    {
+      reservedWords.addAll(lookupReservedWords(metaData));
+
+      if (!isIdentifierQuoteStringSet())
+      {
+        final String metaDataIdentifierQuoteString = metaData
+          .getIdentifierQuoteString();
+        if (metaDataIdentifierQuoteString != null)
+        {
+          identifierQuoteString = metaDataIdentifierQuoteString;
+        }
+      }
+
+      return this;
+    }
+
   }
 
   public static final Identifiers STANDARD = Identifiers.identifiers()
@@ -264,6 +288,54 @@ public final class Identifiers
     .compile("^[\\p{Nd}\\p{L}\\p{M}_]*$");
   private static final Pattern isAllNumeric = Pattern.compile("^\\p{Nd}*$");
 
+  private static final Map<String, Identifiers> databaseIdentifiersCache = new ConcurrentHashMap<>();
+
+  /**
+   * Gets identifiers for a live connection, with SQL 2003 keywords and
+   * keywords from the database server, and the identifier quote string
+   * from the database server. Identifiers are looked up only once for
+   * each database URL and driver, and the same instance is returned
+   * after that. Identifiers are immutable, so they can be shared
+   * across threads.
+   *
+   * @param connection
+   *        Live database connection
+   * @return Identifiers for the database
+   * @throws SQLException
+   *         On an exception obtaining database metadata
+   */
+  public static Identifiers fromConnection(final Connection connection)
+    throws SQLException
+  {
+    requireNonNull(connection, "No connection provided");
+    final DatabaseMetaData metaData = requireNonNull(connection
+      .getMetaData(), "No database metadata obtained");
+
+    final String cacheKey = lookupCacheKey(metaData);
+    if (cacheKey != null)
+    {
+      final Identifiers cachedIdentifiers = databaseIdentifiersCache
+        .get(cacheKey);
+      if (cachedIdentifiers != null)
+      {
+        return cachedIdentifiers;
+      }
+    }
+
+    final Identifiers databaseIdentifiers = new Builder()
+      .withDatabaseMetaData(metaData).build();
+    if (cacheKey != null)
+    {
+      final Identifiers cachedIdentifiers = databaseIdentifiersCache
+        .putIfAbsent(cacheKey, databaseIdentifiers);
+      if (cachedIdentifiers != null)
+      {
+        return cachedIdentifiers;
+      }
+    }
+    return databaseIdentifiers;
+  }
+
   public static Builder identifiers()
   {
     return new Builder();
@@ -290,6 +362,32 @@ public final class Identifiers
     }
   }
 
+  /**
+   * Identifiers depend on the database server and the driver, so the
+   * database URL and driver identify cached identifiers. Identifiers
+   * are not cached if the driver does not provide the database URL.
+   */
+  private static String lookupCacheKey(final DatabaseMetaData metaData)
+  {
+    try
+    {
+      final String url = metaData.getURL();
+      if (isBlank(url))
+      {
+        return null;
+      }
+      return String.join("|",
+                         url,
+                         metaData.getDriverName(),
+                         metaData.getDriverVersion());
+    }
+    catch (final Exception e)
+    {
+      LOGGER.log(Level.FINE, "Could not obtain database URL and driver", e);
+      return null;
+    }
+  }
+
   private final String identifierQuoteString;
   private final IdentifierQuotingStrategy identifierQuotingStrategy;
   private final Collection<String> reservedWords;
@@ -306,7 +404,8 @@ public final class Identifiers
       identifierQuoteString = "\"";
     }
     identifierQuotingStrategy = builder.identifierQuotingStrategy;
-    reservedWords = builder.reservedWords;
+    reservedWords = Collections
+      .unmodifiableSet(new HashSet<>(builder.reservedWords));
   }
 
   /**
@@ -0,0 +1,225 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package sf.util;
+
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * A bounded set of database connections, for work that runs on several
+ * threads at the same time, with each thread using a connection that
+ * no other thread is using. The connection that the work was started
+ * with is always reused, and additional connections are only opened
+ * from the connection source as they are needed. If an additional
+ * connection cannot be opened, the connections that are already open
+ * are shared.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class ConnectionPool
+  implements AutoCloseable
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(ConnectionPool.class.getName());
+
+  private final Connection connection;
+  private final Supplier<Connection> connectionSource;
+  private final int maximumConnections;
+  private final BlockingQueue<Connection> idleConnections;
+  private final List<Connection> openedConnections;
+  private boolean canOpenConnections;
+
+  /**
+   * Creates a connection pool. If there is no connection source, only
+   * the connection that the work was started with is used.
+   *
+   * @param connection
+   *        Connection that the work was started with, which may be null
+   * @param connectionSource
+   *        Source of additional connections to the same database, which
+   *        may be null
+   * @param maximumConnections
+   *        Maximum number of connections, including the connection that
+   *        the work was started with
+   */
+  public ConnectionPool(final Connection connection,
+                        final Supplier<Connection> connectionSource,
+                        final int maximumConnections)
+  {
+    this.connection = connection;
+    this.connectionSource = connectionSource;
+    if (connection == null || connectionSource == null)
+    {
+      this.maximumConnections = 1;
+    }
+    else
+    {
+      this.maximumConnections = Math.max(1, maximumConnections);
+    }
+
+    idleConnections = new LinkedBlockingQueue<>();
+    if (connection != null)
+    {
+      idleConnections.add(connection);
+    }
+    openedConnections = new ArrayList<>();
+    canOpenConnections = true;
+  }
+
+  /**
+   * Takes a connection that no other thread is using, opening one if
+   * needed, or waiting for one to be released.
+   *
+   * @return Database connection, or null if the work was started
+   *         without a connection
+   * @throws InterruptedException
+   *         If interrupted while waiting for a connection
+   */
+  public Connection acquire()
+    throws InterruptedException
+  {
+    if (connection == null)
+    {
+      return null;
+    }
+
+    final Connection idleConnection = idleConnections.poll();
+    if (idleConnection != null)
+    {
+      return idleConnection;
+    }
+
+    final Connection openedConnection = openConnection();
+    if (openedConnection != null)
+    {
+      return openedConnection;
+    }
+
+    return idleConnections.take();
+  }
+
+  /**
+   * Closes connections that were opened from the connection source.
+   * The connection that the work was started with is not closed.
+   */
+  @Override
+  public synchronized void close()
+  {
+    for (final Connection openedConnection: openedConnections)
+    {
+      try
+      {
+        openedConnection.close();
+      }
+      catch (final SQLException e)
+      {
+        LOGGER.log(Level.WARNING, "Could not close database connection", e);
+      }
+    }
+    openedConnections.clear();
+  }
+
+  /**
+   * The connection that the work was started with.
+   *
+   * @return Database connection, which may be null
+   */
+  public Connection getConnection()
+  {
+    return connection;
+  }
+
+  /**
+   * Maximum number of connections, including the connection that the
+   * work was started with.
+   *
+   * @return Maximum number of connections
+   */
+  public int getMaximumConnections()
+  {
+    return maximumConnections;
+  }
+
+  /**
+   * Returns a connection that was acquired, so that other threads can
+   * use it.
+   *
+   * @param acquiredConnection
+   *        Connection that was acquired
+   */
+  public void release(final Connection acquiredConnection)
+  {
+    if (acquiredConnection != null)
+    {
+      idleConnections.add(acquiredConnection);
+    }
+  }
+
+  private synchronized Connection openConnection()
+  {
+    // One connection is always the connection that the work was started
+    // with
+    if (!canOpenConnections
+        || openedConnections.size() >= maximumConnections - 1)
+    {
+      return null;
+    }
+
+    try
+    {
+      final Connection openedConnection = connectionSource.get();
+      if (openedConnection != null)
+      {
+        openedConnections.add(openedConnection);
+        LOGGER.log(Level.FINE,
+                   new StringFormat("Opened additional database connection <%d>",
+                                    openedConnections.size()));
+        return openedConnection;
+      }
+    }
+    catch (final RuntimeException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 "Could not open an additional database connection",
+                 e);
+    }
+
+    // Share the connections that are already open
+    canOpenConnections = false;
+    return null;
+  }
+
+}
@@ -0,0 +1,68 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package sf.util;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates numbered daemon threads with a common name prefix, so that
+ * worker threads are easy to identify, and do not keep the JVM
+ * running.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class DaemonThreadFactory
+  implements ThreadFactory
+{
+
+  private final String threadNamePrefix;
+  private final AtomicInteger threadNumber;
+
+  public DaemonThreadFactory(final String threadNamePrefix)
+  {
+    this.threadNamePrefix = requireNonNull(threadNamePrefix,
+                                           "No thread name prefix provided");
+    threadNumber = new AtomicInteger(1);
+  }
+
+  @Override
+  public Thread newThread(final Runnable runnable)
+  {
+    final Thread thread = new Thread(runnable,
+                                     threadNamePrefix + "-"
+                                               + threadNumber
+                                                 .getAndIncrement());
+    thread.setDaemon(true);
+    return thread;
+  }
+
+}
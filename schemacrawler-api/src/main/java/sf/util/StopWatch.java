@@ -46,6 +46,19 @@ import java.util.function.Supplier;
 public final class StopWatch
 {
 
+  /**
+   * Notified as each timed task starts and stops, on the thread that
+   * runs the task.
+   */
+  public interface TaskListener
+  {
+
+    void taskStarted(String id, String taskName);
+
+    void taskStopped(String id, String taskName, Duration duration);
+
+  }
+
   private static final class TaskInfo
   {
 
@@ -79,6 +92,7 @@ public final class StopWatch
     .toFormatter();
 
   private final String id;
+  private final TaskListener taskListener;
   private final List<TaskInfo> tasks = new LinkedList<>();
 
   // State for current task
@@ -88,8 +102,14 @@ public final class StopWatch
   private String currentTaskName;
 
   public StopWatch(final String id)
+  {
+    this(id, null);
+  }
+
+  public StopWatch(final String id, final TaskListener taskListener)
   {
     this.id = id;
+    this.taskListener = taskListener;
     totalDuration = Duration.ofNanos(0);
   }
 
@@ -118,6 +138,10 @@ public final class StopWatch
 
     running = true;
     currentTaskName = taskName;
+    if (taskListener != null)
+    {
+      taskListener.taskStarted(id, taskName);
+    }
     start = Instant.now();
   }
 
@@ -136,6 +160,10 @@ public final class StopWatch
 
     final TaskInfo lastTaskInfo = new TaskInfo(currentTaskName, runTime);
     tasks.add(lastTaskInfo);
+    if (taskListener != null)
+    {
+      taskListener.taskStopped(id, currentTaskName, runTime);
+    }
 
     running = false;
     currentTaskName = null;
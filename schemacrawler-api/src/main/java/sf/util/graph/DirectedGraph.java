@@ -28,24 +28,36 @@ http://www.gnu.org/licenses/
 package sf.util.graph;
 
 
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableSet;
+
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+/**
+ * A simple directed graph. Outgoing and incoming edges are indexed by
+ * vertex as edges are added, so that graph algorithms can walk the
+ * neighbours of a vertex without scanning every edge in the graph.
+ */
 public class DirectedGraph<T extends Comparable<? super T>>
 {
 
   private final String name;
   private final Map<T, Vertex<T>> verticesMap;
   private final Set<DirectedEdge<T>> edges;
+  private final Map<Vertex<T>, Set<DirectedEdge<T>>> outgoingEdges;
+  private final Map<Vertex<T>, Set<DirectedEdge<T>>> incomingEdges;
 
   public DirectedGraph(final String name)
   {
     this.name = name;
     verticesMap = new HashMap<>();
     edges = new HashSet<>();
+    outgoingEdges = new HashMap<>();
+    incomingEdges = new HashMap<>();
   }
 
   /**
@@ -62,7 +74,13 @@ public class DirectedGraph<T extends Comparable<? super T>>
   {
     if (!from.equals(to))
     {
-      edges.add(new DirectedEdge<>(addVertex(from), addVertex(to)));
+      final DirectedEdge<T> edge = new DirectedEdge<>(addVertex(from),
+                                                      addVertex(to));
+      if (edges.add(edge))
+      {
+        outgoingEdges.get(edge.getFrom()).add(edge);
+        incomingEdges.get(edge.getTo()).add(edge);
+      }
     }
   }
 
@@ -84,6 +102,8 @@ public class DirectedGraph<T extends Comparable<? super T>>
     {
       vertex = new Vertex<>(value);
       verticesMap.put(value, vertex);
+      outgoingEdges.put(vertex, new HashSet<>());
+      incomingEdges.put(vertex, new HashSet<>());
     }
     return vertex;
   }
@@ -101,19 +121,16 @@ public class DirectedGraph<T extends Comparable<? super T>>
     return name;
   }
 
+  public Set<DirectedEdge<T>> getIncomingEdges(final Vertex<T> vertexTo)
+  {
+    Objects.requireNonNull(vertexTo, "No vertex provided");
+    return new HashSet<>(incomingEdges(vertexTo));
+  }
+
   public Set<DirectedEdge<T>> getOutgoingEdges(final Vertex<T> vertexFrom)
   {
     Objects.requireNonNull(vertexFrom, "No vertex provided");
-
-    final Set<DirectedEdge<T>> outgoingEdges = new HashSet<>();
-    for (final DirectedEdge<T> edge: edges)
-    {
-      if (edge.getFrom().equals(vertexFrom))
-      {
-        outgoingEdges.add(edge);
-      }
-    }
-    return outgoingEdges;
+    return new HashSet<>(outgoingEdges(vertexFrom));
   }
 
   @Override
@@ -143,6 +160,44 @@ public class DirectedGraph<T extends Comparable<? super T>>
     return writer.toString();
   }
 
+  /**
+   * Read-only view of the edges ending at a vertex, for use by graph
+   * algorithms that do not need a defensive copy.
+   *
+   * @param vertexTo
+   *        Vertex at the end of the edges
+   * @return Incoming edges, or an empty set if the vertex is not in the
+   *         graph
+   */
+  Set<DirectedEdge<T>> incomingEdges(final Vertex<T> vertexTo)
+  {
+    final Set<DirectedEdge<T>> incoming = incomingEdges.get(vertexTo);
+    if (incoming == null)
+    {
+      return emptySet();
+    }
+    return unmodifiableSet(incoming);
+  }
+
+  /**
+   * Read-only view of the edges starting at a vertex, for use by graph
+   * algorithms that do not need a defensive copy.
+   *
+   * @param vertexFrom
+   *        Vertex at the start of the edges
+   * @return Outgoing edges, or an empty set if the vertex is not in the
+   *         graph
+   */
+  Set<DirectedEdge<T>> outgoingEdges(final Vertex<T> vertexFrom)
+  {
+    final Set<DirectedEdge<T>> outgoing = outgoingEdges.get(vertexFrom);
+    if (outgoing == null)
+    {
+      return emptySet();
+    }
+    return unmodifiableSet(outgoing);
+  }
+
   public Set<Vertex<T>> vertexSet()
   {
     return new HashSet<>(verticesMap.values());
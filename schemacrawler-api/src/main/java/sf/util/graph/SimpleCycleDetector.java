@@ -102,25 +102,22 @@ public class SimpleCycleDetector<T extends Comparable<? super T>>
   {
     vertex.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.inProgress);
 
-    for (final DirectedEdge<T> edge: graph.edgeSet())
+    for (final DirectedEdge<T> edge: graph.outgoingEdges(vertex))
     {
-      if (edge.isFrom(vertex))
+      final Vertex<T> to = edge.getTo();
+      if (to
+        .getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.inProgress)
       {
-        final Vertex<T> to = edge.getTo();
-        if (to
-          .getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.inProgress)
+        to.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.marked);
+        return true;
+      }
+      else if (to
+        .getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.notStarted)
+      {
+        if (visitForCyles(to))
         {
-          to.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.marked);
           return true;
         }
-        else if (to
-          .getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.notStarted)
-        {
-          if (visitForCyles(to))
-          {
-            return true;
-          }
-        }
       }
     }
 
@@ -32,10 +32,19 @@ import static java.util.Comparator.naturalOrder;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+/**
+ * Topological sort, using Kahn's algorithm. Vertices are released level
+ * by level - a level consists of all the vertices that have no incoming
+ * edges once the previous levels have been removed - and vertices
+ * within a level are ordered by their natural order, so the sort is
+ * deterministic. Each vertex and edge is visited once, apart from
+ * sorting within levels.
+ */
 public class SimpleTopologicalSort<T extends Comparable<? super T>>
 {
 
@@ -49,105 +58,66 @@ public class SimpleTopologicalSort<T extends Comparable<? super T>>
   public List<T> topologicalSort()
     throws GraphException
   {
-    if (containsCycle())
-    {
-      throw new GraphException("Graph contains a cycle, so cannot be topologically sorted");
-    }
-
     final Collection<Vertex<T>> vertices = graph.vertexSet();
     final int collectionSize = vertices.size();
 
-    final Collection<DirectedEdge<T>> edges = new ArrayList<>(graph.edgeSet());
-    final List<T> sortedValues = new ArrayList<>(collectionSize);
-
-    while (!vertices.isEmpty())
+    // Count incoming edges, and find the vertices at the first level
+    final Map<Vertex<T>, Integer> inDegrees = new HashMap<>(collectionSize);
+    List<Vertex<T>> nodesAtLevel = new ArrayList<>();
+    for (final Vertex<T> vertex: vertices)
     {
-
-      final List<T> nodesAtLevel = new ArrayList<>(collectionSize);
-
-      // Remove unattached nodes
-      for (final Iterator<Vertex<T>> iterator = vertices.iterator(); iterator
-        .hasNext();)
+      final int inDegree = graph.incomingEdges(vertex).size();
+      if (inDegree == 0)
       {
-        final Vertex<T> vertex = iterator.next();
-        if (isUnattachedNode(vertex, edges))
-        {
-          nodesAtLevel.add(vertex.getValue());
-          iterator.remove();
-        }
+        nodesAtLevel.add(vertex);
       }
-
-      // Find all nodes at the current level
-      final List<Vertex<T>> startNodes = new ArrayList<>(collectionSize);
-      for (final Vertex<T> vertex: vertices)
+      else
       {
-        if (isStartNode(vertex, edges))
-        {
-          startNodes.add(vertex);
-        }
+        inDegrees.put(vertex, inDegree);
       }
+    }
 
-      for (final Vertex<T> vertex: startNodes)
+    final List<T> sortedValues = new ArrayList<>(collectionSize);
+    final List<T> valuesAtLevel = new ArrayList<>(collectionSize);
+    while (!nodesAtLevel.isEmpty())
+    {
+      final List<Vertex<T>> nodesAtNextLevel = new ArrayList<>();
+      valuesAtLevel.clear();
+      for (final Vertex<T> vertex: nodesAtLevel)
       {
         // Save the vertex value
-        nodesAtLevel.add(vertex.getValue());
-        // Remove all out edges
-        dropOutEdges(vertex, edges);
-        // Remove the vertex itself
-        vertices.remove(vertex);
+        valuesAtLevel.add(vertex.getValue());
+        // Remove all out edges, and release vertices with no more
+        // incoming edges to the next level
+        for (final DirectedEdge<T> edge: graph.outgoingEdges(vertex))
+        {
+          final Vertex<T> to = edge.getTo();
+          final int inDegree = inDegrees.get(to) - 1;
+          if (inDegree == 0)
+          {
+            inDegrees.remove(to);
+            nodesAtNextLevel.add(to);
+          }
+          else
+          {
+            inDegrees.put(to, inDegree);
+          }
+        }
       }
 
-      nodesAtLevel.sort(naturalOrder());
-      sortedValues.addAll(nodesAtLevel);
-    }
+      valuesAtLevel.sort(naturalOrder());
+      sortedValues.addAll(valuesAtLevel);
 
-    return sortedValues;
-  }
-
-  private boolean containsCycle()
-  {
-    final SimpleCycleDetector<T> cycleDetector = new SimpleCycleDetector<>(graph);
-    return cycleDetector.containsCycle();
-  }
-
-  private void dropOutEdges(final Vertex<T> vertex,
-                            final Collection<DirectedEdge<T>> edges)
-  {
-    for (final Iterator<DirectedEdge<T>> iterator = edges.iterator(); iterator
-      .hasNext();)
-    {
-      final DirectedEdge<T> edge = iterator.next();
-      if (edge.isFrom(vertex))
-      {
-        iterator.remove();
-      }
+      nodesAtLevel = nodesAtNextLevel;
     }
-  }
 
-  private boolean isStartNode(final Vertex<T> vertex,
-                              final Collection<DirectedEdge<T>> edges)
-  {
-    for (final DirectedEdge<T> edge: edges)
+    // Vertices on, or downstream from, a cycle are never released
+    if (sortedValues.size() < collectionSize)
     {
-      if (edge.isTo(vertex))
-      {
-        return false;
-      }
+      throw new GraphException("Graph contains a cycle, so cannot be topologically sorted");
     }
-    return true;
-  }
 
-  private boolean isUnattachedNode(final Vertex<T> vertex,
-                                   final Collection<DirectedEdge<T>> edges)
-  {
-    for (final DirectedEdge<T> edge: edges)
-    {
-      if (edge.isTo(vertex) || edge.isFrom(vertex))
-      {
-        return false;
-      }
-    }
-    return true;
+    return sortedValues;
   }
 
 }
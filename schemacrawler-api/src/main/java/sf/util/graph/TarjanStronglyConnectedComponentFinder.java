@@ -35,6 +35,7 @@ import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Implementation of <a href=
@@ -54,6 +55,7 @@ public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super
   private final DirectedGraph<T> graph;
   private final Collection<List<T>> stronglyConnectedComponents;
   private final Deque<Vertex<T>> stack;
+  private final Set<Vertex<T>> onStack;
 
   public TarjanStronglyConnectedComponentFinder(final DirectedGraph<T> graph)
   {
@@ -61,6 +63,7 @@ public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super
 
     stronglyConnectedComponents = new HashSet<>();
     stack = new ArrayDeque<>();
+    onStack = new HashSet<>();
   }
 
   /**
@@ -85,8 +88,9 @@ public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super
     vertexFrom.putAttribute(ATTRIBUTE_INDEX, index);
     vertexFrom.putAttribute(ATTRIBUTE_LOWLINK, index);
     stack.push(vertexFrom);
+    onStack.add(vertexFrom);
 
-    for (final DirectedEdge<T> edge: graph.getOutgoingEdges(vertexFrom))
+    for (final DirectedEdge<T> edge: graph.outgoingEdges(vertexFrom))
     {
       final Vertex<T> vertexTo = edge.getTo();
       if (!vertexTo.hasAttribute(ATTRIBUTE_INDEX))
@@ -99,7 +103,7 @@ public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super
                           .min((int) vertexFrom.getAttribute(ATTRIBUTE_LOWLINK),
                                (int) vertexTo.getAttribute(ATTRIBUTE_LOWLINK)));
       }
-      else if (stack.contains(vertexTo))
+      else if (onStack.contains(vertexTo))
       {
         // Successor vertex is on stack, hence in the current SCC
         vertexFrom
@@ -118,6 +122,7 @@ public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super
       do
       {
         sccVertex = stack.pop();
+        onStack.remove(sccVertex);
         scc.addFirst(sccVertex.getValue());
       } while (!vertexFrom.equals(sccVertex));
       if (scc.size() > 1)
@@ -0,0 +1,92 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class MetadataResultSetTest
+{
+
+  private static final String SQL = "SELECT TABLE_NAME AS \"table_name\", "
+                                    + "TABLE_TYPE, TABLE_SCHEMA AS TABLE_TYPE, "
+                                    + "1 AS ONE "
+                                    + "FROM INFORMATION_SCHEMA.TABLES "
+                                    + "WHERE TABLE_SCHEMA = 'BOOKS' "
+                                    + "ORDER BY TABLE_NAME";
+
+  @Test
+  public void readByColumnIndex(final Connection connection)
+    throws Exception
+  {
+    try (final Statement statement = connection.createStatement();
+        final MetadataResultSet results = new MetadataResultSet(statement
+          .executeQuery(SQL));)
+    {
+      assertThat(results.next(), is(true));
+
+      // Labels are matched in upper case
+      final String tableName = results.getString("TABLE_NAME");
+      assertThat(tableName, is(not(nullValue())));
+      assertThat(results.getString("table_name"), is(nullValue()));
+      // The first of duplicate labels is used
+      assertThat(results.getString("TABLE_TYPE"), is("BASE TABLE"));
+      assertThat(results.getInt("ONE", 0), is(1));
+      assertThat(results.getLong("ONE", 0L), is(1L));
+      assertThat(results.getShort("ONE", (short) 0), is((short) 1));
+      assertThat(results.getBoolean("ONE"), is(true));
+      assertThat(results.getInt("NOT_A_COLUMN", -1), is(-1));
+
+      final Map<String, Object> attributes = results.getAttributes();
+      assertThat(attributes.isEmpty(), is(true));
+
+      // Read columns are tracked for each row
+      assertThat(results.next(), is(true));
+      assertThat(results.getString("TABLE_NAME"), is(not(tableName)));
+      final Map<String, Object> nextAttributes = results.getAttributes();
+      assertThat(nextAttributes.size(), is(2));
+      assertThat(nextAttributes, hasKey("TABLE_TYPE"));
+      assertThat(nextAttributes, hasKey("ONE"));
+    }
+  }
+
+}
@@ -29,7 +29,13 @@ package schemacrawler.crawl;
 
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -72,4 +78,48 @@ public class NamedObjectTest
 
   }
 
+  @Test
+  public void sortedValues()
+  {
+    final MutableCatalog catalog = new MutableCatalog("DATABASE");
+    final Schema schema = catalog.addSchema("CATALOG", "PUBLIC");
+
+    final MutableTable customer = new MutableTable(schema, "CUSTOMER");
+    final MutableTable invoice = new MutableTable(schema, "INVOICE");
+    final MutableTable item = new MutableTable(schema, "ITEM");
+
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    tables.add(item);
+    tables.add(customer);
+
+    final List<MutableTable> values = tables.values();
+    assertThat(values, contains(customer, item));
+    assertThat("Sorted values should be reused",
+               tables.values(),
+               is(sameInstance(values)));
+    assertThrows(UnsupportedOperationException.class,
+                 () -> values.add(invoice));
+
+    // Adding, removing and filtering discards sorted values
+    tables.add(invoice);
+    assertThat(tables.values(), is(not(sameInstance(values))));
+    assertThat(tables.values(), contains(customer, invoice, item));
+
+    tables.remove(invoice);
+    assertThat(tables.values(), contains(customer, item));
+
+    tables.filter(table -> !table.equals(customer));
+    assertThat(tables.values(), contains(item));
+
+    // Changes to the sort order of objects in the list are detected
+    tables.add(customer);
+    tables.add(invoice);
+    assertThat(tables.values(), contains(customer, invoice, item));
+    customer.setSortIndex(3);
+    invoice.setSortIndex(2);
+    item.setSortIndex(1);
+    assertThat(tables.values(), contains(item, invoice, customer));
+    assertThat(tables.iterator().next(), is(item));
+  }
+
 }
@@ -0,0 +1,228 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static schemacrawler.test.utility.DatabaseTestUtility.loadHsqldbConfig;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.CrawlMetric;
+import schemacrawler.schema.CrawlMetricType;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
+import schemacrawler.test.utility.DatabaseTestUtility;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class CrawlMetricsTest
+{
+
+  private static String key(final CrawlMetric crawlMetric)
+  {
+    return crawlMetric.getType() + "/" + crawlMetric.getPhase() + "/"
+           + crawlMetric.getName();
+  }
+
+  private static Optional<CrawlMetric> lookup(final Collection<CrawlMetric> crawlMetrics,
+                                              final CrawlMetricType type,
+                                              final String phase,
+                                              final String name)
+  {
+    return crawlMetrics.stream()
+      .filter(crawlMetric -> crawlMetric.getType() == type
+                             && crawlMetric.getPhase().equals(phase)
+                             && crawlMetric.getName().equals(name))
+      .findFirst();
+  }
+
+  /**
+   * Checks that the metrics in the crawl information are the totals of
+   * the measurements that were sent to the listener.
+   */
+  private static void assertTotals(final Collection<CrawlMetric> crawlMetrics,
+                                   final List<CrawlMetric> recorded)
+  {
+    final Map<String, Integer> counts = new HashMap<>();
+    final Map<String, Long> rowCounts = new HashMap<>();
+    final Map<String, Duration> wallTimes = new HashMap<>();
+    for (final CrawlMetric crawlMetric: recorded)
+    {
+      assertThat(crawlMetric.getCount(), is(1));
+      final String key = key(crawlMetric);
+      counts.merge(key, 1, Integer::sum);
+      rowCounts.merge(key, crawlMetric.getRowCount(), Long::sum);
+      wallTimes.merge(key, crawlMetric.getWallTime(), Duration::plus);
+    }
+
+    assertThat(crawlMetrics.size(), is(counts.size()));
+    for (final CrawlMetric crawlMetric: crawlMetrics)
+    {
+      final String key = key(crawlMetric);
+      assertThat(key, crawlMetric.getCount(), is(counts.get(key)));
+      assertThat(key, crawlMetric.getRowCount(), is(rowCounts.get(key)));
+      assertThat(key, crawlMetric.getWallTime(), is(wallTimes.get(key)));
+    }
+  }
+
+  @Test
+  public void crawlMetrics(final Connection connection)
+    throws Exception
+  {
+    final Config config = loadHsqldbConfig();
+    final SchemaCrawlerOptions schemaCrawlerOptions = DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+    final SchemaRetrievalOptions schemaRetrievalOptions = SchemaRetrievalOptionsBuilder
+      .newSchemaRetrievalOptions(config);
+
+    final List<CrawlMetric> recorded = new ArrayList<>();
+    final SchemaCrawler schemaCrawler = new SchemaCrawler(connection,
+                                                          schemaRetrievalOptions,
+                                                          schemaCrawlerOptions);
+    schemaCrawler.setCrawlMetricsListener(recorded::add);
+    final Catalog catalog = schemaCrawler.crawl();
+
+    final Collection<CrawlMetric> crawlMetrics = catalog.getCrawlInfo()
+      .getCrawlMetrics();
+    assertTotals(crawlMetrics, recorded);
+
+    final CrawlMetric retrieveTables = lookup(crawlMetrics,
+                                              CrawlMetricType.phase,
+                                              "crawlTables",
+                                              "retrieveTables").get();
+    assertThat(retrieveTables.getCount(), is(1));
+    assertThat(retrieveTables.getObjectsCreated(),
+               greaterThanOrEqualTo((long) catalog.getTables().size()));
+    assertThat(retrieveTables.getRowCount(), is(0L));
+
+    final CrawlMetric retrieveColumns = lookup(crawlMetrics,
+                                               CrawlMetricType.phase,
+                                               "crawlTables",
+                                               "retrieveColumns").get();
+    assertThat(retrieveColumns.getObjectsCreated(), greaterThan(0L));
+
+    // Named data dictionary queries are reported by name
+    final CrawlMetric views = lookup(crawlMetrics,
+                                     CrawlMetricType.query,
+                                     "retrieveTableDefinitions",
+                                     "VIEWS").get();
+    assertThat(views.getRowCount(), greaterThan(0L));
+    assertThat(views.getRoundTrips(), greaterThanOrEqualTo(1L));
+    assertThat(views.getBytesFetched(), is(-1L));
+
+    // Database metadata calls are grouped by phase
+    final CrawlMetric columnsMetadata = lookup(crawlMetrics,
+                                               CrawlMetricType.query,
+                                               "retrieveColumns",
+                                               "database metadata").get();
+    assertThat(columnsMetadata.getRowCount(), greaterThan(0L));
+    assertThat(columnsMetadata.getRoundTrips(),
+               greaterThanOrEqualTo((long) columnsMetadata.getCount()));
+  }
+
+  @Test
+  public void parallelCrawlMetrics(final DatabaseConnectionInfo connectionInfo)
+    throws Exception
+  {
+    final Config config = loadHsqldbConfig();
+    final SchemaCrawlerOptions schemaCrawlerOptions = DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+
+    final Supplier<Connection> connectionSource = () -> {
+      try
+      {
+        return DriverManager.getConnection(connectionInfo.getConnectionUrl(),
+                                           "sa",
+                                           "");
+      }
+      catch (final SQLException e)
+      {
+        throw new SchemaCrawlerRuntimeException(e.getMessage(), e);
+      }
+    };
+    final SchemaRetrievalOptions schemaRetrievalOptions = SchemaRetrievalOptionsBuilder
+      .builder().fromConfig(config).withParallelism(4).toOptions();
+
+    final List<CrawlMetric> recorded = Collections
+      .synchronizedList(new ArrayList<>());
+    final SchemaCrawler schemaCrawler = new SchemaCrawler(connectionSource,
+                                                          schemaRetrievalOptions,
+                                                          schemaCrawlerOptions);
+    schemaCrawler.setCrawlMetricsListener(recorded::add);
+    final Catalog catalog = schemaCrawler.crawl();
+
+    final Collection<CrawlMetric> crawlMetrics = catalog.getCrawlInfo()
+      .getCrawlMetrics();
+    assertTotals(crawlMetrics, recorded);
+
+    // Objects are not counted for tasks that run concurrently
+    final CrawlMetric retrieveIndexes = lookup(crawlMetrics,
+                                               CrawlMetricType.phase,
+                                               "retrieveIndexes",
+                                               "retrieveIndexes").get();
+    assertThat(retrieveIndexes.getObjectsCreated(), is(-1L));
+    final CrawlMetric inParallel = lookup(crawlMetrics,
+                                          CrawlMetricType.phase,
+                                          "crawlTables",
+                                          "retrieveTableInformationInParallel")
+                                            .get();
+    assertThat(inParallel.getObjectsCreated(), greaterThan(0L));
+
+    // Queries run on retrieval threads are attributed to their task
+    final CrawlMetric indexesMetadata = lookup(crawlMetrics,
+                                               CrawlMetricType.query,
+                                               "retrieveIndexes",
+                                               "database metadata").get();
+    assertThat(indexesMetadata.getRowCount(), greaterThan(0L));
+    assertThat(catalog.getTables().isEmpty(), equalTo(false));
+  }
+
+}
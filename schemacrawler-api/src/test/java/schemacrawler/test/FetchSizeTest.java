@@ -0,0 +1,144 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+import static schemacrawler.test.utility.DatabaseTestUtility.loadHsqldbConfig;
+
+import java.sql.Connection;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.DatabaseTestUtility;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class FetchSizeTest
+{
+
+  private static String printCatalog(final Catalog catalog)
+  {
+    final StringBuilder buffer = new StringBuilder();
+    for (final Table table: catalog.getTables())
+    {
+      buffer.append(table.getFullName()).append("\n");
+      for (final Column column: table.getColumns())
+      {
+        buffer.append("  ").append(column.getName()).append(" ")
+          .append(column.getColumnDataType()).append("\n");
+      }
+      buffer.append("  ").append(table.getIndexes()).append("\n");
+      buffer.append("  ").append(table.getForeignKeys()).append("\n");
+    }
+    return buffer.toString();
+  }
+
+  @Test
+  public void fetchSizeFromConfig()
+  {
+    final Config config = new Config();
+    config.put("schemacrawler.schema.retrieval.fetchsize", "50");
+    config.put("schemacrawler.schema.retrieval.fetchsize.TABLE_COLUMNS",
+               "500");
+    config.put("schemacrawler.schema.retrieval.streaming", "true");
+
+    final SchemaRetrievalOptions schemaRetrievalOptions = SchemaRetrievalOptionsBuilder
+      .newSchemaRetrievalOptions(config);
+    assertThat(schemaRetrievalOptions.getFetchSize(), is(50));
+    assertThat(schemaRetrievalOptions
+      .getFetchSize(InformationSchemaKey.TABLE_COLUMNS), is(500));
+    assertThat(schemaRetrievalOptions.getFetchSize(InformationSchemaKey.TABLES),
+               is(50));
+    assertThat(schemaRetrievalOptions.isStreamingResults(), is(true));
+
+    final SchemaRetrievalOptions copiedOptions = SchemaRetrievalOptionsBuilder
+      .builder(schemaRetrievalOptions)
+      .withFetchSize(InformationSchemaKey.TABLE_COLUMNS, -1).toOptions();
+    assertThat(copiedOptions.getFetchSize(), is(50));
+    assertThat(copiedOptions.getFetchSize(InformationSchemaKey.TABLE_COLUMNS),
+               is(50));
+    assertThat(copiedOptions.isStreamingResults(), is(true));
+  }
+
+  @Test
+  public void fetchSizeDefaults()
+  {
+    final SchemaRetrievalOptions schemaRetrievalOptions = SchemaRetrievalOptionsBuilder
+      .newSchemaRetrievalOptions();
+    assertThat(schemaRetrievalOptions.getFetchSize(), is(20));
+    assertThat(schemaRetrievalOptions
+      .getFetchSize(InformationSchemaKey.TABLE_COLUMNS), is(20));
+    assertThat(schemaRetrievalOptions.isStreamingResults(), is(false));
+  }
+
+  @Test
+  public void streamingCrawl(final Connection connection)
+    throws Exception
+  {
+    final Config config = loadHsqldbConfig();
+    final SchemaCrawlerOptions schemaCrawlerOptions = DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+
+    final Catalog catalog = getCatalog(connection,
+                                       SchemaRetrievalOptionsBuilder
+                                         .newSchemaRetrievalOptions(config),
+                                       schemaCrawlerOptions);
+
+    // Small fetch sizes force the fetch size to be increased while
+    // rows are read
+    final SchemaRetrievalOptions streamingSchemaRetrievalOptions = SchemaRetrievalOptionsBuilder
+      .builder().fromConfig(config).withFetchSize(1)
+      .withFetchSize(InformationSchemaKey.TABLE_COLUMNS, 2)
+      .withStreamingResults(true).toOptions();
+    final Catalog streamingCatalog = getCatalog(connection,
+                                                streamingSchemaRetrievalOptions,
+                                                schemaCrawlerOptions);
+
+    assertThat("Auto-commit was not restored",
+               connection.getAutoCommit(),
+               is(true));
+
+    final String catalogOutput = printCatalog(catalog);
+    assertThat(catalogOutput.isEmpty(), is(not(true)));
+    assertThat(printCatalog(streamingCatalog), equalTo(catalogOutput));
+  }
+
+}
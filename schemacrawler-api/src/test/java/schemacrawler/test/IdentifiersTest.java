@@ -31,11 +31,17 @@ package schemacrawler.test;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.sql.Connection;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
 import schemacrawler.utility.Identifiers;
 
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
 public class IdentifiersTest
 {
 
@@ -63,6 +69,26 @@ public class IdentifiersTest
     }
   }
 
+  @Test
+  public void fromConnection(final Connection connection)
+    throws Exception
+  {
+    final Identifiers databaseIdentifiers = Identifiers
+      .fromConnection(connection);
+    assertThat(Identifiers.fromConnection(connection),
+               sameInstance(databaseIdentifiers));
+
+    final Identifiers builtIdentifiers = Identifiers.identifiers()
+      .withConnection(connection).build();
+    assertThat(databaseIdentifiers.getReservedWords(),
+               equalTo(builtIdentifiers.getReservedWords()));
+    assertThat(databaseIdentifiers.getIdentifierQuoteString(),
+               equalTo(builtIdentifiers.getIdentifierQuoteString()));
+    assertThat(databaseIdentifiers.getIdentifierQuotingStrategy(),
+               equalTo(builtIdentifiers.getIdentifierQuotingStrategy()));
+    assertThat(databaseIdentifiers.isReservedWord("UPDATE"), is(true));
+  }
+
   @Test
   public void quotedIdentifiers()
   {
@@ -0,0 +1,370 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.CrawlMetric;
+import schemacrawler.schema.CrawlMetricType;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.BaseCatalogDecorator;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+
+public class IncrementalCrawlTest
+{
+
+  private static String print(final Catalog catalog)
+  {
+    final StringBuilder buffer = new StringBuilder();
+    for (final Table table: catalog.getTables())
+    {
+      buffer.append(table.getFullName()).append(" ")
+        .append(table.getTableType()).append("\n");
+      for (final Column column: table.getColumns())
+      {
+        buffer.append("  column ").append(column.getName()).append(" ")
+          .append(column.getColumnDataType().getFullName()).append("\n");
+      }
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        buffer.append("  foreign key ").append(foreignKey.getName())
+          .append("\n");
+        for (final ForeignKeyColumnReference columnReference: foreignKey
+          .getColumnReferences())
+        {
+          buffer.append("    ").append(columnReference).append("\n");
+        }
+      }
+      for (final Index index: table.getIndexes())
+      {
+        buffer.append("  index ").append(index.getName()).append(" ")
+          .append(index.getColumns()).append("\n");
+      }
+    }
+    return buffer.toString();
+  }
+
+  private Connection connection;
+  private SchemaCrawlerOptions schemaCrawlerOptions;
+
+  @BeforeEach
+  public void createDatabase()
+    throws SQLException
+  {
+    connection = DriverManager
+      .getConnection("jdbc:hsqldb:mem:incremental_" + UUID.randomUUID(),
+                     "sa",
+                     "");
+    execute("CREATE SCHEMA INC AUTHORIZATION DBA",
+            "CREATE TABLE INC.A (ID INTEGER PRIMARY KEY, NAME VARCHAR(20))",
+            "CREATE TABLE INC.B (ID INTEGER PRIMARY KEY, A_ID INTEGER, "
+                + "CONSTRAINT FK_B_A FOREIGN KEY (A_ID) REFERENCES INC.A (ID))",
+            "CREATE TABLE INC.C (ID INTEGER PRIMARY KEY, B_ID INTEGER, "
+                + "CONSTRAINT FK_C_B FOREIGN KEY (B_ID) REFERENCES INC.B (ID))",
+            "CREATE TABLE INC.D (ID INTEGER PRIMARY KEY)");
+
+    schemaCrawlerOptions = SchemaCrawlerOptionsBuilder.builder()
+      .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+      .includeSchemas(new RegularExpressionInclusionRule(Pattern
+        .compile(".*\\.INC")))
+      .toOptions();
+  }
+
+  @AfterEach
+  public void dropDatabase()
+    throws SQLException
+  {
+    execute("SHUTDOWN");
+    connection.close();
+  }
+
+  @Test
+  public void incrementalCrawlMatchesFullCrawl()
+    throws Exception
+  {
+    // No DDL changes other than to columns are reported, so tables are
+    // compared by their columns
+    final Map<String, String> informationSchemaViews = new HashMap<>();
+    informationSchemaViews
+      .put(InformationSchemaKey.TABLE_CHANGES.getLookupKey(),
+           "SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME, "
+                + "86400 AS SECONDS_SINCE_CHANGE "
+                + "FROM INFORMATION_SCHEMA.TABLES");
+    final SchemaRetrievalOptions schemaRetrievalOptions = SchemaRetrievalOptionsBuilder
+      .builder().withInformationSchemaViews(informationSchemaViews)
+      .toOptions();
+
+    final Catalog baseCatalog = new SchemaCrawler(connection,
+                                                  schemaRetrievalOptions,
+                                                  schemaCrawlerOptions)
+                                                    .crawl();
+    final String basePrintout = print(baseCatalog);
+
+    execute("ALTER TABLE INC.B ADD COLUMN REMARKS VARCHAR(100)",
+            "DROP TABLE INC.D",
+            "CREATE TABLE INC.E (ID INTEGER PRIMARY KEY, A_ID INTEGER, "
+                + "CONSTRAINT FK_E_A FOREIGN KEY (A_ID) REFERENCES INC.A (ID))");
+
+    final Catalog incrementalCatalog = new SchemaCrawler(connection,
+                                                         schemaRetrievalOptions,
+                                                         schemaCrawlerOptions)
+                                                           .crawl(baseCatalog);
+    final Catalog fullCatalog = new SchemaCrawler(connection,
+                                                  schemaRetrievalOptions,
+                                                  schemaCrawlerOptions)
+                                                    .crawl();
+
+    assertThat(print(incrementalCatalog), equalTo(print(fullCatalog)));
+    assertThat(print(baseCatalog), equalTo(basePrintout));
+
+    // Indexes are retrieved table by table, so only the changed tables
+    // B and E are queried, out of the four tables
+    final int indexQueriesPerTable = indexQueries(fullCatalog) / 4;
+    assertThat(indexQueriesPerTable, greaterThan(0));
+    assertThat(indexQueries(incrementalCatalog),
+               is(2 * indexQueriesPerTable));
+    assertThat(print(incrementalCatalog), not(equalTo(basePrintout)));
+    assertThat(phaseCount(incrementalCatalog, "crawlTableChanges"),
+               greaterThan(0));
+
+    for (final Table table: incrementalCatalog.getTables())
+    {
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        for (final ForeignKeyColumnReference columnReference: foreignKey
+          .getColumnReferences())
+        {
+          assertResolved(incrementalCatalog,
+                         columnReference.getForeignKeyColumn());
+          assertResolved(incrementalCatalog,
+                         columnReference.getPrimaryKeyColumn());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void incrementalCrawlWithTableChangesQuery()
+    throws Exception
+  {
+    final SchemaRetrievalOptions baseRetrievalOptions = SchemaRetrievalOptionsBuilder
+      .newSchemaRetrievalOptions();
+    final Catalog baseCatalog = new SchemaCrawler(connection,
+                                                  baseRetrievalOptions,
+                                                  schemaCrawlerOptions)
+                                                    .crawl();
+
+    execute("CREATE INDEX IDX_C_B ON INC.C (B_ID, ID)");
+
+    final Map<String, String> informationSchemaViews = new HashMap<>();
+    informationSchemaViews
+      .put(InformationSchemaKey.TABLE_CHANGES.getLookupKey(),
+           "SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME, "
+                + "CASE WHEN TABLE_NAME = 'C' THEN 0 ELSE 86400 END AS SECONDS_SINCE_CHANGE "
+                + "FROM INFORMATION_SCHEMA.TABLES");
+    final SchemaRetrievalOptions schemaRetrievalOptions = SchemaRetrievalOptionsBuilder
+      .builder().withInformationSchemaViews(informationSchemaViews)
+      .toOptions();
+
+    final Catalog incrementalCatalog = new SchemaCrawler(connection,
+                                                         schemaRetrievalOptions,
+                                                         schemaCrawlerOptions)
+                                                           .crawl(baseCatalog);
+    final Catalog fullCatalog = new SchemaCrawler(connection,
+                                                  baseRetrievalOptions,
+                                                  schemaCrawlerOptions)
+                                                    .crawl();
+
+    assertThat(print(incrementalCatalog), equalTo(print(fullCatalog)));
+    assertThat(print(incrementalCatalog).contains("IDX_C_B"), is(true));
+  }
+
+  @Test
+  public void incrementalCrawlWithoutTableChangesQuery()
+    throws Exception
+  {
+    final SchemaRetrievalOptions schemaRetrievalOptions = SchemaRetrievalOptionsBuilder
+      .newSchemaRetrievalOptions();
+    final Catalog baseCatalog = new SchemaCrawler(connection,
+                                                  schemaRetrievalOptions,
+                                                  schemaCrawlerOptions)
+                                                    .crawl();
+
+    execute("CREATE INDEX IDX_C_B ON INC.C (B_ID, ID)");
+
+    final Catalog incrementalCatalog = new SchemaCrawler(connection,
+                                                         schemaRetrievalOptions,
+                                                         schemaCrawlerOptions)
+                                                           .crawl(baseCatalog);
+    final Catalog fullCatalog = new SchemaCrawler(connection,
+                                                  schemaRetrievalOptions,
+                                                  schemaCrawlerOptions)
+                                                    .crawl();
+
+    // Changes other than to columns cannot be found, so all tables are
+    // crawled again
+    assertThat(print(incrementalCatalog), equalTo(print(fullCatalog)));
+    assertThat(print(incrementalCatalog).contains("IDX_C_B"), is(true));
+    assertThat(indexQueries(incrementalCatalog),
+               is(indexQueries(fullCatalog)));
+    assertThat(phaseCount(incrementalCatalog, "crawlTableChanges"), is(0));
+  }
+
+  @Test
+  public void incrementalCrawlWithDecoratedBaseCatalog()
+    throws Exception
+  {
+    final Map<String, String> informationSchemaViews = new HashMap<>();
+    informationSchemaViews
+      .put(InformationSchemaKey.TABLE_CHANGES.getLookupKey(),
+           "SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME, "
+                + "86400 AS SECONDS_SINCE_CHANGE "
+                + "FROM INFORMATION_SCHEMA.TABLES");
+    final SchemaRetrievalOptions schemaRetrievalOptions = SchemaRetrievalOptionsBuilder
+      .builder().withInformationSchemaViews(informationSchemaViews)
+      .toOptions();
+
+    // Catalogs loaded from snapshots are decorated
+    final Catalog baseCatalog = new BaseCatalogDecorator(new SchemaCrawler(connection,
+                                                                           schemaRetrievalOptions,
+                                                                           schemaCrawlerOptions)
+                                                                             .crawl())
+    {
+
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public <T> Optional<T> lookupAttribute(final String name)
+      {
+        return Optional.ofNullable(getAttribute(name));
+      }
+
+    };
+
+    execute("ALTER TABLE INC.B ADD COLUMN REMARKS VARCHAR(100)");
+
+    final Catalog incrementalCatalog = new SchemaCrawler(connection,
+                                                         schemaRetrievalOptions,
+                                                         schemaCrawlerOptions)
+                                                           .crawl(baseCatalog);
+    final Catalog fullCatalog = new SchemaCrawler(connection,
+                                                  schemaRetrievalOptions,
+                                                  schemaCrawlerOptions)
+                                                    .crawl();
+
+    assertThat(print(incrementalCatalog), equalTo(print(fullCatalog)));
+    assertThat(phaseCount(incrementalCatalog, "crawlTableChanges"),
+               greaterThan(0));
+    assertThat(indexQueries(incrementalCatalog),
+               is(indexQueries(fullCatalog) / 4));
+  }
+
+  private int phaseCount(final Catalog catalog, final String phase)
+  {
+    int count = 0;
+    for (final CrawlMetric crawlMetric: catalog.getCrawlInfo()
+      .getCrawlMetrics())
+    {
+      if (crawlMetric.getType() == CrawlMetricType.phase
+          && crawlMetric.getPhase().equals(phase))
+      {
+        count = count + crawlMetric.getCount();
+      }
+    }
+    return count;
+  }
+
+  private int indexQueries(final Catalog catalog)
+  {
+    for (final CrawlMetric crawlMetric: catalog.getCrawlInfo()
+      .getCrawlMetrics())
+    {
+      if (crawlMetric.getType() == CrawlMetricType.query
+          && crawlMetric.getPhase().equals("retrieveIndexes"))
+      {
+        return crawlMetric.getCount();
+      }
+    }
+    return 0;
+  }
+
+  private void assertResolved(final Catalog catalog, final Column column)
+  {
+    final Table table = catalog
+      .lookupTable(column.getParent().getSchema(),
+                   column.getParent().getName())
+      .get();
+    assertThat(table.lookupColumn(column.getName()).get(),
+               sameInstance(column));
+  }
+
+  private void execute(final String... sqls)
+    throws SQLException
+  {
+    try (final Statement statement = connection.createStatement();)
+    {
+      for (final String sql: sqls)
+      {
+        statement.execute(sql);
+      }
+    }
+  }
+
+}
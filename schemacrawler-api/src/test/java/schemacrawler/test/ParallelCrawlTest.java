@@ -0,0 +1,180 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+import static schemacrawler.test.utility.DatabaseTestUtility.loadHsqldbConfig;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.*;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
+import schemacrawler.test.utility.DatabaseTestUtility;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class ParallelCrawlTest
+{
+
+  private static void printAttributes(final AttributedObject object,
+                                      final StringBuilder buffer)
+  {
+    final Map<String, Object> attributes = new TreeMap<>(object
+      .getAttributes());
+    for (final Map.Entry<String, Object> attribute: attributes.entrySet())
+    {
+      buffer.append("    @").append(attribute.getKey()).append("=")
+        .append(attribute.getValue()).append("\n");
+    }
+  }
+
+  private static String printCatalog(final Catalog catalog)
+  {
+    final StringBuilder buffer = new StringBuilder();
+    for (final Table table: catalog.getTables())
+    {
+      buffer.append(table.getFullName()).append(" ")
+        .append(table.getTableType()).append("\n");
+      buffer.append("  definition: ").append(table.getDefinition())
+        .append("\n");
+      printAttributes(table, buffer);
+      for (final Column column: table.getColumns())
+      {
+        buffer.append("  column: ").append(column.getName()).append(" ")
+          .append(column.getColumnDataType()).append(" ")
+          .append(column.isPartOfPrimaryKey()).append(" ")
+          .append(column.isPartOfIndex()).append(" ")
+          .append(column.getPrivileges()).append("\n");
+        printAttributes(column, buffer);
+      }
+      buffer.append("  primary key: ").append(table.getPrimaryKey())
+        .append("\n");
+      for (final Index index: table.getIndexes())
+      {
+        buffer.append("  index: ").append(index.getName()).append(" ")
+          .append(index.getColumns()).append(" ")
+          .append(index.getDefinition()).append("\n");
+        printAttributes(index, buffer);
+      }
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        buffer.append("  foreign key: ").append(foreignKey.getName())
+          .append(" ").append(foreignKey.getColumnReferences()).append("\n");
+      }
+      for (final TableConstraint tableConstraint: table.getTableConstraints())
+      {
+        buffer.append("  constraint: ").append(tableConstraint.getName())
+          .append(" ").append(tableConstraint.getColumns()).append(" ")
+          .append(tableConstraint.getDefinition()).append("\n");
+      }
+      for (final Trigger trigger: table.getTriggers())
+      {
+        buffer.append("  trigger: ").append(trigger.getName()).append(" ")
+          .append(trigger.getActionStatement()).append("\n");
+      }
+      for (final Privilege<Table> privilege: table.getPrivileges())
+      {
+        buffer.append("  privilege: ").append(privilege.getName())
+          .append(" ").append(privilege.getGrants()).append("\n");
+      }
+    }
+    return buffer.toString();
+  }
+
+  @Test
+  public void parallelCrawl(final Connection connection,
+                            final DatabaseConnectionInfo connectionInfo)
+    throws Exception
+  {
+    final Config config = loadHsqldbConfig();
+    final SchemaCrawlerOptions schemaCrawlerOptions = DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+
+    final SchemaRetrievalOptions schemaRetrievalOptions = SchemaRetrievalOptionsBuilder
+      .newSchemaRetrievalOptions(config);
+    final Catalog catalog = getCatalog(connection,
+                                       schemaRetrievalOptions,
+                                       schemaCrawlerOptions);
+
+    final List<Connection> connections = new ArrayList<>();
+    final Supplier<Connection> connectionSource = () -> {
+      try
+      {
+        final Connection parallelConnection = DriverManager
+          .getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+        connections.add(parallelConnection);
+        return parallelConnection;
+      }
+      catch (final SQLException e)
+      {
+        throw new SchemaCrawlerRuntimeException(e.getMessage(), e);
+      }
+    };
+    final SchemaRetrievalOptions parallelSchemaRetrievalOptions = SchemaRetrievalOptionsBuilder
+      .builder().fromConfig(config).withParallelism(4).toOptions();
+    final Catalog parallelCatalog = new SchemaCrawler(connectionSource,
+                                                      parallelSchemaRetrievalOptions,
+                                                      schemaCrawlerOptions)
+                                                        .crawl();
+
+    assertThat("Additional connections were not used",
+               connections.size() > 1,
+               is(true));
+    for (final Connection parallelConnection: connections)
+    {
+      assertThat("Connection was not closed",
+                 parallelConnection.isClosed(),
+                 is(true));
+    }
+
+    final String catalogOutput = printCatalog(catalog);
+    assertThat(catalogOutput.isEmpty(), is(not(true)));
+    assertThat(printCatalog(parallelCatalog), equalTo(catalogOutput));
+  }
+
+}
@@ -0,0 +1,355 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+import static schemacrawler.test.utility.DatabaseTestUtility.loadHsqldbConfig;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.crawl.MetadataRetrievalStrategy;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.CrawlMetric;
+import schemacrawler.schema.CrawlMetricType;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.RetrievalStrategyChoice;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineColumn;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.View;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.testdb.SyntheticSchemaCreator;
+import schemacrawler.testdb.SyntheticSchemaCreator.Dialect;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class SchemaRetrievalStrategyTest
+{
+
+  private static String printCatalog(final Catalog catalog)
+  {
+    final StringBuilder buffer = new StringBuilder();
+    for (final Table table: catalog.getTables())
+    {
+      buffer.append(table.getFullName()).append(" ")
+        .append(table.getTableType()).append("\n");
+      for (final Column column: table.getColumns())
+      {
+        buffer.append("  column: ").append(column.getName()).append(" ")
+          .append(column.getColumnDataType()).append(" ")
+          .append(column.getSize()).append(" ")
+          .append(column.isNullable()).append(" ")
+          .append(column.isPartOfPrimaryKey()).append(" ")
+          .append(column.isPartOfIndex()).append("\n");
+      }
+      buffer.append("  primary key: ").append(table.getPrimaryKey())
+        .append("\n");
+      for (final Index index: table.getIndexes())
+      {
+        buffer.append("  index: ").append(index.getName()).append(" ")
+          .append(index.isUnique()).append(" ").append(index.getColumns())
+          .append("\n");
+      }
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        buffer.append("  foreign key: ").append(foreignKey.getName())
+          .append(" ").append(foreignKey.getColumnReferences()).append("\n");
+      }
+    }
+    for (final Routine routine: catalog.getRoutines())
+    {
+      buffer.append(routine.getFullName()).append(" ")
+        .append(routine.getRoutineType()).append("\n");
+      for (final RoutineColumn<?> column: routine.getColumns())
+      {
+        buffer.append("  column: ").append(column.getName()).append(" ")
+          .append(column.getColumnDataType()).append("\n");
+      }
+    }
+    return buffer.toString();
+  }
+
+  private static int queryCount(final Catalog catalog, final String phase)
+  {
+    for (final CrawlMetric crawlMetric: catalog.getCrawlInfo()
+      .getCrawlMetrics())
+    {
+      if (crawlMetric.getType() == CrawlMetricType.query
+          && crawlMetric.getPhase().equals(phase))
+      {
+        return crawlMetric.getCount();
+      }
+    }
+    return 0;
+  }
+
+  @Test
+  public void adaptiveRetrievalStrategy()
+    throws Exception
+  {
+    try (final Connection connection = DriverManager
+      .getConnection("jdbc:hsqldb:mem:adaptive_" + UUID.randomUUID(),
+                     "sa",
+                     "");)
+    {
+      new SyntheticSchemaCreator(connection, Dialect.hsqldb).withSeed(7)
+        .withTables(60).withColumns(6).run();
+
+      final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+        .builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+        .includeSchemas(Pattern.compile(".*\\.SYNTHETIC")).toOptions();
+
+      final SchemaRetrievalOptions schemaRetrievalOptions = SchemaRetrievalOptionsBuilder
+        .newSchemaRetrievalOptions();
+      final Catalog catalog = getCatalog(connection,
+                                         schemaRetrievalOptions,
+                                         schemaCrawlerOptions);
+      assertThat(catalog.getCrawlInfo().getRetrievalStrategyChoices()
+        .isEmpty(), is(true));
+
+      // The system view for JDBC column metadata can serve as a data
+      // dictionary query for table columns
+      final Map<String, String> informationSchemaViews = new HashMap<>();
+      informationSchemaViews
+        .put(InformationSchemaKey.TABLE_COLUMNS.getLookupKey(),
+             "SELECT * FROM INFORMATION_SCHEMA.SYSTEM_COLUMNS");
+      final SchemaRetrievalOptions adaptiveRetrievalOptions = SchemaRetrievalOptionsBuilder
+        .builder().withInformationSchemaViews(informationSchemaViews)
+        .withAdaptiveRetrievalStrategy(true).toOptions();
+      final Catalog adaptiveCatalog = getCatalog(connection,
+                                                 adaptiveRetrievalOptions,
+                                                 schemaCrawlerOptions);
+
+      assertThat(printCatalog(adaptiveCatalog),
+                 equalTo(printCatalog(catalog)));
+
+      final List<String> choices = new ArrayList<>();
+      for (final RetrievalStrategyChoice choice: adaptiveCatalog
+        .getCrawlInfo().getRetrievalStrategyChoices())
+      {
+        assertThat(choice.getReason().isEmpty(), is(false));
+        choices.add(choice.getPhase() + "=" + choice.getStrategy());
+      }
+      assertThat(choices.toString(),
+                 equalTo("[tablecolumns=data_dictionary_all, primarykeys=metadata, "
+                         + "indexes=metadata, foreignkeys=metadata]"));
+      assertThat(queryCount(adaptiveCatalog, "retrieveColumns"), is(1));
+
+      // Strategies that were set are kept, even when they are set to
+      // the default
+      final SchemaRetrievalOptions configuredRetrievalOptions = SchemaRetrievalOptionsBuilder
+        .builder().withInformationSchemaViews(informationSchemaViews)
+        .withTableColumnRetrievalStrategy(MetadataRetrievalStrategy.metadata)
+        .withAdaptiveRetrievalStrategy(true).toOptions();
+      final Catalog configuredCatalog = getCatalog(connection,
+                                                   configuredRetrievalOptions,
+                                                   schemaCrawlerOptions);
+      final RetrievalStrategyChoice tableColumnChoice = configuredCatalog
+        .getCrawlInfo().getRetrievalStrategyChoices().iterator().next();
+      assertThat(tableColumnChoice.getPhase(), equalTo("tablecolumns"));
+      assertThat(tableColumnChoice.getStrategy(), equalTo("metadata"));
+      assertThat(tableColumnChoice.getReason(), equalTo("it was configured"));
+    }
+  }
+
+  @Test
+  public void foreignKeysFromImportedKeys(final Connection connection)
+    throws Exception
+  {
+    final Config config = loadHsqldbConfig();
+    final SchemaRetrievalOptions schemaRetrievalOptions = SchemaRetrievalOptionsBuilder
+      .newSchemaRetrievalOptions(config);
+    // Foreign keys are retrieved table by table, with both imported and
+    // exported keys, since HSQLDB does not return foreign keys for a
+    // schema
+    final SchemaRetrievalOptions exportedKeysRetrievalOptions = SchemaRetrievalOptionsBuilder
+      .builder().fromConfig(config)
+      .withForeignKeyRetrievalStrategy(MetadataRetrievalStrategy.metadata_schema)
+      .toOptions();
+
+    // All tables, and all tables except for one that references other
+    // tables
+    final List<Pattern> tablePatterns = Arrays
+      .asList(Pattern.compile(".*"),
+              Pattern.compile(".*(?<!\\.BOOKAUTHORS)"));
+    for (final Pattern tablePattern: tablePatterns)
+    {
+      final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+        .builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+        .includeTables(tablePattern).toOptions();
+
+      final Catalog catalog = getCatalog(connection,
+                                         schemaRetrievalOptions,
+                                         schemaCrawlerOptions);
+      final Catalog exportedKeysCatalog = getCatalog(connection,
+                                                     exportedKeysRetrievalOptions,
+                                                     schemaCrawlerOptions);
+
+      final String catalogOutput = printCatalog(catalog);
+      assertThat(catalogOutput, containsString("BOOKAUTHORS.AUTHORID"));
+      assertThat(printCatalog(exportedKeysCatalog), equalTo(catalogOutput));
+      assertThat(queryCount(catalog, "retrieveForeignKeys"),
+                 is(lessThan(queryCount(exportedKeysCatalog,
+                                        "retrieveForeignKeys"))));
+
+      // Exported keys are not retrieved table by table, since only a
+      // few tables in the test database are not crawled
+      int tableCount = 0;
+      for (final Table table: catalog.getTables())
+      {
+        if (!(table instanceof View))
+        {
+          tableCount = tableCount + 1;
+        }
+      }
+      assertThat(queryCount(catalog, "retrieveForeignKeys"),
+                 is(lessThan(2 * tableCount)));
+    }
+  }
+
+  @Test
+  public void foreignKeysFromExportedKeysForSomeSchemas(final Connection connection)
+    throws Exception
+  {
+    final Config config = loadHsqldbConfig();
+    final SchemaRetrievalOptions schemaRetrievalOptions = SchemaRetrievalOptionsBuilder
+      .newSchemaRetrievalOptions(config);
+    final SchemaRetrievalOptions exportedKeysRetrievalOptions = SchemaRetrievalOptionsBuilder
+      .builder().fromConfig(config)
+      .withForeignKeyRetrievalStrategy(MetadataRetrievalStrategy.metadata_schema)
+      .toOptions();
+
+    // Tables in schemas that are not crawled could reference crawled
+    // tables, so tables that were not crawled are not listed, and
+    // exported keys are retrieved table by table
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+      .includeSchemas(Pattern.compile(".*\\.BOOKS")).toOptions();
+
+    final Catalog catalog = getCatalog(connection,
+                                       schemaRetrievalOptions,
+                                       schemaCrawlerOptions);
+    final Catalog exportedKeysCatalog = getCatalog(connection,
+                                                   exportedKeysRetrievalOptions,
+                                                   schemaCrawlerOptions);
+
+    final String catalogOutput = printCatalog(catalog);
+    assertThat(catalogOutput, containsString("BOOKAUTHORS.AUTHORID"));
+    assertThat(printCatalog(exportedKeysCatalog), equalTo(catalogOutput));
+
+    int tableCount = 0;
+    for (final Table table: catalog.getTables())
+    {
+      if (!(table instanceof View))
+      {
+        tableCount = tableCount + 1;
+      }
+    }
+    assertThat(queryCount(catalog, "retrieveForeignKeys"),
+               is(2 * tableCount));
+  }
+
+  @Test
+  public void metadataForEachSchema(final Connection connection)
+    throws Exception
+  {
+    final Config config = loadHsqldbConfig();
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+      .includeAllRoutines().toOptions();
+
+    final SchemaRetrievalOptions schemaRetrievalOptions = SchemaRetrievalOptionsBuilder
+      .newSchemaRetrievalOptions(config);
+    final Catalog catalog = getCatalog(connection,
+                                       schemaRetrievalOptions,
+                                       schemaCrawlerOptions);
+
+    final MetadataRetrievalStrategy strategy = MetadataRetrievalStrategy.metadata_schema;
+    final SchemaRetrievalOptions schemaStrategyRetrievalOptions = SchemaRetrievalOptionsBuilder
+      .builder().fromConfig(config).withTableRetrievalStrategy(strategy)
+      .withTableColumnRetrievalStrategy(strategy)
+      .withPrimaryKeyRetrievalStrategy(strategy)
+      .withIndexRetrievalStrategy(strategy)
+      .withForeignKeyRetrievalStrategy(strategy)
+      .withProcedureRetrievalStrategy(strategy)
+      .withProcedureColumnRetrievalStrategy(strategy)
+      .withFunctionRetrievalStrategy(strategy)
+      .withFunctionColumnRetrievalStrategy(strategy).toOptions();
+    final Catalog schemaStrategyCatalog = getCatalog(connection,
+                                                     schemaStrategyRetrievalOptions,
+                                                     schemaCrawlerOptions);
+
+    final String catalogOutput = printCatalog(catalog);
+    assertThat(catalog.getRoutines().isEmpty(), is(false));
+    assertThat(printCatalog(schemaStrategyCatalog), equalTo(catalogOutput));
+
+    // Table columns are retrieved with one call for each schema that
+    // has tables, instead of one call for each table
+    final Set<Schema> schemasWithTables = new HashSet<>();
+    for (final Table table: catalog.getTables())
+    {
+      schemasWithTables.add(table.getSchema());
+    }
+    assertThat(catalog.getTables().size(),
+               is(greaterThan(schemasWithTables.size())));
+    assertThat(queryCount(catalog, "retrieveColumns"),
+               is(catalog.getTables().size()));
+    assertThat(queryCount(schemaStrategyCatalog, "retrieveColumns"),
+               is(schemasWithTables.size()));
+  }
+
+}
@@ -0,0 +1,173 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static schemacrawler.test.utility.DatabaseTestUtility.loadHsqldbConfig;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.View;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.testdb.SyntheticSchemaCreator;
+import schemacrawler.testdb.SyntheticSchemaCreator.Dialect;
+
+public class SyntheticSchemaTest
+{
+
+  private static SyntheticSchemaCreator schemaCreator(final Connection connection,
+                                                      final long seed)
+  {
+    return new SyntheticSchemaCreator(connection, Dialect.hsqldb)
+      .withSeed(seed).withTables(60).withColumns(8)
+      .withForeignKeyDensity(1.5).withCycles(3).withIndexes(2).withViews(5)
+      .withTriggers(4).withRoutines(6).withRemarksLength(2000);
+  }
+
+  @Test
+  public void syntheticSchema()
+    throws Exception
+  {
+    try (final Connection connection = DriverManager
+      .getConnection("jdbc:hsqldb:mem:synthetic_" + UUID.randomUUID(),
+                     "sa",
+                     "");)
+    {
+      final SyntheticSchemaCreator schemaCreator = schemaCreator(connection,
+                                                                 42);
+      final List<String> sql = schemaCreator.generateSql();
+      schemaCreator.run();
+
+      final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+        .builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+        .includeSchemas(Pattern.compile(".*\\.SYNTHETIC"))
+        .includeAllRoutines().toOptions();
+      final Catalog catalog = new SchemaCrawler(connection,
+                                                SchemaRetrievalOptionsBuilder
+                                                  .newSchemaRetrievalOptions(loadHsqldbConfig()),
+                                                schemaCrawlerOptions).crawl();
+
+      // Tables, views, and the audit table for triggers
+      assertThat(catalog.getTables().size(), is(60 + 5 + 1));
+      int views = 0;
+      int triggers = 0;
+      final Set<ForeignKey> foreignKeys = new HashSet<>();
+      for (final Table table: catalog.getTables())
+      {
+        if (table instanceof View)
+        {
+          views++;
+        }
+        triggers = triggers + table.getTriggers().size();
+        foreignKeys.addAll(table.getForeignKeys());
+      }
+      assertThat(views, is(5));
+      assertThat(triggers, is(4));
+      assertThat(catalog.getRoutines().size(), is(6));
+      assertThat(foreignKeys.size(), is(count(sql, "FOREIGN KEY")));
+
+      boolean hasCycle = false;
+      for (final ForeignKey foreignKey: foreignKeys)
+      {
+        final Table fkTable = foreignKey.getColumnReferences().get(0)
+          .getForeignKeyColumn().getParent();
+        final Table pkTable = foreignKey.getColumnReferences().get(0)
+          .getPrimaryKeyColumn().getParent();
+        for (final ForeignKey otherForeignKey: pkTable.getImportedForeignKeys())
+        {
+          if (otherForeignKey.getColumnReferences().get(0)
+            .getPrimaryKeyColumn().getParent().equals(fkTable))
+          {
+            hasCycle = true;
+          }
+        }
+      }
+      assertThat("No foreign key cycles", hasCycle, is(true));
+
+      final Table table = catalog
+        .lookupTable(catalog.lookupSchema("PUBLIC.SYNTHETIC").get(), "T00001")
+        .get();
+      assertThat(table.getRemarks().length(), is(2000));
+
+      try (final Statement statement = connection.createStatement();)
+      {
+        statement.execute("SHUTDOWN");
+      }
+    }
+  }
+
+  @Test
+  public void syntheticSchemaIsSeeded()
+    throws Exception
+  {
+    try (final Connection connection = DriverManager
+      .getConnection("jdbc:hsqldb:mem:synthetic_" + UUID.randomUUID(),
+                     "sa",
+                     "");)
+    {
+      final List<String> sql = schemaCreator(connection, 42).generateSql();
+      assertThat(schemaCreator(connection, 42).generateSql(), equalTo(sql));
+      assertThat(schemaCreator(connection, 7).generateSql(),
+                 not(equalTo(sql)));
+    }
+  }
+
+  private int count(final List<String> sql, final String text)
+  {
+    int count = 0;
+    for (final String statementSql: sql)
+    {
+      if (statementSql.contains(text))
+      {
+        count++;
+      }
+    }
+    return count;
+  }
+
+}
@@ -33,6 +33,7 @@ import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -109,6 +110,57 @@ public class DirectedGraphTest
                  () -> Arrays.asList("E", "A", "D", "B", "C").toString());
   }
 
+  @Test
+  public void topologicalSortLargeGraph()
+    throws Exception
+  {
+    final int size = 20_000;
+    final DirectedGraph<Integer> graph = new DirectedGraph<>("");
+    for (int i = size - 1; i > 0; i--)
+    {
+      graph.addEdge(i - 1, i);
+    }
+    // A second root at each level, which must sort after the chain node
+    for (int i = 1; i < size; i++)
+    {
+      graph.addEdge(size + i - 1, size + i);
+    }
+
+    final List<Integer> sorted = topologicalSort(graph);
+    assertThat(sorted.size(), is(2 * size));
+    for (int i = 0; i < size; i++)
+    {
+      assertThat(sorted.get(2 * i), is(i));
+      assertThat(sorted.get(2 * i + 1), is(size + i));
+    }
+  }
+
+  @Test
+  public void topologicalSortLevels()
+    throws Exception
+  {
+    final DirectedGraph<String> graph = makeGraph();
+    graph.addEdge("F", "C");
+    graph.addEdge("E", "G");
+    graph.addVertex("AA");
+
+    assertThat(topologicalSort(graph),
+               is(Arrays.asList("A", "AA", "E", "F", "B", "D", "G", "C")));
+  }
+
+  @Test
+  public void topologicalSortCyclicalDownstream()
+    throws Exception
+  {
+    final DirectedGraph<String> graph = makeGraph();
+    graph.addEdge("B", "F");
+    graph.addEdge("F", "B");
+
+    assertThrows(GraphException.class, () -> topologicalSort(graph));
+    assertThat(containsCycleSimple(graph), is(true));
+    assertThat(containsCycleTarjan(graph), is(true));
+  }
+
   @Test
   public void toStringTest()
     throws Exception
@@ -0,0 +1,167 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.benchmarks;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.testdb.SyntheticSchemaCreator;
+import schemacrawler.testdb.SyntheticSchemaCreator.Dialect;
+
+/**
+ * In-process database for benchmarks, with a synthetic schema of a
+ * given number of tables, each with a given number of columns. The
+ * schema also has foreign keys, including a few cycles, indexes, views,
+ * triggers, routines and remarks, in proportion to the number of
+ * tables.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class BenchmarkDatabase
+  implements AutoCloseable
+{
+
+  private static final String SCHEMA_NAME = "SYNTHETIC";
+  private static final long SEED = 1;
+
+  private final String database;
+  private final Connection connection;
+  private final Path databaseFile;
+
+  /**
+   * Creates and populates a database.
+   *
+   * @param database
+   *        Database system, either hsqldb or sqlite
+   * @param tables
+   *        Number of tables
+   * @param columns
+   *        Number of columns in each table, besides the key columns
+   * @throws Exception
+   *         On an exception creating the database
+   */
+  public BenchmarkDatabase(final String database,
+                           final int tables,
+                           final int columns)
+    throws Exception
+  {
+    this.database = requireNonNull(database, "No database provided");
+    switch (database)
+    {
+      case "hsqldb":
+        databaseFile = null;
+        connection = DriverManager.getConnection("jdbc:hsqldb:mem:benchmark_"
+                                                 + UUID.randomUUID(),
+                                                 "sa",
+                                                 "");
+        break;
+      case "sqlite":
+        databaseFile = Files.createTempFile("benchmark", ".db");
+        connection = DriverManager.getConnection("jdbc:sqlite:"
+                                                 + databaseFile);
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown database, " + database);
+    }
+
+    final Dialect dialect = Dialect.valueOf(database);
+    new SyntheticSchemaCreator(connection, dialect).withSchemaName(SCHEMA_NAME)
+      .withSeed(SEED).withTables(tables).withColumns(columns)
+      .withForeignKeyDensity(1.5).withCycles(tables / 50).withIndexes(2)
+      .withViews(tables / 10).withTriggers(tables / 10)
+      .withRoutines(tables / 10).withRemarksLength(200).run();
+  }
+
+  @Override
+  public void close()
+    throws SQLException, IOException
+  {
+    if (databaseFile == null)
+    {
+      execute("SHUTDOWN");
+    }
+    connection.close();
+    if (databaseFile != null)
+    {
+      Files.deleteIfExists(databaseFile);
+    }
+  }
+
+  public Connection getConnection()
+  {
+    return connection;
+  }
+
+  /**
+   * Options to crawl the benchmark schema with maximum detail, and
+   * without the system schemas.
+   *
+   * @return SchemaCrawler options
+   */
+  public SchemaCrawlerOptions getSchemaCrawlerOptions()
+  {
+    final SchemaCrawlerOptionsBuilder optionsBuilder = SchemaCrawlerOptionsBuilder
+      .builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+      .includeAllRoutines();
+    if (databaseFile == null)
+    {
+      optionsBuilder.includeSchemas(new RegularExpressionInclusionRule(".*\\."
+                                                                       + SCHEMA_NAME));
+    }
+    return optionsBuilder.toOptions();
+  }
+
+  @Override
+  public String toString()
+  {
+    return database;
+  }
+
+  private void execute(final String sql)
+    throws SQLException
+  {
+    try (final Statement statement = connection.createStatement();)
+    {
+      statement.execute(sql);
+    }
+  }
+
+}
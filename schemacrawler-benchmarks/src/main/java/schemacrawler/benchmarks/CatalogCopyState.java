@@ -0,0 +1,63 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.benchmarks;
+
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import schemacrawler.schema.Catalog;
+
+/**
+ * Fresh copy of the benchmark catalog for each invocation, for
+ * benchmarks that change the catalog. The copy is made outside the
+ * measured time.
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Thread)
+public class CatalogCopyState
+{
+
+  private Catalog catalog;
+
+  public Catalog getCatalog()
+  {
+    return catalog;
+  }
+
+  @Setup(Level.Invocation)
+  public void setUp(final CatalogState catalogState)
+    throws Exception
+  {
+    catalog = catalogState.newCatalog();
+  }
+
+}
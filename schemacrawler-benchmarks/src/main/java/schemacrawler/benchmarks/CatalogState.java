@@ -0,0 +1,149 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.benchmarks;
+
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.tools.integration.serialization.JavaSerializedCatalog;
+import schemacrawler.tools.serialization.CompactSerializedCatalog;
+import schemacrawler.utility.SchemaCrawlerUtility;
+
+/**
+ * Benchmark database, and a catalog crawled from it, shared by all
+ * iterations of a benchmark. Benchmarks that change the catalog, for
+ * example by adding lints or weak associations, should use a fresh copy
+ * for each invocation.
+ *
+ * @author Sualeh Fatehi
+ */
+@State(Scope.Benchmark)
+public class CatalogState
+{
+
+  @Param({ "hsqldb", "sqlite" })
+  public String database;
+
+  @Param({ "100" })
+  public int tables;
+
+  @Param({ "10" })
+  public int columns;
+
+  private BenchmarkDatabase benchmarkDatabase;
+  private Catalog catalog;
+  private byte[] serializedCatalog;
+  private byte[] compactSerializedCatalog;
+  private byte[] compressedCompactSerializedCatalog;
+
+  public Catalog getCatalog()
+  {
+    return catalog;
+  }
+
+  public BenchmarkDatabase getBenchmarkDatabase()
+  {
+    return benchmarkDatabase;
+  }
+
+  /**
+   * Deserializes a fresh copy of the catalog.
+   *
+   * @return Copy of the catalog
+   * @throws Exception
+   *         On an exception
+   */
+  public Catalog newCatalog()
+    throws Exception
+  {
+    return new JavaSerializedCatalog(new ByteArrayInputStream(serializedCatalog));
+  }
+
+  public byte[] getSerializedCatalog()
+  {
+    return serializedCatalog;
+  }
+
+  /**
+   * Gets the catalog as a compact snapshot.
+   *
+   * @param compressed
+   *        Whether the snapshot is compressed
+   * @return Compact snapshot of the catalog
+   */
+  public byte[] getCompactSerializedCatalog(final boolean compressed)
+  {
+    if (compressed)
+    {
+      return compressedCompactSerializedCatalog;
+    }
+    else
+    {
+      return compactSerializedCatalog;
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setUp()
+    throws Exception
+  {
+    benchmarkDatabase = new BenchmarkDatabase(database, tables, columns);
+    catalog = SchemaCrawlerUtility
+      .getCatalog(benchmarkDatabase.getConnection(),
+                  benchmarkDatabase.getSchemaCrawlerOptions());
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new JavaSerializedCatalog(catalog).save(out);
+    serializedCatalog = out.toByteArray();
+
+    final ByteArrayOutputStream compactOut = new ByteArrayOutputStream();
+    new CompactSerializedCatalog(catalog, false).save(compactOut);
+    compactSerializedCatalog = compactOut.toByteArray();
+
+    final ByteArrayOutputStream compressedOut = new ByteArrayOutputStream();
+    new CompactSerializedCatalog(catalog, true).save(compressedOut);
+    compressedCompactSerializedCatalog = compressedOut.toByteArray();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown()
+    throws Exception
+  {
+    benchmarkDatabase.close();
+  }
+
+}
@@ -0,0 +1,134 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.benchmarks;
+
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.crawl.MetadataRetrievalStrategy;
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.CrawlMetric;
+import schemacrawler.schema.CrawlMetricType;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+
+/**
+ * Crawls the benchmark database with table columns retrieved by a data
+ * dictionary query, with different initial fetch sizes, with and
+ * without streaming results. The number of round trips to the database
+ * for each crawl is printed once the benchmark is done, since an
+ * in-process database does not show the network latency that each
+ * round trip costs against a database server.
+ *
+ * @author Sualeh Fatehi
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FetchSizeBenchmark
+{
+
+  @Param({ "1", "20", "1000" })
+  public int fetchSize;
+
+  @Param({ "false", "true" })
+  public boolean streamingResults;
+
+  private BenchmarkDatabase benchmarkDatabase;
+  private SchemaRetrievalOptions schemaRetrievalOptions;
+
+  @Benchmark
+  public Catalog crawl()
+    throws Exception
+  {
+    return new SchemaCrawler(benchmarkDatabase.getConnection(),
+                             schemaRetrievalOptions,
+                             benchmarkDatabase.getSchemaCrawlerOptions())
+                               .crawl();
+  }
+
+  @Setup(Level.Trial)
+  public void setUp()
+    throws Exception
+  {
+    benchmarkDatabase = new BenchmarkDatabase("hsqldb", 100, 10);
+
+    final Map<String, String> informationSchemaViews = new HashMap<>();
+    informationSchemaViews
+      .put(InformationSchemaKey.TABLE_COLUMNS.getLookupKey(),
+           "SELECT * FROM INFORMATION_SCHEMA.SYSTEM_COLUMNS");
+    schemaRetrievalOptions = SchemaRetrievalOptionsBuilder.builder()
+      .withInformationSchemaViews(informationSchemaViews)
+      .withTableColumnRetrievalStrategy(MetadataRetrievalStrategy.data_dictionary_all)
+      .withFetchSize(fetchSize).withStreamingResults(streamingResults)
+      .toOptions();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown()
+    throws Exception
+  {
+    long roundTrips = 0;
+    for (final CrawlMetric crawlMetric: crawl().getCrawlInfo()
+      .getCrawlMetrics())
+    {
+      if (crawlMetric.getType() == CrawlMetricType.query)
+      {
+        roundTrips = roundTrips + crawlMetric.getRoundTrips();
+      }
+    }
+    System.out.println(String
+      .format("%nRound trips for each crawl, with an initial fetch size of %d: %d",
+              fetchSize,
+              roundTrips));
+
+    benchmarkDatabase.close();
+  }
+
+}
@@ -0,0 +1,122 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import schemacrawler.schema.SchemaReference;
+
+/**
+ * Adds, looks up and sorts tables in a named object list, which backs
+ * every collection in the catalog.
+ *
+ * @author Sualeh Fatehi
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NamedObjectListBenchmark
+{
+
+  @Param({ "1000", "100000" })
+  public int size;
+
+  private List<MutableTable> tables;
+  private NamedObjectList<MutableTable> namedObjectList;
+
+  @Benchmark
+  public int add()
+  {
+    final NamedObjectList<MutableTable> list = new NamedObjectList<>();
+    for (final MutableTable table: tables)
+    {
+      list.add(table);
+    }
+    return list.size();
+  }
+
+  @Benchmark
+  public void lookup(final Blackhole blackhole)
+  {
+    for (final MutableTable table: tables)
+    {
+      blackhole.consume(namedObjectList.lookup(table.toUniqueLookupKey()));
+    }
+  }
+
+  @Setup
+  public void setUp()
+  {
+    final SchemaReference schema = new SchemaReference("CATALOG", "SCHEMA");
+    tables = new ArrayList<>(size);
+    for (int i = 0; i < size; i++)
+    {
+      tables.add(new MutableTable(schema, String.format("TABLE_%07d", i)));
+    }
+    // Add tables out of order, as they come from database metadata
+    Collections.shuffle(tables, new Random(size));
+
+    namedObjectList = new NamedObjectList<>();
+    for (final MutableTable table: tables)
+    {
+      namedObjectList.add(table);
+    }
+  }
+
+  @Benchmark
+  public int values()
+  {
+    // Adding a table clears the sorted values, so they are sorted again
+    final MutableTable table = tables.get(0);
+    namedObjectList.remove(table);
+    namedObjectList.add(table);
+    return namedObjectList.values().size();
+  }
+
+}
@@ -0,0 +1,100 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.analysis.associations;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Finds table name prefixes for synthetic table names, to show how
+ * finding prefixes scales with the number of tables.
+ *
+ * @author Sualeh Fatehi
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TableMatchKeysBenchmark
+{
+
+  private static final String[] PREFIXES = {
+    "tbl_", "app_core_", "app_audit_", "x__", "_sys_", "A_", "a_", "" };
+  private static final String[] WORDS = {
+    "customers", "orders", "order_items", "invoices", "Addresses",
+    "people", "status", "_", "__", "line_items_", "categories" };
+
+  @Param({ "1000", "10000", "100000" })
+  public int size;
+
+  private List<String> tableNames;
+
+  @Benchmark
+  public int findTableNamePrefixes()
+  {
+    return TableMatchKeys.findTableNamePrefixes(tableNames).size();
+  }
+
+  @Setup
+  public void setUp()
+  {
+    final Random random = new Random(size);
+    tableNames = new ArrayList<>(size);
+    for (int i = 0; i < size; i++)
+    {
+      final String prefix = PREFIXES[random.nextInt(PREFIXES.length)];
+      final String word = WORDS[random.nextInt(WORDS.length)];
+      if (random.nextInt(4) == 0)
+      {
+        tableNames.add(prefix + word);
+      }
+      else
+      {
+        tableNames.add(prefix + word + "_" + random.nextInt(size));
+      }
+    }
+  }
+
+}
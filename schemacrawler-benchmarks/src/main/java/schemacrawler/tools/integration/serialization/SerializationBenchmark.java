@@ -0,0 +1,135 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.serialization;
+
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.benchmarks.CatalogState;
+import schemacrawler.schema.Catalog;
+import schemacrawler.tools.serialization.CompactSerializedCatalog;
+
+/**
+ * Serializes the benchmark catalog, and reads it back, with Java
+ * serialization, and as a compact snapshot, with and without
+ * compression. The size of each snapshot, compared with Java
+ * serialization, is printed once the benchmark is done.
+ *
+ * @author Sualeh Fatehi
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark
+{
+
+  @Param({ "java", "compact", "compact_compressed" })
+  public String format;
+
+  @Benchmark
+  public Catalog load(final CatalogState catalogState)
+    throws Exception
+  {
+    final ByteArrayInputStream in = new ByteArrayInputStream(snapshot(catalogState));
+    if (format.equals("java"))
+    {
+      return new JavaSerializedCatalog(in);
+    }
+    else
+    {
+      return new CompactSerializedCatalog(in);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void printSnapshotSize(final CatalogState catalogState)
+  {
+    final int size = snapshot(catalogState).length;
+    final int javaSize = catalogState.getSerializedCatalog().length;
+    System.out.println(String
+      .format("%nSnapshot size for %s, %s: %,d bytes, %.0f%% of the size with Java serialization",
+              catalogState.database,
+              format,
+              size,
+              100.0 * size / javaSize));
+  }
+
+  @Benchmark
+  public int save(final CatalogState catalogState)
+    throws Exception
+  {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    switch (format)
+    {
+      case "compact":
+        new CompactSerializedCatalog(catalogState.getCatalog(), false)
+          .save(out);
+        break;
+      case "compact_compressed":
+        new CompactSerializedCatalog(catalogState.getCatalog(), true)
+          .save(out);
+        break;
+      default:
+        new JavaSerializedCatalog(catalogState.getCatalog()).save(out);
+        break;
+    }
+    return out.size();
+  }
+
+  private byte[] snapshot(final CatalogState catalogState)
+  {
+    switch (format)
+    {
+      case "compact":
+        return catalogState.getCompactSerializedCatalog(false);
+      case "compact_compressed":
+        return catalogState.getCompactSerializedCatalog(true);
+      default:
+        return catalogState.getSerializedCatalog();
+    }
+  }
+
+}
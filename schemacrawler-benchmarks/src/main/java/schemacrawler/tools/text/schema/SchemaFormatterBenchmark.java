@@ -0,0 +1,128 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.schema;
+
+
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.benchmarks.CatalogState;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.tools.integration.graph.GraphOptionsBuilder;
+import schemacrawler.tools.integration.graph.GraphOutputFormat;
+import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.options.OutputOptionsBuilder;
+import schemacrawler.tools.options.TextOutputFormat;
+import schemacrawler.tools.traversal.SchemaTraversalHandler;
+import schemacrawler.tools.traversal.SchemaTraverser;
+import schemacrawler.utility.NamedObjectSort;
+
+/**
+ * Traverses the benchmark catalog with the text, JSON and DOT
+ * formatters, writing the output to memory.
+ *
+ * @author Sualeh Fatehi
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaFormatterBenchmark
+{
+
+  @Param({ "text", "json", "dot" })
+  public String format;
+
+  @Benchmark
+  public int format(final CatalogState catalogState)
+    throws Exception
+  {
+    final StringWriter writer = new StringWriter();
+
+    final SchemaTraverser traverser = new SchemaTraverser();
+    traverser.setCatalog(catalogState.getCatalog());
+    traverser.setHandler(newFormatter(writer));
+    traverser.setTablesComparator(NamedObjectSort.alphabetical);
+    traverser.setRoutinesComparator(NamedObjectSort.alphabetical);
+    traverser.traverse();
+
+    return writer.getBuffer().length();
+  }
+
+  private SchemaTraversalHandler newFormatter(final StringWriter writer)
+    throws SchemaCrawlerException
+  {
+    final SchemaTextDetailType detailType = SchemaTextDetailType.details;
+    final String identifierQuoteString = "\"";
+    switch (format)
+    {
+      case "json":
+        return new SchemaJsonFormatter(detailType,
+                                       SchemaTextOptionsBuilder
+                                         .newSchemaTextOptions(),
+                                       outputOptions(TextOutputFormat.json
+                                         .getFormat(), writer),
+                                       identifierQuoteString);
+      case "dot":
+        return new SchemaDotFormatter(detailType,
+                                      GraphOptionsBuilder.newGraphOptions(),
+                                      outputOptions(GraphOutputFormat.scdot
+                                        .getFormat(), writer),
+                                      identifierQuoteString);
+      default:
+        return new SchemaTextFormatter(detailType,
+                                       SchemaTextOptionsBuilder
+                                         .newSchemaTextOptions(),
+                                       outputOptions(TextOutputFormat.text
+                                         .getFormat(), writer),
+                                       identifierQuoteString);
+    }
+  }
+
+  private OutputOptions outputOptions(final String outputFormatValue,
+                                      final StringWriter writer)
+  {
+    return OutputOptionsBuilder.builder()
+      .withOutputFormatValue(outputFormatValue).withOutputWriter(writer)
+      .toOptions();
+  }
+
+}
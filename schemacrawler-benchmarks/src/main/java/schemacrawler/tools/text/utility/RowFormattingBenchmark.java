@@ -0,0 +1,190 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.utility;
+
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.tools.options.TextOutputFormat;
+import schemacrawler.tools.text.utility.html.Alignment;
+import schemacrawler.tools.text.utility.html.TableCell;
+import schemacrawler.tools.text.utility.html.TableRow;
+import sf.util.Color;
+
+/**
+ * Formats rows of data, either written straight to the output, or
+ * built up as a table row of cells, and writes them to an output that
+ * discards them.
+ *
+ * @author Sualeh Fatehi
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RowFormattingBenchmark
+{
+
+  private static final class NullWriter
+    extends Writer
+  {
+
+    @Override
+    public void close()
+    {
+    }
+
+    @Override
+    public void flush()
+    {
+    }
+
+    @Override
+    public void write(final char[] cbuf, final int off, final int len)
+    {
+    }
+
+    @Override
+    public void write(final String str, final int off, final int len)
+    {
+    }
+
+  }
+
+  private static final int ROW_COUNT = 1_000;
+
+  @Param({ "text", "tsv", "html" })
+  public String format;
+
+  private TextOutputFormat outputFormat;
+  private PrintWriter out;
+  private TextFormattingHelper formattingHelper;
+  private Object[][] rows;
+
+  @Setup
+  public void setUp()
+  {
+    outputFormat = TextOutputFormat.valueOf(format);
+    out = new PrintWriter(new NullWriter());
+    if (outputFormat == TextOutputFormat.html)
+    {
+      formattingHelper = new HtmlFormattingHelper(out, outputFormat);
+    }
+    else
+    {
+      formattingHelper = new PlainTextFormattingHelper(out, outputFormat);
+    }
+
+    rows = new Object[ROW_COUNT][];
+    for (int i = 0; i < ROW_COUNT; i++)
+    {
+      rows[i] = new Object[] {
+        i,
+        "Name <" + i + "> & more",
+        i % 7 == 0? null: new BigDecimal(i).movePointLeft(2),
+        new BinaryData("abc" + i),
+        new BinaryData(),
+        "" };
+    }
+  }
+
+  @Benchmark
+  public void tableRows()
+  {
+    final TextOutputFormat rowOutputFormat;
+    if (outputFormat == TextOutputFormat.text)
+    {
+      rowOutputFormat = TextOutputFormat.tsv;
+    }
+    else
+    {
+      rowOutputFormat = outputFormat;
+    }
+    for (final Object[] columnData: rows)
+    {
+      final TableRow row = new TableRow(rowOutputFormat);
+      for (final Object element: columnData)
+      {
+        final String styleClass;
+        if (element == null)
+        {
+          styleClass = "data_null";
+        }
+        else if (element instanceof BinaryData)
+        {
+          styleClass = "data_binary";
+        }
+        else if (element instanceof Number)
+        {
+          styleClass = "data_number";
+        }
+        else
+        {
+          styleClass = "";
+        }
+        row.add(new TableCell(element == null? null: element.toString(),
+                              true,
+                              0,
+                              Alignment.inherit,
+                              false,
+                              styleClass,
+                              Color.white,
+                              1,
+                              rowOutputFormat));
+      }
+      out.println(row.toString());
+    }
+  }
+
+  @Benchmark
+  public void writtenRows()
+  {
+    for (final Object[] columnData: rows)
+    {
+      formattingHelper.writeRow(columnData);
+    }
+  }
+
+}
@@ -39,6 +39,7 @@ import picocli.CommandLine;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.Config;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.tools.commandline.shell.AvailableCommandsCommand;
 import schemacrawler.tools.commandline.state.SchemaCrawlerShellState;
@@ -141,6 +142,10 @@ public class ExecuteCommand
       executable.setSchemaRetrievalOptions(schemaRetrievalOptions);
 
       executable.setConnection(connection);
+      if (connection != null)
+      {
+        executable.setConnectionSource(this::newConnection);
+      }
       executable.setCatalog(catalog);
 
       executable.execute();
@@ -169,4 +174,18 @@ public class ExecuteCommand
     }
   }
 
+  private Connection newConnection()
+  {
+    try
+    {
+      return state.getDataSource().getConnection();
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerRuntimeException(
+        "Could not open an additional database connection",
+        e);
+    }
+  }
+
 }
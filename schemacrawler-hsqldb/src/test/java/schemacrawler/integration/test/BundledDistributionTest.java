@@ -51,7 +51,7 @@ public class BundledDistributionTest
     final Connection connection = null;
     assertThat(databaseSystemIdentifier
       .getSchemaRetrievalOptionsBuilder(connection).toOptions()
-      .getInformationSchemaViews().size(), is(11));
+      .getInformationSchemaViews().size(), is(12));
   }
 
   @Test
@@ -43,6 +43,8 @@ import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
 import schemacrawler.tools.analysis.associations.CatalogWithAssociations;
 import schemacrawler.tools.analysis.counts.CatalogWithCounts;
+import schemacrawler.tools.analysis.counts.TableRowCountsOptions;
+import schemacrawler.tools.analysis.counts.TableRowCountsOptionsBuilder;
 import schemacrawler.tools.executable.BaseSchemaCrawlerCommand;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.options.OutputOptionsBuilder;
@@ -110,9 +112,13 @@ public final class GraphRenderer
     if (graphOptions.isShowRowCounts() || schemaCrawlerOptions
       .isNoEmptyTables())
     {
+      final TableRowCountsOptions countsOptions = TableRowCountsOptionsBuilder
+        .newTableRowCountsOptions(additionalConfiguration);
       aCatalog = new CatalogWithCounts(aCatalog,
                                        connection,
-                                       schemaCrawlerOptions);
+                                       connectionSource,
+                                       schemaCrawlerOptions,
+                                       countsOptions);
     }
 
     // Set the format, in case we are using the default
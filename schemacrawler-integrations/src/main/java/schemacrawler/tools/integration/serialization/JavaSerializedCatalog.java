@@ -40,6 +40,7 @@ import java.util.Optional;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.BaseCatalogDecorator;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.tools.serialization.SerializableCatalog;
 
 /**
  * Decorates a database to allow for serialization to and from plain
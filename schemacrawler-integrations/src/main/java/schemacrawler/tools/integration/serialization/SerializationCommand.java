@@ -37,6 +37,8 @@ import java.nio.file.Paths;
 import java.util.UUID;
 
 import schemacrawler.tools.executable.BaseSchemaCrawlerCommand;
+import schemacrawler.tools.serialization.CompactSerializedCatalog;
+import schemacrawler.tools.serialization.SerializableCatalog;
 
 /**
  * Main executor for the graphing integration.
@@ -49,6 +51,8 @@ public final class SerializationCommand
 
   static final String COMMAND = "serialize";
 
+  private static final String COMPRESS = "schemacrawler.serialize.compress";
+
   public SerializationCommand()
   {
     this(COMMAND);
@@ -82,7 +86,10 @@ public final class SerializationCommand
              String.format("schemacrawler-%s.%s", UUID.randomUUID(), "data")))
       .normalize().toAbsolutePath();
 
-    final SerializableCatalog serializableCatalog = new JavaSerializedCatalog(catalog);
+    final boolean compressed = additionalConfiguration
+      .getBooleanValue(COMPRESS, false);
+    final SerializableCatalog serializableCatalog = new CompactSerializedCatalog(catalog,
+                                                                               compressed);
     try (final OutputStream out = newOutputStream(outputFile);)
     {
       serializableCatalog.save(out);
@@ -33,6 +33,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static schemacrawler.utility.SchemaCrawlerUtility.getCatalog;
@@ -44,16 +46,21 @@ import java.io.ObjectOutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.test.utility.DatabaseTestUtility;
 import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
 import schemacrawler.test.utility.TestLoggingExtension;
+import schemacrawler.tools.integration.serialization.JavaSerializedCatalog;
+import schemacrawler.tools.serialization.CompactSerializedCatalog;
 import sf.util.IOUtility;
 
 @ExtendWith(TestLoggingExtension.class)
@@ -107,4 +114,71 @@ public class CatalogSerializationTest
                hasSize(10));
   }
 
+  @Test
+  public void catalogSerializationWithCompactFormat(final Connection connection)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+
+    final Catalog catalog = getCatalog(connection, schemaCrawlerOptions);
+    assertThat("Could not obtain catalog", catalog, notNullValue());
+
+    final Path javaOutputFile = IOUtility
+      .createTempFilePath("sc_java_serialization", "ser");
+    try (final FileOutputStream out = new FileOutputStream(javaOutputFile
+      .toFile());)
+    {
+      new JavaSerializedCatalog(catalog).save(out);
+    }
+
+    for (final boolean compressed: new boolean[] { true, false })
+    {
+      final Path testOutputFile = IOUtility
+        .createTempFilePath("sc_compact_serialization", "ser");
+      try (final FileOutputStream out = new FileOutputStream(testOutputFile
+        .toFile());)
+      {
+        new CompactSerializedCatalog(catalog, compressed).save(out);
+      }
+      assertThat("Catalog snapshot is not smaller than Java serialization",
+                 Files.size(testOutputFile),
+                 lessThan(Files.size(javaOutputFile)));
+
+      final Catalog catalogDeserialized;
+      try (final FileInputStream in = new FileInputStream(testOutputFile
+        .toFile());)
+      {
+        catalogDeserialized = new CompactSerializedCatalog(in);
+      }
+      assertThat("Catalog was not round-tripped",
+                 tableSummary(catalogDeserialized),
+                 is(tableSummary(catalog)));
+    }
+
+    // Snapshots created with plain Java serialization can still be read
+    final Catalog catalogDeserialized;
+    try (final FileInputStream in = new FileInputStream(javaOutputFile
+      .toFile());)
+    {
+      catalogDeserialized = new CompactSerializedCatalog(in);
+    }
+    assertThat("Catalog was not round-tripped",
+               tableSummary(catalogDeserialized),
+               is(tableSummary(catalog)));
+  }
+
+  private List<String> tableSummary(final Catalog catalog)
+  {
+    final List<String> summary = new ArrayList<>();
+    for (final Table table: catalog.getTables())
+    {
+      summary.add(String.format("%s: %d columns, %d indexes, %d foreign keys",
+                                table.getFullName(),
+                                table.getColumns().size(),
+                                table.getIndexes().size(),
+                                table.getForeignKeys().size()));
+    }
+    return summary;
+  }
+
 }
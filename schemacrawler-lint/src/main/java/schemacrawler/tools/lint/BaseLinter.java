@@ -98,6 +98,19 @@ public abstract class BaseLinter
     addLint(table, message, value);
   }
 
+  /**
+   * Whether tables can be linted at the same time, each with its own
+   * connection. Linters that keep no state across tables, and that run
+   * slow queries for each table, can override this to allow concurrent
+   * linting.
+   *
+   * @return Whether tables can be linted concurrently
+   */
+  protected boolean canLintTablesConcurrently()
+  {
+    return false;
+  }
+
   protected void end(final Connection connection)
     throws SchemaCrawlerException
   {
@@ -181,12 +194,43 @@ public abstract class BaseLinter
     this.catalog = requireNonNull(catalog, "No catalog provided");
 
     start(connection);
+    for (final Table table: getTablesToLint(catalog))
+    {
+      lint(table, connection);
+    }
+    end(connection);
+    this.catalog = null;
+  }
+
+  @Override
+  final void lint(final Catalog catalog,
+                  final LinterConnectionPool connectionPool)
+    throws SchemaCrawlerException
+  {
+    if (!canLintTablesConcurrently())
+    {
+      super.lint(catalog, connectionPool);
+      return;
+    }
+
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+
+    final Connection connection = connectionPool.getConnection();
+    start(connection);
+    connectionPool.lintConcurrently(getTablesToLint(catalog), this::lint);
+    end(connection);
+    this.catalog = null;
+  }
+
+  private List<Table> getTablesToLint(final Catalog catalog)
+  {
+    final List<Table> tables = new ArrayList<>();
     for (final Table table: catalog.getTables())
     {
       if (tableInclusionRule.test(table.getFullName())
           && tableTypesFilter.test(table))
       {
-        lint(table, connection);
+        tables.add(table);
       }
       else
       {
@@ -196,8 +240,7 @@ public abstract class BaseLinter
                                     getLinterId()));
       }
     }
-    end(connection);
-    this.catalog = null;
+    return tables;
   }
 
   private final void setColumnInclusionRule(final InclusionRule columnInclusionRule)
@@ -65,8 +65,17 @@ public final class LintCollector
     lints = new ArrayList<>();
   }
 
-  public <N extends NamedObject & AttributedObject> void addLint(final N namedObject,
-                                                                 final Lint<?> lint)
+  /**
+   * Adds a lint, and attaches it to the object that was linted. Lints
+   * can be added by several linters at the same time.
+   *
+   * @param namedObject
+   *        Object that was linted
+   * @param lint
+   *        Lint for the object
+   */
+  public synchronized <N extends NamedObject & AttributedObject> void addLint(final N namedObject,
+                                                                              final Lint<?> lint)
   {
     if (namedObject != null && lint != null
         && namedObject.getFullName().equals(lint.getObjectName()))
@@ -80,14 +89,17 @@ public final class LintCollector
     }
   }
 
+  /**
+   * Iterates over a sorted copy of the lints collected so far.
+   */
   @Override
-  public Iterator<Lint<? extends Serializable>> iterator()
+  public synchronized Iterator<Lint<? extends Serializable>> iterator()
   {
     lints.sort(naturalOrder());
-    return lints.iterator();
+    return new ArrayList<>(lints).iterator();
   }
 
-  public int size()
+  public synchronized int size()
   {
     return lints.size();
   }
@@ -33,6 +33,7 @@ import static sf.util.DatabaseUtility.checkConnection;
 
 import java.sql.Connection;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 import schemacrawler.schema.Catalog;
@@ -56,6 +57,16 @@ public final class LintedCatalog
                        final Connection connection,
                        final Linters linters)
     throws SchemaCrawlerException
+  {
+    this(catalog, connection, null, linters, 1);
+  }
+
+  public LintedCatalog(final Catalog catalog,
+                       final Connection connection,
+                       final Supplier<Connection> connectionSource,
+                       final Linters linters,
+                       final int parallelism)
+    throws SchemaCrawlerException
   {
     super(catalog);
 
@@ -71,7 +82,7 @@ public final class LintedCatalog
     }
 
     requireNonNull(linters, "No linters provided");
-    linters.lint(catalog, connection);
+    linters.lint(catalog, connection, connectionSource, parallelism);
     collector = linters.getCollector();
   }
 
@@ -32,6 +32,7 @@ import static sf.util.IOUtility.readResourceFully;
 
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 
 import schemacrawler.schema.AttributedObject;
@@ -58,17 +59,18 @@ public abstract class Linter
   private LintCollector collector;
   private LintSeverity severity;
   private int threshold;
-  private int lintCount;
+  private final AtomicInteger lintCount;
 
   protected Linter()
   {
     severity = LintSeverity.medium; // default value
     threshold = Integer.MAX_VALUE; // default value
+    lintCount = new AtomicInteger();
   }
 
   public final boolean exceedsThreshold()
   {
-    return lintCount > threshold;
+    return lintCount.get() > threshold;
   }
 
   /**
@@ -102,7 +104,7 @@ public abstract class Linter
    */
   public final int getLintCount()
   {
-    return lintCount;
+    return lintCount.get();
   }
 
   /**
@@ -151,6 +153,20 @@ public abstract class Linter
                          getSummary());
   }
 
+  /**
+   * Whether this linter runs queries against the database. Linters
+   * that use the connection are run on their own connections when
+   * linting concurrently. Linters that only look at the catalog can
+   * extend {@link BaseCatalogLinter}, so that they are run at the same
+   * time as other linters.
+   *
+   * @return Whether the linter uses the database connection
+   */
+  public boolean usesConnection()
+  {
+    return true;
+  }
+
   protected final <N extends NamedObject & AttributedObject, V extends Serializable> void addLint(final N namedObject,
                                                                                                   final String message,
                                                                                                   final V value)
@@ -169,7 +185,7 @@ public abstract class Linter
                                       message,
                                       value);
       collector.addLint(namedObject, lint);
-      lintCount = lintCount + 1;
+      lintCount.incrementAndGet();
     }
   }
 
@@ -213,6 +229,12 @@ public abstract class Linter
   abstract void lint(Catalog catalog, Connection connection)
     throws SchemaCrawlerException;
 
+  void lint(final Catalog catalog, final LinterConnectionPool connectionPool)
+    throws SchemaCrawlerException
+  {
+    lint(catalog, connectionPool.getConnection());
+  }
+
   final void setLintCollector(final LintCollector lintCollector)
   {
     collector = lintCollector;
@@ -0,0 +1,178 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.lint;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import sf.util.ConnectionPool;
+import sf.util.DaemonThreadFactory;
+
+/**
+ * A bounded set of database connections for linters that run queries.
+ * The connection that linting was started with is always reused, and
+ * additional connections are only opened from the connection source as
+ * they are needed.
+ *
+ * @author Sualeh Fatehi
+ */
+final class LinterConnectionPool
+  implements AutoCloseable
+{
+
+  /**
+   * Lints one item, such as a table, using a connection that no other
+   * task is using at the same time.
+   */
+  @FunctionalInterface
+  interface LintTask<T>
+  {
+
+    void lint(T item, Connection connection)
+      throws SchemaCrawlerException;
+
+  }
+
+  private final ConnectionPool connectionPool;
+
+  LinterConnectionPool(final Connection connection,
+                       final Supplier<Connection> connectionSource,
+                       final int parallelism)
+  {
+    connectionPool = new ConnectionPool(connection,
+                                        connectionSource,
+                                        parallelism);
+  }
+
+  /**
+   * Closes connections that were opened from the connection source.
+   * The connection that linting was started with is not closed.
+   */
+  @Override
+  public void close()
+  {
+    connectionPool.close();
+  }
+
+  /**
+   * Runs a lint task for each item, on as many threads and connections
+   * as the parallelism allows. Returns once all items are linted, or
+   * rethrows the first failure, in item order.
+   *
+   * @param items
+   *        Items to lint, which must be independent of each other
+   * @param task
+   *        Lint task
+   * @throws SchemaCrawlerException
+   *         On an exception from any one of the tasks
+   */
+  <T> void lintConcurrently(final List<T> items, final LintTask<T> task)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(items, "No items provided");
+    requireNonNull(task, "No lint task provided");
+
+    final int threadCount = Math
+      .min(connectionPool.getMaximumConnections(), items.size());
+    if (threadCount <= 1)
+    {
+      for (final T item: items)
+      {
+        task.lint(item, getConnection());
+      }
+      return;
+    }
+
+    final ExecutorService executorService = Executors
+      .newFixedThreadPool(threadCount,
+                          new DaemonThreadFactory("schemacrawler-lint"));
+    try
+    {
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (final T item: items)
+      {
+        futures.add(executorService.submit(() -> {
+          final Connection taskConnection = connectionPool.acquire();
+          try
+          {
+            task.lint(item, taskConnection);
+          }
+          finally
+          {
+            connectionPool.release(taskConnection);
+          }
+          return null;
+        }));
+      }
+
+      for (final Future<Void> future: futures)
+      {
+        future.get();
+      }
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerException("Interrupted while linting", e);
+    }
+    catch (final ExecutionException e)
+    {
+      final Throwable cause = e.getCause();
+      if (cause instanceof SchemaCrawlerException)
+      {
+        throw (SchemaCrawlerException) cause;
+      }
+      throw new SchemaCrawlerException("Could not lint", cause);
+    }
+    finally
+    {
+      executorService.shutdownNow();
+    }
+  }
+
+  /**
+   * The connection that linting was started with.
+   *
+   * @return Database connection, which may be null
+   */
+  Connection getConnection()
+  {
+    return connectionPool.getConnection();
+  }
+
+}
@@ -32,6 +32,11 @@ import static java.util.Objects.requireNonNull;
 
 import java.sql.Connection;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 import schemacrawler.schema.Catalog;
@@ -194,12 +199,76 @@ public final class Linters
   public void lint(final Catalog catalog, final Connection connection)
     throws SchemaCrawlerException
   {
+    lint(catalog, connection, null, 1);
+  }
+
+  /**
+   * Lints the catalog, running up to the given number of linters, or
+   * tables for linters that allow it, at the same time. Linters that do
+   * not use the database connection are run together on a fork-join
+   * pool, and then linters that run queries are run one after another,
+   * with their tables spread over a bounded set of connections. Lints
+   * are sorted when they are read from the collector, so the results
+   * are the same regardless of the parallelism.
+   *
+   * @param catalog
+   *        Catalog to lint
+   * @param connection
+   *        Database connection, which may be null for offline catalogs
+   * @param connectionSource
+   *        Optional source of additional connections to the same
+   *        database
+   * @param parallelism
+   *        Maximum number of concurrent linting tasks
+   * @throws SchemaCrawlerException
+   *         On an exception from a linter
+   */
+  public void lint(final Catalog catalog,
+                   final Connection connection,
+                   final Supplier<Connection> connectionSource,
+                   final int parallelism)
+    throws SchemaCrawlerException
+  {
+    if (parallelism <= 1)
+    {
+      for (final Linter linter : linters)
+      {
+        LOGGER.log(Level.FINE,
+                   new StringFormat("Linting with <%s>",
+                                    linter.getLinterInstanceId()));
+        linter.lint(catalog, connection);
+      }
+      return;
+    }
+
+    final List<Linter> catalogLinters = new ArrayList<>();
+    final List<Linter> connectionLinters = new ArrayList<>();
     for (final Linter linter : linters)
     {
-      LOGGER.log(Level.FINE,
-                 new StringFormat("Linting with <%s>",
-                                  linter.getLinterInstanceId()));
-      linter.lint(catalog, connection);
+      if (linter.usesConnection())
+      {
+        connectionLinters.add(linter);
+      }
+      else
+      {
+        catalogLinters.add(linter);
+      }
+    }
+
+    lintConcurrently(catalogLinters, catalog, connection, parallelism);
+
+    try (final LinterConnectionPool connectionPool = new LinterConnectionPool(
+      connection,
+      connectionSource,
+      parallelism);)
+    {
+      for (final Linter linter : connectionLinters)
+      {
+        LOGGER.log(Level.FINE,
+                   new StringFormat("Linting with <%s>",
+                                    linter.getLinterInstanceId()));
+        linter.lint(catalog, connectionPool);
+      }
     }
   }
 
@@ -219,6 +288,57 @@ public final class Linters
     return linters.toString();
   }
 
+  private void lintConcurrently(final List<Linter> catalogLinters,
+                                final Catalog catalog,
+                                final Connection connection,
+                                final int parallelism)
+    throws SchemaCrawlerException
+  {
+    if (catalogLinters.isEmpty())
+    {
+      return;
+    }
+
+    final List<Callable<Void>> tasks = new ArrayList<>();
+    for (final Linter linter : catalogLinters)
+    {
+      tasks.add(() -> {
+        LOGGER.log(Level.FINE,
+                   new StringFormat("Linting with <%s>",
+                                    linter.getLinterInstanceId()));
+        linter.lint(catalog, connection);
+        return null;
+      });
+    }
+
+    final ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism);
+    try
+    {
+      for (final Future<Void> future : forkJoinPool.invokeAll(tasks))
+      {
+        future.get();
+      }
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerException("Interrupted while linting", e);
+    }
+    catch (final ExecutionException e)
+    {
+      final Throwable cause = e.getCause();
+      if (cause instanceof SchemaCrawlerException)
+      {
+        throw (SchemaCrawlerException) cause;
+      }
+      throw new SchemaCrawlerException("Could not lint", cause);
+    }
+    finally
+    {
+      forkJoinPool.shutdown();
+    }
+  }
+
   private Linter newLinter(final String linterId)
   {
     final Linter linter = registry.newLinter(linterId);
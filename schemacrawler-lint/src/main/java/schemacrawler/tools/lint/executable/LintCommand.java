@@ -78,7 +78,10 @@ public class LintCommand
 
     final LintedCatalog lintedCatalog = new LintedCatalog(catalog,
                                                           connection,
-                                                          linters);
+                                                          connectionSource,
+                                                          linters,
+                                                          lintOptions
+                                                            .getParallelism());
 
     generateReport(lintedCatalog);
 
@@ -37,6 +37,7 @@ public class LintOptions
 
   private final String linterConfigs;
   private final LintDispatch lintDispatch;
+  private final int parallelism;
   private final boolean runAllLinters;
 
   public LintOptions(final LintOptionsBuilder builder)
@@ -44,6 +45,7 @@ public class LintOptions
     super(builder);
     linterConfigs = builder.linterConfigs;
     lintDispatch = builder.lintDispatch;
+    parallelism = builder.parallelism;
     runAllLinters = builder.runAllLinters;
   }
 
@@ -77,4 +79,15 @@ public class LintOptions
     return lintDispatch;
   }
 
+  /**
+   * Gets the maximum number of linters, or tables, to lint at the same
+   * time.
+   *
+   * @return Lint parallelism.
+   */
+  public int getParallelism()
+  {
+    return parallelism;
+  }
+
 }
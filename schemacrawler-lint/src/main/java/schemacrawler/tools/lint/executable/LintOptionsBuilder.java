@@ -48,6 +48,9 @@ public final class LintOptionsBuilder
   private static final String LINT_DISPATCH =
     SCHEMACRAWLER_LINT_PREFIX + CLI_LINT_DISPATCH;
 
+  private static final String PARALLELISM =
+    SCHEMACRAWLER_LINT_PREFIX + "parallelism";
+
   private static final String CLI_RUN_ALL_LINTERS = "runalllinters";
   private static final String RUN_ALL_LINTERS =
     SCHEMACRAWLER_LINT_PREFIX + CLI_RUN_ALL_LINTERS;
@@ -74,12 +77,14 @@ public final class LintOptionsBuilder
 
   protected String linterConfigs;
   protected LintDispatch lintDispatch;
+  protected int parallelism;
   protected boolean runAllLinters;
 
   private LintOptionsBuilder()
   {
     linterConfigs = "";
     lintDispatch = LintDispatch.none;
+    parallelism = 1;
     runAllLinters = true;
   }
 
@@ -133,6 +138,8 @@ public final class LintOptionsBuilder
     }
     runAllLinters = config.getBooleanValue(runAllLintersKey, true);
 
+    withParallelism(config.getIntegerValue(PARALLELISM, 1));
+
     return this;
   }
 
@@ -147,6 +154,7 @@ public final class LintOptionsBuilder
 
     linterConfigs = options.getLinterConfigs();
     lintDispatch = options.getLintDispatch();
+    parallelism = options.getParallelism();
     runAllLinters = options.isRunAllLinters();
 
     return this;
@@ -158,6 +166,7 @@ public final class LintOptionsBuilder
     final Config config = super.toConfig();
     config.setStringValue(LINTER_CONFIGS, linterConfigs);
     config.setEnumValue(LINT_DISPATCH, lintDispatch);
+    config.setStringValue(PARALLELISM, String.valueOf(parallelism));
     config.setBooleanValue(RUN_ALL_LINTERS, runAllLinters);
     return config;
   }
@@ -200,6 +209,16 @@ public final class LintOptionsBuilder
     return this;
   }
 
+  /**
+   * With the number of linters, or tables, to lint at the same time.
+   * Values less than one mean one.
+   */
+  public LintOptionsBuilder withParallelism(final int parallelism)
+  {
+    this.parallelism = Math.max(1, parallelism);
+    return this;
+  }
+
   /**
    * With value for running all linters.
    */
@@ -40,11 +40,11 @@ import schemacrawler.schema.Column;
 import schemacrawler.schema.ColumnDataType;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
-import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.BaseCatalogLinter;
 import sf.util.Multimap;
 
 public class LinterColumnTypes
-  extends BaseLinter
+  extends BaseCatalogLinter
 {
 
   private Multimap<String, ColumnDataType> columnTypes;
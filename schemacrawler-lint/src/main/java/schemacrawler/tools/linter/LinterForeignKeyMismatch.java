@@ -39,11 +39,11 @@ import schemacrawler.schema.ForeignKey;
 import schemacrawler.schema.ForeignKeyColumnReference;
 import schemacrawler.schema.Table;
 import schemacrawler.schema.View;
-import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.BaseCatalogLinter;
 import schemacrawler.tools.lint.LintSeverity;
 
 public class LinterForeignKeyMismatch
-  extends BaseLinter
+  extends BaseCatalogLinter
 {
 
   public LinterForeignKeyMismatch()
@@ -41,11 +41,11 @@ import java.util.List;
 import schemacrawler.schema.ForeignKey;
 import schemacrawler.schema.Table;
 import schemacrawler.schema.View;
-import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.BaseCatalogLinter;
 import schemacrawler.tools.lint.LintSeverity;
 
 public class LinterForeignKeyWithNoIndexes
-  extends BaseLinter
+  extends BaseCatalogLinter
 {
 
   public LinterForeignKeyWithNoIndexes()
@@ -39,10 +39,10 @@ import schemacrawler.crawl.NotLoadedException;
 import schemacrawler.schema.Index;
 import schemacrawler.schema.IndexColumn;
 import schemacrawler.schema.Table;
-import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.BaseCatalogLinter;
 
 public class LinterNullColumnsInIndex
-  extends BaseLinter
+  extends BaseCatalogLinter
 {
 
   @Override
@@ -38,10 +38,10 @@ import java.util.List;
 import schemacrawler.filter.TableTypesFilter;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.Table;
-import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.BaseCatalogLinter;
 
 public class LinterNullIntendedColumns
-  extends BaseLinter
+  extends BaseCatalogLinter
 {
 
   public LinterNullIntendedColumns()
@@ -43,12 +43,12 @@ import java.util.Set;
 import schemacrawler.filter.TableTypesFilter;
 import schemacrawler.schema.Index;
 import schemacrawler.schema.Table;
-import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.BaseCatalogLinter;
 import schemacrawler.tools.lint.LintSeverity;
 import schemacrawler.utility.MetaDataUtility;
 
 public class LinterRedundantIndexes
-  extends BaseLinter
+  extends BaseCatalogLinter
 {
 
   public LinterRedundantIndexes()
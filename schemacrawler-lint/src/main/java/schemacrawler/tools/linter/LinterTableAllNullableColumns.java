@@ -36,10 +36,10 @@ import java.util.Collection;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.Table;
 import schemacrawler.schema.View;
-import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.BaseCatalogLinter;
 
 public class LinterTableAllNullableColumns
-  extends BaseLinter
+  extends BaseCatalogLinter
 {
 
   @Override
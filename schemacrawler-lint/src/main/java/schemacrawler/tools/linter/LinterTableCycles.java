@@ -39,12 +39,12 @@ import schemacrawler.schema.ForeignKey;
 import schemacrawler.schema.ForeignKeyColumnReference;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
-import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.BaseCatalogLinter;
 import sf.util.graph.DirectedGraph;
 import sf.util.graph.TarjanStronglyConnectedComponentFinder;
 
 public class LinterTableCycles
-  extends BaseLinter
+  extends BaseCatalogLinter
 {
 
   private DirectedGraph<Table> tablesGraph;
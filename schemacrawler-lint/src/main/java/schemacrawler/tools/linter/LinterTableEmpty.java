@@ -64,6 +64,12 @@ public class LinterTableEmpty
     return "empty table";
   }
 
+  @Override
+  protected boolean canLintTablesConcurrently()
+  {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
@@ -73,8 +79,7 @@ public class LinterTableEmpty
     final Query query = new Query("Count", "SELECT COUNT(*) FROM ${table}");
     try
     {
-      final Identifiers identifiers = Identifiers.identifiers()
-        .withConnection(connection).build();
+      final Identifiers identifiers = Identifiers.fromConnection(connection);
       final long count = executeForLong(query, connection, table, identifiers);
       if (count == 0)
       {
@@ -61,6 +61,12 @@ public class LinterTableSql
     return message;
   }
 
+  @Override
+  protected boolean canLintTablesConcurrently()
+  {
+    return true;
+  }
+
   @Override
   protected void configure(final Config config)
   {
@@ -93,8 +99,7 @@ public class LinterTableSql
     final Query query = new Query(message, sql);
     try
     {
-      final Identifiers identifiers = Identifiers.identifiers()
-        .withConnection(connection).build();
+      final Identifiers identifiers = Identifiers.fromConnection(connection);
       final Object queryResult = executeForScalar(query,
                                                   connection,
                                                   table,
@@ -42,10 +42,10 @@ import schemacrawler.schemacrawler.IncludeAll;
 import schemacrawler.schemacrawler.InclusionRule;
 import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
-import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.BaseCatalogLinter;
 
 public class LinterTableWithBadlyNamedColumns
-  extends BaseLinter
+  extends BaseCatalogLinter
 {
 
   private InclusionRule columnNames;
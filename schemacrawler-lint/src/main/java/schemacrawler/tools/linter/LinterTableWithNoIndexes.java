@@ -34,10 +34,10 @@ import java.util.Collection;
 import schemacrawler.filter.TableTypesFilter;
 import schemacrawler.schema.Index;
 import schemacrawler.schema.Table;
-import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.BaseCatalogLinter;
 
 public class LinterTableWithNoIndexes
-  extends BaseLinter
+  extends BaseCatalogLinter
 {
 
   public LinterTableWithNoIndexes()
@@ -36,7 +36,7 @@ import java.util.List;
 
 import schemacrawler.schema.Column;
 import schemacrawler.schema.Table;
-import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.BaseCatalogLinter;
 import schemacrawler.tools.lint.LintSeverity;
 
 /**
@@ -45,7 +45,7 @@ import schemacrawler.tools.lint.LintSeverity;
  * @author Michèle Barré, Sualeh Fatehi
  */
 public class LinterTableWithNoRemarks
-  extends BaseLinter
+  extends BaseCatalogLinter
 {
 
   public LinterTableWithNoRemarks()
@@ -35,11 +35,11 @@ import java.sql.Connection;
 import schemacrawler.filter.TableTypesFilter;
 import schemacrawler.schema.PrimaryKey;
 import schemacrawler.schema.Table;
-import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.BaseCatalogLinter;
 import schemacrawler.tools.lint.LintSeverity;
 
 public class LinterTableWithNoSurrogatePrimaryKey
-  extends BaseLinter
+  extends BaseCatalogLinter
 {
 
   public LinterTableWithNoSurrogatePrimaryKey()
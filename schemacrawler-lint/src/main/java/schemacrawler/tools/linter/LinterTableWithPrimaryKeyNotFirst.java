@@ -36,11 +36,11 @@ import schemacrawler.filter.TableTypesFilter;
 import schemacrawler.schema.IndexColumn;
 import schemacrawler.schema.PrimaryKey;
 import schemacrawler.schema.Table;
-import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.BaseCatalogLinter;
 import schemacrawler.tools.lint.LintSeverity;
 
 public class LinterTableWithPrimaryKeyNotFirst
-  extends BaseLinter
+  extends BaseCatalogLinter
 {
 
   public LinterTableWithPrimaryKeyNotFirst()
@@ -38,11 +38,11 @@ import java.util.List;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
-import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.BaseCatalogLinter;
 import schemacrawler.utility.Identifiers;
 
 public class LinterTableWithQuotedNames
-  extends BaseLinter
+  extends BaseCatalogLinter
 {
 
   @Override
@@ -60,8 +60,7 @@ public class LinterTableWithQuotedNames
     Identifiers identifiers;
     try
     {
-      identifiers = Identifiers.identifiers().withConnection(connection)
-        .build();
+      identifiers = Identifiers.fromConnection(connection);
     }
     catch (final SQLException e)
     {
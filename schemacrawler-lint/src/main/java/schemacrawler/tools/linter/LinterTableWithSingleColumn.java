@@ -35,10 +35,10 @@ import java.util.List;
 
 import schemacrawler.schema.Column;
 import schemacrawler.schema.Table;
-import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.BaseCatalogLinter;
 
 public class LinterTableWithSingleColumn
-  extends BaseLinter
+  extends BaseCatalogLinter
 {
 
   @Override
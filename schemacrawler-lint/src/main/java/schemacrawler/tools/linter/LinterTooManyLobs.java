@@ -38,11 +38,11 @@ import schemacrawler.schema.Column;
 import schemacrawler.schema.JavaSqlTypeGroup;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.Config;
-import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.BaseCatalogLinter;
 import schemacrawler.tools.lint.LintSeverity;
 
 public class LinterTooManyLobs
-  extends BaseLinter
+  extends BaseCatalogLinter
 {
 
   private int maxLargeObjectsInTable;
@@ -29,19 +29,30 @@ http://www.gnu.org/licenses/
 package schemacrawler.test;
 
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static schemacrawler.test.utility.FileHasContent.*;
 import static schemacrawler.utility.SchemaCrawlerUtility.getCatalog;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Schema;
 import schemacrawler.schemacrawler.*;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
 import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
 import schemacrawler.test.utility.TestWriter;
 import schemacrawler.tools.lint.*;
@@ -52,6 +63,33 @@ public class LintTest
 
   private static final String LINTS_OUTPUT = "lints_output/";
 
+  /**
+   * Wraps a connection so that creating a statement on it waits until
+   * an additional connection is opened, which only happens if another
+   * lint task runs a query at the same time.
+   */
+  private static Connection blockingConnection(final Connection connection,
+                                               final CountDownLatch additionalConnectionOpened)
+  {
+    return (Connection) Proxy
+      .newProxyInstance(LintTest.class.getClassLoader(),
+                        new Class<?>[] { Connection.class },
+                        (proxy, method, args) -> {
+                          if (method.getName().endsWith("Statement"))
+                          {
+                            additionalConnectionOpened.await(10, SECONDS);
+                          }
+                          try
+                          {
+                            return method.invoke(connection, args);
+                          }
+                          catch (final InvocationTargetException e)
+                          {
+                            throw e.getCause();
+                          }
+                        });
+  }
+
   @Test
   public void lints(final Connection connection)
     throws Exception
@@ -150,6 +188,87 @@ public class LintTest
                  LINTS_OUTPUT + "schemacrawler.lints.excluded_columns.txt")));
   }
 
+  @Test
+  public void parallelLints(final Connection connection,
+                            final DatabaseConnectionInfo connectionInfo)
+    throws Exception
+  {
+    final SchemaCrawlerOptionsBuilder schemaCrawlerOptionsBuilder = SchemaCrawlerOptionsBuilder
+      .builder().tableTypes(Arrays.asList("TABLE", "VIEW", "GLOBAL TEMPORARY"))
+      .includeSchemas(new RegularExpressionInclusionRule(".*FOR_LINT"));
+    final SchemaCrawlerOptions schemaCrawlerOptions = schemaCrawlerOptionsBuilder
+      .toOptions();
+
+    final Catalog catalog = getCatalog(connection, schemaCrawlerOptions);
+    assertThat(catalog, notNullValue());
+
+    final LinterConfigs linterConfigs = new LinterConfigs(new Config());
+    final LinterConfig linterConfig = new LinterConfig(
+      "schemacrawler.tools.linter.LinterTableWithBadlyNamedColumns");
+    linterConfig.setThreshold(0);
+    linterConfig.put("bad-column-names", ".*\\.COUNTRY");
+    linterConfigs.add(linterConfig);
+
+    final Linters linters = new Linters(linterConfigs, true);
+
+    final List<Connection> connections = Collections
+      .synchronizedList(new ArrayList<>());
+    final CountDownLatch additionalConnectionOpened = new CountDownLatch(1);
+    final Supplier<Connection> connectionSource = () -> {
+      try
+      {
+        final Connection parallelConnection = DriverManager
+          .getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+        connections.add(parallelConnection);
+        additionalConnectionOpened.countDown();
+        return parallelConnection;
+      }
+      catch (final SQLException e)
+      {
+        throw new SchemaCrawlerRuntimeException(e.getMessage(), e);
+      }
+    };
+    final LintedCatalog lintedDatabase = new LintedCatalog(catalog,
+                                                           blockingConnection(connection,
+                                                                              additionalConnectionOpened),
+                                                           connectionSource,
+                                                           linters,
+                                                           4);
+    final LintCollector lintCollector = lintedDatabase.getCollector();
+    assertThat(lintCollector.size(), is(51));
+
+    assertThat("Lint tasks did not run at the same time",
+               additionalConnectionOpened.getCount(),
+               is(0L));
+    for (final Connection parallelConnection : connections)
+    {
+      assertThat("Connection was not closed",
+                 parallelConnection.isClosed(),
+                 is(true));
+    }
+
+    final TestWriter testout1 = new TestWriter();
+    try (final TestWriter out = testout1)
+    {
+      for (final Lint<?> lint : lintCollector)
+      {
+        out.println(lint);
+      }
+    }
+    assertThat(outputOf(testout1),
+               hasSameContentAs(classpathResource(
+                 LINTS_OUTPUT + "schemacrawler.lints.txt")));
+
+    final TestWriter testout2 = new TestWriter();
+    try (final TestWriter out = testout2)
+    {
+      out.println(linters.getLintSummary());
+    }
+    assertThat(outputOf(testout2),
+               hasSameContentAs(classpathResource(
+                 LINTS_OUTPUT + "schemacrawler.lints.summary.txt")));
+  }
+
   @Test
   public void runNoLinters(final Connection connection)
     throws Exception
@@ -1,7 +1,6 @@
 package schemacrawler.tools.offline;
 
 
-import java.io.FileInputStream;
 import java.nio.file.Path;
 import java.sql.Connection;
 import java.util.logging.Level;
@@ -9,8 +8,8 @@ import java.util.logging.Level;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.*;
 import schemacrawler.tools.catalogloader.CatalogLoader;
-import schemacrawler.tools.integration.serialization.JavaSerializedCatalog;
 import schemacrawler.tools.offline.jdbc.OfflineConnection;
+import schemacrawler.tools.serialization.CompactSerializedCatalog;
 import sf.util.SchemaCrawlerLogger;
 
 public final class OfflineCatalogLoader
@@ -28,6 +27,7 @@ public final class OfflineCatalogLoader
                  "Offline database connection not provided for the offline snapshot");
     }
   }
+
   private final String databaseSystemIdentifier;
   private Config additionalConfiguration;
   private Connection connection;
@@ -93,10 +93,7 @@ public final class OfflineCatalogLoader
     }
 
     final Path offlineDatabasePath = dbConnection.getOfflineDatabasePath();
-    final FileInputStream inputFileStream = new FileInputStream(
-      offlineDatabasePath.toFile());
-    final JavaSerializedCatalog catalog = new JavaSerializedCatalog(
-      inputFileStream);
+    final CompactSerializedCatalog catalog = new CompactSerializedCatalog(offlineDatabasePath);
     return catalog;
   }
 
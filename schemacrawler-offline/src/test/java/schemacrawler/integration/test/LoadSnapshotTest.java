@@ -54,6 +54,9 @@ import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.test.utility.DatabaseTestUtility;
 import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
 import schemacrawler.tools.integration.serialization.JavaSerializedCatalog;
+import schemacrawler.tools.offline.OfflineCatalogLoader;
+import schemacrawler.tools.offline.jdbc.OfflineConnection;
+import schemacrawler.tools.serialization.CompactSerializedCatalog;
 import sf.util.IOUtility;
 
 @ExtendWith(TestDatabaseConnectionParameterResolver.class)
@@ -66,9 +69,12 @@ public class LoadSnapshotTest
   public void loadSnapshot()
     throws Exception
   {
-    final FileInputStream inputFileStream = new FileInputStream(serializedCatalogFile
-      .toFile());
-    final JavaSerializedCatalog serializedCatalog = new JavaSerializedCatalog(inputFileStream);
+    final JavaSerializedCatalog serializedCatalog;
+    try (final FileInputStream inputFileStream = new FileInputStream(serializedCatalogFile
+      .toFile());)
+    {
+      serializedCatalog = new JavaSerializedCatalog(inputFileStream);
+    }
 
     final Schema schema = serializedCatalog.lookupSchema("PUBLIC.BOOKS")
       .orElse(null);
@@ -78,6 +84,31 @@ public class LoadSnapshotTest
                hasSize(10));
   }
 
+  @Test
+  public void loadCompactSnapshot()
+    throws Exception
+  {
+    final Path compactCatalogFile = IOUtility
+      .createTempFilePath("schemacrawler", "ser");
+    try (final FileInputStream in = new FileInputStream(serializedCatalogFile
+      .toFile());
+        final FileOutputStream out = new FileOutputStream(compactCatalogFile
+          .toFile());)
+    {
+      new CompactSerializedCatalog(new JavaSerializedCatalog(in)).save(out);
+    }
+
+    final OfflineCatalogLoader catalogLoader = new OfflineCatalogLoader();
+    catalogLoader.setConnection(new OfflineConnection(compactCatalogFile));
+    final Catalog catalog = catalogLoader.loadCatalog();
+
+    final Schema schema = catalog.lookupSchema("PUBLIC.BOOKS").orElse(null);
+    assertThat("Could not obtain schema", schema, notNullValue());
+    assertThat("Unexpected number of tables in the schema",
+               catalog.getTables(schema),
+               hasSize(10));
+  }
+
   @BeforeEach
   public void serializeCatalog(final Connection connection)
     throws SchemaCrawlerException, IOException
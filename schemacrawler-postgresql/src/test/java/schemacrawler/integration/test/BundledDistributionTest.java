@@ -53,7 +53,7 @@ public class BundledDistributionTest
       .lookupDatabaseConnector("postgresql");
     assertThat(databaseSystemIdentifier
       .getSchemaRetrievalOptionsBuilder(connection).toOptions()
-      .getInformationSchemaViews().size(), is(8));
+      .getInformationSchemaViews().size(), is(9));
   }
 
   @Test
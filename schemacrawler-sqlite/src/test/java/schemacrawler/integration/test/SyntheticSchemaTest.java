@@ -0,0 +1,97 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.integration.test;
+
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.View;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.BaseSqliteTest;
+import schemacrawler.test.utility.TestLoggingExtension;
+import schemacrawler.testdb.SyntheticSchemaCreator;
+import schemacrawler.testdb.SyntheticSchemaCreator.Dialect;
+import schemacrawler.utility.SchemaCrawlerUtility;
+import sf.util.IOUtility;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@ExtendWith(TestLoggingExtension.class)
+public class SyntheticSchemaTest
+    extends BaseSqliteTest
+{
+
+  @Test
+  public void syntheticSchema()
+      throws Exception
+  {
+    final Path sqliteDbFile = IOUtility.createTempFilePath("sc", ".db")
+        .normalize().toAbsolutePath();
+
+    try (final Connection connection = createConnection(sqliteDbFile))
+    {
+      new SyntheticSchemaCreator(connection, Dialect.sqlite).withSeed(42)
+          .withTables(60).withColumns(8).withForeignKeyDensity(1.5)
+          .withCycles(3).withIndexes(2).withViews(5).withTriggers(4).run();
+
+      final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+          .builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+          .toOptions();
+      final Catalog catalog = SchemaCrawlerUtility
+          .getCatalog(connection, schemaCrawlerOptions);
+
+      // Tables, views, and the audit table for triggers
+      assertThat(catalog.getTables().size(), is(60 + 5 + 1));
+      int views = 0;
+      int foreignKeys = 0;
+      for (final Table table : catalog.getTables())
+      {
+        if (table instanceof View)
+        {
+          views++;
+        }
+        foreignKeys = foreignKeys + table.getImportedForeignKeys().size();
+        if (table.getName().startsWith("T"))
+        {
+          assertThat(table.getIndexes().size(), is(2));
+        }
+      }
+      assertThat(views, is(5));
+      assertThat(foreignKeys > 60, is(true));
+    }
+  }
+
+}
@@ -0,0 +1,9 @@
+SELECT
+  DB_NAME() AS TABLE_CATALOG,
+  SCHEMA_NAME(OBJECTS.SCHEMA_ID) AS TABLE_SCHEMA,
+  OBJECTS.NAME AS TABLE_NAME,
+  DATEDIFF(SECOND, OBJECTS.MODIFY_DATE, GETDATE()) AS SECONDS_SINCE_CHANGE
+FROM
+  SYS.OBJECTS OBJECTS
+WHERE
+  OBJECTS.TYPE IN ('U', 'V')
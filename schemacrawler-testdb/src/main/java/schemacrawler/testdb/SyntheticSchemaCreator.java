@@ -0,0 +1,594 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.testdb;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Creates a large synthetic schema for scale tests and benchmarks. The
+ * schema has a given number of tables, each with a primary key and a
+ * given number of data columns, foreign keys between tables, indexes,
+ * views, triggers, routines and long remarks. The schema is generated
+ * from a seed, so the same settings always create the same schema.
+ * <p>
+ * Foreign keys reference earlier tables, so they form no cycles,
+ * except for the requested number of pairs of tables that reference
+ * each other. Triggers write to an additional audit table. SQLite does
+ * not support routines or remarks, so they are only created for
+ * HyperSQL.
+ *
+ * @author Sualeh Fatehi
+ */
+public class SyntheticSchemaCreator
+  implements Runnable
+{
+
+  public enum Dialect
+  {
+    hsqldb,
+    sqlite;
+  }
+
+  private static final Logger LOGGER = Logger
+    .getLogger(SyntheticSchemaCreator.class.getName());
+
+  private static final String[] HSQLDB_DATA_TYPES = {
+                                                      "INTEGER",
+                                                      "BIGINT",
+                                                      "VARCHAR(%d)",
+                                                      "DECIMAL(12, 2)",
+                                                      "DATE",
+                                                      "TIMESTAMP",
+                                                      "BOOLEAN",
+                                                      "CLOB" };
+  private static final String[] SQLITE_DATA_TYPES = {
+                                                      "INTEGER",
+                                                      "BIGINT",
+                                                      "VARCHAR(%d)",
+                                                      "DECIMAL(12, 2)",
+                                                      "DATE",
+                                                      "TIMESTAMP",
+                                                      "BOOLEAN",
+                                                      "TEXT" };
+  private static final String[] WORDS = {
+                                          "account",
+                                          "balance",
+                                          "customer",
+                                          "delivery",
+                                          "invoice",
+                                          "ledger",
+                                          "order",
+                                          "payment",
+                                          "product",
+                                          "region",
+                                          "shipment",
+                                          "supplier",
+                                          "tracks",
+                                          "records",
+                                          "the",
+                                          "of",
+                                          "for",
+                                          "each" };
+
+  public static void main(final String[] args)
+    throws Exception
+  {
+    final String connectionUrl = args[0];
+    final String user = args[1];
+    final String password = args[2];
+    final Dialect dialect = Dialect.valueOf(args[3]);
+    final int tables = Integer.parseInt(args[4]);
+    final int columns = Integer.parseInt(args[5]);
+    final long seed = args.length > 6? Long.parseLong(args[6]): 0;
+
+    try (final Connection connection = DriverManager
+      .getConnection(connectionUrl, user, password))
+    {
+      new SyntheticSchemaCreator(connection, dialect).withTables(tables)
+        .withColumns(columns).withSeed(seed).run();
+    }
+  }
+
+  private final Connection connection;
+  private final Dialect dialect;
+  private String schemaName;
+  private long seed;
+  private int tables;
+  private int columns;
+  private double foreignKeyDensity;
+  private int cycles;
+  private int indexes;
+  private int views;
+  private int triggers;
+  private int routines;
+  private int remarksLength;
+
+  /**
+   * Creates a synthetic schema creator, with defaults of 100 tables of
+   * 10 columns, one foreign key and one index for each table, and no
+   * cycles, views, triggers, routines or remarks.
+   *
+   * @param connection
+   *        Connection to the database to create the schema in
+   * @param dialect
+   *        Database dialect
+   */
+  public SyntheticSchemaCreator(final Connection connection,
+                                final Dialect dialect)
+  {
+    this.connection = requireNonNull(connection,
+                                     "No database connection provided");
+    this.dialect = requireNonNull(dialect, "No dialect provided");
+
+    schemaName = "SYNTHETIC";
+    tables = 100;
+    columns = 10;
+    foreignKeyDensity = 1;
+    indexes = 1;
+  }
+
+  /**
+   * Generates the SQL statements to create the schema, in the order in
+   * which they need to run.
+   *
+   * @return SQL statements
+   */
+  public List<String> generateSql()
+  {
+    final Random random = new Random(seed);
+    final List<String> sql = new ArrayList<>();
+
+    if (dialect == Dialect.hsqldb)
+    {
+      sql.add(String.format("CREATE SCHEMA %s AUTHORIZATION DBA", schemaName));
+    }
+
+    // Plan foreign keys, which reference earlier tables, and then add
+    // pairs of tables that reference each other
+    final List<List<Integer>> foreignKeys = new ArrayList<>();
+    for (int table = 1; table <= tables; table++)
+    {
+      final List<Integer> referencedTables = new ArrayList<>();
+      if (table > 1)
+      {
+        final int wholeForeignKeys = (int) foreignKeyDensity;
+        final boolean extraForeignKey = random
+          .nextDouble() < foreignKeyDensity - wholeForeignKeys;
+        final int tableForeignKeys = wholeForeignKeys
+                                     + (extraForeignKey? 1: 0);
+        for (int i = 0; i < tableForeignKeys; i++)
+        {
+          referencedTables.add(1 + random.nextInt(table - 1));
+        }
+      }
+      foreignKeys.add(referencedTables);
+    }
+    for (int i = 0; i < cycles && tables > 1; i++)
+    {
+      final int table = 1 + random.nextInt(tables - 1);
+      final int otherTable = table + 1 + random.nextInt(tables - table);
+      foreignKeys.get(table - 1).add(otherTable);
+      foreignKeys.get(otherTable - 1).add(table);
+    }
+
+    final String[] dataTypes = dialect == Dialect.hsqldb? HSQLDB_DATA_TYPES
+                                                        : SQLITE_DATA_TYPES;
+    for (int table = 1; table <= tables; table++)
+    {
+      final List<Integer> referencedTables = foreignKeys.get(table - 1);
+      final StringBuilder createTable = new StringBuilder(64 * columns);
+      createTable.append("CREATE TABLE ").append(tableName(table))
+        .append(" (ID INTEGER NOT NULL PRIMARY KEY");
+      for (int column = 1; column <= columns; column++)
+      {
+        final String dataType = String
+          .format(dataTypes[random.nextInt(dataTypes.length)],
+                  10 + random.nextInt(245));
+        createTable.append(", ").append(columnName(column)).append(" ")
+          .append(dataType);
+      }
+      for (int i = 1; i <= referencedTables.size(); i++)
+      {
+        createTable.append(", ").append(foreignKeyColumnName(i))
+          .append(" INTEGER");
+      }
+      // SQLite cannot add foreign keys later, but allows references to
+      // tables that are created later
+      if (dialect == Dialect.sqlite)
+      {
+        for (int i = 1; i <= referencedTables.size(); i++)
+        {
+          createTable.append(", ")
+            .append(foreignKey(table, i, referencedTables.get(i - 1)));
+        }
+      }
+      createTable.append(")");
+      sql.add(createTable.toString());
+
+      for (int i = 1; i <= indexes && columns > 0; i++)
+      {
+        final String unique = random.nextInt(5) == 0? "UNIQUE ": "";
+        final StringBuilder indexColumns = new StringBuilder(
+          columnName(1 + random.nextInt(columns)));
+        if (columns > 1 && random.nextBoolean())
+        {
+          String secondColumn;
+          do
+          {
+            secondColumn = columnName(1 + random.nextInt(columns));
+          }
+          while (indexColumns.toString().equals(secondColumn));
+          indexColumns.append(", ").append(secondColumn);
+        }
+        sql.add(String.format("CREATE %sINDEX %s ON %s (%s)",
+                              unique,
+                              qualify(String.format("IDX_T%05d_%02d", table, i)),
+                              tableName(table),
+                              indexColumns));
+      }
+
+      if (remarksLength > 0 && dialect == Dialect.hsqldb)
+      {
+        sql.add(String.format("COMMENT ON TABLE %s IS '%s'",
+                              tableName(table),
+                              remarks(random)));
+        if (columns > 0)
+        {
+          sql.add(String.format("COMMENT ON COLUMN %s.%s IS '%s'",
+                                tableName(table),
+                                columnName(1),
+                                remarks(random)));
+        }
+      }
+    }
+
+    if (dialect == Dialect.hsqldb)
+    {
+      for (int table = 1; table <= tables; table++)
+      {
+        final List<Integer> referencedTables = foreignKeys.get(table - 1);
+        for (int i = 1; i <= referencedTables.size(); i++)
+        {
+          sql.add(String.format("ALTER TABLE %s ADD %s",
+                                tableName(table),
+                                foreignKey(table,
+                                           i,
+                                           referencedTables.get(i - 1))));
+        }
+      }
+    }
+
+    for (int view = 1; view <= views && tables > 0; view++)
+    {
+      final int table = 1 + random.nextInt(tables);
+      final List<Integer> referencedTables = foreignKeys.get(table - 1);
+      final String select;
+      if (referencedTables.isEmpty())
+      {
+        select = String.format("SELECT T.* FROM %s T", tableName(table));
+      }
+      else
+      {
+        select = String
+          .format("SELECT T.ID, P.ID AS PARENT_ID FROM %s T LEFT JOIN %s P ON T.%s = P.ID",
+                  tableName(table),
+                  tableName(referencedTables.get(0)),
+                  foreignKeyColumnName(1));
+      }
+      sql.add(String.format("CREATE VIEW %s AS %s",
+                            qualify(String.format("V%05d", view)),
+                            select));
+    }
+
+    if (triggers > 0 && tables > 0)
+    {
+      final String auditTable = qualify("AUDIT_LOG");
+      if (dialect == Dialect.hsqldb)
+      {
+        sql.add(String
+          .format("CREATE TABLE %s (ID INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, TABLE_NAME VARCHAR(20))",
+                  auditTable));
+      }
+      else
+      {
+        sql.add(String
+          .format("CREATE TABLE %s (ID INTEGER PRIMARY KEY, TABLE_NAME VARCHAR(20))",
+                  auditTable));
+      }
+      final String[] events = { "INSERT", "UPDATE", "DELETE" };
+      for (int trigger = 1; trigger <= triggers; trigger++)
+      {
+        final int table = 1 + random.nextInt(tables);
+        final String insertAudit = String
+          .format("INSERT INTO %s (TABLE_NAME) VALUES ('T%05d')",
+                  auditTable,
+                  table);
+        final String createTrigger = String
+          .format("CREATE TRIGGER %s AFTER %s ON %s FOR EACH ROW",
+                  qualify(String.format("TRG%05d", trigger)),
+                  events[random.nextInt(events.length)],
+                  tableName(table));
+        if (dialect == Dialect.hsqldb)
+        {
+          sql.add(String.format("%s %s", createTrigger, insertAudit));
+        }
+        else
+        {
+          sql.add(String.format("%s BEGIN %s; END", createTrigger, insertAudit));
+        }
+      }
+    }
+
+    if (dialect == Dialect.hsqldb)
+    {
+      for (int routine = 1; routine <= routines && tables > 0; routine++)
+      {
+        if (routine % 2 == 1)
+        {
+          sql.add(String
+            .format("CREATE FUNCTION %s(X INTEGER) RETURNS INTEGER RETURN X + %d",
+                    qualify(String.format("F%05d", routine)),
+                    random.nextInt(100)));
+        }
+        else
+        {
+          sql.add(String
+            .format("CREATE PROCEDURE %s(IN X INTEGER) MODIFIES SQL DATA DELETE FROM %s WHERE ID = X",
+                    qualify(String.format("P%05d", routine)),
+                    tableName(1 + random.nextInt(tables))));
+        }
+      }
+    }
+
+    return sql;
+  }
+
+  /**
+   * Creates the schema, in a single transaction where the database
+   * supports transactional DDL.
+   */
+  @Override
+  public void run()
+  {
+    final List<String> sql = generateSql();
+    LOGGER.log(Level.FINE,
+               String.format("Creating synthetic schema, with %d statements",
+                             sql.size()));
+    try
+    {
+      final boolean autoCommit = connection.getAutoCommit();
+      connection.setAutoCommit(false);
+      try (final Statement statement = connection.createStatement();)
+      {
+        for (final String statementSql: sql)
+        {
+          statement.execute(statementSql);
+        }
+        connection.commit();
+      }
+      finally
+      {
+        connection.setAutoCommit(autoCommit);
+      }
+    }
+    catch (final SQLException e)
+    {
+      throw new RuntimeException(e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return String
+      .format("SyntheticSchemaCreator [dialect=%s, schema=%s, seed=%d, tables=%d, columns=%d, foreignKeyDensity=%s, cycles=%d, indexes=%d, views=%d, triggers=%d, routines=%d, remarksLength=%d]",
+              dialect,
+              schemaName,
+              seed,
+              tables,
+              columns,
+              foreignKeyDensity,
+              cycles,
+              indexes,
+              views,
+              triggers,
+              routines,
+              remarksLength);
+  }
+
+  /**
+   * Number of data columns in each table, besides the primary key and
+   * foreign key columns.
+   */
+  public SyntheticSchemaCreator withColumns(final int columns)
+  {
+    this.columns = requireNonNegative(columns, "columns");
+    return this;
+  }
+
+  /**
+   * Number of pairs of tables that reference each other.
+   */
+  public SyntheticSchemaCreator withCycles(final int cycles)
+  {
+    this.cycles = requireNonNegative(cycles, "cycles");
+    return this;
+  }
+
+  /**
+   * Average number of foreign keys for each table. The fraction is the
+   * chance of a table having an extra foreign key.
+   */
+  public SyntheticSchemaCreator withForeignKeyDensity(final double foreignKeyDensity)
+  {
+    if (foreignKeyDensity < 0)
+    {
+      throw new IllegalArgumentException("Foreign key density cannot be negative");
+    }
+    this.foreignKeyDensity = foreignKeyDensity;
+    return this;
+  }
+
+  /**
+   * Number of indexes for each table.
+   */
+  public SyntheticSchemaCreator withIndexes(final int indexes)
+  {
+    this.indexes = requireNonNegative(indexes, "indexes");
+    return this;
+  }
+
+  /**
+   * Length of remarks for each table, and its first column.
+   */
+  public SyntheticSchemaCreator withRemarksLength(final int remarksLength)
+  {
+    this.remarksLength = requireNonNegative(remarksLength, "remarksLength");
+    return this;
+  }
+
+  /**
+   * Number of routines, alternating between functions and procedures.
+   */
+  public SyntheticSchemaCreator withRoutines(final int routines)
+  {
+    this.routines = requireNonNegative(routines, "routines");
+    return this;
+  }
+
+  /**
+   * Name of the schema to create, for databases that support schemas.
+   */
+  public SyntheticSchemaCreator withSchemaName(final String schemaName)
+  {
+    this.schemaName = requireNonNull(schemaName, "No schema name provided");
+    return this;
+  }
+
+  public SyntheticSchemaCreator withSeed(final long seed)
+  {
+    this.seed = seed;
+    return this;
+  }
+
+  public SyntheticSchemaCreator withTables(final int tables)
+  {
+    this.tables = requireNonNegative(tables, "tables");
+    return this;
+  }
+
+  public SyntheticSchemaCreator withTriggers(final int triggers)
+  {
+    this.triggers = requireNonNegative(triggers, "triggers");
+    return this;
+  }
+
+  public SyntheticSchemaCreator withViews(final int views)
+  {
+    this.views = requireNonNegative(views, "views");
+    return this;
+  }
+
+  private String columnName(final int column)
+  {
+    return String.format("COL%03d", column);
+  }
+
+  private String foreignKey(final int table,
+                            final int foreignKey,
+                            final int referencedTable)
+  {
+    return String
+      .format("CONSTRAINT FK_T%05d_%02d FOREIGN KEY (%s) REFERENCES %s (ID)",
+              table,
+              foreignKey,
+              foreignKeyColumnName(foreignKey),
+              tableName(referencedTable));
+  }
+
+  private String foreignKeyColumnName(final int foreignKey)
+  {
+    return String.format("REF%02d_ID", foreignKey);
+  }
+
+  private String qualify(final String name)
+  {
+    if (dialect == Dialect.hsqldb)
+    {
+      return schemaName + "." + name;
+    }
+    else
+    {
+      return name;
+    }
+  }
+
+  private String remarks(final Random random)
+  {
+    final StringBuilder remarks = new StringBuilder(remarksLength + 16);
+    while (remarks.length() < remarksLength)
+    {
+      if (remarks.length() > 0)
+      {
+        remarks.append(' ');
+      }
+      remarks.append(WORDS[random.nextInt(WORDS.length)]);
+    }
+    // End with a full stop, so that remarks are not trimmed
+    remarks.setLength(remarksLength - 1);
+    remarks.append('.');
+    return remarks.toString();
+  }
+
+  private int requireNonNegative(final int value, final String name)
+  {
+    if (value < 0)
+    {
+      throw new IllegalArgumentException(String
+        .format("Number of %s cannot be negative", name));
+    }
+    return value;
+  }
+
+  private String tableName(final int table)
+  {
+    return qualify(String.format("T%05d", table));
+  }
+
+}
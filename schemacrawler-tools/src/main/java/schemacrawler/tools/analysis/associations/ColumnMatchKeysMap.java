@@ -30,7 +30,10 @@ package schemacrawler.tools.analysis.associations;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import schemacrawler.schema.Column;
 import schemacrawler.schema.Table;
@@ -41,12 +44,14 @@ final class ColumnMatchKeysMap
 
   private final Multimap<String, Column> columnsForMatchKey;
   private final Multimap<Column, String> matchKeysForColumn;
+  private final Map<String, Multimap<String, Column>> columnsForMatchKeyAndType;
 
   ColumnMatchKeysMap(final List<Table> tables)
   {
     requireNonNull(tables, "No tables provided");
     columnsForMatchKey = new Multimap<>();
     matchKeysForColumn = new Multimap<>();
+    columnsForMatchKeyAndType = new HashMap<>();
 
     for (final Table table: tables)
     {
@@ -74,12 +79,39 @@ final class ColumnMatchKeysMap
     return columnsForMatchKey.get(matchKey);
   }
 
+  /**
+   * Gets columns for a match key, that have the given Java SQL type.
+   * Columns are indexed by their Java SQL type, so that columns which
+   * can never be associated are not considered.
+   *
+   * @param matchKey
+   *        Column match key
+   * @param javaSqlTypeName
+   *        Java SQL type name
+   * @return Columns with the match key and type, or an empty list
+   */
+  public List<Column> get(final String matchKey, final String javaSqlTypeName)
+  {
+    final Multimap<String, Column> columnsForType = columnsForMatchKeyAndType
+      .get(matchKey);
+    if (columnsForType == null || !columnsForType.containsKey(javaSqlTypeName))
+    {
+      return Collections.emptyList();
+    }
+    return columnsForType.get(javaSqlTypeName);
+  }
+
   @Override
   public String toString()
   {
     return columnsForMatchKey.toString();
   }
 
+  static String javaSqlTypeName(final Column column)
+  {
+    return column.getColumnDataType().getJavaSqlType().getName();
+  }
+
   private void mapColumnNameMatches(final Table table)
   {
     for (final Column column: table.getColumns())
@@ -99,6 +131,9 @@ final class ColumnMatchKeysMap
       {
         columnsForMatchKey.add(matchColumnName, column);
         matchKeysForColumn.add(column, matchColumnName);
+        columnsForMatchKeyAndType
+          .computeIfAbsent(matchColumnName, key -> new Multimap<>())
+          .add(javaSqlTypeName(column), column);
       }
     }
   }
@@ -30,9 +30,9 @@ package schemacrawler.tools.analysis.associations;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import schemacrawler.schema.ColumnReference;
 import schemacrawler.schema.ForeignKey;
@@ -42,7 +42,7 @@ import schemacrawler.schema.Table;
 final class ForeignKeys
 {
 
-  private final Collection<ColumnReference> foreignKeys;
+  private final Set<ColumnReference> foreignKeys;
 
   ForeignKeys(final List<Table> tables)
   {
@@ -56,17 +56,9 @@ final class ForeignKeys
       return false;
     }
 
-    // We have to loop through the collection, since we want to use the
-    // equals from the WeakAssociation
-    for (final ColumnReference foreignKey: foreignKeys)
-    {
-      final boolean equals = columnMap.equals(foreignKey);
-      if (equals)
-      {
-        return true;
-      }
-    }
-    return false;
+    // Column references are equal if their primary key and foreign key
+    // columns are equal, whatever their implementation
+    return foreignKeys.contains(columnMap);
   }
 
   @Override
@@ -75,11 +67,11 @@ final class ForeignKeys
     return foreignKeys.toString();
   }
 
-  private Collection<ColumnReference> mapForeignKeyColumns(final List<Table> tables)
+  private Set<ColumnReference> mapForeignKeyColumns(final List<Table> tables)
   {
     requireNonNull(tables, "No tables provided");
 
-    final Collection<ColumnReference> fkColumnsMap = new HashSet<>();
+    final Set<ColumnReference> fkColumnsMap = new HashSet<>();
     for (final Table table: tables)
     {
       for (final ForeignKey foreignKey: table.getForeignKeys())
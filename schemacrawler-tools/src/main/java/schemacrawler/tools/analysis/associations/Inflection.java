@@ -3,6 +3,9 @@ package schemacrawler.tools.analysis.associations;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 /**
@@ -24,6 +27,10 @@ public class Inflection
 
   private static final List<String> uncountable = new ArrayList<>();
 
+  private static final int CACHE_SIZE = 10_000;
+  private static final Map<String, String> pluralCache = new ConcurrentHashMap<>();
+  private static final Map<String, String> singularCache = new ConcurrentHashMap<>();
+
   static
   {
     // plural is "singular to plural form"
@@ -122,19 +129,11 @@ public class Inflection
    */
   public static String pluralize(final String word)
   {
-    if (Inflection.isUncountable(word))
+    if (word == null)
     {
-      return word;
+      return pluralizeWord(word);
     }
-
-    for (final Inflection inflection: plural)
-    {
-      if (inflection.match(word))
-      {
-        return inflection.replace(word);
-      }
-    }
-    return word;
+    return inflectCached(pluralCache, word, Inflection::pluralizeWord);
   }
 
   /**
@@ -145,31 +144,72 @@ public class Inflection
    * @return The singularized word
    */
   public static String singularize(final String word)
+  {
+    if (word == null)
+    {
+      return singularizeWord(word);
+    }
+    return inflectCached(singularCache, word, Inflection::singularizeWord);
+  }
+
+  private static void irregular(final String s, final String p)
+  {
+    plural("(" + s.substring(0, 1) + ")" + s.substring(1) + "$",
+           "$1" + p.substring(1));
+    singular("(" + p.substring(0, 1) + ")" + p.substring(1) + "$",
+             "$1" + s.substring(1));
+  }
+
+  /**
+   * Looks up an inflected word in a bounded cache, and inflects it if it
+   * is not found. Words are inflected outside of any lock, so threads
+   * never wait on each other, and a word may occasionally be inflected
+   * twice. The cache is cleared when it is full.
+   */
+  private static String inflectCached(final Map<String, String> cache,
+                                      final String word,
+                                      final Function<String, String> inflector)
+  {
+    final String cachedWord = cache.get(word);
+    if (cachedWord != null)
+    {
+      return cachedWord;
+    }
+
+    final String inflectedWord = inflector.apply(word);
+    if (cache.size() >= CACHE_SIZE)
+    {
+      cache.clear();
+    }
+    cache.put(word, inflectedWord);
+    return inflectedWord;
+  }
+
+  private static String inflect(final List<Inflection> inflections,
+                                final String word)
   {
     if (Inflection.isUncountable(word))
     {
       return word;
     }
-
-    for (final Inflection inflection: singular)
+    for (final Inflection inflection: inflections)
     {
-      // System.out.println(word + " matches " + inflection.pattern +
-      // "? (ignore case: " + inflection.ignoreCase + ")");
       if (inflection.match(word))
       {
-        // System.out.println("match!");
         return inflection.replace(word);
       }
     }
     return word;
   }
 
-  private static void irregular(final String s, final String p)
+  private static String pluralizeWord(final String word)
   {
-    plural("(" + s.substring(0, 1) + ")" + s.substring(1) + "$",
-           "$1" + p.substring(1));
-    singular("(" + p.substring(0, 1) + ")" + p.substring(1) + "$",
-             "$1" + s.substring(1));
+    return inflect(plural, word);
+  }
+
+  private static String singularizeWord(final String word)
+  {
+    return inflect(singular, word);
   }
 
   private static void plural(final String pattern, final String replacement)
@@ -187,12 +227,10 @@ public class Inflection
     uncountable.add(word);
   }
 
-  private final String pattern;
+  private final Pattern pattern;
 
   private final String replacement;
 
-  private final boolean ignoreCase;
-
   public Inflection(final String pattern)
   {
     this(pattern, null, true);
@@ -207,9 +245,13 @@ public class Inflection
                     final String replacement,
                     final boolean ignoreCase)
   {
-    this.pattern = pattern;
+    int flags = 0;
+    if (ignoreCase)
+    {
+      flags = flags | Pattern.CASE_INSENSITIVE;
+    }
+    this.pattern = Pattern.compile(pattern, flags);
     this.replacement = replacement;
-    this.ignoreCase = ignoreCase;
   }
 
   /**
@@ -221,12 +263,7 @@ public class Inflection
    */
   public boolean match(final String word)
   {
-    int flags = 0;
-    if (ignoreCase)
-    {
-      flags = flags | Pattern.CASE_INSENSITIVE;
-    }
-    return Pattern.compile(pattern, flags).matcher(word).find();
+    return pattern.matcher(word).find();
   }
 
   /**
@@ -238,12 +275,6 @@ public class Inflection
    */
   public String replace(final String word)
   {
-    int flags = 0;
-    if (ignoreCase)
-    {
-      flags = flags | Pattern.CASE_INSENSITIVE;
-    }
-    return Pattern.compile(pattern, flags).matcher(word)
-      .replaceAll(replacement);
+    return pattern.matcher(word).replaceAll(replacement);
   }
 }
@@ -31,11 +31,16 @@ package schemacrawler.tools.analysis.associations;
 import static java.util.Objects.requireNonNull;
 import static sf.util.Utility.isBlank;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.logging.Level;
@@ -45,7 +50,6 @@ import sf.util.Multimap;
 import sf.util.ObjectToString;
 import sf.util.SchemaCrawlerLogger;
 import sf.util.StringFormat;
-import sf.util.Utility;
 
 final class TableMatchKeys
 {
@@ -83,7 +87,12 @@ final class TableMatchKeys
       return;
     }
 
-    final Collection<String> prefixes = findTableNamePrefixes(tables);
+    final List<String> tableNames = new ArrayList<>(tables.size());
+    for (final Table table: tables)
+    {
+      tableNames.add(table.getName());
+    }
+    final Collection<String> prefixes = findTableNamePrefixes(tableNames);
     mapTableNameMatches(tables, prefixes);
     if (LOGGER.isLoggable(Level.FINE))
     {
@@ -96,79 +105,33 @@ final class TableMatchKeys
   }
 
   /**
-   * Finds table prefixes. A prefix ends with "_".
+   * Finds table prefixes. A prefix ends with "_". Every pair of table
+   * names contributes the common prefix of the two names, as well as
+   * each shorter prefix of it that ends with "_" and is followed by
+   * more of the name. Rather than comparing every pair of table names,
+   * the names are sorted, and the common prefixes of all pairs are
+   * found by scanning the longest common prefixes of neighbouring
+   * names, so that prefixes are found in near-linear time.
    *
-   * @param tables
-   *        Tables
+   * @param tableNames
+   *        Table names
    * @return Table name prefixes
    */
-  private Collection<String> findTableNamePrefixes(final List<Table> tables)
+  static Collection<String> findTableNamePrefixes(final List<String> tableNames)
   {
-    final SortedMap<String, Integer> prefixesMap = new TreeMap<>();
-    for (int i = 0; i < tables.size(); i++)
-    {
-      for (int j = i + 1; j < tables.size(); j++)
-      {
-        final String table1 = tables.get(i).getName();
-        final String table2 = tables.get(j).getName();
-        final String commonPrefix = Utility.commonPrefix(table1, table2);
-        if (!isBlank(commonPrefix) && commonPrefix.endsWith("_"))
-        {
-          final List<String> splitCommonPrefixes = new ArrayList<>();
-          final String[] splitPrefix = commonPrefix.split("_");
-          if (splitPrefix != null && splitPrefix.length > 0)
-          {
-            for (int k = 0; k < splitPrefix.length; k++)
-            {
-              final StringBuilder buffer = new StringBuilder(1024);
-              for (int l = 0; l < k; l++)
-              {
-                buffer.append(splitPrefix[l]).append("_");
-              }
-              if (buffer.length() > 0)
-              {
-                splitCommonPrefixes.add(buffer.toString());
-              }
-            }
-          }
-          splitCommonPrefixes.add(commonPrefix);
-
-          for (final String splitCommonPrefix: splitCommonPrefixes)
-          {
-            final int prevCount;
-            if (prefixesMap.containsKey(splitCommonPrefix))
-            {
-              prevCount = prefixesMap.get(splitCommonPrefix);
-            }
-            else
-            {
-              prevCount = 0;
-            }
-            prefixesMap.put(splitCommonPrefix, prevCount + 1);
-          }
-        }
-      }
-    }
+    final SortedMap<String, Long> prefixesMap = countTableNamePrefixes(tableNames);
 
     // Make sure we have the smallest prefixes
-    final List<String> keySet = new ArrayList<>(prefixesMap.keySet());
-    keySet.sort((key1, key2) -> {
-      int comparison = 0;
-      comparison = key2.length() - key1.length();
-      if (comparison == 0)
-      {
-        comparison = key2.compareTo(key1);
-      }
-      return comparison;
-    });
-    for (int i = 0; i < keySet.size(); i++)
+    final Set<String> keySet = new HashSet<>(prefixesMap.keySet());
+    for (final String prefix: keySet)
     {
-      for (int j = i + 1; j < keySet.size(); j++)
+      for (int i = prefix.indexOf('_'); i >= 0
+                                        && i < prefix.length() - 1; i = prefix
+                                          .indexOf('_', i + 1))
       {
-        final String longPrefix = keySet.get(i);
-        if (longPrefix.startsWith(keySet.get(j)))
+        if (keySet.contains(prefix.substring(0, i + 1)))
         {
-          prefixesMap.remove(longPrefix);
+          prefixesMap.remove(prefix);
           break;
         }
       }
@@ -176,7 +139,7 @@ final class TableMatchKeys
 
     // Sort prefixes by the number of tables using them, in descending
     // order
-    final List<Map.Entry<String, Integer>> prefixesList = new ArrayList<>(prefixesMap
+    final List<Map.Entry<String, Long>> prefixesList = new ArrayList<>(prefixesMap
       .entrySet());
     Collections
       .sort(prefixesList,
@@ -198,6 +161,159 @@ final class TableMatchKeys
     return prefixes;
   }
 
+  /**
+   * Counts the number of pairs of table names that share each prefix.
+   * The sorted table names, with the length of the longest common prefix
+   * of each name with the one before it, describe a tree of intervals,
+   * where each interval is a run of names sharing a common prefix. The
+   * number of pairs whose common prefix is exactly that of an interval
+   * is the number of pairs in the interval, less the pairs in its nested
+   * intervals, and less the pairs of identical names, which have no
+   * common prefix.
+   */
+  private static SortedMap<String, Long> countTableNamePrefixes(final List<String> tableNames)
+  {
+    final SortedMap<String, Long> prefixesMap = new TreeMap<>();
+
+    final List<String> names = new ArrayList<>(tableNames);
+    names.removeIf(Objects::isNull);
+    Collections.sort(names);
+    final int size = names.size();
+    if (size < 2)
+    {
+      return prefixesMap;
+    }
+
+    final Deque<PrefixInterval> stack = new ArrayDeque<>();
+    stack.push(new PrefixInterval(0, 0));
+    for (int i = 1; i <= size; i++)
+    {
+      final int lcp;
+      if (i < size)
+      {
+        lcp = commonPrefixLength(names.get(i - 1), names.get(i));
+      }
+      else
+      {
+        lcp = -1;
+      }
+
+      int leftBound = i - 1;
+      PrefixInterval child = null;
+      while (!stack.isEmpty() && lcp < stack.peek().prefixLength)
+      {
+        final PrefixInterval interval = stack.pop();
+        interval.rightBound = i - 1;
+        countPrefixes(names, interval, prefixesMap);
+
+        leftBound = interval.leftBound;
+        if (!stack.isEmpty() && lcp <= stack.peek().prefixLength)
+        {
+          stack.peek().nestedPairs += interval.pairs();
+          child = null;
+        }
+        else
+        {
+          child = interval;
+        }
+      }
+      if (lcp >= 0 && (stack.isEmpty() || lcp > stack.peek().prefixLength))
+      {
+        final PrefixInterval interval = new PrefixInterval(lcp, leftBound);
+        if (child != null)
+        {
+          interval.nestedPairs += child.pairs();
+        }
+        stack.push(interval);
+      }
+    }
+
+    return prefixesMap;
+  }
+
+  private static void countPrefixes(final List<String> names,
+                                    final PrefixInterval interval,
+                                    final Map<String, Long> prefixesMap)
+  {
+    final int prefixLength = interval.prefixLength;
+    final String name = names.get(interval.leftBound);
+    if (prefixLength == 0 || name.charAt(prefixLength - 1) != '_')
+    {
+      return;
+    }
+
+    // Identical names sort first in the interval, and do not have a
+    // common prefix
+    int identicalNames = 0;
+    for (int i = interval.leftBound; i <= interval.rightBound
+                                     && names.get(i).length() == prefixLength; i++)
+    {
+      identicalNames++;
+    }
+
+    final long pairs = interval.pairs() - interval.nestedPairs
+                       - pairs(identicalNames);
+    if (pairs <= 0)
+    {
+      return;
+    }
+
+    final String commonPrefix = name.substring(0, prefixLength).toLowerCase();
+    // Shorter prefixes count only if they are followed by more than
+    // underscores
+    int lastNameCharacter = commonPrefix.length() - 1;
+    while (lastNameCharacter >= 0
+           && commonPrefix.charAt(lastNameCharacter) == '_')
+    {
+      lastNameCharacter--;
+    }
+    for (int i = commonPrefix.indexOf('_'); i >= 0
+                                            && i < lastNameCharacter; i = commonPrefix
+                                              .indexOf('_', i + 1))
+    {
+      prefixesMap.merge(commonPrefix.substring(0, i + 1), pairs, Long::sum);
+    }
+    prefixesMap.merge(commonPrefix, pairs, Long::sum);
+  }
+
+  private static int commonPrefixLength(final String string1,
+                                        final String string2)
+  {
+    final int length = Math.min(string1.length(), string2.length());
+    int i = 0;
+    while (i < length && string1.charAt(i) == string2.charAt(i))
+    {
+      i++;
+    }
+    return i;
+  }
+
+  private static long pairs(final int count)
+  {
+    return (long) count * (count - 1) / 2;
+  }
+
+  private static final class PrefixInterval
+  {
+
+    private final int prefixLength;
+    private final int leftBound;
+    private int rightBound;
+    private long nestedPairs;
+
+    PrefixInterval(final int prefixLength, final int leftBound)
+    {
+      this.prefixLength = prefixLength;
+      this.leftBound = leftBound;
+    }
+
+    long pairs()
+    {
+      return TableMatchKeys.pairs(rightBound - leftBound + 1);
+    }
+
+  }
+
   private void mapTableNameMatches(final List<Table> tables,
                                    final Collection<String> prefixes)
   {
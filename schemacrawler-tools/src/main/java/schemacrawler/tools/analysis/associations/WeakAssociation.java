@@ -45,16 +45,13 @@ public final class WeakAssociation
 
   private static final long serialVersionUID = -4411771492159843382L;
 
-  WeakAssociation(final Column primaryKeyColumn, final Column foreignKeyColumn)
-  {
-    super(primaryKeyColumn, foreignKeyColumn);
-  }
-
-  public boolean isValid()
+  /**
+   * Checks whether a primary key column and a foreign key column can be
+   * weakly associated, without creating the association.
+   */
+  static boolean isValid(final Column primaryKeyColumn,
+                         final Column foreignKeyColumn)
   {
-    final Column primaryKeyColumn = getPrimaryKeyColumn();
-    final Column foreignKeyColumn = getForeignKeyColumn();
-
     final Table pkTable = primaryKeyColumn.getParent();
     final Table fkTable = foreignKeyColumn.getParent();
     if ((foreignKeyColumn.isPartOfPrimaryKey()
@@ -71,6 +68,16 @@ public final class WeakAssociation
     return isValid;
   }
 
+  WeakAssociation(final Column primaryKeyColumn, final Column foreignKeyColumn)
+  {
+    super(primaryKeyColumn, foreignKeyColumn);
+  }
+
+  public boolean isValid()
+  {
+    return isValid(getPrimaryKeyColumn(), getForeignKeyColumn());
+  }
+
   @Override
   public String toString()
   {
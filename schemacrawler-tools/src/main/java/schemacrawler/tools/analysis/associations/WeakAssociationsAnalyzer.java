@@ -31,17 +31,22 @@ package schemacrawler.tools.analysis.associations;
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.tools.analysis.associations.WeakAssociationsUtility.addWeakAssociationToTable;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 
 import schemacrawler.schema.Column;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
 import schemacrawler.utility.MetaDataUtility;
+import sf.util.DaemonThreadFactory;
 import sf.util.SchemaCrawlerLogger;
 import sf.util.StringFormat;
 
@@ -88,6 +93,17 @@ final class WeakAssociationsAnalyzer
                               weakFk);
   }
 
+  private void addWeakAssociations(final List<WeakAssociation> tableWeakAssociations)
+  {
+    for (final WeakAssociation weakAssociation: tableWeakAssociations)
+    {
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Found weak association <%s>",
+                                  weakAssociation));
+      addWeakAssociation(weakAssociation);
+    }
+  }
+
   private void findWeakAssociations(final List<Table> tables)
   {
     LOGGER.log(Level.INFO, "Finding weak associations");
@@ -103,55 +119,120 @@ final class WeakAssociationsAnalyzer
       LOGGER.log(Level.FINER,
                  new StringFormat("Column match keys <%s>", tableMatchKeys));
     }
-    for (final Table table: tables)
+
+    // Tables are matched in parallel, since matching only reads the
+    // catalog, and the weak associations are then added in table order
+    final int threadCount = Math
+      .min(Runtime.getRuntime().availableProcessors(), tables.size());
+    final ExecutorService executorService = Executors
+      .newFixedThreadPool(threadCount,
+                          new DaemonThreadFactory("schemacrawler-associations"));
+    final List<Future<List<WeakAssociation>>> futures = new ArrayList<>();
+    try
     {
-      final TableCandidateKeys tableCandidateKeys = new TableCandidateKeys(table);
-      LOGGER
-        .log(Level.FINER,
-             new StringFormat("Table candidate keys <%s>", tableCandidateKeys));
-      for (final Column pkColumn: tableCandidateKeys)
+      for (final Table table: tables)
       {
-        final Set<String> fkColumnMatchKeys = new HashSet<>();
-        // Look for all columns matching this table match key
-        if (pkColumn.isPartOfPrimaryKey())
-        {
-          fkColumnMatchKeys.addAll(tableMatchKeys.get(table));
-        }
-        // Look for all columns matching this column match key
-        if (columnMatchKeysMap.containsKey(pkColumn))
-        {
-          fkColumnMatchKeys.addAll(columnMatchKeysMap.get(pkColumn));
-        }
+        futures.add(executorService
+          .submit(() -> findWeakAssociations(table,
+                                             foreignKeys,
+                                             columnMatchKeysMap,
+                                             tableMatchKeys)));
+      }
+      for (final Future<List<WeakAssociation>> future: futures)
+      {
+        addWeakAssociations(future.get());
+      }
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerRuntimeException("Interrupted while finding weak associations",
+                                              e);
+    }
+    catch (final ExecutionException e)
+    {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException)
+      {
+        throw (RuntimeException) cause;
+      }
+      throw new SchemaCrawlerRuntimeException("Could not find weak associations",
+                                              cause);
+    }
+    finally
+    {
+      executorService.shutdownNow();
+    }
+  }
 
-        final Set<Column> fkColumns = new HashSet<>();
-        for (final String fkColumnMatchKey: fkColumnMatchKeys)
-        {
-          if (columnMatchKeysMap.containsKey(fkColumnMatchKey))
-          {
-            fkColumns.addAll(columnMatchKeysMap.get(fkColumnMatchKey));
-          }
-        }
+  private List<WeakAssociation> findWeakAssociations(final Table table,
+                                                     final ForeignKeys foreignKeys,
+                                                     final ColumnMatchKeysMap columnMatchKeysMap,
+                                                     final TableMatchKeys tableMatchKeys)
+  {
+    final TableCandidateKeys tableCandidateKeys = new TableCandidateKeys(table);
+    LOGGER
+      .log(Level.FINER,
+           new StringFormat("Table candidate keys <%s>", tableCandidateKeys));
+
+    final List<WeakAssociation> weakAssociations = new ArrayList<>();
+    final List<String> fkColumnMatchKeys = new ArrayList<>();
+    for (final Column pkColumn: tableCandidateKeys)
+    {
+      fkColumnMatchKeys.clear();
+      // Look for all columns matching this table match key
+      if (pkColumn.isPartOfPrimaryKey())
+      {
+        addMatchKeys(fkColumnMatchKeys, tableMatchKeys.get(table));
+      }
+      // Look for all columns matching this column match key
+      if (columnMatchKeysMap.containsKey(pkColumn))
+      {
+        addMatchKeys(fkColumnMatchKeys, columnMatchKeysMap.get(pkColumn));
+      }
 
-        for (final Column fkColumn: fkColumns)
+      // Each column has a single match key, so columns found for
+      // different match keys are distinct, and only columns of the same
+      // type can be associated
+      final String javaSqlTypeName = ColumnMatchKeysMap
+        .javaSqlTypeName(pkColumn);
+      for (final String fkColumnMatchKey: fkColumnMatchKeys)
+      {
+        for (final Column fkColumn: columnMatchKeysMap
+          .get(fkColumnMatchKey, javaSqlTypeName))
         {
-          if (pkColumn.equals(fkColumn))
+          if (pkColumn.equals(fkColumn)
+              || !WeakAssociation.isValid(pkColumn, fkColumn))
           {
             continue;
           }
 
           final WeakAssociation weakAssociation = new WeakAssociation(pkColumn,
                                                                       fkColumn);
-          if (weakAssociation.isValid()
-              && !foreignKeys.contains(weakAssociation))
+          if (!foreignKeys.contains(weakAssociation))
           {
-            LOGGER.log(Level.FINE,
-                       new StringFormat("Found weak association <%s>",
-                                        weakAssociation));
-            addWeakAssociation(weakAssociation);
+            weakAssociations.add(weakAssociation);
           }
         }
       }
     }
+    return weakAssociations;
+  }
+
+  private void addMatchKeys(final List<String> matchKeys,
+                            final List<String> moreMatchKeys)
+  {
+    if (moreMatchKeys == null)
+    {
+      return;
+    }
+    for (final String matchKey: moreMatchKeys)
+    {
+      if (!matchKeys.contains(matchKey))
+      {
+        matchKeys.add(matchKey);
+      }
+    }
   }
 
 }
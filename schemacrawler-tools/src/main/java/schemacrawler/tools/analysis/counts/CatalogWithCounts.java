@@ -30,7 +30,6 @@ package schemacrawler.tools.analysis.counts;
 
 import static schemacrawler.filter.ReducerFactory.getTableReducer;
 import static schemacrawler.tools.analysis.counts.CountsUtility.addRowCountToTable;
-import static schemacrawler.utility.QueryUtility.executeForLong;
 import static sf.util.DatabaseUtility.checkConnection;
 
 import java.sql.Connection;
@@ -40,18 +39,20 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.BaseCatalogDecorator;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
-import schemacrawler.tools.text.operation.Operation;
 import schemacrawler.utility.Identifiers;
 import schemacrawler.utility.Query;
+import schemacrawler.utility.SchemaCrawlerUtility;
 import sf.util.SchemaCrawlerLogger;
-import sf.util.StringFormat;
 
 public final class CatalogWithCounts
   extends BaseCatalogDecorator
@@ -68,49 +69,101 @@ public final class CatalogWithCounts
                            final Connection connection,
                            final SchemaCrawlerOptions options)
     throws SchemaCrawlerException
+  {
+    this(catalog,
+         connection,
+         null,
+         options,
+         TableRowCountsOptionsBuilder.newTableRowCountsOptions());
+  }
+
+  /**
+   * Obtains row counts for all tables in the catalog, and filters out
+   * empty tables if needed.
+   *
+   * @param catalog
+   *        Catalog to decorate
+   * @param connection
+   *        Connection to count rows with
+   * @param connectionSource
+   *        Optional source of additional connections, for counting
+   *        rows for several tables at the same time
+   * @param options
+   *        SchemaCrawler options, for filtering tables
+   * @param countsOptions
+   *        Options for counting rows
+   * @throws SchemaCrawlerException
+   *         If counting was interrupted
+   */
+  public CatalogWithCounts(final Catalog catalog,
+                           final Connection connection,
+                           final Supplier<Connection> connectionSource,
+                           final SchemaCrawlerOptions options,
+                           final TableRowCountsOptions countsOptions)
+    throws SchemaCrawlerException
   {
     super(catalog);
 
     counts = new HashMap<>();
 
-    Identifiers identifiers;
+    final Identifiers identifiers;
     try
     {
       checkConnection(connection);
-      identifiers = Identifiers.identifiers().withConnection(connection)
-        .build();
+      identifiers = Identifiers.fromConnection(connection);
     }
     catch (final SQLException e)
     {
       // The offline snapshot executable may not have a live connection,
       // so we cannot fail with an exception. Log and continue.
       LOGGER.log(Level.WARNING, "No connection provided", e);
-
-      identifiers = Identifiers.identifiers().withIdentifierQuoteString("\"")
-        .build();
-
       return;
     }
 
-    final Query query = Operation.count.getQuery();
+    final TableRowCountsRetriever retriever = new TableRowCountsRetriever(connection,
+                                                                          connectionSource,
+                                                                          identifiers,
+                                                                          countsOptions);
+
     final List<Table> allTables = new ArrayList<>(catalog.getTables());
+    final Map<Table, Long> rowCounts = new HashMap<>();
+    if (countsOptions.isUseStatistics())
+    {
+      final Optional<Query> statisticsQuery = lookupStatisticsQuery(connection,
+                                                                    countsOptions);
+      if (statisticsQuery.isPresent())
+      {
+        rowCounts.putAll(retriever
+          .retrieveStatistics(allTables,
+                              statisticsQuery.get(),
+                              options.getSchemaInclusionRule()));
+      }
+      else
+      {
+        LOGGER.log(Level.INFO,
+                   "No query for row counts from database statistics, so counting rows");
+      }
+    }
+
+    final List<Table> tablesToCount = new ArrayList<>();
     for (final Table table: allTables)
     {
-      try
+      if (!rowCounts.containsKey(table))
       {
-        final long count = executeForLong(query,
-                                          connection,
-                                          table,
-                                          identifiers);
-        counts.put(table, count);
-        addRowCountToTable(table, count);
+        tablesToCount.add(table);
       }
-      catch (final SchemaCrawlerException e)
+    }
+    rowCounts.putAll(retriever.countRows(tablesToCount));
+
+    // Set counts in catalog order, so that results do not depend on the
+    // order in which counts were obtained
+    for (final Table table: allTables)
+    {
+      final Long count = rowCounts.get(table);
+      if (count != null)
       {
-        LOGGER.log(Level.WARNING,
-                   new StringFormat("Could not get count for table <%s>",
-                                    table),
-                   e);
+        counts.put(table, count);
+        addRowCountToTable(table, count);
       }
     }
 
@@ -131,4 +184,33 @@ public final class CatalogWithCounts
     return Optional.of(getAttribute(name));
   }
 
+  private Optional<Query> lookupStatisticsQuery(final Connection connection,
+                                                final TableRowCountsOptions countsOptions)
+  {
+    final Optional<Query> statisticsQuery = countsOptions.getStatisticsQuery();
+    if (statisticsQuery.isPresent())
+    {
+      return statisticsQuery;
+    }
+
+    try
+    {
+      final InformationSchemaViews informationSchemaViews = SchemaCrawlerUtility
+        .matchSchemaRetrievalOptions(connection).getInformationSchemaViews();
+      if (informationSchemaViews
+        .hasQuery(InformationSchemaKey.TABLE_ROW_COUNTS))
+      {
+        return Optional.of(informationSchemaViews
+          .getQuery(InformationSchemaKey.TABLE_ROW_COUNTS));
+      }
+    }
+    catch (final SchemaCrawlerException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 "Could not find query for row counts from database statistics",
+                 e);
+    }
+    return Optional.empty();
+  }
+
 }
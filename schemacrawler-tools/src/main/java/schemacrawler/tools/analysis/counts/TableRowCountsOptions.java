@@ -0,0 +1,109 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.analysis.counts;
+
+
+import java.util.Optional;
+
+import schemacrawler.schemacrawler.Options;
+import schemacrawler.utility.Query;
+
+/**
+ * Options for counting table rows.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class TableRowCountsOptions
+  implements Options
+{
+
+  private final int parallelism;
+  private final int queryTimeout;
+  private final Query statisticsQuery;
+  private final boolean useStatistics;
+
+  TableRowCountsOptions(final TableRowCountsOptionsBuilder builder)
+  {
+    parallelism = builder.parallelism;
+    queryTimeout = builder.queryTimeout;
+    statisticsQuery = builder.statisticsQuery;
+    useStatistics = builder.useStatistics;
+  }
+
+  /**
+   * Maximum number of tables to count rows for at the same time. Each
+   * table that is counted at the same time uses its own database
+   * connection.
+   *
+   * @return Maximum number of concurrent row counts
+   */
+  public int getParallelism()
+  {
+    return parallelism;
+  }
+
+  /**
+   * Time limit for counting the rows of any one table, in seconds. Zero
+   * means that there is no time limit.
+   *
+   * @return Time limit in seconds
+   */
+  public int getQueryTimeout()
+  {
+    return queryTimeout;
+  }
+
+  /**
+   * Query for approximate row counts from database statistics, if one
+   * was configured. Otherwise, the query from the database plugin is
+   * used.
+   *
+   * @return Configured statistics query
+   */
+  public Optional<Query> getStatisticsQuery()
+  {
+    return Optional.ofNullable(statisticsQuery);
+  }
+
+  public boolean isParallel()
+  {
+    return parallelism > 1;
+  }
+
+  /**
+   * Whether to use approximate row counts from database statistics,
+   * where they are available.
+   *
+   * @return Whether to use database statistics
+   */
+  public boolean isUseStatistics()
+  {
+    return useStatistics;
+  }
+
+}
@@ -0,0 +1,216 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.analysis.counts;
+
+
+import static sf.util.Utility.isBlank;
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.OptionsBuilder;
+import schemacrawler.utility.Query;
+
+/**
+ * Options for counting table rows.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class TableRowCountsOptionsBuilder
+  implements OptionsBuilder<TableRowCountsOptionsBuilder, TableRowCountsOptions>
+{
+
+  private static final String SC_COUNTS_PREFIX = "schemacrawler.counts.";
+  private static final String PARALLELISM = SC_COUNTS_PREFIX + "parallelism";
+  private static final String QUERY_TIMEOUT = SC_COUNTS_PREFIX + "timeout";
+  private static final String USE_STATISTICS = SC_COUNTS_PREFIX
+                                               + "use_statistics";
+
+  public static TableRowCountsOptionsBuilder builder()
+  {
+    return new TableRowCountsOptionsBuilder();
+  }
+
+  public static TableRowCountsOptionsBuilder builder(final TableRowCountsOptions options)
+  {
+    return new TableRowCountsOptionsBuilder().fromOptions(options);
+  }
+
+  public static TableRowCountsOptions newTableRowCountsOptions()
+  {
+    return new TableRowCountsOptionsBuilder().toOptions();
+  }
+
+  public static TableRowCountsOptions newTableRowCountsOptions(final Config config)
+  {
+    return new TableRowCountsOptionsBuilder().fromConfig(config).toOptions();
+  }
+
+  int parallelism;
+  int queryTimeout;
+  Query statisticsQuery;
+  boolean useStatistics;
+
+  private TableRowCountsOptionsBuilder()
+  {
+    parallelism = 1;
+    queryTimeout = 0;
+    statisticsQuery = null;
+    useStatistics = false;
+  }
+
+  @Override
+  public TableRowCountsOptionsBuilder fromConfig(final Config map)
+  {
+    if (map == null)
+    {
+      return this;
+    }
+
+    final Config config = new Config(map);
+    withParallelism(config.getIntegerValue(PARALLELISM, parallelism));
+    withQueryTimeout(config.getIntegerValue(QUERY_TIMEOUT, queryTimeout));
+    useStatistics = config.getBooleanValue(USE_STATISTICS, useStatistics);
+    final String statisticsSqlKey = InformationSchemaKey.TABLE_ROW_COUNTS
+      .getLookupKey();
+    if (config.hasValue(statisticsSqlKey))
+    {
+      withStatisticsSql(config.get(statisticsSqlKey));
+    }
+
+    return this;
+  }
+
+  @Override
+  public TableRowCountsOptionsBuilder fromOptions(final TableRowCountsOptions options)
+  {
+    if (options == null)
+    {
+      return this;
+    }
+
+    parallelism = options.getParallelism();
+    queryTimeout = options.getQueryTimeout();
+    statisticsQuery = options.getStatisticsQuery().orElse(null);
+    useStatistics = options.isUseStatistics();
+
+    return this;
+  }
+
+  @Override
+  public Config toConfig()
+  {
+    final Config config = new Config();
+    config.setStringValue(PARALLELISM, String.valueOf(parallelism));
+    config.setStringValue(QUERY_TIMEOUT, String.valueOf(queryTimeout));
+    config.setBooleanValue(USE_STATISTICS, useStatistics);
+    if (statisticsQuery != null)
+    {
+      config.setStringValue(InformationSchemaKey.TABLE_ROW_COUNTS
+        .getLookupKey(), statisticsQuery.getQuery());
+    }
+    return config;
+  }
+
+  @Override
+  public TableRowCountsOptions toOptions()
+  {
+    return new TableRowCountsOptions(this);
+  }
+
+  public TableRowCountsOptionsBuilder useStatistics()
+  {
+    return useStatistics(true);
+  }
+
+  /**
+   * Use approximate row counts from database statistics, or count the
+   * rows in each table.
+   *
+   * @param value
+   *        Whether to use database statistics
+   * @return Builder
+   */
+  public TableRowCountsOptionsBuilder useStatistics(final boolean value)
+  {
+    useStatistics = value;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of tables to count rows for at the same
+   * time.
+   *
+   * @param parallelism
+   *        Maximum number of concurrent row counts, with values less
+   *        than one meaning one
+   * @return Builder
+   */
+  public TableRowCountsOptionsBuilder withParallelism(final int parallelism)
+  {
+    this.parallelism = Math.max(1, parallelism);
+    return this;
+  }
+
+  /**
+   * Sets the time limit for counting the rows of any one table.
+   *
+   * @param queryTimeout
+   *        Time limit in seconds, with zero or less meaning no limit
+   * @return Builder
+   */
+  public TableRowCountsOptionsBuilder withQueryTimeout(final int queryTimeout)
+  {
+    this.queryTimeout = Math.max(0, queryTimeout);
+    return this;
+  }
+
+  /**
+   * Sets the query for approximate row counts from database
+   * statistics, overriding the query from the database plugin. The
+   * query needs to return TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME and
+   * ROW_COUNT columns.
+   *
+   * @param sql
+   *        Statistics query, or null to use the database plugin query
+   * @return Builder
+   */
+  public TableRowCountsOptionsBuilder withStatisticsSql(final String sql)
+  {
+    if (isBlank(sql))
+    {
+      statisticsQuery = null;
+    }
+    else
+    {
+      statisticsQuery = new Query(InformationSchemaKey.TABLE_ROW_COUNTS
+        .name(), sql);
+    }
+    return this;
+  }
+
+}
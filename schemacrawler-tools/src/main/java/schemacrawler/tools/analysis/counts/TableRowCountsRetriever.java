@@ -0,0 +1,326 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.analysis.counts;
+
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.utility.QueryUtility.executeAgainstSchema;
+import static schemacrawler.utility.QueryUtility.executeAgainstTable;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.tools.text.operation.Operation;
+import schemacrawler.utility.Identifiers;
+import schemacrawler.utility.Query;
+import sf.util.ConnectionPool;
+import sf.util.DaemonThreadFactory;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Obtains table row counts, either by counting rows, or from database
+ * statistics. Rows for several tables can be counted at the same time,
+ * each on its own connection. The connection that counting was started
+ * with is always reused, and additional connections are only opened
+ * from the connection source as they are needed, and closed once
+ * counting is complete.
+ *
+ * @author Sualeh Fatehi
+ */
+final class TableRowCountsRetriever
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(TableRowCountsRetriever.class.getName());
+
+  private final Connection connection;
+  private final Supplier<Connection> connectionSource;
+  private final Identifiers identifiers;
+  private final TableRowCountsOptions options;
+  private final Query countQuery;
+
+  TableRowCountsRetriever(final Connection connection,
+                          final Supplier<Connection> connectionSource,
+                          final Identifiers identifiers,
+                          final TableRowCountsOptions options)
+  {
+    this.connection = requireNonNull(connection, "No connection provided");
+    this.connectionSource = connectionSource;
+    this.identifiers = requireNonNull(identifiers, "No identifiers provided");
+    this.options = requireNonNull(options, "No row count options provided");
+
+    countQuery = Operation.count.getQuery();
+  }
+
+  /**
+   * Counts rows for each table, with as many tables being counted at
+   * the same time as the options allow. Tables that could not be
+   * counted, or that took too long to count, are not included in the
+   * results.
+   *
+   * @param tables
+   *        Tables to count rows for
+   * @return Row counts for tables
+   * @throws SchemaCrawlerException
+   *         If counting was interrupted
+   */
+  Map<Table, Long> countRows(final List<Table> tables)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(tables, "No tables provided");
+
+    final Map<Table, Long> rowCounts = new ConcurrentHashMap<>();
+    if (tables.isEmpty())
+    {
+      return rowCounts;
+    }
+
+    final int threadCount = Math.min(options.getParallelism(), tables.size());
+    if (threadCount <= 1 || connectionSource == null)
+    {
+      for (final Table table: tables)
+      {
+        countRows(connection, table, rowCounts);
+      }
+      return rowCounts;
+    }
+
+    LOGGER.log(Level.INFO,
+               new StringFormat("Counting rows for %d tables on %d threads",
+                                tables.size(),
+                                threadCount));
+
+    final ConnectionPool connectionPool = new ConnectionPool(connection,
+                                                             connectionSource,
+                                                             threadCount);
+    final ExecutorService executorService = Executors
+      .newFixedThreadPool(threadCount,
+                          new DaemonThreadFactory("schemacrawler-counts"));
+    try
+    {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (final Table table: tables)
+      {
+        futures.add(executorService.submit(() -> {
+          final Connection taskConnection = connectionPool.acquire();
+          try
+          {
+            countRows(taskConnection, table, rowCounts);
+          }
+          finally
+          {
+            connectionPool.release(taskConnection);
+          }
+          return null;
+        }));
+      }
+
+      for (final Future<?> future: futures)
+      {
+        future.get();
+      }
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerException("Interrupted while counting rows", e);
+    }
+    catch (final ExecutionException e)
+    {
+      throw new SchemaCrawlerException("Could not count rows",
+                                       e.getCause());
+    }
+    finally
+    {
+      executorService.shutdownNow();
+      connectionPool.close();
+    }
+
+    return rowCounts;
+  }
+
+  /**
+   * Obtains approximate row counts from database statistics. Tables
+   * without statistics are not included in the results.
+   *
+   * @param tables
+   *        Tables to obtain row counts for
+   * @param statisticsQuery
+   *        Query that returns TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME
+   *        and ROW_COUNT columns
+   * @param schemaInclusionRule
+   *        Schema inclusion rule, for queries that limit results by
+   *        schema
+   * @return Row counts for tables
+   */
+  Map<Table, Long> retrieveStatistics(final List<Table> tables,
+                                      final Query statisticsQuery,
+                                      final InclusionRule schemaInclusionRule)
+  {
+    requireNonNull(tables, "No tables provided");
+    requireNonNull(statisticsQuery, "No statistics query provided");
+
+    final Map<List<String>, List<Table>> tablesByName = new HashMap<>();
+    for (final Table table: tables)
+    {
+      tablesByName
+        .computeIfAbsent(Arrays.asList(table.getSchema().getName(),
+                                       table.getName()),
+                         key -> new ArrayList<>())
+        .add(table);
+    }
+
+    final Map<Table, Long> rowCounts = new HashMap<>();
+    try (final Statement statement = connection.createStatement();
+        final ResultSet results = executeAgainstSchema(statisticsQuery,
+                                                       statement,
+                                                       schemaInclusionRule);)
+    {
+      while (results.next())
+      {
+        final long rowCount = results.getLong("ROW_COUNT");
+        if (results.wasNull() || rowCount < 0)
+        {
+          continue;
+        }
+
+        final Optional<Table> optionalTable = lookupTable(tablesByName,
+                                                          results
+                                                            .getString("TABLE_CATALOG"),
+                                                          results
+                                                            .getString("TABLE_SCHEMA"),
+                                                          results
+                                                            .getString("TABLE_NAME"));
+        optionalTable.ifPresent(table -> rowCounts.put(table, rowCount));
+      }
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 "Could not obtain row counts from database statistics",
+                 e);
+    }
+
+    LOGGER.log(Level.INFO,
+               new StringFormat("Obtained row counts from database statistics for %d of %d tables",
+                                rowCounts.size(),
+                                tables.size()));
+    return rowCounts;
+  }
+
+  private void countRows(final Connection connection,
+                         final Table table,
+                         final Map<Table, Long> rowCounts)
+  {
+    try (final Statement statement = connection.createStatement())
+    {
+      final int queryTimeout = options.getQueryTimeout();
+      if (queryTimeout > 0)
+      {
+        statement.setQueryTimeout(queryTimeout);
+      }
+
+      try (final ResultSet results = executeAgainstTable(countQuery,
+                                                         statement,
+                                                         table,
+                                                         true,
+                                                         identifiers);)
+      {
+        if (results != null && results.next())
+        {
+          final long rowCount = results.getLong(1);
+          if (!results.wasNull())
+          {
+            rowCounts.put(table, rowCount);
+            return;
+          }
+        }
+      }
+
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not get count for table <%s>",
+                                  table));
+    }
+    catch (final SQLTimeoutException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Timed out counting rows for table <%s>",
+                                  table),
+                 e);
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not get count for table <%s>",
+                                  table),
+                 e);
+    }
+  }
+
+  private Optional<Table> lookupTable(final Map<List<String>, List<Table>> tablesByName,
+                                      final String catalogName,
+                                      final String schemaName,
+                                      final String tableName)
+  {
+    final List<Table> tables = tablesByName
+      .getOrDefault(Arrays.asList(schemaName, tableName),
+                    Collections.emptyList());
+    for (final Table table: tables)
+    {
+      final Schema schema = table.getSchema();
+      if (catalogName == null || catalogName.equals(schema.getCatalogName()))
+      {
+        return Optional.of(table);
+      }
+    }
+    return Optional.empty();
+  }
+
+}
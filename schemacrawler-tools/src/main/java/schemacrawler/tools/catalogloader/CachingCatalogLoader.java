@@ -0,0 +1,166 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.catalogloader;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.util.Optional;
+import java.util.logging.Level;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Catalog loader that looks up a catalog snapshot in the on-disk
+ * catalog cache before crawling the database, and saves the crawled
+ * catalog to the cache. Catalogs are only cached if a cache directory
+ * is configured, otherwise all calls go to the wrapped catalog loader.
+ *
+ * @author Sualeh Fatehi
+ */
+final class CachingCatalogLoader
+  implements CatalogLoader
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(CachingCatalogLoader.class.getName());
+
+  private final CatalogLoader catalogLoader;
+
+  CachingCatalogLoader(final CatalogLoader catalogLoader)
+  {
+    this.catalogLoader = requireNonNull(catalogLoader,
+                                        "No catalog loader provided");
+  }
+
+  @Override
+  public Config getAdditionalConfiguration()
+  {
+    return catalogLoader.getAdditionalConfiguration();
+  }
+
+  @Override
+  public Connection getConnection()
+  {
+    return catalogLoader.getConnection();
+  }
+
+  @Override
+  public String getDatabaseSystemIdentifier()
+  {
+    return catalogLoader.getDatabaseSystemIdentifier();
+  }
+
+  @Override
+  public SchemaCrawlerOptions getSchemaCrawlerOptions()
+  {
+    return catalogLoader.getSchemaCrawlerOptions();
+  }
+
+  @Override
+  public SchemaRetrievalOptions getSchemaRetrievalOptions()
+  {
+    return catalogLoader.getSchemaRetrievalOptions();
+  }
+
+  @Override
+  public Catalog loadCatalog()
+    throws Exception
+  {
+    final Optional<CatalogCache> optionalCatalogCache = CatalogCache
+      .fromConfig(getAdditionalConfiguration());
+    final Connection connection = getConnection();
+    if (!optionalCatalogCache.isPresent() || connection == null)
+    {
+      return catalogLoader.loadCatalog();
+    }
+
+    final CatalogCache catalogCache = optionalCatalogCache.get();
+    LOGGER.log(Level.CONFIG, new StringFormat("%s", catalogCache));
+    final String key = CatalogCache
+      .cacheKey(connection,
+                getSchemaRetrievalOptions(),
+                getSchemaCrawlerOptions());
+
+    final Optional<Catalog> cachedCatalog = catalogCache.get(key);
+    if (cachedCatalog.isPresent())
+    {
+      return cachedCatalog.get();
+    }
+
+    final Catalog catalog = catalogLoader.loadCatalog();
+    if (catalog != null)
+    {
+      try
+      {
+        catalogCache.put(key, catalog);
+      }
+      catch (final Exception e)
+      {
+        // The cache is an optimization, so the crawled catalog is
+        // still returned
+        LOGGER.log(Level.WARNING,
+                   new StringFormat("Could not save catalog to cache <%s>",
+                                    catalogCache),
+                   e);
+      }
+    }
+    return catalog;
+  }
+
+  @Override
+  public void setAdditionalConfiguration(final Config config)
+  {
+    catalogLoader.setAdditionalConfiguration(config);
+  }
+
+  @Override
+  public void setConnection(final Connection connection)
+  {
+    catalogLoader.setConnection(connection);
+  }
+
+  @Override
+  public void setSchemaCrawlerOptions(final SchemaCrawlerOptions schemaCrawlerOptions)
+  {
+    catalogLoader.setSchemaCrawlerOptions(schemaCrawlerOptions);
+  }
+
+  @Override
+  public void setSchemaRetrievalOptions(final SchemaRetrievalOptions schemaRetrievalOptions)
+  {
+    catalogLoader.setSchemaRetrievalOptions(schemaRetrievalOptions);
+  }
+
+}
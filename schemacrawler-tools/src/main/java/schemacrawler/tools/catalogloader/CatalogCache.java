@@ -0,0 +1,514 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.catalogloader;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.newOutputStream;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Objects.requireNonNull;
+import static sf.util.Utility.isBlank;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.logging.Level;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.InclusionRule;
+import schemacrawler.schemacrawler.InclusionRuleWithRegularExpression;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.tools.serialization.CompactSerializedCatalog;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Cache of catalog snapshots on local disk, so that commands that run
+ * one after another against the same database, with the same options,
+ * do not crawl it again. Snapshots are kept uncompressed, so that they
+ * load quickly, in the cache directory, in the same format as offline
+ * snapshots, named by a key for the database connection, the
+ * retrieval options and the crawl options. Snapshots that are older than the
+ * time to live are discarded, and the oldest snapshots are evicted
+ * first when the cache grows larger than its maximum size.
+ * <p>
+ * A snapshot does not track changes to the database, so the time to
+ * live should be no longer than the time that the schema can be
+ * expected to stay the same.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class CatalogCache
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(CatalogCache.class.getName());
+
+  /**
+   * Directory for catalog snapshots. Catalogs are only cached if this
+   * is set.
+   */
+  public static final String CACHE_DIRECTORY = "schemacrawler.catalog_cache.directory";
+  /**
+   * Time after which a catalog snapshot is discarded, in seconds.
+   */
+  public static final String CACHE_TIME_TO_LIVE = "schemacrawler.catalog_cache.time_to_live";
+  /**
+   * Maximum size of all catalog snapshots, in megabytes.
+   */
+  public static final String CACHE_MAXIMUM_SIZE = "schemacrawler.catalog_cache.maximum_size";
+
+  private static final long DEFAULT_TIME_TO_LIVE = 3600;
+  private static final long DEFAULT_MAXIMUM_SIZE = 500;
+  private static final String SNAPSHOT_EXTENSION = ".snapshot";
+
+  /**
+   * Creates a cache key from the database connection, the retrieval
+   * options and the crawl options. Catalogs that are crawled with the
+   * same key are expected to be the same, as long as the database has
+   * not changed.
+   *
+   * @param connection
+   *        Live database connection
+   * @param schemaRetrievalOptions
+   *        Options for retrieving metadata, including the database
+   *        server type
+   * @param schemaCrawlerOptions
+   *        Options for the crawl
+   * @return Cache key, which can be used as a file name
+   * @throws SQLException
+   *         On an exception obtaining the connection URL
+   */
+  public static String cacheKey(final Connection connection,
+                                final SchemaRetrievalOptions schemaRetrievalOptions,
+                                final SchemaCrawlerOptions schemaCrawlerOptions)
+    throws SQLException
+  {
+    requireNonNull(connection, "No connection provided");
+    requireNonNull(schemaRetrievalOptions,
+                   "No SchemaCrawler retrieval options provided");
+    requireNonNull(schemaCrawlerOptions, "No SchemaCrawler options provided");
+
+    final DatabaseMetaData dbMetaData = connection.getMetaData();
+    final StringJoiner fingerprint = new StringJoiner("\n");
+    fingerprint.add(dbMetaData.getURL());
+    fingerprint.add(dbMetaData.getUserName());
+    fingerprint.add(retrievalOptionsFingerprint(schemaRetrievalOptions));
+    fingerprint.add(optionsFingerprint(schemaCrawlerOptions));
+
+    try
+    {
+      final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+      final byte[] digest = messageDigest
+        .digest(fingerprint.toString().getBytes(UTF_8));
+      final StringBuilder key = new StringBuilder(digest.length * 2);
+      for (final byte b: digest)
+      {
+        key.append(String.format("%02x", b));
+      }
+      return key.toString();
+    }
+    catch (final NoSuchAlgorithmException e)
+    {
+      // SHA-256 is required on every Java platform
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Creates a catalog cache from configuration, if a cache directory is
+   * configured.
+   *
+   * @param config
+   *        Configuration
+   * @return Catalog cache, or empty if catalogs are not to be cached
+   */
+  public static Optional<CatalogCache> fromConfig(final Config config)
+  {
+    if (config == null || isBlank(config.get(CACHE_DIRECTORY)))
+    {
+      return Optional.empty();
+    }
+
+    final Path cacheDirectory = Paths.get(config.get(CACHE_DIRECTORY).trim());
+    final Duration timeToLive = Duration
+      .ofSeconds(config.getLongValue(CACHE_TIME_TO_LIVE, DEFAULT_TIME_TO_LIVE));
+    final long maximumSize = config
+      .getLongValue(CACHE_MAXIMUM_SIZE, DEFAULT_MAXIMUM_SIZE) * 1024 * 1024;
+    return Optional
+      .of(new CatalogCache(cacheDirectory, timeToLive, maximumSize));
+  }
+
+  /**
+   * Fingerprint of the options that affect the crawl. The options
+   * object does not have a stable string form, since it includes
+   * object identities, so each setting is listed explicitly.
+   */
+  private static String optionsFingerprint(final SchemaCrawlerOptions options)
+  {
+    final StringJoiner fingerprint = new StringJoiner("\n");
+    fingerprint.add(String.valueOf(options.getSchemaInfoLevel()));
+    fingerprint.add(ruleFingerprint(options.getSchemaInclusionRule()));
+    fingerprint.add(ruleFingerprint(options.getSynonymInclusionRule()));
+    fingerprint.add(ruleFingerprint(options.getSequenceInclusionRule()));
+    fingerprint.add(String.valueOf(options.getTableTypes()));
+    fingerprint.add(String.valueOf(options.getTableNamePattern()));
+    fingerprint.add(ruleFingerprint(options.getTableInclusionRule()));
+    fingerprint.add(ruleFingerprint(options.getColumnInclusionRule()));
+    fingerprint.add(String.valueOf(options.getRoutineTypes()));
+    fingerprint.add(ruleFingerprint(options.getRoutineInclusionRule()));
+    fingerprint.add(ruleFingerprint(options.getRoutineColumnInclusionRule()));
+    fingerprint.add(ruleFingerprint(options.getGrepColumnInclusionRule()
+      .orElse(null)));
+    fingerprint.add(ruleFingerprint(options.getGrepRoutineColumnInclusionRule()
+      .orElse(null)));
+    fingerprint.add(ruleFingerprint(options.getGrepDefinitionInclusionRule()
+      .orElse(null)));
+    fingerprint.add(String.valueOf(options.isGrepInvertMatch()));
+    fingerprint.add(String.valueOf(options.isGrepOnlyMatching()));
+    fingerprint.add(String.valueOf(options.isNoEmptyTables()));
+    fingerprint.add(String.valueOf(options.getChildTableFilterDepth()));
+    fingerprint.add(String.valueOf(options.getParentTableFilterDepth()));
+    return fingerprint.toString();
+  }
+
+  /**
+   * Fingerprint of the retrieval options that affect the crawl, which
+   * are the database server type, the retrieval strategies, and any
+   * overrides of database metadata, such as information schema
+   * queries. Fetch sizes, streaming and parallelism only affect how
+   * fast the catalog is crawled, so they are not included.
+   */
+  private static String retrievalOptionsFingerprint(final SchemaRetrievalOptions options)
+  {
+    final StringJoiner fingerprint = new StringJoiner("\n");
+    fingerprint.add(options.getDatabaseServerType()
+      .getDatabaseSystemIdentifier());
+    fingerprint.add(String.valueOf(options.getTableRetrievalStrategy()));
+    fingerprint.add(String.valueOf(options.getTableColumnRetrievalStrategy()));
+    fingerprint.add(String.valueOf(options.getPrimaryKeyRetrievalStrategy()));
+    fingerprint.add(String.valueOf(options.getIndexRetrievalStrategy()));
+    fingerprint.add(String.valueOf(options.getForeignKeyRetrievalStrategy()));
+    fingerprint.add(String.valueOf(options.getProcedureRetrievalStrategy()));
+    fingerprint
+      .add(String.valueOf(options.getProcedureColumnRetrievalStrategy()));
+    fingerprint.add(String.valueOf(options.getFunctionRetrievalStrategy()));
+    fingerprint
+      .add(String.valueOf(options.getFunctionColumnRetrievalStrategy()));
+    fingerprint.add(String.valueOf(options.isAdaptiveRetrievalStrategy()));
+    fingerprint
+      .add(String.valueOf(options.isTableColumnRetrievalStrategyConfigured()));
+    fingerprint
+      .add(String.valueOf(options.isPrimaryKeyRetrievalStrategyConfigured()));
+    fingerprint
+      .add(String.valueOf(options.isIndexRetrievalStrategyConfigured()));
+    fingerprint
+      .add(String.valueOf(options.isForeignKeyRetrievalStrategyConfigured()));
+    fingerprint.add(String.valueOf(options.isSupportsCatalogs()));
+    fingerprint.add(String.valueOf(options.isSupportsSchemas()));
+    if (options.hasOverrideForIdentifierQuoteString())
+    {
+      fingerprint.add(options.getIdentifierQuoteString());
+    }
+    if (options.hasOverrideForTypeMap())
+    {
+      fingerprint.add(String.valueOf(options.getTypeMap()));
+    }
+    final InformationSchemaViews informationSchemaViews = options
+      .getInformationSchemaViews();
+    for (final InformationSchemaKey key: InformationSchemaKey.values())
+    {
+      if (informationSchemaViews.hasQuery(key))
+      {
+        fingerprint.add(key.name());
+        fingerprint.add(informationSchemaViews.getQuery(key).getQuery());
+      }
+    }
+    return fingerprint.toString();
+  }
+
+  /**
+   * Fingerprint of an inclusion rule. Rules based on regular
+   * expressions are identified by their patterns, since their string
+   * form includes the object identity. Other rules fall back to their
+   * string form, which at worst causes a cache miss.
+   */
+  private static String ruleFingerprint(final InclusionRule inclusionRule)
+  {
+    if (inclusionRule == null)
+    {
+      return "";
+    }
+    else if (inclusionRule instanceof InclusionRuleWithRegularExpression)
+    {
+      final InclusionRuleWithRegularExpression regularExpressionRule = (InclusionRuleWithRegularExpression) inclusionRule;
+      return String.format("%s {+/%s/ -/%s/}",
+                           inclusionRule.getClass().getName(),
+                           regularExpressionRule.getInclusionPattern(),
+                           regularExpressionRule.getExclusionPattern());
+    }
+    else
+    {
+      return String.format("%s %s",
+                           inclusionRule.getClass().getName(),
+                           inclusionRule);
+    }
+  }
+
+  private final Path cacheDirectory;
+  private final Duration timeToLive;
+  private final long maximumSize;
+
+  /**
+   * Creates a cache of catalog snapshots in a directory, which is
+   * created if needed.
+   *
+   * @param cacheDirectory
+   *        Directory for catalog snapshots
+   * @param timeToLive
+   *        Time after which a snapshot is discarded
+   * @param maximumSize
+   *        Maximum size of all snapshots, in bytes
+   */
+  public CatalogCache(final Path cacheDirectory,
+                      final Duration timeToLive,
+                      final long maximumSize)
+  {
+    this.cacheDirectory = requireNonNull(cacheDirectory,
+                                         "No cache directory provided");
+    this.timeToLive = requireNonNull(timeToLive, "No time to live provided");
+    if (timeToLive.isNegative())
+    {
+      throw new IllegalArgumentException("Time to live cannot be negative");
+    }
+    if (maximumSize < 0)
+    {
+      throw new IllegalArgumentException("Maximum cache size cannot be negative");
+    }
+    this.maximumSize = maximumSize;
+  }
+
+  /**
+   * Looks up a catalog snapshot. Snapshots that have expired, or that
+   * cannot be read, are removed from the cache.
+   *
+   * @param key
+   *        Cache key
+   * @return Catalog snapshot, if it was found and has not expired
+   */
+  public Optional<Catalog> get(final String key)
+  {
+    final Path snapshotFile = snapshotFile(key);
+    if (!Files.isRegularFile(snapshotFile))
+    {
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Catalog cache miss for <%s>", key));
+      return Optional.empty();
+    }
+
+    try
+    {
+      if (isExpired(snapshotFile, Instant.now()))
+      {
+        LOGGER.log(Level.INFO,
+                   new StringFormat("Catalog cache snapshot has expired, <%s>",
+                                    snapshotFile));
+        Files.deleteIfExists(snapshotFile);
+        return Optional.empty();
+      }
+
+      final Catalog catalog = new CompactSerializedCatalog(snapshotFile);
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Loaded catalog from cache snapshot <%s>",
+                                  snapshotFile));
+      return Optional.of(catalog);
+    }
+    catch (final IOException | SchemaCrawlerException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not read catalog cache snapshot <%s>",
+                                  snapshotFile),
+                 e);
+      deleteQuietly(snapshotFile);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Saves a catalog snapshot, replacing any earlier snapshot with the
+   * same key, and evicts expired snapshots, and the oldest snapshots if
+   * the cache is too large. The snapshot is written to a temporary file
+   * first, so that a concurrent reader never sees a partial snapshot.
+   *
+   * @param key
+   *        Cache key
+   * @param catalog
+   *        Catalog to save
+   * @throws IOException
+   *         On an exception writing the snapshot
+   */
+  public void put(final String key, final Catalog catalog)
+    throws IOException
+  {
+    requireNonNull(catalog, "No catalog provided");
+
+    Files.createDirectories(cacheDirectory);
+    final Path snapshotFile = snapshotFile(key);
+    final Path tempFile = Files.createTempFile(cacheDirectory, key, ".tmp");
+    try
+    {
+      try (final OutputStream out = newOutputStream(tempFile);)
+      {
+        new CompactSerializedCatalog(catalog).save(out);
+      }
+      catch (final SchemaCrawlerException e)
+      {
+        throw new IOException("Could not write catalog cache snapshot", e);
+      }
+      Files.move(tempFile, snapshotFile, REPLACE_EXISTING, ATOMIC_MOVE);
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Saved catalog to cache snapshot <%s>",
+                                  snapshotFile));
+    }
+    finally
+    {
+      deleteQuietly(tempFile);
+    }
+
+    evict();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString()
+  {
+    return String.format("CatalogCache <%s>, time to live %s, maximum size %d",
+                         cacheDirectory,
+                         timeToLive,
+                         maximumSize);
+  }
+
+  private void deleteQuietly(final Path file)
+  {
+    try
+    {
+      Files.deleteIfExists(file);
+    }
+    catch (final IOException e)
+    {
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Could not delete <%s>", file),
+                 e);
+    }
+  }
+
+  private void evict()
+    throws IOException
+  {
+    final Instant now = Instant.now();
+    final List<Path> snapshotFiles = new ArrayList<>();
+    try (final DirectoryStream<Path> directoryStream = Files
+      .newDirectoryStream(cacheDirectory, "*" + SNAPSHOT_EXTENSION);)
+    {
+      for (final Path snapshotFile: directoryStream)
+      {
+        if (isExpired(snapshotFile, now))
+        {
+          deleteQuietly(snapshotFile);
+        }
+        else
+        {
+          snapshotFiles.add(snapshotFile);
+        }
+      }
+    }
+
+    // Keep the newest snapshots that fit within the maximum size
+    snapshotFiles.sort(Comparator.comparing(this::lastModified).reversed());
+    long cacheSize = 0;
+    for (final Path snapshotFile: snapshotFiles)
+    {
+      cacheSize = cacheSize + Files.size(snapshotFile);
+      if (cacheSize > maximumSize)
+      {
+        LOGGER.log(Level.INFO,
+                   new StringFormat("Evicting catalog cache snapshot <%s>",
+                                    snapshotFile));
+        deleteQuietly(snapshotFile);
+      }
+    }
+  }
+
+  private boolean isExpired(final Path snapshotFile, final Instant now)
+  {
+    return lastModified(snapshotFile).plus(timeToLive).isBefore(now);
+  }
+
+  private Instant lastModified(final Path snapshotFile)
+  {
+    try
+    {
+      return Files.getLastModifiedTime(snapshotFile).toInstant();
+    }
+    catch (final IOException e)
+    {
+      // Treat snapshots that cannot be read as the oldest
+      return Instant.EPOCH;
+    }
+  }
+
+  private Path snapshotFile(final String key)
+  {
+    requireNonNull(key, "No cache key provided");
+    return cacheDirectory.resolve(key + SNAPSHOT_EXTENSION);
+  }
+
+}
@@ -105,15 +105,34 @@ public final class CatalogLoaderRegistry
     return catalogLoaderRegistry.containsKey(databaseSystemIdentifier);
   }
 
+  /**
+   * Looks up a catalog loader for a database system. Catalog loaders
+   * that crawl a live database are backed by the on-disk catalog cache,
+   * which is used if a cache directory is configured.
+   *
+   * @param databaseSystemIdentifier
+   *        Database system identifier
+   * @return Catalog loader
+   */
   public CatalogLoader lookupCatalogLoader(final String databaseSystemIdentifier)
   {
+    final CatalogLoader catalogLoader;
     if (hasDatabaseSystemIdentifier(databaseSystemIdentifier))
     {
-      return catalogLoaderRegistry.get(databaseSystemIdentifier);
+      catalogLoader = catalogLoaderRegistry.get(databaseSystemIdentifier);
     }
     else
     {
-      return new SchemaCrawlerCatalogLoader();
+      catalogLoader = new SchemaCrawlerCatalogLoader();
+    }
+
+    if (catalogLoader instanceof SchemaCrawlerCatalogLoader)
+    {
+      return new CachingCatalogLoader(catalogLoader);
+    }
+    else
+    {
+      return catalogLoader;
     }
   }
 
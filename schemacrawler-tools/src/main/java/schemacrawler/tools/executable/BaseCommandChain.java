@@ -85,6 +85,7 @@ abstract class BaseCommandChain
       scCommand.setAdditionalConfiguration(additionalConfiguration);
       scCommand.setCatalog(catalog);
       scCommand.setConnection(connection);
+      scCommand.setConnectionSource(connectionSource);
       scCommand.setIdentifiers(identifiers);
 
       scCommands.add(scCommand);
@@ -33,6 +33,7 @@ import static java.util.Objects.requireNonNull;
 import static sf.util.Utility.isBlank;
 
 import java.sql.Connection;
+import java.util.function.Supplier;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.Config;
@@ -59,6 +60,7 @@ public abstract class BaseSchemaCrawlerCommand
   protected Config additionalConfiguration;
   protected Identifiers identifiers;
   protected Connection connection;
+  protected Supplier<Connection> connectionSource;
   protected Catalog catalog;
 
   protected BaseSchemaCrawlerCommand(final String command)
@@ -111,6 +113,12 @@ public abstract class BaseSchemaCrawlerCommand
     return connection;
   }
 
+  @Override
+  public Supplier<Connection> getConnectionSource()
+  {
+    return connectionSource;
+  }
+
   @Override
   public Identifiers getIdentifiers()
   {
@@ -161,6 +169,12 @@ public abstract class BaseSchemaCrawlerCommand
     this.connection = connection;
   }
 
+  @Override
+  public void setConnectionSource(final Supplier<Connection> connectionSource)
+  {
+    this.connectionSource = connectionSource;
+  }
+
   @Override
   public void setIdentifiers(final Identifiers identifiers)
   {
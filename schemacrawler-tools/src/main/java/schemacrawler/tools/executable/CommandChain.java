@@ -68,6 +68,7 @@ public final class CommandChain
 
     setCatalog(scCommand.getCatalog());
     setConnection(scCommand.getConnection());
+    setConnectionSource(scCommand.getConnectionSource());
     setIdentifiers(scCommand.getIdentifiers());
   }
 
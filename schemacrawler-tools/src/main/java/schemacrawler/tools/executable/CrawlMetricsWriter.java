@@ -0,0 +1,111 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.executable;
+
+
+import static java.nio.file.Files.newBufferedWriter;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.CrawlMetric;
+import schemacrawler.tools.text.utility.org.json.JSONArray;
+import schemacrawler.tools.text.utility.org.json.JSONException;
+import schemacrawler.tools.text.utility.org.json.JSONObject;
+
+/**
+ * Writes the measurements for each phase of a crawl, and for each
+ * metadata query, as a JSON timing report.
+ *
+ * @author Sualeh Fatehi
+ */
+final class CrawlMetricsWriter
+{
+
+  /**
+   * Gets the file that the timing report is written to, next to the
+   * output file.
+   */
+  static Path metricsFile(final Path outputFile)
+  {
+    requireNonNull(outputFile, "No output file provided");
+    return outputFile
+      .resolveSibling(outputFile.getFileName() + ".metrics.json");
+  }
+
+  private final CrawlInfo crawlInfo;
+
+  CrawlMetricsWriter(final CrawlInfo crawlInfo)
+  {
+    this.crawlInfo = requireNonNull(crawlInfo,
+                                    "No crawl information provided");
+  }
+
+  void write(final Path metricsFile)
+    throws IOException, JSONException
+  {
+    try (final Writer writer = newBufferedWriter(metricsFile,
+                                                 StandardCharsets.UTF_8);)
+    {
+      toJson().write(writer, 2);
+      writer.write(System.lineSeparator());
+    }
+  }
+
+  JSONObject toJson()
+    throws JSONException
+  {
+    final JSONArray jsonMetrics = new JSONArray();
+    for (final CrawlMetric crawlMetric: crawlInfo.getCrawlMetrics())
+    {
+      final JSONObject jsonMetric = new JSONObject();
+      jsonMetric.put("type", crawlMetric.getType().name());
+      jsonMetric.put("phase", crawlMetric.getPhase());
+      jsonMetric.put("name", crawlMetric.getName());
+      jsonMetric.put("count", crawlMetric.getCount());
+      jsonMetric.put("wallTimeMillis",
+                     crawlMetric.getWallTime().toNanos() / 1_000_000D);
+      jsonMetric.put("rowCount", crawlMetric.getRowCount());
+      jsonMetric.put("roundTrips", crawlMetric.getRoundTrips());
+      jsonMetric.put("bytesFetched", crawlMetric.getBytesFetched());
+      jsonMetric.put("objectsCreated", crawlMetric.getObjectsCreated());
+      jsonMetrics.put(jsonMetric);
+    }
+
+    final JSONObject jsonReport = new JSONObject();
+    jsonReport.put("runId", crawlInfo.getRunId());
+    jsonReport.put("crawlTimestamp", crawlInfo.getCrawlTimestamp().toString());
+    jsonReport.put("metrics", jsonMetrics);
+    return jsonReport;
+  }
+
+}
@@ -30,6 +30,7 @@ package schemacrawler.tools.executable;
 
 
 import java.sql.Connection;
+import java.util.function.Supplier;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.Config;
@@ -73,6 +74,18 @@ public interface SchemaCrawlerCommand
 
   Connection getConnection();
 
+  /**
+   * Source of additional connections to the same database, for commands
+   * that can use more than one connection at a time. Commands that do
+   * not keep a connection source have none.
+   *
+   * @return Source of additional connections, or null if there is none
+   */
+  default Supplier<Connection> getConnectionSource()
+  {
+    return null;
+  }
+
   Identifiers getIdentifiers();
 
   OutputOptions getOutputOptions();
@@ -94,6 +107,19 @@ public interface SchemaCrawlerCommand
 
   void setConnection(Connection connection);
 
+  /**
+   * Sets a source of additional connections to the same database.
+   * Commands that do not keep a connection source ignore it, and use
+   * only the connection that they are given.
+   *
+   * @param connectionSource
+   *        Source of additional connections
+   */
+  default void setConnectionSource(final Supplier<Connection> connectionSource)
+  {
+    // No-op
+  }
+
   void setIdentifiers(Identifiers identifiers);
 
   void setOutputOptions(OutputOptions outputOptions);
@@ -32,8 +32,12 @@ import static java.util.Objects.requireNonNull;
 import static schemacrawler.filter.ReducerFactory.*;
 import static sf.util.Utility.isBlank;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 import schemacrawler.schema.*;
@@ -42,6 +46,7 @@ import schemacrawler.tools.catalogloader.CatalogLoader;
 import schemacrawler.tools.catalogloader.CatalogLoaderRegistry;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.options.OutputOptionsBuilder;
+import schemacrawler.tools.text.utility.org.json.JSONException;
 import schemacrawler.utility.SchemaCrawlerUtility;
 import sf.util.ObjectToString;
 import sf.util.SchemaCrawlerLogger;
@@ -63,10 +68,17 @@ public final class SchemaCrawlerExecutable
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(SchemaCrawlerExecutable.class.getName());
 
+  /**
+   * Whether to write a timing report for the crawl, as JSON, next to
+   * the output file.
+   */
+  public static final String WRITE_CRAWL_METRICS = "schemacrawler.crawl.write_metrics";
+
   private final String command;
   private Config additionalConfiguration;
   private Catalog catalog;
   private Connection connection;
+  private Supplier<Connection> connectionSource;
   private OutputOptions outputOptions;
   private SchemaCrawlerOptions schemaCrawlerOptions;
   private SchemaRetrievalOptions schemaRetrievalOptions;
@@ -160,8 +172,11 @@ public final class SchemaCrawlerExecutable
 
     scCommand.setCatalog(catalog);
     scCommand.setConnection(connection);
+    scCommand.setConnectionSource(connectionSource);
 
     scCommand.execute();
+
+    writeCrawlMetrics();
   }
 
   public boolean hasConnection()
@@ -193,6 +208,20 @@ public final class SchemaCrawlerExecutable
     this.connection = requireNonNull(connection, "No connection provided");
   }
 
+  /**
+   * Sets a source of additional database connections, for commands
+   * that can do work concurrently. The source is optional, and
+   * connections obtained from it are closed by the commands that use
+   * them.
+   *
+   * @param connectionSource
+   *        Source of additional connections to the same database
+   */
+  public void setConnectionSource(final Supplier<Connection> connectionSource)
+  {
+    this.connectionSource = connectionSource;
+  }
+
   public void setSchemaRetrievalOptions(final SchemaRetrievalOptions schemaRetrievalOptions)
   {
     this.schemaRetrievalOptions = schemaRetrievalOptions;
@@ -273,6 +302,38 @@ public final class SchemaCrawlerExecutable
     }
   }
 
+  private void writeCrawlMetrics()
+  {
+    if (!additionalConfiguration.getBooleanValue(WRITE_CRAWL_METRICS))
+    {
+      return;
+    }
+
+    final Optional<Path> outputFile = outputOptions.getOutputFile();
+    final CrawlInfo crawlInfo = catalog.getCrawlInfo();
+    if (!outputFile.isPresent() || crawlInfo == null)
+    {
+      LOGGER.log(Level.WARNING,
+                 "Not writing crawl metrics, since there is no output file, or no crawl information");
+      return;
+    }
+
+    final Path metricsFile = CrawlMetricsWriter.metricsFile(outputFile.get());
+    try
+    {
+      new CrawlMetricsWriter(crawlInfo).write(metricsFile);
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Wrote crawl metrics to <%s>", metricsFile));
+    }
+    catch (final IOException | JSONException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not write crawl metrics to <%s>",
+                                  metricsFile),
+                 e);
+    }
+  }
+
   private void reduceCatalog()
   {
     ((Reducible) catalog)
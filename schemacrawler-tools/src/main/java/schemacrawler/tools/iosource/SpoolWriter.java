@@ -0,0 +1,140 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.iosource;
+
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Holds text that is written ahead of the time it is needed. The text
+ * is kept in memory while it is small, and is spooled to a temporary
+ * file after that, so that memory use does not depend on the amount of
+ * text. The text can be read back once, after which the temporary file
+ * is deleted.
+ */
+public final class SpoolWriter
+  extends Writer
+{
+
+  private static final int MAX_IN_MEMORY = 64 * 1024;
+
+  private final StringBuilder buffer;
+  private Path spoolFile;
+  private Writer spoolWriter;
+
+  public SpoolWriter()
+  {
+    buffer = new StringBuilder();
+  }
+
+  @Override
+  public void close()
+    throws IOException
+  {
+    if (spoolWriter != null)
+    {
+      spoolWriter.close();
+    }
+  }
+
+  @Override
+  public void flush()
+    throws IOException
+  {
+    if (spoolWriter != null)
+    {
+      spoolWriter.flush();
+    }
+  }
+
+  /**
+   * Closes the spool, and opens a reader for the spooled text. The
+   * temporary file, if any, is deleted when the reader is closed.
+   *
+   * @return Reader for the spooled text
+   * @throws IOException
+   *         On an exception reading the temporary file
+   */
+  public Reader openReader()
+    throws IOException
+  {
+    close();
+    if (spoolFile == null)
+    {
+      return new StringReader(buffer.toString());
+    }
+    final Path spoolFile = this.spoolFile;
+    return new FilterReader(Files.newBufferedReader(spoolFile,
+                                                    StandardCharsets.UTF_8))
+    {
+      @Override
+      public void close()
+        throws IOException
+      {
+        try
+        {
+          super.close();
+        }
+        finally
+        {
+          Files.deleteIfExists(spoolFile);
+        }
+      }
+    };
+  }
+
+  @Override
+  public void write(final char[] cbuf, final int off, final int len)
+    throws IOException
+  {
+    if (spoolWriter == null && buffer.length() + len > MAX_IN_MEMORY)
+    {
+      spoolFile = Files.createTempFile("schemacrawler", ".spool");
+      spoolFile.toFile().deleteOnExit();
+      spoolWriter = Files.newBufferedWriter(spoolFile, StandardCharsets.UTF_8);
+      spoolWriter.append(buffer);
+      buffer.setLength(0);
+    }
+    if (spoolWriter != null)
+    {
+      spoolWriter.write(cbuf, off, len);
+    }
+    else
+    {
+      buffer.append(cbuf, off, len);
+    }
+  }
+
+}
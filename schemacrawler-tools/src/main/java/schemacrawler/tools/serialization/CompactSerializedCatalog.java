@@ -0,0 +1,264 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.serialization;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamConstants;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.BaseCatalogDecorator;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+
+/**
+ * Decorates a database to allow for serialization to and from a
+ * versioned catalog snapshot. The snapshot has a small header (magic
+ * number, format version and flags), followed by the catalog object
+ * graph in Java serialization, which is compressed only if requested.
+ * Equal strings, such as names and
+ * type names, are interned before they are written, so that each
+ * distinct string is written once, and is referenced by handle
+ * thereafter. All reads and writes are buffered. Snapshots written by
+ * plain Java serialization can also be read.
+ */
+public final class CompactSerializedCatalog
+  extends BaseCatalogDecorator
+  implements SerializableCatalog
+{
+
+  /**
+   * Replaces strings with a canonical instance, so that each distinct
+   * string is serialized once, and referenced thereafter.
+   */
+  private static final class InterningObjectOutputStream
+    extends ObjectOutputStream
+  {
+
+    private final Map<String, String> strings;
+
+    InterningObjectOutputStream(final OutputStream out)
+      throws IOException
+    {
+      super(out);
+      strings = new HashMap<>();
+      enableReplaceObject(true);
+    }
+
+    @Override
+    protected Object replaceObject(final Object obj)
+    {
+      if (obj instanceof String)
+      {
+        return strings.computeIfAbsent((String) obj, string -> string);
+      }
+      return obj;
+    }
+
+  }
+
+  private static final long serialVersionUID = -3624380936428451374L;
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final int MAGIC = 0x5343_534E; // "SCSN"
+  private static final int VERSION = 1;
+  private static final int FLAG_COMPRESSED = 0x01;
+
+  private static Catalog readCatalog(final InputStream in)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(in, "No input stream provided");
+    try (final DataInputStream dataIn = new DataInputStream(new BufferedInputStream(in,
+                                                                                    BUFFER_SIZE));)
+    {
+      dataIn.mark(Integer.BYTES);
+      final int magic = dataIn.readInt();
+      final InputStream catalogIn;
+      if (magic == MAGIC)
+      {
+        final int version = dataIn.readInt();
+        if (version != VERSION)
+        {
+          throw new SchemaCrawlerException(String
+            .format("Unsupported catalog snapshot version, %d", version));
+        }
+        final int flags = dataIn.readInt();
+        if ((flags & FLAG_COMPRESSED) != 0)
+        {
+          catalogIn = new BufferedInputStream(new InflaterInputStream(dataIn),
+                                              BUFFER_SIZE);
+        }
+        else
+        {
+          catalogIn = dataIn;
+        }
+      }
+      else if (magic >>> 16 == (ObjectStreamConstants.STREAM_MAGIC & 0xFFFF))
+      {
+        // Plain Java serialization, from earlier versions
+        dataIn.reset();
+        catalogIn = dataIn;
+      }
+      else
+      {
+        throw new SchemaCrawlerException("Not a catalog snapshot");
+      }
+
+      try (final ObjectInputStream objIn = new ObjectInputStream(catalogIn);)
+      {
+        return (Catalog) objIn.readObject();
+      }
+    }
+    catch (ClassNotFoundException | IOException e)
+    {
+      throw new SchemaCrawlerException("Cannot deserialize catalog", e);
+    }
+  }
+
+  private static Catalog readCatalog(final Path snapshotFile)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(snapshotFile, "No catalog snapshot file provided");
+    try (final InputStream in = Files.newInputStream(snapshotFile);)
+    {
+      return readCatalog(in);
+    }
+    catch (final IOException e)
+    {
+      throw new SchemaCrawlerException("Cannot read catalog snapshot, "
+                                       + snapshotFile,
+                                       e);
+    }
+  }
+
+  private final boolean compressed;
+
+  public CompactSerializedCatalog(final Catalog catalog)
+  {
+    this(catalog, false);
+  }
+
+  public CompactSerializedCatalog(final Catalog catalog,
+                                  final boolean compressed)
+  {
+    super(catalog);
+    this.compressed = compressed;
+  }
+
+  public CompactSerializedCatalog(final InputStream in)
+    throws SchemaCrawlerException
+  {
+    this(readCatalog(in));
+  }
+
+  public CompactSerializedCatalog(final Path snapshotFile)
+    throws SchemaCrawlerException
+  {
+    this(readCatalog(snapshotFile));
+  }
+
+  public boolean isCompressed()
+  {
+    return compressed;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public final <T> Optional<T> lookupAttribute(final String name)
+  {
+    return Optional.of(getAttribute(name));
+  }
+
+  /**
+   * Serializes the catalog to the output stream, as a compact catalog
+   * snapshot.
+   *
+   * @param out
+   *        Output stream to save to
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  @Override
+  public void save(final OutputStream out)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(out, "No output stream provided");
+    final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try (final DataOutputStream dataOut = new DataOutputStream(new BufferedOutputStream(out,
+                                                                                        BUFFER_SIZE));)
+    {
+      dataOut.writeInt(MAGIC);
+      dataOut.writeInt(VERSION);
+      dataOut.writeInt(compressed? FLAG_COMPRESSED: 0);
+
+      final OutputStream catalogOut;
+      if (compressed)
+      {
+        catalogOut = new DeflaterOutputStream(dataOut, deflater, BUFFER_SIZE);
+      }
+      else
+      {
+        catalogOut = dataOut;
+      }
+
+      try (
+          final ObjectOutputStream objOut = new InterningObjectOutputStream(catalogOut);)
+      {
+        objOut.writeObject(catalog);
+      }
+    }
+    catch (final IOException e)
+    {
+      throw new SchemaCrawlerException("Could not serialize catalog", e);
+    }
+    finally
+    {
+      deflater.end();
+    }
+  }
+
+}
@@ -116,6 +116,15 @@ public abstract class BaseFormatter<O extends BaseTextOptions>
   @Override
   public void end()
     throws SchemaCrawlerException
+  {
+    closeOutput();
+  }
+
+  /**
+   * Flushes and closes the output, without writing anything further to
+   * it.
+   */
+  protected final void closeOutput()
   {
     out.flush();
     out.close();
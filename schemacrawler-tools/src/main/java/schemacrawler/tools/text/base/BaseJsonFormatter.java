@@ -84,7 +84,7 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
   public void end()
     throws SchemaCrawlerException
   {
-    ((JsonFormattingHelper) formattingHelper).write(jsonRoot);
+    writeJsonRoot();
 
     if (options.isNoFooter())
     {
@@ -282,6 +282,18 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
   {
   }
 
+  /**
+   * Writes the JSON root object, when the formatter ends.
+   *
+   * @throws SchemaCrawlerException
+   *         On an exception writing the JSON
+   */
+  protected void writeJsonRoot()
+    throws SchemaCrawlerException
+  {
+    ((JsonFormattingHelper) formattingHelper).write(jsonRoot);
+  }
+
   private JSONObject printJdbcDriverProperty(final JdbcDriverProperty driverProperty)
   {
     final JSONObject jsonDriverProperty = new JSONObject();
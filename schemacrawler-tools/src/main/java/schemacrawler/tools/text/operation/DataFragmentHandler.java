@@ -0,0 +1,73 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.operation;
+
+
+import java.io.Reader;
+import java.io.Writer;
+
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.tools.traversal.DataTraversalHandler;
+
+/**
+ * Data traversal handler that can have the data for each table
+ * formatted ahead of time, separately, so that tables can be queried
+ * concurrently. The formatted data for each table is then added to the
+ * output in table order, so that the output is the same as if the
+ * tables had been handled one after another.
+ *
+ * @author Sualeh Fatehi
+ */
+interface DataFragmentHandler
+  extends DataTraversalHandler
+{
+
+  /**
+   * Adds the data for a table, as formatted ahead of time by a fragment
+   * handler.
+   *
+   * @param fragment
+   *        Formatted data for a table
+   */
+  void handleDataFragment(Reader fragment)
+    throws SchemaCrawlerException;
+
+  /**
+   * Creates a handler that formats the data for a single table, without
+   * any header or footer. The handler needs to be ended once the data
+   * is handled. Fragment handlers can be used on any thread, but each
+   * one on only one thread at a time.
+   *
+   * @param writer
+   *        Writer for the formatted data
+   * @return Fragment handler
+   */
+  DataTraversalHandler newFragmentHandler(Writer writer)
+    throws SchemaCrawlerException;
+
+}
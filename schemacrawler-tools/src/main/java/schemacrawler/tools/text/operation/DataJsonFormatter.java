@@ -29,6 +29,9 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.text.operation;
 
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -39,25 +42,31 @@ import java.util.List;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.options.OutputOptionsBuilder;
 import schemacrawler.tools.text.base.BaseJsonFormatter;
+import schemacrawler.tools.text.utility.JsonFormattingHelper;
 import schemacrawler.tools.text.utility.org.json.JSONArray;
+import schemacrawler.tools.text.utility.org.json.JSONArrayStream;
 import schemacrawler.tools.text.utility.org.json.JSONException;
 import schemacrawler.tools.text.utility.org.json.JSONObject;
 import schemacrawler.tools.traversal.DataTraversalHandler;
 import schemacrawler.utility.Query;
 
 /**
- * Text formatting of data.
+ * Text formatting of data. Data is streamed to the output as each table
+ * and row is traversed, rather than being held in memory until the end.
  *
  * @author Sualeh Fatehi
  */
 final class DataJsonFormatter
   extends BaseJsonFormatter<OperationOptions>
-  implements DataTraversalHandler
+  implements DataFragmentHandler
 {
 
   private final Operation operation;
-  private final JSONArray jsonDataArray;
+  private final Writer fragmentWriter;
+  private final int fragmentIndent;
+  private JSONArrayStream jsonDataStream;
 
   /**
    * Text formatting of data.
@@ -76,21 +85,39 @@ final class DataJsonFormatter
                     final OutputOptions outputOptions,
                     final String identifierQuoteString)
     throws SchemaCrawlerException
+  {
+    this(operation, options, outputOptions, identifierQuoteString, null, 0);
+  }
+
+  /**
+   * Formatting of data for a single table, which is written straight to
+   * the fragment writer as an element of the data array, with the given
+   * indentation.
+   */
+  private DataJsonFormatter(final Operation operation,
+                            final OperationOptions options,
+                            final OutputOptions outputOptions,
+                            final String identifierQuoteString,
+                            final Writer fragmentWriter,
+                            final int fragmentIndent)
+    throws SchemaCrawlerException
   {
     super(options,
           /* printVerboseDatabaseInfo */false,
           outputOptions,
           identifierQuoteString);
     this.operation = operation;
+    this.fragmentWriter = fragmentWriter;
+    this.fragmentIndent = fragmentIndent;
 
-    jsonDataArray = new JSONArray();
     try
     {
       if (operation != null)
       {
         jsonRoot.put("description", operation.getDescription());
       }
-      jsonRoot.put("data", jsonDataArray);
+      // The data array is streamed
+      jsonRoot.put("data", new JSONArray());
     }
     catch (final JSONException e)
     {
@@ -98,6 +125,30 @@ final class DataJsonFormatter
     }
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void end()
+    throws SchemaCrawlerException
+  {
+    if (fragmentWriter != null)
+    {
+      try
+      {
+        fragmentWriter.flush();
+      }
+      catch (final IOException e)
+      {
+        throw new SchemaCrawlerException("Could not write data", e);
+      }
+      closeOutput();
+      return;
+    }
+
+    super.end();
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -145,6 +196,40 @@ final class DataJsonFormatter
     handleData(tableName, rows);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void handleDataFragment(final Reader fragment)
+    throws SchemaCrawlerException
+  {
+    try
+    {
+      getJsonDataStream().putWritten(fragment);
+    }
+    catch (final JSONException e)
+    {
+      throw new SchemaCrawlerException("Could not convert data to JSON", e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DataTraversalHandler newFragmentHandler(final Writer writer)
+    throws SchemaCrawlerException
+  {
+    final OutputOptions fragmentOutputOptions = OutputOptionsBuilder
+      .builder(outputOptions).withOutputWriter(writer).toOptions();
+    return new DataJsonFormatter(operation,
+                                 options,
+                                 fragmentOutputOptions,
+                                 identifiers.getIdentifierQuoteString(),
+                                 writer,
+                                 getJsonDataStream().getIndent());
+  }
+
   /**
    * Handles an aggregate operation, such as a count, for a given table.
    *
@@ -169,6 +254,38 @@ final class DataJsonFormatter
     }
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void writeJsonRoot()
+    throws SchemaCrawlerException
+  {
+    try
+    {
+      getJsonDataStream().end();
+    }
+    catch (final JSONException e)
+    {
+      throw new SchemaCrawlerException("Could not convert data to JSON", e);
+    }
+  }
+
+  /**
+   * Starts writing the JSON root the first time data is handled, when
+   * all of the other values in the JSON root are known.
+   */
+  private JSONArrayStream getJsonDataStream()
+    throws SchemaCrawlerException
+  {
+    if (jsonDataStream == null)
+    {
+      jsonDataStream = ((JsonFormattingHelper) formattingHelper)
+        .writeStreaming(jsonRoot, "data");
+    }
+    return jsonDataStream;
+  }
+
   private void handleData(final String title, final ResultSet rows)
     throws SchemaCrawlerException
   {
@@ -179,6 +296,20 @@ final class DataJsonFormatter
 
     try
     {
+      final Writer jsonDataWriter;
+      final int jsonDataIndent;
+      if (fragmentWriter != null)
+      {
+        jsonDataWriter = fragmentWriter;
+        jsonDataIndent = fragmentIndent;
+      }
+      else
+      {
+        final JSONArrayStream jsonDataStream = getJsonDataStream();
+        jsonDataWriter = jsonDataStream.nextElement();
+        jsonDataIndent = jsonDataStream.getElementIndent();
+      }
+
       final JSONObject jsonData = new JSONObject();
       jsonData.put("title", title);
 
@@ -186,39 +317,42 @@ final class DataJsonFormatter
       {
         final long aggregate = handleAggregateOperationForTable(rows);
         jsonData.put("value", aggregate);
+        jsonDataWriter.write(jsonData.toString(2, jsonDataIndent));
       }
       else
       {
         try
         {
-          final DataResultSet dataRows = new DataResultSet(rows,
-                                                           options
-                                                             .isShowLobs());
+          final DataResultSet dataRows = new DataResultSet(rows, options);
 
           jsonData.put("columnNames", new JSONArray(dataRows.getColumnNames()));
 
-          final JSONArray jsonRows = iterateRows(dataRows);
-          jsonData.put("rows", jsonRows);
+          final JSONArrayStream jsonRows = jsonData
+            .writeStreaming(jsonDataWriter,
+                            "rows",
+                            2,
+                            jsonDataIndent,
+                            false);
+          iterateRows(dataRows, jsonRows);
+          jsonRows.end();
         }
         catch (final SQLException e)
         {
           throw new SchemaCrawlerException(e.getMessage(), e);
         }
       }
-
-      jsonDataArray.put(jsonData);
     }
-    catch (final JSONException e)
+    catch (final JSONException | IOException e)
     {
       throw new SchemaCrawlerException("Could not convert data to JSON", e);
     }
 
   }
 
-  private JSONArray iterateRows(final DataResultSet dataRows)
-    throws SQLException
+  private void iterateRows(final DataResultSet dataRows,
+                           final JSONArrayStream jsonRows)
+    throws SQLException, JSONException
   {
-    final JSONArray jsonRows = new JSONArray();
     while (dataRows.next())
     {
       final List<Object> currentRowRaw = dataRows.row();
@@ -255,6 +389,5 @@ final class DataJsonFormatter
       }
       jsonRows.put(new JSONArray(currentRow));
     }
-    return jsonRows;
   }
 }
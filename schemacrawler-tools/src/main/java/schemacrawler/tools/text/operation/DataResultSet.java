@@ -29,10 +29,10 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.text.operation;
 
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
-import static sf.util.IOUtility.readFully;
 
-import java.io.BufferedInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
@@ -44,6 +44,7 @@ import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.logging.Level;
 
@@ -54,7 +55,9 @@ import schemacrawler.tools.text.utility.BinaryData;
 import sf.util.SchemaCrawlerLogger;
 
 /**
- * Text formatting of data.
+ * Text formatting of data. LOB data is read through a small, fixed
+ * buffer, and no further than the maximum preview length, so that large
+ * LOBs are never held in memory.
  *
  * @author Sualeh Fatehi
  */
@@ -64,15 +67,42 @@ final class DataResultSet
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(DataResultSet.class.getName());
 
+  /**
+   * Shown after LOB data that is longer than the maximum preview length.
+   */
+  private static final String TRUNCATED = "...";
+  /**
+   * Size of the read buffer, as a multiple of 2 and of 3, so that full
+   * buffers of bytes encode to hex or base64 without carrying over.
+   */
+  private static final int BUFFER_SIZE = 6 * 1024;
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
   private final ResultSet rows;
   private final List<ResultsColumn> resultsColumns;
   private final boolean showLobs;
+  private final int maxLobPreviewLength;
+  private final BinaryEncoding binaryEncoding;
+  private final byte[] byteBuffer;
+  private final char[] charBuffer;
 
-  public DataResultSet(final ResultSet rows, final boolean showLobs)
+  public DataResultSet(final ResultSet rows, final OperationOptions options)
     throws SchemaCrawlerException
   {
     this.rows = requireNonNull(rows, "Cannot use null results");
-    this.showLobs = showLobs;
+    requireNonNull(options, "No operation options provided");
+    showLobs = options.isShowLobs();
+    if (options.getMaxLobPreviewLength() > 0)
+    {
+      maxLobPreviewLength = options.getMaxLobPreviewLength();
+    }
+    else
+    {
+      maxLobPreviewLength = Integer.MAX_VALUE;
+    }
+    binaryEncoding = options.getBinaryEncoding();
+    byteBuffer = new byte[BUFFER_SIZE];
+    charBuffer = new char[BUFFER_SIZE];
     resultsColumns = new ResultsCrawler(rows).crawl().getColumns();
   }
 
@@ -106,6 +136,23 @@ final class DataResultSet
     return currentRow;
   }
 
+  /**
+   * Reads the current row into an array, which can be reused from row
+   * to row.
+   *
+   * @param columnData
+   *        Array of column data, at least as wide as the row
+   */
+  public void row(final Object[] columnData)
+    throws SQLException
+  {
+    final int columnCount = resultsColumns.size();
+    for (int i = 0; i < columnCount; i++)
+    {
+      columnData[i] = getColumnData(i);
+    }
+  }
+
   public int width()
   {
     return resultsColumns.size();
@@ -162,7 +209,7 @@ final class DataResultSet
       }
       else
       {
-        columnData = readStream(stream);
+        columnData = readBinaryStream(stream);
       }
     }
     else if (javaSqlType == Types.LONGNVARCHAR
@@ -175,7 +222,7 @@ final class DataResultSet
       }
       else
       {
-        columnData = readStream(stream);
+        columnData = readTextStream(stream);
       }
     }
     else
@@ -189,6 +236,120 @@ final class DataResultSet
     return columnData;
   }
 
+  private static int fill(final InputStream in,
+                          final byte[] buffer,
+                          final int length)
+    throws IOException
+  {
+    int count = 0;
+    while (count < length)
+    {
+      final int read = in.read(buffer, count, length - count);
+      if (read == -1)
+      {
+        break;
+      }
+      count = count + read;
+    }
+    return count;
+  }
+
+  private void appendEncoded(final StringBuilder lobData, final int length)
+  {
+    if (binaryEncoding == BinaryEncoding.base64)
+    {
+      final byte[] bytes;
+      if (length == byteBuffer.length)
+      {
+        bytes = byteBuffer;
+      }
+      else
+      {
+        bytes = new byte[length];
+        System.arraycopy(byteBuffer, 0, bytes, 0, length);
+      }
+      lobData.append(Base64.getEncoder().encodeToString(bytes));
+    }
+    else
+    {
+      for (int i = 0; i < length; i++)
+      {
+        final int b = byteBuffer[i] & 0xFF;
+        lobData.append(HEX_DIGITS[b >>> 4]).append(HEX_DIGITS[b & 0x0F]);
+      }
+    }
+  }
+
+  /**
+   * Reads binary data, up to the number of bytes that encode to the
+   * maximum preview length.
+   */
+  private BinaryData readBinary(final InputStream in)
+    throws IOException
+  {
+    if (binaryEncoding == BinaryEncoding.text)
+    {
+      return readCharacters(new InputStreamReader(in, UTF_8));
+    }
+
+    final int maxBytes;
+    if (binaryEncoding == BinaryEncoding.base64)
+    {
+      maxBytes = Math.max(1, maxLobPreviewLength / 4) * 3;
+    }
+    else
+    {
+      maxBytes = Math.max(1, maxLobPreviewLength / 2);
+    }
+
+    final StringBuilder lobData = new StringBuilder();
+    int remaining = maxBytes;
+    while (remaining > 0)
+    {
+      final int count = fill(in, byteBuffer, Math.min(remaining, BUFFER_SIZE));
+      if (count == 0)
+      {
+        break;
+      }
+      appendEncoded(lobData, count);
+      remaining = remaining - count;
+      if (count < BUFFER_SIZE && remaining > 0)
+      {
+        // End of stream
+        return new BinaryData(lobData.toString());
+      }
+    }
+    if (remaining == 0 && in.read() != -1)
+    {
+      lobData.append(TRUNCATED);
+    }
+    return new BinaryData(lobData.toString());
+  }
+
+  private BinaryData readBinaryStream(final InputStream stream)
+  {
+    if (stream == null)
+    {
+      return null;
+    }
+    else if (showLobs)
+    {
+      try (final InputStream in = stream;)
+      {
+        return readBinary(in);
+      }
+      catch (final IOException e)
+      {
+        LOGGER.log(Level.WARNING, "Could not read binary data", e);
+        return new BinaryData();
+      }
+    }
+    else
+    {
+      return new BinaryData();
+    }
+  }
+
   private BinaryData readBlob(final Blob blob)
   {
     if (blob == null)
@@ -213,14 +374,17 @@ final class DataResultSet
 
         if (in != null)
         {
-          lobData = new BinaryData(readFully(in));
+          try (final InputStream blobStream = in;)
+          {
+            lobData = readBinary(blobStream);
+          }
         }
         else
         {
           lobData = new BinaryData();
         }
       }
-      catch (final SQLException e)
+      catch (final SQLException | IOException e)
       {
         LOGGER.log(Level.WARNING, "Could not read BLOB data", e);
         lobData = new BinaryData();
@@ -233,6 +397,32 @@ final class DataResultSet
     }
   }
 
+  /**
+   * Reads character data, up to the maximum preview length.
+   */
+  private BinaryData readCharacters(final Reader reader)
+    throws IOException
+  {
+    final StringBuilder lobData = new StringBuilder();
+    int remaining = maxLobPreviewLength;
+    while (remaining > 0)
+    {
+      final int count = reader
+        .read(charBuffer, 0, Math.min(remaining, charBuffer.length));
+      if (count == -1)
+      {
+        return new BinaryData(lobData.toString());
+      }
+      lobData.append(charBuffer, 0, count);
+      remaining = remaining - count;
+    }
+    if (reader.read() != -1)
+    {
+      lobData.append(TRUNCATED);
+    }
+    return new BinaryData(lobData.toString());
+  }
+
   private BinaryData readClob(final Clob clob)
   {
     if (clob == null)
@@ -260,7 +450,7 @@ final class DataResultSet
         {
           try
           {
-            rdr = new InputStreamReader(clob.getAsciiStream());
+            rdr = new InputStreamReader(clob.getAsciiStream(), UTF_8);
           }
           catch (final SQLFeatureNotSupportedException e)
           {
@@ -273,21 +463,33 @@ final class DataResultSet
 
         if (rdr != null)
         {
-          String lobDataString = readFully(rdr);
-          if (lobDataString.isEmpty())
+          try (final Reader clobReader = rdr;)
+          {
+            lobData = readCharacters(clobReader);
+          }
+          if (lobData.toString().isEmpty())
           {
             // Attempt yet another read
             final long clobLength = clob.length();
-            lobDataString = clob.getSubString(1, (int) clobLength);
+            if (clobLength > 0)
+            {
+              final int length = (int) Math.min(clobLength,
+                                                maxLobPreviewLength);
+              String lobDataString = clob.getSubString(1, length);
+              if (clobLength > length)
+              {
+                lobDataString = lobDataString + TRUNCATED;
+              }
+              lobData = new BinaryData(lobDataString);
+            }
           }
-          lobData = new BinaryData(lobDataString);
         }
         else
         {
           lobData = new BinaryData();
         }
       }
-      catch (final SQLException e)
+      catch (final SQLException | IOException e)
       {
         LOGGER.log(Level.WARNING, "Could not read CLOB data", e);
         lobData = new BinaryData();
@@ -301,14 +503,14 @@ final class DataResultSet
   }
 
   /**
-   * Reads data from an input stream into a string. Default system
+   * Reads character data from an input stream into a string. UTF-8
    * encoding is assumed.
    *
-   * @param columnData
-   *        Column data object returned by JDBC
+   * @param stream
+   *        Stream returned by JDBC
    * @return A string with the contents of the LOB
    */
-  private BinaryData readStream(final InputStream stream)
+  private BinaryData readTextStream(final InputStream stream)
   {
     if (stream == null)
     {
@@ -316,9 +518,15 @@ final class DataResultSet
     }
     else if (showLobs)
     {
-      final BufferedInputStream in = new BufferedInputStream(stream);
-      final BinaryData lobData = new BinaryData(readFully(in));
-      return lobData;
+      try (final Reader reader = new InputStreamReader(stream, UTF_8);)
+      {
+        return readCharacters(reader);
+      }
+      catch (final IOException e)
+      {
+        LOGGER.log(Level.WARNING, "Could not read character data", e);
+        return new BinaryData();
+      }
     }
     else
     {
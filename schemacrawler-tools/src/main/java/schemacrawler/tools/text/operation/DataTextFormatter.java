@@ -31,13 +31,16 @@ package schemacrawler.tools.text.operation;
 
 import static schemacrawler.tools.analysis.counts.CountsUtility.getRowCountMessage;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.List;
 
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.options.OutputOptionsBuilder;
 import schemacrawler.tools.text.base.BaseTabularFormatter;
 import schemacrawler.tools.text.utility.TextFormattingHelper.DocumentHeaderType;
 import schemacrawler.tools.text.utility.html.Alignment;
@@ -52,11 +55,12 @@ import sf.util.Color;
  */
 final class DataTextFormatter
   extends BaseTabularFormatter<OperationOptions>
-  implements DataTraversalHandler
+  implements DataFragmentHandler
 {
 
   private int dataBlockCount;
   private final Operation operation;
+  private final boolean isFragment;
 
   /**
    * Text formatting of data.
@@ -75,12 +79,29 @@ final class DataTextFormatter
                     final OutputOptions outputOptions,
                     final String identifierQuoteString)
     throws SchemaCrawlerException
+  {
+    this(operation, options, outputOptions, identifierQuoteString, false);
+  }
+
+  private DataTextFormatter(final Operation operation,
+                            final OperationOptions options,
+                            final OutputOptions outputOptions,
+                            final String identifierQuoteString,
+                            final boolean isFragment)
+    throws SchemaCrawlerException
   {
     super(options,
           /* printVerboseDatabaseInfo */false,
           outputOptions,
           identifierQuoteString);
     this.operation = operation;
+    this.isFragment = isFragment;
+    if (isFragment)
+    {
+      // The header is printed by the handler that the fragment is
+      // added to
+      dataBlockCount = 1;
+    }
   }
 
   /**
@@ -90,6 +111,12 @@ final class DataTextFormatter
   public void end()
     throws SchemaCrawlerException
   {
+    if (isFragment)
+    {
+      closeOutput();
+      return;
+    }
+
     if (operation == Operation.count)
     {
       formattingHelper.writeObjectEnd();
@@ -145,6 +172,51 @@ final class DataTextFormatter
     handleData(tableName, rows);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void handleDataFragment(final Reader fragment)
+    throws SchemaCrawlerException
+  {
+    if (dataBlockCount == 0)
+    {
+      printHeader();
+    }
+
+    try
+    {
+      final char[] buffer = new char[8192];
+      int count;
+      while ((count = fragment.read(buffer)) != -1)
+      {
+        formattingHelper.append(new String(buffer, 0, count));
+      }
+    }
+    catch (final IOException e)
+    {
+      throw new SchemaCrawlerException("Could not write data", e);
+    }
+
+    dataBlockCount++;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DataTraversalHandler newFragmentHandler(final Writer writer)
+    throws SchemaCrawlerException
+  {
+    final OutputOptions fragmentOutputOptions = OutputOptionsBuilder
+      .builder(outputOptions).withOutputWriter(writer).toOptions();
+    return new DataTextFormatter(operation,
+                                 options,
+                                 fragmentOutputOptions,
+                                 identifiers.getIdentifierQuoteString(),
+                                 true);
+  }
+
   private String getMessage(final double aggregate)
   {
     final Number number;
@@ -214,8 +286,7 @@ final class DataTextFormatter
       formattingHelper.writeObjectNameRow("", title, "", Color.white);
       try
       {
-        final DataResultSet dataRows = new DataResultSet(rows,
-                                                         options.isShowLobs());
+        final DataResultSet dataRows = new DataResultSet(rows, options);
 
         formattingHelper.writeRowHeader(dataRows.getColumnNames());
 
@@ -234,11 +305,10 @@ final class DataTextFormatter
   private void iterateRows(final DataResultSet dataRows)
     throws SQLException
   {
+    final Object[] columnData = new Object[dataRows.width()];
     while (dataRows.next())
     {
-      final List<Object> currentRow = dataRows.row();
-      final Object[] columnData = currentRow
-        .toArray(new Object[currentRow.size()]);
+      dataRows.row(columnData);
       formattingHelper.writeRow(columnData);
     }
   }
@@ -120,18 +120,33 @@ public final class OperationCommand
         final Identifiers identifiers = Identifiers.identifiers()
           .withIdentifierQuoteString(identifierQuoteString).build();
 
-        for (final Table table: getSortedTables(catalog))
+        final List<? extends Table> tables = getSortedTables(catalog);
+        final boolean isAlphabeticalSortForTableColumns = operationOptions
+          .isAlphabeticalSortForTableColumns();
+        if (isParallel(handler, tables))
         {
-          final boolean isAlphabeticalSortForTableColumns = operationOptions
-            .isAlphabeticalSortForTableColumns();
-          try (
-              final ResultSet results = executeAgainstTable(query,
-                                                            statement,
-                                                            table,
-                                                            isAlphabeticalSortForTableColumns,
-                                                            identifiers);)
+          final TableDataExporter exporter = new TableDataExporter(connection,
+                                                                   connectionSource,
+                                                                   query,
+                                                                   isAlphabeticalSortForTableColumns,
+                                                                   identifiers,
+                                                                   operationOptions
+                                                                     .getParallelism());
+          exporter.export(tables, (DataFragmentHandler) handler);
+        }
+        else
+        {
+          for (final Table table: tables)
           {
-            handler.handleData(table, results);
+            try (
+                final ResultSet results = executeAgainstTable(query,
+                                                              statement,
+                                                              table,
+                                                              isAlphabeticalSortForTableColumns,
+                                                              identifiers);)
+            {
+              handler.handleData(table, results);
+            }
           }
         }
       }
@@ -257,6 +272,17 @@ public final class OperationCommand
     return tables;
   }
 
+  /**
+   * Tables are queried concurrently only if more connections can be
+   * opened, and there is more than one table.
+   */
+  private boolean isParallel(final DataTraversalHandler handler,
+                             final List<? extends Table> tables)
+  {
+    return operationOptions.getParallelism() > 1 && connectionSource != null
+           && tables.size() > 1 && handler instanceof DataFragmentHandler;
+  }
+
   private boolean isOutputFormatSupported()
   {
     final String outputFormatValue = outputOptions.getOutputFormatValue();
@@ -41,11 +41,50 @@ public final class OperationOptions
 {
 
   private final boolean isShowLobs;
+  private final int maxLobPreviewLength;
+  private final BinaryEncoding binaryEncoding;
+  private final int parallelism;
 
   protected OperationOptions(final OperationOptionsBuilder builder)
   {
     super(builder);
     isShowLobs = builder.isShowLobs;
+    maxLobPreviewLength = builder.maxLobPreviewLength;
+    binaryEncoding = builder.binaryEncoding;
+    parallelism = builder.parallelism;
+  }
+
+  /**
+   * How binary LOB data is shown.
+   *
+   * @return Encoding for binary LOB data.
+   */
+  public BinaryEncoding getBinaryEncoding()
+  {
+    return binaryEncoding;
+  }
+
+  /**
+   * Maximum number of characters of LOB data to show. Binary data
+   * counts characters after encoding.
+   *
+   * @return Maximum number of characters of LOB data to show, or 0 to
+   *         show all LOB data.
+   */
+  public int getMaxLobPreviewLength()
+  {
+    return maxLobPreviewLength;
+  }
+
+  /**
+   * Number of tables to query at the same time, each on its own
+   * connection.
+   *
+   * @return Number of tables to query at the same time.
+   */
+  public int getParallelism()
+  {
+    return parallelism;
   }
 
   /**
@@ -42,6 +42,14 @@ public final class OperationOptionsBuilder
 {
   private static final String SHOW_LOBS = SCHEMACRAWLER_FORMAT_PREFIX
                                           + "data.show_lobs";
+  private static final String MAX_LOB_PREVIEW_LENGTH = SCHEMACRAWLER_FORMAT_PREFIX
+                                                       + "data.max_lob_preview_length";
+  private static final String BINARY_ENCODING = SCHEMACRAWLER_FORMAT_PREFIX
+                                                + "data.binary_encoding";
+  private static final String PARALLELISM = SCHEMACRAWLER_FORMAT_PREFIX
+                                            + "data.parallelism";
+
+  private static final int DEFAULT_MAX_LOB_PREVIEW_LENGTH = 1024 * 1024;
 
   public static OperationOptionsBuilder builder()
   {
@@ -64,10 +72,52 @@ public final class OperationOptionsBuilder
   }
 
   protected boolean isShowLobs;
+  protected int maxLobPreviewLength;
+  protected BinaryEncoding binaryEncoding;
+  protected int parallelism;
 
   private OperationOptionsBuilder()
   {
     // Set default values, if any
+    maxLobPreviewLength = DEFAULT_MAX_LOB_PREVIEW_LENGTH;
+    binaryEncoding = BinaryEncoding.text;
+    parallelism = 1;
+  }
+
+  /**
+   * How binary LOB data is shown.
+   *
+   * @param binaryEncoding
+   *        Encoding for binary LOB data, or null for text.
+   * @return Builder
+   */
+  public OperationOptionsBuilder withBinaryEncoding(final BinaryEncoding binaryEncoding)
+  {
+    if (binaryEncoding == null)
+    {
+      this.binaryEncoding = BinaryEncoding.text;
+    }
+    else
+    {
+      this.binaryEncoding = binaryEncoding;
+    }
+    return this;
+  }
+
+  /**
+   * Maximum number of characters of LOB data to show. LOB data is read
+   * no further than this, however large the LOB is. The default is
+   * 1,048,576 characters.
+   *
+   * @param maxLobPreviewLength
+   *        Maximum number of characters, or 0 or less to show all LOB
+   *        data, which reads each LOB into memory in full.
+   * @return Builder
+   */
+  public OperationOptionsBuilder withMaxLobPreviewLength(final int maxLobPreviewLength)
+  {
+    this.maxLobPreviewLength = Math.max(0, maxLobPreviewLength);
+    return this;
   }
 
   @Override
@@ -81,6 +131,10 @@ public final class OperationOptionsBuilder
 
     final Config config = new Config(map);
     isShowLobs = config.getBooleanValue(SHOW_LOBS, false);
+    withMaxLobPreviewLength(config
+      .getIntegerValue(MAX_LOB_PREVIEW_LENGTH, DEFAULT_MAX_LOB_PREVIEW_LENGTH));
+    binaryEncoding = config.getEnumValue(BINARY_ENCODING, BinaryEncoding.text);
+    withParallelism(config.getIntegerValue(PARALLELISM, 1));
 
     return this;
   }
@@ -95,6 +149,9 @@ public final class OperationOptionsBuilder
     super.fromOptions(options);
 
     isShowLobs = options.isShowLobs();
+    maxLobPreviewLength = options.getMaxLobPreviewLength();
+    binaryEncoding = options.getBinaryEncoding();
+    parallelism = options.getParallelism();
 
     return this;
   }
@@ -117,11 +174,30 @@ public final class OperationOptionsBuilder
     return this;
   }
 
+  /**
+   * Number of tables to query at the same time, each on its own
+   * connection. Output is in the same order at any parallelism.
+   *
+   * @param parallelism
+   *        Number of tables to query at the same time, with 1 to query
+   *        tables one after another
+   * @return Builder
+   */
+  public OperationOptionsBuilder withParallelism(final int parallelism)
+  {
+    this.parallelism = Math.max(1, parallelism);
+    return this;
+  }
+
   @Override
   public Config toConfig()
   {
     final Config config = super.toConfig();
     config.setBooleanValue(SHOW_LOBS, isShowLobs);
+    config.setStringValue(MAX_LOB_PREVIEW_LENGTH,
+                          String.valueOf(maxLobPreviewLength));
+    config.setEnumValue(BINARY_ENCODING, binaryEncoding);
+    config.setStringValue(PARALLELISM, String.valueOf(parallelism));
     return config;
   }
 
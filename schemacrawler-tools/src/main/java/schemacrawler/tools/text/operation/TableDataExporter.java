@@ -0,0 +1,236 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.operation;
+
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.utility.QueryUtility.executeAgainstTable;
+import static sf.util.DatabaseUtility.createStatement;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.tools.iosource.SpoolWriter;
+import schemacrawler.tools.traversal.DataTraversalHandler;
+import schemacrawler.utility.Identifiers;
+import schemacrawler.utility.Query;
+import sf.util.ConnectionPool;
+import sf.util.DaemonThreadFactory;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Queries tables concurrently, each on its own connection, and formats
+ * the data for each table ahead of time. The formatted data is held in
+ * memory, or spooled to temporary files, and is added to the output in
+ * the order of the tables, so that the output is the same as if the
+ * tables were queried one after another.
+ *
+ * @author Sualeh Fatehi
+ */
+final class TableDataExporter
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(TableDataExporter.class.getName());
+
+  private final Connection connection;
+  private final Supplier<Connection> connectionSource;
+  private final Query query;
+  private final boolean isAlphabeticalSortForTableColumns;
+  private final Identifiers identifiers;
+  private final int parallelism;
+
+  TableDataExporter(final Connection connection,
+                    final Supplier<Connection> connectionSource,
+                    final Query query,
+                    final boolean isAlphabeticalSortForTableColumns,
+                    final Identifiers identifiers,
+                    final int parallelism)
+  {
+    this.connection = requireNonNull(connection, "No connection provided");
+    this.connectionSource = requireNonNull(connectionSource,
+                                           "No connection source provided");
+    this.query = requireNonNull(query, "No query provided");
+    this.isAlphabeticalSortForTableColumns = isAlphabeticalSortForTableColumns;
+    this.identifiers = requireNonNull(identifiers, "No identifiers provided");
+    this.parallelism = Math.max(1, parallelism);
+  }
+
+  /**
+   * Queries and formats the data for each table, with as many tables
+   * being queried at the same time as the parallelism allows, and adds
+   * the formatted data to the handler in table order. No more than
+   * twice as many tables as there are threads are queried ahead of the
+   * table that is next in the output.
+   *
+   * @param tables
+   *        Tables to query, in output order
+   * @param handler
+   *        Handler for the formatted data
+   * @throws SchemaCrawlerException
+   *         On an exception querying or formatting a table, for the
+   *         first table in output order that failed
+   */
+  void export(final List<? extends Table> tables,
+              final DataFragmentHandler handler)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(tables, "No tables provided");
+    requireNonNull(handler, "No data handler provided");
+
+    final int threadCount = Math.min(parallelism, tables.size());
+    LOGGER.log(Level.INFO,
+               new StringFormat("Querying data for %d tables on %d threads",
+                                tables.size(),
+                                threadCount));
+
+    final ConnectionPool connectionPool = new ConnectionPool(connection,
+                                                             connectionSource,
+                                                             threadCount);
+    final ExecutorService executorService = Executors
+      .newFixedThreadPool(threadCount,
+                          new DaemonThreadFactory("schemacrawler-data"));
+    try
+    {
+      // Only a few tables are queried ahead of the output, so that the
+      // formatted data held in memory or in temporary files is bounded
+      final int maximumInFlight = 2 * threadCount;
+      final Deque<Future<SpoolWriter>> futures = new ArrayDeque<>();
+      final Iterator<? extends Table> tablesIterator = tables.iterator();
+      while (tablesIterator.hasNext() || !futures.isEmpty())
+      {
+        while (tablesIterator.hasNext() && futures.size() < maximumInFlight)
+        {
+          futures.add(submit(executorService,
+                             connectionPool,
+                             tablesIterator.next(),
+                             handler));
+        }
+
+        try (final Reader fragment = futures.remove().get().openReader();)
+        {
+          handler.handleDataFragment(fragment);
+        }
+      }
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerException("Interrupted while querying data", e);
+    }
+    catch (final ExecutionException e)
+    {
+      final Throwable cause = e.getCause();
+      if (cause instanceof SchemaCrawlerException)
+      {
+        throw (SchemaCrawlerException) cause;
+      }
+      throw new SchemaCrawlerException("Could not query data", cause);
+    }
+    catch (final IOException e)
+    {
+      throw new SchemaCrawlerException("Could not write data", e);
+    }
+    finally
+    {
+      executorService.shutdownNow();
+      connectionPool.close();
+    }
+  }
+
+  /**
+   * Submits a table to be queried. Fragment handlers are created on
+   * the calling thread, since creating one may use the handler that
+   * writes to the output.
+   */
+  private Future<SpoolWriter> submit(final ExecutorService executorService,
+                                     final ConnectionPool connectionPool,
+                                     final Table table,
+                                     final DataFragmentHandler handler)
+    throws SchemaCrawlerException
+  {
+    final SpoolWriter fragment = new SpoolWriter();
+    final DataTraversalHandler fragmentHandler = handler
+      .newFragmentHandler(fragment);
+    return executorService.submit(() -> {
+      final Connection taskConnection = connectionPool.acquire();
+      try
+      {
+        handleData(taskConnection, table, fragmentHandler);
+      }
+      finally
+      {
+        connectionPool.release(taskConnection);
+      }
+      return fragment;
+    });
+  }
+
+  private void handleData(final Connection connection,
+                          final Table table,
+                          final DataTraversalHandler fragmentHandler)
+    throws SchemaCrawlerException
+  {
+    try (final Statement statement = createStatement(connection);
+        final ResultSet results = executeAgainstTable(query,
+                                                      statement,
+                                                      table,
+                                                      isAlphabeticalSortForTableColumns,
+                                                      identifiers);)
+    {
+      fragmentHandler.handleData(table, results);
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerException(String
+        .format("Could not query data for table <%s>", table), e);
+    }
+    finally
+    {
+      fragmentHandler.end();
+    }
+  }
+
+}
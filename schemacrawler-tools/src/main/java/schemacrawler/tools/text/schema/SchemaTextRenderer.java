@@ -35,6 +35,8 @@ import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.analysis.associations.CatalogWithAssociations;
 import schemacrawler.tools.analysis.counts.CatalogWithCounts;
+import schemacrawler.tools.analysis.counts.TableRowCountsOptions;
+import schemacrawler.tools.analysis.counts.TableRowCountsOptionsBuilder;
 import schemacrawler.tools.executable.BaseSchemaCrawlerCommand;
 import schemacrawler.tools.options.TextOutputFormat;
 import schemacrawler.tools.traversal.SchemaTraversalHandler;
@@ -79,9 +81,13 @@ public final class SchemaTextRenderer
     if (schemaTextOptions.isShowRowCounts()
         || schemaCrawlerOptions.isNoEmptyTables())
     {
+      final TableRowCountsOptions countsOptions = TableRowCountsOptionsBuilder
+        .newTableRowCountsOptions(additionalConfiguration);
       aCatalog = new CatalogWithCounts(aCatalog,
                                        connection,
-                                       schemaCrawlerOptions);
+                                       connectionSource,
+                                       schemaCrawlerOptions,
+                                       countsOptions);
     }
 
     final SchemaTraversalHandler formatter = getSchemaTraversalHandler();
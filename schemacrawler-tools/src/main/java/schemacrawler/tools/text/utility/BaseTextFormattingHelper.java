@@ -29,6 +29,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.text.utility;
 
 
+import static schemacrawler.tools.text.utility.html.Entities.escapeForXMLElement;
 import static sf.util.Utility.isBlank;
 
 import java.io.PrintWriter;
@@ -68,12 +69,14 @@ abstract class BaseTextFormattingHelper
   protected final PrintWriter out;
 
   private final TextOutputFormat outputFormat;
+  private final StringBuilder rowBuffer;
 
   public BaseTextFormattingHelper(final PrintWriter out,
                                   final TextOutputFormat outputFormat)
   {
     this.out = out;
     this.outputFormat = outputFormat;
+    rowBuffer = new StringBuilder(256);
   }
 
   @Override
@@ -310,7 +313,10 @@ abstract class BaseTextFormattingHelper
   }
 
   /**
-   * Called to handle the row output.
+   * Called to handle the row output. Data rows are built up in a single
+   * buffer, which is reused from row to row, with the same result as a
+   * table row of cells, but without creating an object for each cell,
+   * and written out at once.
    *
    * @param columnData
    *        Column data
@@ -318,33 +324,55 @@ abstract class BaseTextFormattingHelper
   @Override
   public void writeRow(final Object... columnData)
   {
-    TextOutputFormat outputFormat = this.outputFormat;
-    if (outputFormat == TextOutputFormat.text)
-    {
-      outputFormat = TextOutputFormat.tsv;
-    }
-    final TableRow row = new TableRow(outputFormat);
-    for (final Object element: columnData)
+    final StringBuilder row = rowBuffer;
+    row.setLength(0);
+    if (outputFormat == TextOutputFormat.html)
     {
-      if (element == null)
-      {
-        row.add(newTableCell(null, "data_null", outputFormat));
-      }
-      else if (element instanceof BinaryData)
-      {
-        row.add(newTableCell(element.toString(), "data_binary", outputFormat));
-      }
-      else if (element instanceof Number)
+      row.append("\t<tr>").append(System.lineSeparator());
+      for (final Object element: columnData)
       {
-        row.add(newTableCell(element.toString(), "data_number", outputFormat));
+        final String styleClass;
+        if (element == null)
+        {
+          styleClass = "data_null";
+        }
+        else if (element instanceof BinaryData)
+        {
+          styleClass = "data_binary";
+        }
+        else if (element instanceof Number)
+        {
+          styleClass = "data_number";
+        }
+        else
+        {
+          styleClass = "";
+        }
+
+        row.append("\t\t<td");
+        if (!styleClass.isEmpty())
+        {
+          row.append(" class='").append(styleClass).append("'");
+        }
+        row.append(">");
+        escapeForXMLElement(dataText(element), row);
+        row.append("</td>").append(System.lineSeparator());
       }
-      else
+      row.append("\t</tr>");
+    }
+    else
+    {
+      // Plain text data is written as tab-separated values
+      for (int i = 0; i < columnData.length; i++)
       {
-        row.add(newTableCell(element.toString(), "", outputFormat));
+        if (i > 0)
+        {
+          row.append('\t');
+        }
+        row.append(dataText(columnData[i]));
       }
     }
-
-    out.println(row.toString());
+    out.println(row);
   }
 
   /**
@@ -395,6 +423,16 @@ abstract class BaseTextFormattingHelper
     out.println(row.toString());
   }
 
+  private String dataText(final Object element)
+  {
+    if (element == null)
+    {
+      return "NULL";
+    }
+    final String text = element.toString();
+    return text == null? "NULL": text;
+  }
+
   private TableCell newTableCell(final String text,
                                  final String styleClass,
                                  final TextOutputFormat outputFormat)
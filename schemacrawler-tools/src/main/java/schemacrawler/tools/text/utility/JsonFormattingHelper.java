@@ -32,6 +32,7 @@ import java.io.PrintWriter;
 
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.options.TextOutputFormat;
+import schemacrawler.tools.text.utility.org.json.JSONArrayStream;
 import schemacrawler.tools.text.utility.org.json.JSONException;
 import schemacrawler.tools.text.utility.org.json.JSONObject;
 
@@ -58,4 +59,31 @@ public class JsonFormattingHelper
     }
   }
 
+  /**
+   * Writes a JSON object, with the value of the given key streamed as
+   * an array. The rest of the JSON object is written when the stream
+   * ends.
+   *
+   * @param jsonObject
+   *        JSON object to write
+   * @param key
+   *        Key for the streamed array
+   * @return Stream for the elements of the array
+   * @throws SchemaCrawlerException
+   *         On an exception writing the JSON object
+   */
+  public JSONArrayStream writeStreaming(final JSONObject jsonObject,
+                                        final String key)
+    throws SchemaCrawlerException
+  {
+    try
+    {
+      return jsonObject.writeStreaming(out, key, 2, 0, true);
+    }
+    catch (final JSONException e)
+    {
+      throw new SchemaCrawlerException("Could not write database", e);
+    }
+  }
+
 }
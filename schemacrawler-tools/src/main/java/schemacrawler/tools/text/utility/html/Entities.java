@@ -74,6 +74,42 @@ public final class Entities
     return buffer.toString();
   }
 
+  /**
+   * XML escapes the characters in some text, and appends them to a
+   * buffer. Unescaped runs of text are appended as they are.
+   *
+   * @param text
+   *        Text to escape.
+   * @param buffer
+   *        Buffer for XML-escaped text
+   */
+  public static void escapeForXMLElement(final String text,
+                                         final StringBuilder buffer)
+  {
+    int start = 0;
+    for (int i = 0; i < text.length(); ++i)
+    {
+      final String entity;
+      switch (text.charAt(i))
+      {
+        case 62:
+          entity = "&gt;";
+          break;
+        case 38:
+          entity = "&amp;";
+          break;
+        case 60:
+          entity = "&lt;";
+          break;
+        default:
+          continue;
+      }
+      buffer.append(text, start, i).append(entity);
+      start = i + 1;
+    }
+    buffer.append(text, start, text.length());
+  }
+
   /**
    * XML escapes the characters in some text.
    *
@@ -0,0 +1,260 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.utility.org.json;
+
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+import schemacrawler.tools.iosource.SpoolWriter;
+
+/**
+ * Writes a prettyprinted JSON array one element at a time, with exactly
+ * the same layout that JSONArray would produce for all of the elements
+ * together. The layout of an array with a single element differs from
+ * that of a longer array, so the first element is held back until the
+ * second one arrives, or the array ends. It is kept in memory while it
+ * is small, and is spooled to a temporary file after that, so that
+ * memory use does not depend on the size of the elements.
+ */
+public final class JSONArrayStream
+{
+
+  /**
+   * Copies text, inserting the given indentation after every line break.
+   */
+  private static void copy(final Reader reader,
+                           final Writer writer,
+                           final int shift)
+    throws IOException
+  {
+    int c;
+    while ((c = reader.read()) != -1)
+    {
+      writer.write(c);
+      if (c == '\n')
+      {
+        indent(writer, shift);
+      }
+    }
+  }
+
+  private static void indent(final Writer writer, final int indent)
+    throws IOException
+  {
+    for (int i = 0; i < indent; i += 1)
+    {
+      writer.write(' ');
+    }
+  }
+
+  private final Writer writer;
+  private final int indentFactor;
+  private final int indent;
+  private final String lineSeparator;
+  private final String suffix;
+  private SpoolWriter first;
+  private int length;
+
+  JSONArrayStream(final Writer writer,
+                  final int indentFactor,
+                  final int indent,
+                  final String lineSeparator,
+                  final String suffix)
+  {
+    this.writer = writer;
+    this.indentFactor = indentFactor;
+    this.indent = indent;
+    this.lineSeparator = lineSeparator;
+    this.suffix = suffix;
+  }
+
+  /**
+   * Ends the array, and writes any text that follows it.
+   *
+   * @throws JSONException
+   *         On an exception writing the array.
+   */
+  public void end()
+    throws JSONException
+  {
+    try
+    {
+      if (length == 0)
+      {
+        writer.write("[]");
+      }
+      else if (length == 1)
+      {
+        writer.write('[');
+        copyFirst(0);
+        writer.write(']');
+      }
+      else
+      {
+        writer.write(lineSeparator);
+        indent(writer, indent);
+        writer.write(']');
+      }
+      writer.write(suffix);
+      writer.flush();
+    }
+    catch (final IOException e)
+    {
+      throw new JSONException(e);
+    }
+  }
+
+  /**
+   * Gets the indentation of the first element. Elements that are
+   * written ahead of time, for putWritten(Reader), should be written
+   * with this indentation.
+   *
+   * @return Indentation of the first element.
+   */
+  public int getIndent()
+  {
+    return indent;
+  }
+
+  /**
+   * Gets the indentation of the current element, which should be used
+   * to write it.
+   *
+   * @return Indentation of the current element.
+   */
+  public int getElementIndent()
+  {
+    if (length <= 1)
+    {
+      return indent;
+    }
+    else
+    {
+      return indent + indentFactor;
+    }
+  }
+
+  /**
+   * Starts the next element in the array. The element should be written
+   * to the returned writer, with the indentation from
+   * getElementIndent().
+   *
+   * @return Writer for the element.
+   * @throws JSONException
+   *         On an exception writing the array.
+   */
+  public Writer nextElement()
+    throws JSONException
+  {
+    try
+    {
+      length++;
+      if (length == 1)
+      {
+        first = new SpoolWriter();
+        return first;
+      }
+
+      final int newindent = indent + indentFactor;
+      if (length == 2)
+      {
+        writer.write('[');
+        writer.write(lineSeparator);
+        indent(writer, newindent);
+        copyFirst(indentFactor);
+      }
+      writer.write(',');
+      writer.write(lineSeparator);
+      indent(writer, newindent);
+      return writer;
+    }
+    catch (final IOException e)
+    {
+      throw new JSONException(e);
+    }
+  }
+
+  /**
+   * Writes the next element in the array.
+   *
+   * @param value
+   *        Element value.
+   * @throws JSONException
+   *         On an exception writing the array.
+   */
+  public void put(final Object value)
+    throws JSONException
+  {
+    final Writer elementWriter = nextElement();
+    try
+    {
+      elementWriter.write(JSONObject
+        .valueToString(value, indentFactor, getElementIndent()));
+    }
+    catch (final IOException e)
+    {
+      throw new JSONException(e);
+    }
+  }
+
+  /**
+   * Writes the next element in the array, from text that was written
+   * ahead of time with the indentation from getIndent().
+   *
+   * @param element
+   *        Reader for the text of the element.
+   * @throws JSONException
+   *         On an exception writing the array.
+   */
+  public void putWritten(final Reader element)
+    throws JSONException
+  {
+    final Writer elementWriter = nextElement();
+    try
+    {
+      copy(element, elementWriter, getElementIndent() - indent);
+    }
+    catch (final IOException e)
+    {
+      throw new JSONException(e);
+    }
+  }
+
+  private void copyFirst(final int shift)
+    throws IOException
+  {
+    try (final Reader reader = first.openReader();)
+    {
+      copy(reader, writer, shift);
+    }
+    first = null;
+  }
+
+}
@@ -27,6 +27,7 @@ package schemacrawler.tools.text.utility.org.json;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -669,6 +670,82 @@ public class JSONObject
     write(new PrintWriter(writer), indentFactor, 0);
   }
 
+  /**
+   * Write the contents of the JSONObject as prettyprinted JSON text to
+   * a writer, streaming the value of the given key as an array. The
+   * text is laid out exactly as it would be if the array had been put
+   * under the key, either as it is printed by write, or as it is
+   * nested in other values. The key is given an empty array as a
+   * placeholder value.
+   *
+   * @param writer
+   *        Writer to write to
+   * @param key
+   *        Key for the streamed array
+   * @param indentFactor
+   *        The number of spaces to add to each level of indentation.
+   * @param indent
+   *        The indentation of the top level.
+   * @param print
+   *        Whether to lay out the text as it is printed by write
+   * @return Stream for the elements of the array, which writes the rest
+   *         of this JSONObject when it ends
+   * @throws JSONException
+   *         On an exception writing the JSONObject
+   */
+  public JSONArrayStream writeStreaming(final Writer writer,
+                                        final String key,
+                                        final int indentFactor,
+                                        final int indent,
+                                        final boolean print)
+    throws JSONException
+  {
+    map.put(key, new JSONArray());
+
+    final String text;
+    final String lineSeparator;
+    final int arrayIndent;
+    if (print)
+    {
+      final StringWriter stringWriter = new StringWriter();
+      final PrintWriter printWriter = new PrintWriter(stringWriter);
+      write(printWriter, indentFactor, indent);
+      printWriter.flush();
+      text = stringWriter.toString();
+      lineSeparator = System.lineSeparator();
+      arrayIndent = indent + indentFactor;
+    }
+    else
+    {
+      text = toString(indentFactor, indent);
+      lineSeparator = "\n";
+      arrayIndent = length() == 1? indent: indent + indentFactor;
+    }
+
+    // Quotes in values are escaped, so the key and placeholder can only
+    // be found where they are written as a key
+    final String keyText = quote(key) + ": ";
+    final int index = text.indexOf(keyText + "[]");
+    if (index < 0)
+    {
+      throw new JSONException("Cannot stream value for " + key);
+    }
+    final int arrayIndex = index + keyText.length();
+    try
+    {
+      writer.write(text, 0, arrayIndex);
+    }
+    catch (final IOException e)
+    {
+      throw new JSONException(e);
+    }
+    return new JSONArrayStream(writer,
+                               indentFactor,
+                               arrayIndent,
+                               lineSeparator,
+                               text.substring(arrayIndex + 2));
+  }
+
   /**
    * Write the contents of the JSONObject as JSON text to a writer. For
    * compactness, no whitespace is added.
@@ -830,7 +907,7 @@ public class JSONObject
    * @throws JSONException
    *         If the object contains an invalid number.
    */
-  private String toString(final int indentFactor, final int indent)
+  public String toString(final int indentFactor, final int indent)
     throws JSONException
   {
     int i;
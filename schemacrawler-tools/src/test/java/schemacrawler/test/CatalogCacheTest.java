@@ -0,0 +1,179 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static schemacrawler.test.utility.ExecutableTestUtility.executableExecution;
+import static schemacrawler.test.utility.ExecutableTestUtility.executableOf;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.crawl.MetadataRetrievalStrategy;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.tools.catalogloader.CatalogCache;
+import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class CatalogCacheTest
+{
+
+  private static List<Path> snapshots(final Path cacheDirectory)
+    throws IOException
+  {
+    final List<Path> snapshots = new ArrayList<>();
+    if (!Files.isDirectory(cacheDirectory))
+    {
+      return snapshots;
+    }
+    try (final DirectoryStream<Path> directoryStream = Files
+      .newDirectoryStream(cacheDirectory, "*.snapshot");)
+    {
+      for (final Path snapshot: directoryStream)
+      {
+        snapshots.add(snapshot);
+      }
+    }
+    return snapshots;
+  }
+
+  private Path cacheDirectory;
+  private Config config;
+
+  @BeforeEach
+  public void createCacheDirectory()
+    throws IOException
+  {
+    cacheDirectory = Files.createTempDirectory("catalog_cache")
+      .resolve("cache");
+    config = new Config();
+    config.put(CatalogCache.CACHE_DIRECTORY, cacheDirectory.toString());
+  }
+
+  @Test
+  public void cacheHitSkipsCrawl(final Connection connection)
+    throws Exception
+  {
+    final String runId = crawl(connection, executableOf("schema"));
+    assertThat(snapshots(cacheDirectory).size(), is(1));
+
+    // The same crawl is loaded from the snapshot
+    assertThat(crawl(connection, executableOf("brief")), equalTo(runId));
+    assertThat(snapshots(cacheDirectory).size(), is(1));
+
+    // Different options need a new crawl
+    final SchemaCrawlerExecutable executable = executableOf("schema");
+    executable.setSchemaCrawlerOptions(SchemaCrawlerOptionsBuilder.builder()
+      .includeSchemas(new RegularExpressionExclusionRule(".*\\.SYSTEM_LOBS"))
+      .toOptions());
+    assertThat(crawl(connection, executable), not(equalTo(runId)));
+    assertThat(snapshots(cacheDirectory).size(), is(2));
+
+    // Different retrieval options need a new crawl
+    final SchemaCrawlerExecutable retrievalExecutable = executableOf("schema");
+    retrievalExecutable.setSchemaRetrievalOptions(SchemaRetrievalOptionsBuilder
+      .builder()
+      .withTableColumnRetrievalStrategy(MetadataRetrievalStrategy.metadata_schema)
+      .toOptions());
+    assertThat(crawl(connection, retrievalExecutable), not(equalTo(runId)));
+    assertThat(snapshots(cacheDirectory).size(), is(3));
+  }
+
+  @Test
+  public void expiredSnapshot(final Connection connection)
+    throws Exception
+  {
+    config.put(CatalogCache.CACHE_TIME_TO_LIVE, "600");
+
+    final String runId = crawl(connection, executableOf("schema"));
+    for (final Path snapshot: snapshots(cacheDirectory))
+    {
+      Files.setLastModifiedTime(snapshot,
+                                FileTime.from(Instant.now()
+                                  .minus(Duration.ofHours(1))));
+    }
+
+    assertThat(crawl(connection, executableOf("schema")),
+               not(equalTo(runId)));
+    assertThat(snapshots(cacheDirectory).size(), is(1));
+  }
+
+  @Test
+  public void noCacheByDefault(final Connection connection)
+    throws Exception
+  {
+    config = new Config();
+
+    final String runId = crawl(connection, executableOf("schema"));
+    assertThat(crawl(connection, executableOf("schema")),
+               not(equalTo(runId)));
+    assertThat(snapshots(cacheDirectory).isEmpty(), is(true));
+  }
+
+  @Test
+  public void oversizedSnapshotsAreEvicted(final Connection connection)
+    throws Exception
+  {
+    config.put(CatalogCache.CACHE_MAXIMUM_SIZE, "0");
+
+    final String runId = crawl(connection, executableOf("schema"));
+    assertThat(snapshots(cacheDirectory).isEmpty(), is(true));
+    assertThat(crawl(connection, executableOf("schema")),
+               not(equalTo(runId)));
+  }
+
+  private String crawl(final Connection connection,
+                       final SchemaCrawlerExecutable executable)
+    throws Exception
+  {
+    executable.setAdditionalConfiguration(config);
+    executableExecution(connection, executable);
+    return executable.getCatalog().getCrawlInfo().getRunId();
+  }
+
+}
@@ -0,0 +1,107 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static schemacrawler.test.utility.ExecutableTestUtility.executableOf;
+import static sf.util.IOUtility.createTempFilePath;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+import schemacrawler.tools.options.OutputOptionsBuilder;
+import schemacrawler.tools.options.TextOutputFormat;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class CrawlMetricsReportTest
+{
+
+  @Test
+  public void crawlMetricsReport(final Connection connection)
+    throws Exception
+  {
+    final Path outputFile = createTempFilePath("crawl_metrics", "txt");
+    final Path metricsFile = outputFile
+      .resolveSibling(outputFile.getFileName() + ".metrics.json");
+
+    final Config config = new Config();
+    config.put(SchemaCrawlerExecutable.WRITE_CRAWL_METRICS, "true");
+
+    final SchemaCrawlerExecutable executable = executableOf("schema");
+    executable.setAdditionalConfiguration(config);
+    executable.setOutputOptions(OutputOptionsBuilder.builder()
+      .withOutputFormat(TextOutputFormat.text).withOutputFile(outputFile)
+      .toOptions());
+    executable.setConnection(connection);
+    executable.execute();
+
+    assertThat("Timing report was not written",
+               Files.exists(metricsFile),
+               is(true));
+    final String report = new String(Files.readAllBytes(metricsFile), UTF_8);
+    assertThat(report,
+               containsString(executable.getCatalog().getCrawlInfo()
+                 .getRunId()));
+    assertThat(report, containsString("\"phase\": \"crawlTables\""));
+    assertThat(report, containsString("\"name\": \"retrieveColumns\""));
+    assertThat(report, containsString("\"type\": \"query\""));
+    assertThat(report, containsString("\"roundTrips\""));
+
+    Files.delete(metricsFile);
+  }
+
+  @Test
+  public void noCrawlMetricsReportByDefault(final Connection connection)
+    throws Exception
+  {
+    final Path outputFile = createTempFilePath("crawl_metrics", "txt");
+    final Path metricsFile = outputFile
+      .resolveSibling(outputFile.getFileName() + ".metrics.json");
+
+    final SchemaCrawlerExecutable executable = executableOf("schema");
+    executable.setOutputOptions(OutputOptionsBuilder.builder()
+      .withOutputFormat(TextOutputFormat.text).withOutputFile(outputFile)
+      .toOptions());
+    executable.setConnection(connection);
+    executable.execute();
+
+    assertThat(Files.exists(metricsFile), is(false));
+  }
+
+}
@@ -0,0 +1,153 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static schemacrawler.utility.SchemaCrawlerUtility.getCatalog;
+
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+import schemacrawler.tools.options.OutputOptionsBuilder;
+import schemacrawler.tools.options.TextOutputFormat;
+import schemacrawler.tools.text.operation.Operation;
+import schemacrawler.tools.text.operation.OperationOptionsBuilder;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class ParallelOperationsTest
+{
+
+  @Test
+  public void parallelOperations(final Connection connection,
+                                 final DatabaseConnectionInfo connectionInfo)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .builder()
+      .withSchemaInfoLevel(SchemaInfoLevelBuilder.standard()).toOptions();
+    final Catalog catalog = getCatalog(connection, schemaCrawlerOptions);
+
+    final List<Connection> connections = Collections
+      .synchronizedList(new ArrayList<>());
+    final Supplier<Connection> connectionSource = () -> {
+      try
+      {
+        final Connection parallelConnection = DriverManager
+          .getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+        connections.add(parallelConnection);
+        return parallelConnection;
+      }
+      catch (final SQLException e)
+      {
+        throw new SchemaCrawlerRuntimeException(e.getMessage(), e);
+      }
+    };
+
+    for (final Operation operation: Operation.values())
+    {
+      for (final TextOutputFormat outputFormat: new TextOutputFormat[] {
+        TextOutputFormat.text,
+        TextOutputFormat.html,
+        TextOutputFormat.json })
+      {
+        final String expectedOutput = execute(operation,
+                                              outputFormat,
+                                              catalog,
+                                              connection,
+                                              null,
+                                              1);
+        final String parallelOutput = execute(operation,
+                                              outputFormat,
+                                              catalog,
+                                              connection,
+                                              connectionSource,
+                                              4);
+        assertThat(operation + " " + outputFormat,
+                   parallelOutput,
+                   is(expectedOutput));
+      }
+    }
+
+    assertThat("Additional connections were not used",
+               connections.isEmpty(),
+               is(false));
+    for (final Connection parallelConnection: connections)
+    {
+      assertThat("Connection was not closed",
+                 parallelConnection.isClosed(),
+                 is(true));
+    }
+  }
+
+  private String execute(final Operation operation,
+                         final TextOutputFormat outputFormat,
+                         final Catalog catalog,
+                         final Connection connection,
+                         final Supplier<Connection> connectionSource,
+                         final int parallelism)
+    throws Exception
+  {
+    final StringWriter writer = new StringWriter();
+
+    final Config config = OperationOptionsBuilder.builder()
+      .withParallelism(parallelism).toConfig();
+
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable(operation
+      .name());
+    executable.setCatalog(catalog);
+    executable.setConnection(connection);
+    executable.setConnectionSource(connectionSource);
+    executable.setAdditionalConfiguration(config);
+    executable.setOutputOptions(OutputOptionsBuilder.builder()
+      .withOutputFormat(outputFormat).withOutputWriter(writer).toOptions());
+    executable.execute();
+
+    return writer.toString();
+  }
+
+}
@@ -31,13 +31,23 @@ package schemacrawler.test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
 import static schemacrawler.test.utility.FileHasContent.classpathResource;
 import static schemacrawler.test.utility.FileHasContent.hasSameContentAs;
 import static schemacrawler.test.utility.FileHasContent.outputOf;
 import static schemacrawler.utility.SchemaCrawlerUtility.getCatalog;
 
 import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -48,13 +58,17 @@ import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
 import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
 import schemacrawler.test.utility.TestContext;
 import schemacrawler.test.utility.TestContextParameterResolver;
 import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
 import schemacrawler.test.utility.TestWriter;
 import schemacrawler.tools.analysis.counts.CatalogWithCounts;
 import schemacrawler.tools.analysis.counts.CountsUtility;
+import schemacrawler.tools.analysis.counts.TableRowCountsOptions;
+import schemacrawler.tools.analysis.counts.TableRowCountsOptionsBuilder;
 import schemacrawler.utility.NamedObjectSort;
 
 @ExtendWith(TestDatabaseConnectionParameterResolver.class)
@@ -62,6 +76,99 @@ import schemacrawler.utility.NamedObjectSort;
 public class TableCountsTest
 {
 
+  private static Map<String, Long> rowCounts(final Catalog catalog)
+  {
+    final Map<String, Long> rowCounts = new TreeMap<>();
+    for (final Table table: catalog.getTables())
+    {
+      rowCounts.put(table.getFullName(), CountsUtility.getRowCount(table));
+    }
+    return rowCounts;
+  }
+
+  private static SchemaCrawlerOptions schemaCrawlerOptions()
+  {
+    return SchemaCrawlerOptionsBuilder.builder()
+      .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+      .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"))
+      .toOptions();
+  }
+
+  @Test
+  public void parallelTableCounts(final Connection connection,
+                                  final DatabaseConnectionInfo connectionInfo)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = schemaCrawlerOptions();
+    final Map<String, Long> expectedRowCounts = rowCounts(new CatalogWithCounts(getCatalog(connection,
+                                                                                           schemaCrawlerOptions),
+                                                                                connection,
+                                                                                schemaCrawlerOptions));
+
+    final List<Connection> connections = Collections
+      .synchronizedList(new ArrayList<>());
+    final Supplier<Connection> connectionSource = () -> {
+      try
+      {
+        final Connection parallelConnection = DriverManager
+          .getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+        connections.add(parallelConnection);
+        return parallelConnection;
+      }
+      catch (final SQLException e)
+      {
+        throw new SchemaCrawlerRuntimeException(e.getMessage(), e);
+      }
+    };
+    final TableRowCountsOptions countsOptions = TableRowCountsOptionsBuilder
+      .builder().withParallelism(4).withQueryTimeout(60).toOptions();
+    final CatalogWithCounts catalog = new CatalogWithCounts(getCatalog(connection,
+                                                                       schemaCrawlerOptions),
+                                                            connection,
+                                                            connectionSource,
+                                                            schemaCrawlerOptions,
+                                                            countsOptions);
+
+    assertThat("Additional connections were not used",
+               connections.isEmpty(),
+               is(false));
+    for (final Connection parallelConnection: connections)
+    {
+      assertThat("Connection was not closed",
+                 parallelConnection.isClosed(),
+                 is(true));
+    }
+    assertThat(rowCounts(catalog), equalTo(expectedRowCounts));
+    assertThat(catalog.getCounts().size(), equalTo(expectedRowCounts.size()));
+  }
+
+  @Test
+  public void statisticsTableCounts(final Connection connection)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = schemaCrawlerOptions();
+    final Map<String, Long> expectedRowCounts = rowCounts(new CatalogWithCounts(getCatalog(connection,
+                                                                                           schemaCrawlerOptions),
+                                                                                connection,
+                                                                                schemaCrawlerOptions));
+
+    final TableRowCountsOptions countsOptions = TableRowCountsOptionsBuilder
+      .builder().useStatistics()
+      .withStatisticsSql("SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME, "
+                         + "CARDINALITY AS ROW_COUNT "
+                         + "FROM INFORMATION_SCHEMA.SYSTEM_TABLESTATS "
+                         + "WHERE TABLE_NAME <> 'AUTHORS'")
+      .toOptions();
+    final CatalogWithCounts catalog = new CatalogWithCounts(getCatalog(connection,
+                                                                       schemaCrawlerOptions),
+                                                            connection,
+                                                            null,
+                                                            schemaCrawlerOptions,
+                                                            countsOptions);
+
+    assertThat(rowCounts(catalog), equalTo(expectedRowCounts));
+  }
+
   @Test
   public void tableCounts(final TestContext testContext,
                           final Connection connection)
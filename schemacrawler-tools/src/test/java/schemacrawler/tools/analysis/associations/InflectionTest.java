@@ -0,0 +1,86 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.analysis.associations;
+
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+
+public class InflectionTest
+{
+
+  private static final String[][] WORDS = {
+    { "customer", "customers" },
+    { "person", "people" },
+    { "child", "children" },
+    { "category", "categories" },
+    { "address", "addresses" },
+    { "status", "statuses" },
+    { "analysis", "analyses" },
+    { "index", "indices" },
+    { "mouse", "mice" },
+    { "ox", "oxen" },
+    { "quiz", "quizzes" },
+    { "wife", "wives" },
+    { "series", "series" },
+    { "equipment", "equipment" },
+    { "Order", "Orders" }, };
+
+  @Test
+  public void inflections()
+  {
+    // Run twice, so that the second run is from the cache
+    for (int run = 0; run < 2; run++)
+    {
+      for (final String[] word: WORDS)
+      {
+        assertThat(Inflection.pluralize(word[0]), is(word[1]));
+        assertThat(Inflection.singularize(word[1]), is(word[0]));
+      }
+    }
+  }
+
+  @Test
+  public void inflectionsOfTableNames()
+  {
+    // Run twice, so that the second run is from the cache
+    for (int run = 0; run < 2; run++)
+    {
+      for (int i = 0; i < 2_000; i++)
+      {
+        assertThat(Inflection.singularize("table" + i + "_entries"),
+                   is("table" + i + "_entry"));
+        assertThat(Inflection.pluralize("table" + i + "_entry"),
+                   is("table" + i + "_entries"));
+      }
+    }
+  }
+
+}
@@ -0,0 +1,186 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.analysis.associations;
+
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static sf.util.Utility.isBlank;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import sf.util.Utility;
+
+public class TableMatchKeysTest
+{
+
+  private static final String[] PREFIXES = {
+    "tbl_", "app_core_", "app_audit_", "x__", "_sys_", "A_", "a_", "" };
+  private static final String[] WORDS = {
+    "customers", "orders", "order_items", "invoices", "Addresses",
+    "people", "status", "_", "__", "line_items_", "categories" };
+
+  @Test
+  public void prefixesMatchPairwiseComparison()
+  {
+    final Random random = new Random(42);
+    for (int run = 0; run < 200; run++)
+    {
+      final List<String> tableNames = syntheticTableNames(random,
+                                                          1 + random
+                                                            .nextInt(60));
+      assertThat(tableNames.toString(),
+                 TableMatchKeys.findTableNamePrefixes(tableNames),
+                 is(findTableNamePrefixesPairwise(tableNames)));
+    }
+  }
+
+  @Test
+  public void prefixesForEdgeCases()
+  {
+    for (final List<String> tableNames: Arrays
+      .asList(Collections.<String> emptyList(),
+              Arrays.asList("a_b"),
+              Arrays.asList("a_b", "a_b"),
+              Arrays.asList("a__", "a__b", "a__c"),
+              Arrays.asList("__", "___", "__a"),
+              Arrays.asList("A_x", "a_y", "A_z", "a_x_1", "a_x_2")))
+    {
+      assertThat(tableNames.toString(),
+                 TableMatchKeys.findTableNamePrefixes(tableNames),
+                 is(findTableNamePrefixesPairwise(tableNames)));
+    }
+  }
+
+  private List<String> syntheticTableNames(final Random random,
+                                           final int size)
+  {
+    final List<String> tableNames = new ArrayList<>(size);
+    for (int i = 0; i < size; i++)
+    {
+      final String prefix = PREFIXES[random.nextInt(PREFIXES.length)];
+      final String word = WORDS[random.nextInt(WORDS.length)];
+      if (random.nextInt(4) == 0)
+      {
+        tableNames.add(prefix + word);
+      }
+      else
+      {
+        tableNames.add(prefix + word + "_" + random.nextInt(size));
+      }
+    }
+    return tableNames;
+  }
+
+  /**
+   * Reference implementation, comparing every pair of table names.
+   */
+  private Collection<String> findTableNamePrefixesPairwise(final List<String> tables)
+  {
+    final SortedMap<String, Long> prefixesMap = new TreeMap<>();
+    for (int i = 0; i < tables.size(); i++)
+    {
+      for (int j = i + 1; j < tables.size(); j++)
+      {
+        final String commonPrefix = Utility.commonPrefix(tables.get(i),
+                                                         tables.get(j));
+        if (!isBlank(commonPrefix) && commonPrefix.endsWith("_"))
+        {
+          final List<String> splitCommonPrefixes = new ArrayList<>();
+          final String[] splitPrefix = commonPrefix.split("_");
+          for (int k = 0; k < splitPrefix.length; k++)
+          {
+            final StringBuilder buffer = new StringBuilder();
+            for (int l = 0; l < k; l++)
+            {
+              buffer.append(splitPrefix[l]).append("_");
+            }
+            if (buffer.length() > 0)
+            {
+              splitCommonPrefixes.add(buffer.toString());
+            }
+          }
+          splitCommonPrefixes.add(commonPrefix);
+          for (final String splitCommonPrefix: splitCommonPrefixes)
+          {
+            prefixesMap.merge(splitCommonPrefix, 1L, Long::sum);
+          }
+        }
+      }
+    }
+
+    final List<String> keySet = new ArrayList<>(prefixesMap.keySet());
+    keySet.sort((key1, key2) -> {
+      int comparison = key2.length() - key1.length();
+      if (comparison == 0)
+      {
+        comparison = key2.compareTo(key1);
+      }
+      return comparison;
+    });
+    for (int i = 0; i < keySet.size(); i++)
+    {
+      for (int j = i + 1; j < keySet.size(); j++)
+      {
+        final String longPrefix = keySet.get(i);
+        if (longPrefix.startsWith(keySet.get(j)))
+        {
+          prefixesMap.remove(longPrefix);
+          break;
+        }
+      }
+    }
+
+    final List<Map.Entry<String, Long>> prefixesList = new ArrayList<>(prefixesMap
+      .entrySet());
+    prefixesList
+      .sort((entry1, entry2) -> entry1.getValue().compareTo(entry2.getValue()));
+
+    final List<String> prefixes = new ArrayList<>();
+    for (int i = 0; i < prefixesList.size(); i++)
+    {
+      if (i < 5 || prefixesList.get(i).getValue() > prefixesMap.size() * 0.5)
+      {
+        prefixes.add(prefixesList.get(i).getKey());
+      }
+    }
+    prefixes.add("");
+    return prefixes;
+  }
+
+}
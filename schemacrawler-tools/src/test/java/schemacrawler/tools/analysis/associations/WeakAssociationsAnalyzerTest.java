@@ -0,0 +1,149 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.analysis.associations;
+
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static schemacrawler.utility.SchemaCrawlerUtility.getCatalog;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.utility.MetaDataUtility;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class WeakAssociationsAnalyzerTest
+{
+
+  @Test
+  public void weakAssociationsMatchPairwiseAnalysis(final Connection connection)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+      .toOptions();
+    final Catalog catalog = getCatalog(connection, schemaCrawlerOptions);
+    final List<Table> tables = new ArrayList<>(catalog.getTables());
+
+    final List<String> expected = describe(findWeakAssociationsPairwise(tables));
+    final List<String> actual = describe(new WeakAssociationsAnalyzer(tables)
+      .analyzeTables());
+
+    assertThat(actual, is(not(empty())));
+    assertThat(actual, is(expected));
+  }
+
+  private List<String> describe(final Collection<WeakAssociationForeignKey> weakFks)
+  {
+    final List<String> description = new ArrayList<>();
+    for (final WeakAssociationForeignKey weakFk: weakFks)
+    {
+      for (final WeakAssociation weakAssociation: weakFk)
+      {
+        description.add(weakFk.getName() + ": " + weakAssociation);
+      }
+    }
+    return description;
+  }
+
+  /**
+   * Reference analysis, which compares every candidate key column with
+   * every column that shares a match key, and checks the pair afterwards.
+   */
+  private Collection<WeakAssociationForeignKey> findWeakAssociationsPairwise(final List<Table> tables)
+  {
+    final ForeignKeys foreignKeys = new ForeignKeys(tables);
+    final ColumnMatchKeysMap columnMatchKeysMap = new ColumnMatchKeysMap(tables);
+    final TableMatchKeys tableMatchKeys = new TableMatchKeys(tables);
+
+    final Collection<WeakAssociationForeignKey> weakFks = new TreeSet<>();
+    for (final Table table: tables)
+    {
+      for (final Column pkColumn: new TableCandidateKeys(table))
+      {
+        final Set<String> fkColumnMatchKeys = new HashSet<>();
+        if (pkColumn.isPartOfPrimaryKey())
+        {
+          fkColumnMatchKeys.addAll(tableMatchKeys.get(table));
+        }
+        if (columnMatchKeysMap.containsKey(pkColumn))
+        {
+          fkColumnMatchKeys.addAll(columnMatchKeysMap.get(pkColumn));
+        }
+
+        final Set<Column> fkColumns = new HashSet<>();
+        for (final String fkColumnMatchKey: fkColumnMatchKeys)
+        {
+          if (columnMatchKeysMap.containsKey(fkColumnMatchKey))
+          {
+            fkColumns.addAll(columnMatchKeysMap.get(fkColumnMatchKey));
+          }
+        }
+
+        for (final Column fkColumn: fkColumns)
+        {
+          if (pkColumn.equals(fkColumn))
+          {
+            continue;
+          }
+          final WeakAssociation weakAssociation = new WeakAssociation(pkColumn,
+                                                                      fkColumn);
+          if (weakAssociation.isValid()
+              && !foreignKeys.contains(weakAssociation))
+          {
+            final WeakAssociationForeignKey weakFk = new WeakAssociationForeignKey(MetaDataUtility
+              .constructForeignKeyName(pkColumn, fkColumn));
+            weakFk.add(weakAssociation);
+            weakFks.add(weakFk);
+          }
+        }
+      }
+    }
+    return weakFks;
+  }
+
+}
@@ -0,0 +1,248 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.operation;
+
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.tools.options.OutputOptions;
+import schemacrawler.tools.options.OutputOptionsBuilder;
+import schemacrawler.tools.options.TextOutputFormat;
+import schemacrawler.tools.text.utility.org.json.JSONArray;
+import schemacrawler.tools.text.utility.org.json.JSONObject;
+import schemacrawler.utility.Query;
+
+public class DataJsonFormatterTest
+{
+
+  /**
+   * Writes and counts characters, and samples the heap used after
+   * garbage collection as output is written.
+   */
+  private static final class HeapSamplingWriter
+    extends Writer
+  {
+
+    private long count;
+    private long maxUsedHeap;
+
+    @Override
+    public void close()
+    {
+    }
+
+    @Override
+    public void flush()
+    {
+    }
+
+    @Override
+    public void write(final char[] cbuf, final int off, final int len)
+    {
+      final long before = count / 2_000_000;
+      count += len;
+      if (count / 2_000_000 != before)
+      {
+        System.gc();
+        final Runtime runtime = Runtime.getRuntime();
+        maxUsedHeap = Math.max(maxUsedHeap,
+                               runtime.totalMemory() - runtime.freeMemory());
+      }
+    }
+
+  }
+
+  private static ResultSet rows(final int rowCount)
+  {
+    final String[] columnNames = { "ID", "NAME" };
+    final ResultSetMetaData metaData = (ResultSetMetaData) Proxy
+      .newProxyInstance(DataJsonFormatterTest.class.getClassLoader(),
+                        new Class<?>[] { ResultSetMetaData.class },
+                        (proxy, method, args) -> {
+                          switch (method.getName())
+                          {
+                            case "getColumnCount":
+                              return columnNames.length;
+                            case "getColumnName":
+                            case "getColumnLabel":
+                              return columnNames[(int) args[0] - 1];
+                            case "getColumnType":
+                              return (int) args[0] == 1? Types.INTEGER
+                                                       : Types.VARCHAR;
+                            case "getColumnTypeName":
+                              return (int) args[0] == 1? "INTEGER": "VARCHAR";
+                            case "getColumnClassName":
+                              return (int) args[0] == 1? Integer.class
+                                .getName(): String.class.getName();
+                            case "getCatalogName":
+                            case "getSchemaName":
+                            case "getTableName":
+                              return "";
+                            default:
+                              if (method.getReturnType() == boolean.class)
+                              {
+                                return false;
+                              }
+                              return 0;
+                          }
+                        });
+    final int[] row = { 0 };
+    return (ResultSet) Proxy
+      .newProxyInstance(DataJsonFormatterTest.class.getClassLoader(),
+                        new Class<?>[] { ResultSet.class },
+                        (proxy, method, args) -> {
+                          switch (method.getName())
+                          {
+                            case "getMetaData":
+                              return metaData;
+                            case "next":
+                              row[0]++;
+                              return row[0] <= rowCount;
+                            case "getObject":
+                              return (int) args[0] == 1? (Object) row[0]
+                                                       : "value " + row[0];
+                            case "wasNull":
+                              return false;
+                            default:
+                              throw new UnsupportedOperationException(method
+                                .getName());
+                          }
+                        });
+  }
+
+  @Test
+  public void streamedDataIsIdenticalToTree()
+    throws Exception
+  {
+    for (final List<Integer> tableRowCounts: Arrays
+      .asList(Arrays.<Integer> asList(),
+              Arrays.asList(0),
+              Arrays.asList(1),
+              Arrays.asList(3),
+              Arrays.asList(1, 1),
+              Arrays.asList(0, 2, 1),
+              Arrays.asList(5_000),
+              Arrays.asList(5_000, 2)))
+    {
+      final StringWriter writer = new StringWriter();
+      final DataJsonFormatter formatter = newFormatter(writer);
+      formatter.begin();
+      for (int i = 0; i < tableRowCounts.size(); i++)
+      {
+        formatter.handleData(new Query("table" + i, ""),
+                             rows(tableRowCounts.get(i)));
+      }
+      formatter.end();
+
+      assertThat(tableRowCounts.toString(),
+                 writer.toString(),
+                 is(expectedOutput(tableRowCounts)));
+    }
+  }
+
+  @Test
+  public void heapStaysFlatAsRowsGrow()
+    throws Exception
+  {
+    final long smallRunHeap = streamRows(50_000);
+    final long largeRunHeap = streamRows(500_000);
+
+    // Holding half a million rows in memory takes many tens of megabytes
+    assertThat(String.format("Heap after %d bytes, and after %d bytes",
+                             smallRunHeap,
+                             largeRunHeap),
+               largeRunHeap - smallRunHeap,
+               lessThan(16L * 1024 * 1024));
+  }
+
+  private String expectedOutput(final List<Integer> tableRowCounts)
+    throws Exception
+  {
+    final JSONObject jsonRoot = new JSONObject();
+    jsonRoot.put("description", Operation.dump.getDescription());
+    final JSONArray jsonDataArray = new JSONArray();
+    jsonRoot.put("data", jsonDataArray);
+    for (int i = 0; i < tableRowCounts.size(); i++)
+    {
+      final JSONObject jsonData = new JSONObject();
+      jsonData.put("title", "table" + i);
+      jsonData.put("columnNames", new JSONArray(Arrays.asList("ID", "NAME")));
+      final JSONArray jsonRows = new JSONArray();
+      for (int row = 1; row <= tableRowCounts.get(i); row++)
+      {
+        jsonRows.put(new JSONArray(Arrays.asList(row, "value " + row)));
+      }
+      jsonData.put("rows", jsonRows);
+      jsonDataArray.put(jsonData);
+    }
+
+    final StringWriter writer = new StringWriter();
+    writer.write("[" + System.lineSeparator());
+    jsonRoot.write(writer, 2);
+    writer.write("]" + System.lineSeparator());
+    return writer.toString();
+  }
+
+  private DataJsonFormatter newFormatter(final Writer writer)
+    throws Exception
+  {
+    final OutputOptions outputOptions = OutputOptionsBuilder.builder()
+      .withOutputFormat(TextOutputFormat.json).withOutputWriter(writer)
+      .toOptions();
+    return new DataJsonFormatter(Operation.dump,
+                                 OperationOptionsBuilder
+                                   .newOperationOptions(),
+                                 outputOptions,
+                                 "\"");
+  }
+
+  private long streamRows(final int rowCount)
+    throws Exception
+  {
+    final HeapSamplingWriter writer = new HeapSamplingWriter();
+    final DataJsonFormatter formatter = newFormatter(writer);
+    formatter.begin();
+    formatter.handleData(new Query("table", ""), rows(rowCount));
+    formatter.end();
+    return writer.maxUsedHeap;
+  }
+
+}
@@ -0,0 +1,303 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.operation;
+
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Proxy;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Types;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.tools.text.utility.BinaryData;
+
+public class DataResultSetTest
+{
+
+  /**
+   * Produces a very large LOB without holding it, and counts how much
+   * of it is read.
+   */
+  private static final class LargeLob
+  {
+
+    private final long size;
+    private long read;
+
+    LargeLob(final long size)
+    {
+      this.size = size;
+    }
+
+    InputStream asStream()
+    {
+      return new InputStream()
+      {
+        @Override
+        public int read()
+        {
+          if (read >= size)
+          {
+            return -1;
+          }
+          read++;
+          return 0xAB;
+        }
+      };
+    }
+
+    Reader asReader()
+    {
+      return new Reader()
+      {
+        @Override
+        public void close()
+        {
+        }
+
+        @Override
+        public int read(final char[] cbuf, final int off, final int len)
+        {
+          if (read >= size)
+          {
+            return -1;
+          }
+          final int count = (int) Math.min(len, size - read);
+          for (int i = 0; i < count; i++)
+          {
+            cbuf[off + i] = 'x';
+          }
+          read = read + count;
+          return count;
+        }
+      };
+    }
+
+  }
+
+  private static final long LOB_SIZE = 200L * 1024 * 1024;
+
+  private static ResultSet lobRow(final LargeLob blob, final LargeLob clob)
+  {
+    final int[] columnTypes = { Types.LONGVARBINARY, Types.CLOB };
+    final ResultSetMetaData metaData = (ResultSetMetaData) Proxy
+      .newProxyInstance(DataResultSetTest.class.getClassLoader(),
+                        new Class<?>[] { ResultSetMetaData.class },
+                        (proxy, method, args) -> {
+                          switch (method.getName())
+                          {
+                            case "getColumnCount":
+                              return columnTypes.length;
+                            case "getColumnType":
+                              return columnTypes[(int) args[0] - 1];
+                            case "getColumnTypeName":
+                              return (int) args[0] == 1? "LONGVARBINARY"
+                                                       : "CLOB";
+                            case "getColumnName":
+                            case "getColumnLabel":
+                              return "COLUMN" + args[0];
+                            case "getColumnClassName":
+                            case "getCatalogName":
+                            case "getSchemaName":
+                            case "getTableName":
+                              return "";
+                            default:
+                              if (method.getReturnType() == boolean.class)
+                              {
+                                return false;
+                              }
+                              return 0;
+                          }
+                        });
+    final Clob jdbcClob = (Clob) Proxy
+      .newProxyInstance(DataResultSetTest.class.getClassLoader(),
+                        new Class<?>[] { Clob.class },
+                        (proxy, method, args) -> {
+                          switch (method.getName())
+                          {
+                            case "getCharacterStream":
+                              return clob.asReader();
+                            case "length":
+                              return clob.size;
+                            default:
+                              throw new UnsupportedOperationException(method
+                                .getName());
+                          }
+                        });
+    return (ResultSet) Proxy
+      .newProxyInstance(DataResultSetTest.class.getClassLoader(),
+                        new Class<?>[] { ResultSet.class },
+                        (proxy, method, args) -> {
+                          switch (method.getName())
+                          {
+                            case "getMetaData":
+                              return metaData;
+                            case "next":
+                              return true;
+                            case "getBinaryStream":
+                              return blob.asStream();
+                            case "getClob":
+                              return jdbcClob;
+                            case "wasNull":
+                              return false;
+                            default:
+                              throw new UnsupportedOperationException(method
+                                .getName());
+                          }
+                        });
+  }
+
+  @Test
+  public void largeLobsAreReadOnlyAsFarAsThePreview()
+    throws Exception
+  {
+    final LargeLob blob = new LargeLob(LOB_SIZE);
+    final LargeLob clob = new LargeLob(LOB_SIZE);
+    final OperationOptions options = OperationOptionsBuilder.builder()
+      .showLobs().withBinaryEncoding(BinaryEncoding.hex)
+      .withMaxLobPreviewLength(10).toOptions();
+
+    final DataResultSet dataRows = new DataResultSet(lobRow(blob, clob),
+                                                     options);
+    dataRows.next();
+    final List<Object> row = dataRows.row();
+
+    assertThat(row.get(0).toString(), is("ababababab..."));
+    assertThat(row.get(1).toString(), is("xxxxxxxxxx..."));
+    assertThat(blob.read, lessThan(64L * 1024));
+    assertThat(clob.read, lessThan(64L * 1024));
+  }
+
+  @Test
+  public void binaryEncodings()
+    throws Exception
+  {
+    assertThat(readBinary(BinaryEncoding.hex, 3, 100), is("ababab"));
+    assertThat(readBinary(BinaryEncoding.base64, 3, 100), is("q6ur"));
+    assertThat(readBinary(BinaryEncoding.base64, 4, 100), is("q6urqw=="));
+    assertThat(readBinary(BinaryEncoding.base64, 7, 8), is("q6urq6ur..."));
+    assertThat(readBinary(BinaryEncoding.hex, 20_000, 50_000).length(),
+               is(40_000));
+    assertThat(readBinary(BinaryEncoding.base64, 20_000, 50_000).length(),
+               is(26_668));
+  }
+
+  @Test
+  public void largeLobsArePreviewedByDefault()
+    throws Exception
+  {
+    final OperationOptions options = OperationOptionsBuilder.builder()
+      .showLobs().toOptions();
+    assertThat(options.getBinaryEncoding(), is(BinaryEncoding.text));
+
+    final LargeLob clob = new LargeLob(LOB_SIZE);
+    final DataResultSet dataRows = new DataResultSet(lobRow(new LargeLob(0),
+                                                            clob),
+                                                     options);
+    dataRows.next();
+    final String clobData = dataRows.row().get(1).toString();
+
+    assertThat(clobData.length(), is(1024 * 1024 + 3));
+    assertThat(clobData.endsWith("..."), is(true));
+    assertThat(clob.read, lessThan(2L * 1024 * 1024));
+  }
+
+  @Test
+  public void smallLobsShownInFullByDefault()
+    throws Exception
+  {
+    final OperationOptions options = OperationOptionsBuilder.builder()
+      .showLobs().toOptions();
+
+    final DataResultSet dataRows = new DataResultSet(lobRow(new LargeLob(0),
+                                                            new LargeLob(20_000)),
+                                                     options);
+    dataRows.next();
+    final String clobData = dataRows.row().get(1).toString();
+
+    assertThat(clobData.length(), is(20_000));
+    assertThat(clobData.endsWith("..."), is(false));
+  }
+
+  @Test
+  public void lobsShownInFull()
+    throws Exception
+  {
+    final OperationOptions options = OperationOptionsBuilder.builder()
+      .showLobs().withMaxLobPreviewLength(0).toOptions();
+
+    final DataResultSet dataRows = new DataResultSet(lobRow(new LargeLob(0),
+                                                            new LargeLob(2_000_000)),
+                                                     options);
+    dataRows.next();
+    final String clobData = dataRows.row().get(1).toString();
+
+    assertThat(clobData.length(), is(2_000_000));
+    assertThat(clobData.endsWith("..."), is(false));
+  }
+
+  @Test
+  public void lobsNotShown()
+    throws Exception
+  {
+    final DataResultSet dataRows = new DataResultSet(lobRow(new LargeLob(LOB_SIZE),
+                                                            new LargeLob(LOB_SIZE)),
+                                                     OperationOptionsBuilder
+                                                       .newOperationOptions());
+    dataRows.next();
+    final List<Object> row = dataRows.row();
+
+    assertThat(((BinaryData) row.get(0)).hasData(), is(false));
+    assertThat(((BinaryData) row.get(1)).hasData(), is(false));
+  }
+
+  private String readBinary(final BinaryEncoding binaryEncoding,
+                            final long size,
+                            final int maxLobPreviewLength)
+    throws Exception
+  {
+    final OperationOptions options = OperationOptionsBuilder.builder()
+      .showLobs().withBinaryEncoding(binaryEncoding)
+      .withMaxLobPreviewLength(maxLobPreviewLength).toOptions();
+    final DataResultSet dataRows = new DataResultSet(lobRow(new LargeLob(size),
+                                                            new LargeLob(0)),
+                                                     options);
+    dataRows.next();
+    return dataRows.row().get(0).toString();
+  }
+
+}
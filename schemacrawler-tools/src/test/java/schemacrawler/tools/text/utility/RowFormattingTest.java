@@ -0,0 +1,156 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.utility;
+
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.tools.options.TextOutputFormat;
+import schemacrawler.tools.text.utility.html.Alignment;
+import schemacrawler.tools.text.utility.html.TableCell;
+import schemacrawler.tools.text.utility.html.TableRow;
+import sf.util.Color;
+
+public class RowFormattingTest
+{
+
+  private static final TextOutputFormat[] OUTPUT_FORMATS = {
+    TextOutputFormat.text, TextOutputFormat.tsv, TextOutputFormat.html };
+
+  private static Object[] row(final int i)
+  {
+    return new Object[] {
+      i,
+      "Name <" + i + "> & more",
+      i % 7 == 0? null: new BigDecimal(i).movePointLeft(2),
+      new BinaryData("abc" + i),
+      new BinaryData(),
+      "" };
+  }
+
+  /**
+   * Formats a row the way it was formatted before rows were written
+   * straight to the output, as a table row of cells.
+   */
+  private static void writeTableRow(final PrintWriter out,
+                                    final TextOutputFormat format,
+                                    final Object... columnData)
+  {
+    TextOutputFormat outputFormat = format;
+    if (outputFormat == TextOutputFormat.text)
+    {
+      outputFormat = TextOutputFormat.tsv;
+    }
+    final TableRow row = new TableRow(outputFormat);
+    for (final Object element: columnData)
+    {
+      final String text;
+      final String styleClass;
+      if (element == null)
+      {
+        text = null;
+        styleClass = "data_null";
+      }
+      else if (element instanceof BinaryData)
+      {
+        text = element.toString();
+        styleClass = "data_binary";
+      }
+      else if (element instanceof Number)
+      {
+        text = element.toString();
+        styleClass = "data_number";
+      }
+      else
+      {
+        text = element.toString();
+        styleClass = "";
+      }
+      row.add(new TableCell(text,
+                            true,
+                            0,
+                            Alignment.inherit,
+                            false,
+                            styleClass,
+                            Color.white,
+                            1,
+                            outputFormat));
+    }
+    out.println(row.toString());
+  }
+
+  private static TextFormattingHelper newFormattingHelper(final PrintWriter out,
+                                                         final TextOutputFormat outputFormat)
+  {
+    if (outputFormat == TextOutputFormat.html)
+    {
+      return new HtmlFormattingHelper(out, outputFormat);
+    }
+    else
+    {
+      return new PlainTextFormattingHelper(out, outputFormat);
+    }
+  }
+
+  @Test
+  public void rowsAreIdenticalToTableRows()
+  {
+    for (final TextOutputFormat outputFormat: OUTPUT_FORMATS)
+    {
+      final StringWriter expected = new StringWriter();
+      final StringWriter actual = new StringWriter();
+      try (final PrintWriter expectedOut = new PrintWriter(expected);
+          final PrintWriter actualOut = new PrintWriter(actual);)
+      {
+        final TextFormattingHelper formattingHelper = newFormattingHelper(actualOut,
+                                                                          outputFormat);
+        for (int i = 0; i < 100; i++)
+        {
+          writeTableRow(expectedOut, outputFormat, row(i));
+          formattingHelper.writeRow(row(i));
+        }
+        writeTableRow(expectedOut, outputFormat);
+        formattingHelper.writeRow();
+        writeTableRow(expectedOut, outputFormat, "<<&>>", ">", "a&b<");
+        formattingHelper.writeRow("<<&>>", ">", "a&b<");
+      }
+
+      assertThat(outputFormat.name(),
+                 actual.toString(),
+                 is(expected.toString()));
+    }
+  }
+
+}